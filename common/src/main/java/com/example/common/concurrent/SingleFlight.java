@@ -0,0 +1,146 @@
+package com.example.common.concurrent;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 병합 (single-flight)
+ * 같은 키의 요청이 진행 중이면 새 호출을 보내지 않고 진행 중인 CompletableFuture 를 공유한다.
+ * 완료/실패는 기다리던 모든 호출자에게 그대로 전달되며, 완료된 키는 즉시 제거되므로 결과를 캐시하지 않는다.
+ * 합류한 호출자의 대기는 인터럽트로 중단할 수 있고 호출자별 최대 대기 시간을 줄 수 있다
+ * (대기를 그만둔 호출자만 빠지고 진행 중인 호출과 다른 대기자에게는 영향이 없다).
+ * 하나의 키에는 항상 같은 타입의 결과를 돌려주는 호출만 사용해야 한다.
+ *
+ * @param <K> 정규화된 요청 키
+ */
+public class SingleFlight<K> {
+
+    private final ConcurrentMap<K, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+
+    /**
+     * 동기 호출: 첫 호출자가 자기 스레드에서 실행하고, 동시에 들어온 호출자는 그 결과를 기다린다
+     * (실패 시 첫 호출자의 RuntimeException 을 모두가 그대로 받는다)
+     *
+     * @throws CancellationException 합류해 기다리던 중 인터럽트됨 (인터럽트 상태는 유지)
+     */
+    public <V> V call(K key, Supplier<V> supplier) {
+        return call(key, 0, supplier);
+    }
+
+    /**
+     * 합류한 호출자의 최대 대기 시간을 둔 동기 호출 (첫 호출자는 supplier 를 직접 실행하므로 적용되지 않음)
+     *
+     * @param maxWaitMillis 합류한 호출자의 최대 대기 시간 (0 이하면 제한 없음)
+     * @throws CompletionException 최대 대기 시간 초과 (원인은 {@link TimeoutException})
+     * @throws CancellationException 기다리던 중 인터럽트됨 (인터럽트 상태는 유지)
+     */
+    public <V> V call(K key, long maxWaitMillis, Supplier<V> supplier) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing, maxWaitMillis);
+        }
+
+        executed.incrementAndGet();
+        try {
+            V value = supplier.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 비동기 호출: 진행 중인 같은 키의 future 가 있으면 그것을, 없으면 supplier 가 시작한 future 를 반환
+     */
+    public <V> CompletableFuture<V> callAsync(K key, Supplier<CompletableFuture<V>> supplier) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing;
+        }
+
+        executed.incrementAndGet();
+        try {
+            supplier.get().whenComplete((value, error) -> {
+                inFlight.remove(key, mine);
+                if (error != null) {
+                    mine.completeExceptionally(unwrap(error));
+                } else {
+                    mine.complete(value);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+        }
+        return mine;
+    }
+
+    /** 실제로 실행된 호출 수 */
+    public long getExecutedCount() {
+        return executed.get();
+    }
+
+    /** 진행 중인 호출에 합류해 외부 호출을 아낀 수 */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /** 합류했지만 인터럽트나 최대 대기 시간 초과로 결과를 기다리지 않고 빠진 수 */
+    public long getAbandonedCount() {
+        return abandoned.get();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> CompletableFuture<V> putIfAbsent(K key, CompletableFuture<V> future) {
+        return (CompletableFuture<V>) inFlight.putIfAbsent(key, future);
+    }
+
+    private <V> V await(CompletableFuture<V> future, long maxWaitMillis) {
+        try {
+            return maxWaitMillis > 0 ? future.get(maxWaitMillis, TimeUnit.MILLISECONDS) : future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandoned.incrementAndGet();
+            throw new CancellationException("Interrupted while waiting for an in-flight call");
+        } catch (TimeoutException e) {
+            abandoned.incrementAndGet();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
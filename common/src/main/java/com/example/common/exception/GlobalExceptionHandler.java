@@ -55,4 +55,4 @@ public class GlobalExceptionHandler {
         errorResponse.put("message", e.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.example.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 외부 제공자 호출 한도 초과나 회로 차단으로 요청을 보내지 않고 즉시 실패했음을 알리는 예외
+ * 호출자는 이 예외를 받으면 해당 제공자 결과 없이(부분 결과로) 진행하거나 retryAfterMillis 후 재시도한다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ProviderDegradedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        /** 대기열이 가득 참 */
+        QUEUE_FULL,
+        /** 토큰을 얻기까지 최대 대기 시간 초과 */
+        WAIT_TOO_LONG,
+        /** 남은 토큰이 대화형 호출 몫뿐이라 백그라운드 호출 거절 */
+        RESERVED_FOR_INTERACTIVE,
+        /** 오류율/지연 초과로 회로 차단기가 열려 있음 */
+        CIRCUIT_OPEN
+    }
+
+    private final String provider;
+    private final Reason reason;
+    private final long retryAfterMillis;
+
+    public ProviderDegradedException(String provider, Reason reason, long retryAfterMillis) {
+        super(String.format("Provider '%s' degraded: %s (retry after %dms)", provider, reason, retryAfterMillis));
+        this.provider = provider;
+        this.reason = reason;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.common.exception;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제공자 호출 한도 초과/회로 차단 → 503 + Retry-After
+ * 외부 제공자를 호출하는 서비스가 @Import 해서 사용한다 (일반 예외 처리기보다 먼저 적용)
+ */
+@Slf4j
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ProviderDegradedExceptionHandler {
+
+    @ExceptionHandler(ProviderDegradedException.class)
+    public ResponseEntity<Map<String, Object>> handleProviderDegradedException(ProviderDegradedException e) {
+        log.warn("Provider degraded: {}", e.getMessage());
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Provider Degraded");
+        errorResponse.put("provider", e.getProvider());
+        errorResponse.put("reason", e.getReason().name());
+        errorResponse.put("retryAfterMillis", e.getRetryAfterMillis());
+        errorResponse.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (e.getRetryAfterMillis() + 999) / 1000)))
+                .body(errorResponse);
+    }
+}
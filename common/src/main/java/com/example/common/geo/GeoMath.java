@@ -0,0 +1,167 @@
+package com.example.common.geo;
+
+/**
+ * 공용 지리 계산 커널
+ * 서비스마다 흩어져 있던 하버사인 거리 계산을 한 곳에 모으고,
+ * 근거리용 등장방형 근사, 기본형 배열 일괄 계산, 할당 없는 점-폴리라인 거리를 제공한다.
+ * 모든 좌표는 WGS84 도(degree) 단위이며, 결과는 메서드 이름의 단위(미터/킬로미터)를 따른다.
+ */
+public final class GeoMath {
+
+    /** 지구 평균 반경 (미터) */
+    public static final double EARTH_RADIUS_METERS = 6371000.0;
+
+    /** 지구 평균 반경 (킬로미터) */
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private GeoMath() {
+    }
+
+    /**
+     * 하버사인 공식에 의한 대권 거리 (미터)
+     */
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        return EARTH_RADIUS_METERS * centralAngle(lat1, lon1, lat2, lon2);
+    }
+
+    /**
+     * 하버사인 공식에 의한 대권 거리 (킬로미터)
+     */
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        return EARTH_RADIUS_KM * centralAngle(lat1, lon1, lat2, lon2);
+    }
+
+    /**
+     * 등장방형(equirectangular) 근사 거리 (미터)
+     * 두 점의 평균 위도에서 경도 차를 cos 로 축소한 평면 피타고라스 거리로, 삼각함수 호출이 cos 1회뿐이다.
+     * 하버사인 대비 상대 오차는 대략 (d/R)² · tan²φ 차수로, 위도 ±60° 이내 20km 이하 구간에서
+     * 0.01% (20km 에서 2m) 미만이다. 수백 km 이상이나 극지방·날짜변경선을 넘는 구간에는 사용하지 않는다.
+     */
+    public static double equirectangularMeters(double lat1, double lon1, double lat2, double lon2) {
+        double x = Math.toRadians(lon2 - lon1) * Math.cos(Math.toRadians((lat1 + lat2) * 0.5));
+        double y = Math.toRadians(lat2 - lat1);
+        return EARTH_RADIUS_METERS * Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * 한 점에서 여러 점까지의 하버사인 거리 일괄 계산 (미터)
+     * 기준점의 라디안 변환과 cos 값은 한 번만 계산한다.
+     *
+     * @param out 결과 배열 (lats.length 이상), 호출자가 재사용할 수 있도록 할당하지 않음
+     */
+    public static void haversineMeters(double lat, double lon, double[] lats, double[] lons, double[] out) {
+        double phi1 = Math.toRadians(lat);
+        double cosPhi1 = Math.cos(phi1);
+        for (int i = 0; i < lats.length; i++) {
+            double phi2 = Math.toRadians(lats[i]);
+            double sinHalfDLat = Math.sin((phi2 - phi1) * 0.5);
+            double sinHalfDLon = Math.sin(Math.toRadians(lons[i] - lon) * 0.5);
+            double a = sinHalfDLat * sinHalfDLat + cosPhi1 * Math.cos(phi2) * sinHalfDLon * sinHalfDLon;
+            out[i] = EARTH_RADIUS_METERS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        }
+    }
+
+    /**
+     * 한 점에서 여러 점까지의 등장방형 근사 거리 일괄 계산 (미터)
+     * 평균 위도 대신 기준점 위도의 cos 값 하나로 모든 점을 투영하므로 {@link #equirectangularMeters} 보다 오차가 크다.
+     * 동서 성분의 상대 오차가 대략 tanφ · Δφ(라디안) 차수로, 위도 37.5° 에서 남북 10km 떨어진 점이면 약 0.07% (7m) 이다.
+     * 후보 정렬·반경 필터처럼 상대 비교에만 쓰고, 정확한 거리가 필요하면 하버사인 일괄 계산을 쓴다.
+     *
+     * @param out 결과 배열 (lats.length 이상)
+     */
+    public static void equirectangularMeters(double lat, double lon, double[] lats, double[] lons, double[] out) {
+        double cosLat = Math.cos(Math.toRadians(lat));
+        for (int i = 0; i < lats.length; i++) {
+            double x = Math.toRadians(lons[i] - lon) * cosLat;
+            double y = Math.toRadians(lats[i] - lat);
+            out[i] = EARTH_RADIUS_METERS * Math.sqrt(x * x + y * y);
+        }
+    }
+
+    /**
+     * 폴리라인 전체 길이 (미터, 하버사인 합)
+     */
+    public static double pathLengthMeters(double[] lats, double[] lons) {
+        double length = 0;
+        for (int i = 1; i < lats.length; i++) {
+            length += haversineMeters(lats[i - 1], lons[i - 1], lats[i], lons[i]);
+        }
+        return length;
+    }
+
+    /**
+     * 점에서 선분 AB 까지의 최단 거리 (미터)
+     * 점 위도 기준 국소 평면에서 선분에 투영한 뒤, 투영점까지는 하버사인으로 계산한다 (임시 배열 할당 없음).
+     */
+    public static double pointToSegmentMeters(double lat, double lon,
+                                              double aLat, double aLon, double bLat, double bLon) {
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double abx = (bLon - aLon) * cosLat;
+        double aby = bLat - aLat;
+        double apx = (lon - aLon) * cosLat;
+        double apy = lat - aLat;
+
+        double lengthSquared = abx * abx + aby * aby;
+        double t = lengthSquared == 0 ? 0 : (apx * abx + apy * aby) / lengthSquared;
+        if (t <= 0) {
+            return haversineMeters(lat, lon, aLat, aLon);
+        }
+        if (t >= 1) {
+            return haversineMeters(lat, lon, bLat, bLon);
+        }
+        return haversineMeters(lat, lon, aLat + t * (bLat - aLat), aLon + t * (bLon - aLon));
+    }
+
+    /**
+     * 점에서 폴리라인까지의 최단 거리 (미터)
+     * 각 구간의 국소 평면 제곱 거리로 최근접 구간을 고른 뒤, 그 구간에 대해서만 하버사인을 계산한다.
+     *
+     * @return 정점이 없으면 {@link Double#NaN}
+     */
+    public static double pointToPolylineMeters(double lat, double lon, double[] lats, double[] lons) {
+        int n = lats.length;
+        if (n == 0) {
+            return Double.NaN;
+        }
+        if (n == 1) {
+            return haversineMeters(lat, lon, lats[0], lons[0]);
+        }
+
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double bestSquared = Double.MAX_VALUE;
+        double bestLat = lats[0];
+        double bestLon = lons[0];
+
+        for (int i = 1; i < n; i++) {
+            double aLat = lats[i - 1];
+            double aLon = lons[i - 1];
+            double abx = (lons[i] - aLon) * cosLat;
+            double aby = lats[i] - aLat;
+            double apx = (lon - aLon) * cosLat;
+            double apy = lat - aLat;
+
+            double lengthSquared = abx * abx + aby * aby;
+            double t = lengthSquared == 0 ? 0 : (apx * abx + apy * aby) / lengthSquared;
+            t = Math.max(0, Math.min(1, t));
+
+            double dx = apx - t * abx;
+            double dy = apy - t * aby;
+            double squared = dx * dx + dy * dy;
+            if (squared < bestSquared) {
+                bestSquared = squared;
+                bestLat = aLat + t * (lats[i] - aLat);
+                bestLon = aLon + t * (lons[i] - aLon);
+            }
+        }
+        return haversineMeters(lat, lon, bestLat, bestLon);
+    }
+
+    private static double centralAngle(double lat1, double lon1, double lat2, double lon2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double sinHalfDLat = Math.sin((phi2 - phi1) * 0.5);
+        double sinHalfDLon = Math.sin(Math.toRadians(lon2 - lon1) * 0.5);
+        double a = sinHalfDLat * sinHalfDLat + Math.cos(phi1) * Math.cos(phi2) * sinHalfDLon * sinHalfDLon;
+        return 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.common.poi;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 로컬 POI 인덱스 항목
+ * 스냅샷 파일이나 제공자 검색 결과에서 만들어지며, 인덱스에 들어간 뒤에는 변경되지 않는다.
+ */
+@Value
+@Builder
+public class Poi {
+    String id;
+    String name;
+    String category;
+    double latitude;
+    double longitude;
+    // 선택 필드: 평점/주소가 없는 POI 는 null
+    Double rating;
+    String address;
+}
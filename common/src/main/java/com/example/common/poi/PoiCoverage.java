@@ -0,0 +1,116 @@
+package com.example.common.poi;
+
+import com.example.common.geo.GeoMath;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리별로 제공자 검색을 마친 영역(원)과 그 시각을 기록 (스레드 안전)
+ *
+ * 로컬 인덱스에 결과가 충분해도 그 영역을 최근에 제공자에서 직접 검색한 적이 없으면
+ * 주변 검색에서 흘러 들어온 일부 POI 일 뿐이므로 로컬 응답의 근거가 되지 못한다.
+ * 질의 원 전체를 덮는 기록이 TTL 안에 있을 때만 커버된 것으로 본다.
+ */
+public class PoiCoverage {
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxAreasPerCategory;
+    private final Map<String, Deque<Area>> areas = new ConcurrentHashMap<>();
+    private final Map<String, Area> snapshotAreas = new ConcurrentHashMap<>();
+
+    /**
+     * @param ttl                 제공자 검색 기록 유효 기간 (지나면 다시 제공자를 호출)
+     * @param maxAreasPerCategory 카테고리별 보관 영역 수 (넘으면 오래된 기록부터 제거)
+     */
+    public PoiCoverage(Clock clock, Duration ttl, int maxAreasPerCategory) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.maxAreasPerCategory = Math.max(1, maxAreasPerCategory);
+    }
+
+    /**
+     * 제공자 검색을 끝까지 마친 영역 기록
+     */
+    public void record(String category, double lat, double lon, double radiusMeters) {
+        if (category == null || radiusMeters <= 0) {
+            return;
+        }
+        Deque<Area> list = areas.computeIfAbsent(category, key -> new ArrayDeque<>());
+        synchronized (list) {
+            list.addLast(new Area(lat, lon, radiusMeters, clock.millis() + ttlMillis));
+            while (list.size() > maxAreasPerCategory) {
+                list.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * 스냅샷이 덮는 영역 기록 (카테고리당 하나, 개수 제한으로 밀려나지 않음)
+     *
+     * @param expiresAtMillis 스냅샷 작성 시각 + 스냅샷 유효 기간
+     */
+    public void recordSnapshot(String category, double lat, double lon, double radiusMeters, long expiresAtMillis) {
+        if (category != null && radiusMeters > 0) {
+            snapshotAreas.put(category, new Area(lat, lon, radiusMeters, expiresAtMillis));
+        }
+    }
+
+    /**
+     * 스냅샷 교체 시 이전 스냅샷 기록 제거
+     */
+    public void clearSnapshot() {
+        snapshotAreas.clear();
+    }
+
+    /**
+     * 질의 원 전체가 유효한 기록 하나 안에 들어가는지 확인 (만료된 기록은 이때 정리)
+     */
+    public boolean covers(String category, double lat, double lon, double radiusMeters) {
+        long now = clock.millis();
+        Area snapshot = snapshotAreas.get(category);
+        if (snapshot != null && snapshot.expiresAtMillis > now && snapshot.contains(lat, lon, radiusMeters)) {
+            return true;
+        }
+        Deque<Area> list = areas.get(category);
+        if (list == null) {
+            return false;
+        }
+        synchronized (list) {
+            Iterator<Area> it = list.iterator();
+            while (it.hasNext()) {
+                Area area = it.next();
+                if (area.expiresAtMillis <= now) {
+                    it.remove();
+                } else if (area.contains(lat, lon, radiusMeters)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final class Area {
+        private final double lat;
+        private final double lon;
+        private final double radiusMeters;
+        private final long expiresAtMillis;
+
+        private Area(double lat, double lon, double radiusMeters, long expiresAtMillis) {
+            this.lat = lat;
+            this.lon = lon;
+            this.radiusMeters = radiusMeters;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean contains(double queryLat, double queryLon, double queryRadius) {
+            return GeoMath.haversineMeters(lat, lon, queryLat, queryLon) + queryRadius <= radiusMeters;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.common.poi;
+
+import lombok.Value;
+
+/**
+ * POI 검색 결과와 질의 지점까지의 거리 (미터)
+ */
+@Value
+public class PoiHit implements Comparable<PoiHit> {
+    Poi poi;
+    double distanceMeters;
+
+    @Override
+    public int compareTo(PoiHit other) {
+        return Double.compare(distanceMeters, other.distanceMeters);
+    }
+}
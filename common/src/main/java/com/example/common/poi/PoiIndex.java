@@ -0,0 +1,200 @@
+package com.example.common.poi;
+
+import com.example.common.geo.GeoMath;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * 메모리 상주 POI 인덱스 (스레드 안전)
+ *
+ * 스냅샷은 읽기 전용 {@link PoiRTree} 로 두고, 제공자 검색 결과로 들어온 POI 는 id 기준 델타 맵에 쌓는다.
+ * 질의는 트리 결과 중 델타에 같은 id 가 있는 항목을 델타 쪽 값으로 대체하고 델타를 선형 탐색해 합친다.
+ * 델타가 임계치를 넘으면 백그라운드에서 트리를 다시 적재해 교체하므로 질의는 잠금 없이 계속된다.
+ * 제공자 검색을 마친 영역은 {@link PoiCoverage} 에 기록해, 호출자가 로컬 결과만으로 답해도 되는지 판단하게 한다.
+ */
+@Slf4j
+public class PoiIndex {
+
+    private final Executor rebuildExecutor;
+    private final int rebuildThreshold;
+    private final PoiCoverage coverage;
+    private final Map<String, Poi> delta = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile PoiRTree tree;
+
+    /**
+     * @param rebuildThreshold 델타가 이 크기를 넘으면 트리 재적재
+     * @param rebuildExecutor  재적재 실행기 (질의 스레드를 막지 않도록 별도 스레드 권장)
+     * @param coverage         제공자 검색 영역 기록
+     */
+    public PoiIndex(PoiRTree initial, int rebuildThreshold, Executor rebuildExecutor, PoiCoverage coverage) {
+        this.tree = initial;
+        this.rebuildThreshold = Math.max(1, rebuildThreshold);
+        this.rebuildExecutor = rebuildExecutor;
+        this.coverage = coverage;
+    }
+
+    /**
+     * 스냅샷 전체 교체 (델타는 새 스냅샷보다 최신일 수 있으므로 유지)
+     *
+     * @param expiresAtMillis 스냅샷을 영역 기록으로 인정하는 기한
+     */
+    public synchronized void replace(PoiRTree snapshot, long expiresAtMillis) {
+        this.tree = snapshot;
+        coverSnapshot(snapshot, expiresAtMillis);
+    }
+
+    /**
+     * 스냅샷의 카테고리별 POI 를 모두 덮는 원을 영역 기록으로 등록
+     */
+    private void coverSnapshot(PoiRTree snapshot, long expiresAtMillis) {
+        Map<String, double[]> bounds = new HashMap<>();
+        for (Poi poi : snapshot.all()) {
+            if (poi.getCategory() == null) {
+                continue;
+            }
+            double[] b = bounds.computeIfAbsent(poi.getCategory(), key -> new double[] {
+                    Double.MAX_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE});
+            b[0] = Math.min(b[0], poi.getLatitude());
+            b[1] = Math.max(b[1], poi.getLatitude());
+            b[2] = Math.min(b[2], poi.getLongitude());
+            b[3] = Math.max(b[3], poi.getLongitude());
+        }
+
+        coverage.clearSnapshot();
+        bounds.forEach((category, b) -> {
+            double centerLat = (b[0] + b[1]) / 2;
+            double centerLon = (b[2] + b[3]) / 2;
+            // 적도에 가까운 쪽 모서리가 더 멀다
+            double radius = Math.max(GeoMath.haversineMeters(centerLat, centerLon, b[0], b[3]),
+                    GeoMath.haversineMeters(centerLat, centerLon, b[1], b[3]));
+            coverage.recordSnapshot(category, centerLat, centerLon, radius, expiresAtMillis);
+        });
+    }
+
+    /**
+     * 제공자 검색을 끝까지 마친 영역 기록 (일부 제공자가 실패한 검색은 기록하지 않아야 함)
+     */
+    public void recordCoverage(String category, double lat, double lon, double radiusMeters) {
+        coverage.record(category, lat, lon, radiusMeters);
+    }
+
+    /**
+     * 질의 원이 유효한 제공자 검색 영역 또는 스냅샷 영역 안에 있는지
+     * false 면 로컬 결과 개수와 관계없이 제공자를 호출해야 한다.
+     */
+    public boolean isCovered(String category, double lat, double lon, double radiusMeters) {
+        return coverage.covers(category, lat, lon, radiusMeters);
+    }
+
+    /**
+     * 제공자 결과 반영: 같은 id 는 최신 값으로 덮어쓴다
+     */
+    public void upsert(Collection<Poi> pois) {
+        for (Poi poi : pois) {
+            if (poi.getId() != null) {
+                delta.put(poi.getId(), poi);
+            }
+        }
+        if (delta.size() >= rebuildThreshold && rebuilding.compareAndSet(false, true)) {
+            try {
+                rebuildExecutor.execute(this::rebuild);
+            } catch (RejectedExecutionException e) {
+                rebuilding.set(false);
+                log.warn("POI index rebuild rejected, keeping {} entries in delta", delta.size());
+            }
+        }
+    }
+
+    public List<PoiHit> withinRadius(double lat, double lon, double radiusMeters, Predicate<Poi> filter) {
+        Predicate<Poi> notShadowed = notShadowed(filter);
+        List<PoiHit> hits = new ArrayList<>(tree.withinRadius(lat, lon, radiusMeters, notShadowed));
+        for (Poi poi : delta.values()) {
+            if (filter == null || filter.test(poi)) {
+                double distance = distance(lat, lon, poi);
+                if (distance <= radiusMeters) {
+                    hits.add(new PoiHit(poi, distance));
+                }
+            }
+        }
+        hits.sort(null);
+        return hits;
+    }
+
+    public List<PoiHit> nearest(double lat, double lon, int k, double maxDistanceMeters, Predicate<Poi> filter) {
+        List<PoiHit> hits = new ArrayList<>(tree.nearest(lat, lon, k, maxDistanceMeters, notShadowed(filter)));
+        for (Poi poi : delta.values()) {
+            if (filter == null || filter.test(poi)) {
+                double distance = distance(lat, lon, poi);
+                if (distance <= maxDistanceMeters) {
+                    hits.add(new PoiHit(poi, distance));
+                }
+            }
+        }
+        hits.sort(null);
+        return hits.size() > k ? new ArrayList<>(hits.subList(0, k)) : hits;
+    }
+
+    public int size() {
+        return tree.size() + delta.size();
+    }
+
+    public int pendingSize() {
+        return delta.size();
+    }
+
+    private Predicate<Poi> notShadowed(Predicate<Poi> filter) {
+        return poi -> !delta.containsKey(poi.getId()) && (filter == null || filter.test(poi));
+    }
+
+    private static double distance(double lat, double lon, Poi poi) {
+        return GeoMath.haversineMeters(lat, lon, poi.getLatitude(), poi.getLongitude());
+    }
+
+    /**
+     * 현재 트리와 델타를 합쳐 재적재
+     * 교체 후에는 새 트리에 들어간 값과 같은 델타 항목만 제거하므로, 재적재 중에 갱신된 항목은 델타에 남는다.
+     */
+    private void rebuild() {
+        try {
+            long start = System.nanoTime();
+            Map<String, Poi> pending = Map.copyOf(delta);
+
+            PoiRTree current = tree;
+            List<Poi> merged = new ArrayList<>(current.size() + pending.size());
+            for (Poi poi : current.all()) {
+                if (!pending.containsKey(poi.getId())) {
+                    merged.add(poi);
+                }
+            }
+            merged.addAll(pending.values());
+
+            PoiRTree rebuilt = PoiRTree.build(merged);
+            synchronized (this) {
+                if (tree != current) {
+                    // 재적재 중 스냅샷이 교체됨: 델타를 유지하고 다음 재적재에 맡김
+                    return;
+                }
+                tree = rebuilt;
+            }
+            pending.forEach(delta::remove);
+
+            log.info("POI index rebuilt: {} POIs ({} from provider results) in {} ms",
+                    rebuilt.size(), pending.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("POI index rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+}
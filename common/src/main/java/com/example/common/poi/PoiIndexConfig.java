@@ -0,0 +1,84 @@
+package com.example.common.poi;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 POI 인덱스 설정
+ * 스냅샷 경로가 지정되면 기동 시 R-tree 로 적재하고, 없으면 빈 인덱스에서 시작해 제공자 결과로 채운다.
+ * 스냅샷은 파일 수정 시각부터 snapshot-ttl-hours 동안, 제공자 검색 영역은 coverage-ttl-minutes 동안만 로컬 응답 근거로 인정한다.
+ */
+@Slf4j
+@Configuration
+public class PoiIndexConfig {
+
+    @Value("${app.poi-index.snapshot:}")
+    private String snapshotPath;
+
+    @Value("${app.poi-index.rebuild-threshold:2000}")
+    private int rebuildThreshold;
+
+    @Value("${app.poi-index.coverage-ttl-minutes:360}")
+    private long coverageTtlMinutes;
+
+    @Value("${app.poi-index.snapshot-ttl-hours:168}")
+    private long snapshotTtlHours;
+
+    @Value("${app.poi-index.max-covered-areas:1000}")
+    private int maxCoveredAreas;
+
+    @Bean(name = "poiIndexRebuildExecutor", destroyMethod = "shutdown")
+    public ExecutorService poiIndexRebuildExecutor() {
+        // 재적재는 한 번에 하나만 실행되므로 단일 스레드
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(1), runnable -> {
+            Thread thread = new Thread(runnable, "poi-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public PoiIndex poiIndex() {
+        PoiCoverage coverage = new PoiCoverage(Clock.systemUTC(), Duration.ofMinutes(coverageTtlMinutes), maxCoveredAreas);
+        PoiIndex index = new PoiIndex(PoiRTree.empty(), rebuildThreshold, poiIndexRebuildExecutor(), coverage);
+        loadSnapshot(index);
+        return index;
+    }
+
+    private void loadSnapshot(PoiIndex index) {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            log.info("No POI snapshot configured, local POI index starts empty");
+            return;
+        }
+
+        Path path = Path.of(snapshotPath);
+        if (!Files.isReadable(path)) {
+            log.warn("POI snapshot not readable: {}, local POI index starts empty", path);
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            List<Poi> pois = PoiSnapshotLoader.load(path);
+            PoiRTree tree = PoiRTree.build(pois);
+            long expiresAt = Files.getLastModifiedTime(path).toMillis() + Duration.ofHours(snapshotTtlHours).toMillis();
+            index.replace(tree, expiresAt);
+            log.info("Loaded {} POIs from {} in {} ms", tree.size(), path, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Failed to load POI snapshot {}: {}", path, e.getMessage());
+        }
+    }
+}
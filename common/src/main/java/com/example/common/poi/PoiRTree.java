@@ -0,0 +1,387 @@
+package com.example.common.poi;
+
+import com.example.common.geo.GeoMath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * STR(Sort-Tile-Recursive) 방식으로 일괄 적재한 읽기 전용 R-tree
+ *
+ * 점을 경도로 정렬해 sqrt(n/M) 개의 세로 띠로 나누고, 띠마다 위도로 정렬해 M 개씩 잎 노드로 묶는다.
+ * 상위 레벨도 하위 노드의 중심에 같은 과정을 반복하므로 노드가 거의 꽉 차고 겹침이 적다.
+ * 좌표와 노드 경계는 레벨별 기본형 배열에 담아 질의 중 객체 할당은 결과와 kNN 후보 큐뿐이다.
+ * 변경이 필요하면 새 트리를 만들어 교체한다 ({@link PoiIndex}).
+ */
+public final class PoiRTree {
+
+    /** 노드당 최대 자식 수 */
+    public static final int NODE_CAPACITY = 16;
+
+    private static final double METERS_PER_DEGREE = GeoMath.EARTH_RADIUS_METERS * Math.PI / 180.0;
+
+    private static final PoiRTree EMPTY = new PoiRTree(new Poi[0], new double[0], new double[0], new Level[0]);
+
+    private final Poi[] pois;
+    private final double[] lats;
+    private final double[] lons;
+    // levels[0] 이 잎 노드 레벨, 마지막 레벨이 루트 하나
+    private final Level[] levels;
+
+    private PoiRTree(Poi[] pois, double[] lats, double[] lons, Level[] levels) {
+        this.pois = pois;
+        this.lats = lats;
+        this.lons = lons;
+        this.levels = levels;
+    }
+
+    public static PoiRTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * STR 일괄 적재 (O(n log n))
+     */
+    public static PoiRTree build(Collection<Poi> source) {
+        int n = source.size();
+        if (n == 0) {
+            return EMPTY;
+        }
+
+        double[] centerLats = new double[n];
+        double[] centerLons = new double[n];
+        Poi[] input = source.toArray(new Poi[0]);
+        for (int i = 0; i < n; i++) {
+            centerLats[i] = input[i].getLatitude();
+            centerLons[i] = input[i].getLongitude();
+        }
+
+        // 점 재배치: 잎 노드 i 는 점 [i*M, min((i+1)*M, n)) 을 가진다
+        int[] order = strOrder(centerLats, centerLons, n);
+        Poi[] pois = new Poi[n];
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            int from = order[i];
+            pois[i] = input[from];
+            lats[i] = centerLats[from];
+            lons[i] = centerLons[from];
+        }
+
+        List<Level> levels = new ArrayList<>();
+        Level current = Level.packPoints(lats, lons);
+        levels.add(current);
+
+        while (current.size > 1) {
+            // 상위 레벨 적재 전에 현재 레벨 노드를 STR 순서로 재배치 (자식 범위는 노드와 함께 이동)
+            current.permute(strOrder(current.centerLats(), current.centerLons(), current.size));
+            current = Level.packNodes(current);
+            levels.add(current);
+        }
+
+        return new PoiRTree(pois, lats, lons, levels.toArray(new Level[0]));
+    }
+
+    public int size() {
+        return pois.length;
+    }
+
+    /**
+     * 반경 검색 (가까운 순 정렬)
+     *
+     * @param filter 결과에 포함할 POI 조건 (null 이면 전부)
+     */
+    public List<PoiHit> withinRadius(double lat, double lon, double radiusMeters, Predicate<Poi> filter) {
+        if (levels.length == 0) {
+            return Collections.emptyList();
+        }
+
+        // 반경을 감싸는 위경도 사각형과 겹치는 노드만 방문
+        double dLat = radiusMeters / METERS_PER_DEGREE;
+        double dLon = dLat / Math.max(0.01, Math.cos(Math.toRadians(lat)));
+        double minLat = lat - dLat;
+        double maxLat = lat + dLat;
+        double minLon = lon - dLon;
+        double maxLon = lon + dLon;
+
+        List<PoiHit> hits = new ArrayList<>();
+        int[] stackLevel = new int[levels.length * NODE_CAPACITY + 1];
+        int[] stackNode = new int[stackLevel.length];
+        int top = 0;
+        stackLevel[top] = levels.length - 1;
+        stackNode[top++] = 0;
+
+        while (top > 0) {
+            top--;
+            Level level = levels[stackLevel[top]];
+            int node = stackNode[top];
+            if (level.maxLat[node] < minLat || level.minLat[node] > maxLat
+                    || level.maxLon[node] < minLon || level.minLon[node] > maxLon) {
+                continue;
+            }
+
+            int childLevel = stackLevel[top] - 1;
+            for (int child = level.childStart[node]; child < level.childEnd[node]; child++) {
+                if (childLevel >= 0) {
+                    stackLevel[top] = childLevel;
+                    stackNode[top++] = child;
+                    continue;
+                }
+                if (lats[child] < minLat || lats[child] > maxLat || lons[child] < minLon || lons[child] > maxLon) {
+                    continue;
+                }
+                double distance = GeoMath.haversineMeters(lat, lon, lats[child], lons[child]);
+                if (distance <= radiusMeters && (filter == null || filter.test(pois[child]))) {
+                    hits.add(new PoiHit(pois[child], distance));
+                }
+            }
+        }
+
+        hits.sort(null);
+        return hits;
+    }
+
+    /**
+     * k-최근접 검색 (최선 우선 탐색)
+     * 노드 경계까지의 국소 평면 최소 거리로 후보 큐를 정렬하므로 필요한 노드만 펼친다.
+     *
+     * @param maxDistanceMeters 이 거리보다 먼 POI 는 제외 (제한 없으면 {@link Double#POSITIVE_INFINITY})
+     * @param filter            결과에 포함할 POI 조건 (null 이면 전부)
+     */
+    public List<PoiHit> nearest(double lat, double lon, int k, double maxDistanceMeters, Predicate<Poi> filter) {
+        if (levels.length == 0 || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        double cosLat = Math.cos(Math.toRadians(lat));
+        // 거리 상한을 도 단위 제곱 거리로 변환 (국소 평면 근사)
+        double maxDegrees = maxDistanceMeters / METERS_PER_DEGREE;
+        double maxSquared = Double.isInfinite(maxDegrees) ? Double.POSITIVE_INFINITY : maxDegrees * maxDegrees;
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+        queue.add(new Candidate(levels.length - 1, 0, 0));
+        List<PoiHit> hits = new ArrayList<>(k);
+
+        while (!queue.isEmpty() && hits.size() < k) {
+            Candidate candidate = queue.poll();
+            if (candidate.squared > maxSquared) {
+                break;
+            }
+
+            if (candidate.level < 0) {
+                int index = candidate.index;
+                double distance = GeoMath.haversineMeters(lat, lon, lats[index], lons[index]);
+                if (distance <= maxDistanceMeters) {
+                    hits.add(new PoiHit(pois[index], distance));
+                }
+                continue;
+            }
+
+            Level level = levels[candidate.level];
+            int childLevel = candidate.level - 1;
+            for (int child = level.childStart[candidate.index]; child < level.childEnd[candidate.index]; child++) {
+                double squared;
+                if (childLevel >= 0) {
+                    Level below = levels[childLevel];
+                    squared = boxSquared(lat, lon, cosLat,
+                            below.minLat[child], below.minLon[child], below.maxLat[child], below.maxLon[child]);
+                } else {
+                    if (filter != null && !filter.test(pois[child])) {
+                        continue;
+                    }
+                    double dx = (lons[child] - lon) * cosLat;
+                    double dy = lats[child] - lat;
+                    squared = dx * dx + dy * dy;
+                }
+                if (squared <= maxSquared) {
+                    queue.add(new Candidate(childLevel, child, squared));
+                }
+            }
+        }
+        // 후보 순서는 평면 근사 기준이므로 최종 거리로 다시 정렬
+        hits.sort(null);
+        return hits;
+    }
+
+    /**
+     * 트리에 담긴 모든 POI (재적재용)
+     */
+    public List<Poi> all() {
+        return Arrays.asList(pois);
+    }
+
+    private static double boxSquared(double lat, double lon, double cosLat,
+                                     double minLat, double minLon, double maxLat, double maxLon) {
+        double dx = lon < minLon ? minLon - lon : (lon > maxLon ? lon - maxLon : 0);
+        double dy = lat < minLat ? minLat - lat : (lat > maxLat ? lat - maxLat : 0);
+        dx *= cosLat;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * STR 정렬 순서 계산
+     * 좌표를 32비트 정수로 양자화해 (좌표, 인덱스) 를 long 하나에 담아 기본형 정렬한다 (박싱 없음).
+     */
+    private static int[] strOrder(double[] centerLats, double[] centerLons, int count) {
+        int leafCount = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) quantize(centerLons[i], 180.0) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[count];
+        for (int start = 0; start < count; start += sliceSize) {
+            int end = Math.min(start + sliceSize, count);
+            for (int i = start; i < end; i++) {
+                int index = (int) keys[i];
+                keys[i] = ((long) quantize(centerLats[index], 90.0) << 32) | index;
+            }
+            Arrays.sort(keys, start, end);
+            for (int i = start; i < end; i++) {
+                order[i] = (int) keys[i];
+            }
+        }
+        return order;
+    }
+
+    // [-range, range] 좌표를 부호 없는 정렬 순서가 유지되는 0 이상의 int 로 변환
+    private static int quantize(double value, double range) {
+        double normalized = (value + range) / (2 * range);
+        return (int) (Math.max(0, Math.min(1, normalized)) * Integer.MAX_VALUE);
+    }
+
+    /**
+     * 한 레벨의 노드 경계와 자식 범위
+     * 레벨 0 노드의 자식은 점 배열 인덱스, 그 외 레벨은 바로 아래 레벨의 노드 인덱스다.
+     */
+    private static final class Level {
+        private final int size;
+        private final double[] minLat;
+        private final double[] minLon;
+        private final double[] maxLat;
+        private final double[] maxLon;
+        private final int[] childStart;
+        private final int[] childEnd;
+
+        private Level(int size) {
+            this.size = size;
+            this.minLat = new double[size];
+            this.minLon = new double[size];
+            this.maxLat = new double[size];
+            this.maxLon = new double[size];
+            this.childStart = new int[size];
+            this.childEnd = new int[size];
+        }
+
+        static Level packPoints(double[] lats, double[] lons) {
+            int n = lats.length;
+            Level level = new Level((n + NODE_CAPACITY - 1) / NODE_CAPACITY);
+            for (int node = 0; node < level.size; node++) {
+                int start = node * NODE_CAPACITY;
+                int end = Math.min(start + NODE_CAPACITY, n);
+                level.childStart[node] = start;
+                level.childEnd[node] = end;
+                level.minLat[node] = Double.POSITIVE_INFINITY;
+                level.minLon[node] = Double.POSITIVE_INFINITY;
+                level.maxLat[node] = Double.NEGATIVE_INFINITY;
+                level.maxLon[node] = Double.NEGATIVE_INFINITY;
+                for (int i = start; i < end; i++) {
+                    level.minLat[node] = Math.min(level.minLat[node], lats[i]);
+                    level.minLon[node] = Math.min(level.minLon[node], lons[i]);
+                    level.maxLat[node] = Math.max(level.maxLat[node], lats[i]);
+                    level.maxLon[node] = Math.max(level.maxLon[node], lons[i]);
+                }
+            }
+            return level;
+        }
+
+        static Level packNodes(Level below) {
+            Level level = new Level((below.size + NODE_CAPACITY - 1) / NODE_CAPACITY);
+            for (int node = 0; node < level.size; node++) {
+                int start = node * NODE_CAPACITY;
+                int end = Math.min(start + NODE_CAPACITY, below.size);
+                level.childStart[node] = start;
+                level.childEnd[node] = end;
+                level.minLat[node] = Double.POSITIVE_INFINITY;
+                level.minLon[node] = Double.POSITIVE_INFINITY;
+                level.maxLat[node] = Double.NEGATIVE_INFINITY;
+                level.maxLon[node] = Double.NEGATIVE_INFINITY;
+                for (int i = start; i < end; i++) {
+                    level.minLat[node] = Math.min(level.minLat[node], below.minLat[i]);
+                    level.minLon[node] = Math.min(level.minLon[node], below.minLon[i]);
+                    level.maxLat[node] = Math.max(level.maxLat[node], below.maxLat[i]);
+                    level.maxLon[node] = Math.max(level.maxLon[node], below.maxLon[i]);
+                }
+            }
+            return level;
+        }
+
+        double[] centerLats() {
+            double[] centers = new double[size];
+            for (int i = 0; i < size; i++) {
+                centers[i] = (minLat[i] + maxLat[i]) * 0.5;
+            }
+            return centers;
+        }
+
+        double[] centerLons() {
+            double[] centers = new double[size];
+            for (int i = 0; i < size; i++) {
+                centers[i] = (minLon[i] + maxLon[i]) * 0.5;
+            }
+            return centers;
+        }
+
+        void permute(int[] order) {
+            permute(minLat, order);
+            permute(minLon, order);
+            permute(maxLat, order);
+            permute(maxLon, order);
+            permute(childStart, order);
+            permute(childEnd, order);
+        }
+
+        private static void permute(double[] values, int[] order) {
+            double[] copy = values.clone();
+            for (int i = 0; i < order.length; i++) {
+                values[i] = copy[order[i]];
+            }
+        }
+
+        private static void permute(int[] values, int[] order) {
+            int[] copy = values.clone();
+            for (int i = 0; i < order.length; i++) {
+                values[i] = copy[order[i]];
+            }
+        }
+    }
+
+    /**
+     * kNN 후보: level 이 -1 이면 점, 그 외에는 해당 레벨의 노드
+     */
+    private static final class Candidate implements Comparable<Candidate> {
+        private final int level;
+        private final int index;
+        private final double squared;
+
+        private Candidate(int level, int index, double squared) {
+            this.level = level;
+            this.index = index;
+            this.squared = squared;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return Double.compare(squared, other.squared);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.common.poi;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * POI 스냅샷 파일 로더
+ *
+ * CSV: 첫 줄은 헤더이며 id, name, category, lat, lon 열과 선택 열 rating, address 를 이름으로 찾는다
+ * (순서 무관, 큰따옴표 인용 지원).
+ * JSON: 같은 필드를 가진 객체 배열. 스트리밍 파서로 읽으므로 파일 전체를 트리로 만들지 않는다.
+ * 좌표가 없거나 숫자가 아닌 행은 건너뛴다.
+ */
+@Slf4j
+public final class PoiSnapshotLoader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private PoiSnapshotLoader() {
+    }
+
+    /**
+     * 확장자(.csv / .json)로 형식을 골라 로드
+     */
+    public static List<Poi> load(Path path) throws IOException {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        try (InputStream in = Files.newInputStream(path)) {
+            if (fileName.endsWith(".json")) {
+                return loadJson(in);
+            }
+            if (fileName.endsWith(".csv")) {
+                return loadCsv(in);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported POI snapshot format: " + path);
+    }
+
+    public static List<Poi> loadCsv(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null) {
+            return new ArrayList<>();
+        }
+        // UTF-8 BOM 제거
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsvLine(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        int idColumn = column(columns, "id");
+        int nameColumn = column(columns, "name");
+        int categoryColumn = column(columns, "category");
+        int latColumn = column(columns, "lat");
+        int lonColumn = column(columns, "lon");
+        Integer ratingColumn = columns.get("rating");
+        Integer addressColumn = columns.get("address");
+
+        List<Poi> pois = new ArrayList<>();
+        int skipped = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = splitCsvLine(line);
+            try {
+                pois.add(Poi.builder()
+                        .id(fields.get(idColumn))
+                        .name(fields.get(nameColumn))
+                        .category(fields.get(categoryColumn))
+                        .latitude(Double.parseDouble(fields.get(latColumn)))
+                        .longitude(Double.parseDouble(fields.get(lonColumn)))
+                        .rating(parseRating(optional(fields, ratingColumn)))
+                        .address(optional(fields, addressColumn))
+                        .build());
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                skipped++;
+            }
+        }
+        if (skipped > 0) {
+            log.warn("Skipped {} malformed POI snapshot rows", skipped);
+        }
+        return pois;
+    }
+
+    public static List<Poi> loadJson(InputStream in) throws IOException {
+        List<Poi> pois = new ArrayList<>();
+        int skipped = 0;
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("POI snapshot JSON must be an array");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Poi.PoiBuilder builder = Poi.builder();
+                boolean hasLat = false;
+                boolean hasLon = false;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    switch (field) {
+                        case "id":
+                            builder.id(parser.getValueAsString());
+                            break;
+                        case "name":
+                            builder.name(parser.getValueAsString());
+                            break;
+                        case "category":
+                            builder.category(parser.getValueAsString());
+                            break;
+                        case "lat":
+                            hasLat = value.isNumeric();
+                            builder.latitude(parser.getValueAsDouble());
+                            break;
+                        case "lon":
+                            hasLon = value.isNumeric();
+                            builder.longitude(parser.getValueAsDouble());
+                            break;
+                        case "address":
+                            builder.address(parser.getValueAsString());
+                            break;
+                        case "rating":
+                            builder.rating(value.isNumeric() ? parser.getValueAsDouble() : null);
+                            break;
+                        default:
+                            parser.skipChildren();
+                    }
+                }
+                if (hasLat && hasLon) {
+                    pois.add(builder.build());
+                } else {
+                    skipped++;
+                }
+            }
+        }
+        if (skipped > 0) {
+            log.warn("Skipped {} POI snapshot entries without coordinates", skipped);
+        }
+        return pois;
+    }
+
+    private static int column(Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("POI snapshot CSV is missing column: " + name);
+        }
+        return index;
+    }
+
+    private static String optional(List<String> fields, Integer column) {
+        if (column == null || column >= fields.size() || fields.get(column).isBlank()) {
+            return null;
+        }
+        return fields.get(column);
+    }
+
+    private static Double parseRating(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Double.parseDouble(value.trim());
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    current.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(ch);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
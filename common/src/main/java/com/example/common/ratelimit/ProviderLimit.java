@@ -0,0 +1,31 @@
+package com.example.common.ratelimit;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 제공자 API 키 하나의 호출 한도
+ */
+@Value
+@Builder
+public class ProviderLimit {
+    /** 초당 토큰 보충 속도 */
+    @Builder.Default
+    double permitsPerSecond = 10.0;
+
+    /** 버킷 최대 토큰 수 (순간 허용 버스트) */
+    @Builder.Default
+    int burst = 20;
+
+    /** 토큰을 기다릴 수 있는 대화형 호출 수 상한 */
+    @Builder.Default
+    int maxQueue = 20;
+
+    /** 대화형 호출의 최대 대기 시간 (ms), 이를 넘으면 대기하지 않고 즉시 실패 */
+    @Builder.Default
+    long maxWaitMillis = 500;
+
+    /** 백그라운드 호출이 건드리지 못하는 버킷 비율 (대화형 호출 몫) */
+    @Builder.Default
+    double backgroundReserveRatio = 0.3;
+}
@@ -0,0 +1,99 @@
+package com.example.common.ratelimit;
+
+import com.example.common.exception.ProviderDegradedException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 제공자별 호출 한도 인지 스케줄러
+ * API 키마다 토큰 버킷을 두고, 호출 전에 토큰을 예약한다.
+ * 대화형 호출은 한도 내에서 짧게 대기하고, 한도를 넘으면 블로킹 대신 {@link ProviderDegradedException} 으로 즉시 실패한다.
+ * 등록되지 않은 제공자는 제한 없이 통과한다.
+ */
+@Slf4j
+public class ProviderRequestScheduler {
+
+    /**
+     * 대기 방식 (테스트에서는 가짜 시계를 진행시키는 구현으로 교체)
+     */
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    private final Map<String, TokenBucket> buckets;
+    private final Sleeper sleeper;
+
+    public ProviderRequestScheduler(Map<String, ProviderLimit> limits) {
+        this(limits, Clock.systemUTC(), Thread::sleep);
+    }
+
+    public ProviderRequestScheduler(Map<String, ProviderLimit> limits, Clock clock, Sleeper sleeper) {
+        Map<String, TokenBucket> created = new LinkedHashMap<>();
+        limits.forEach((provider, limit) -> created.put(provider, new TokenBucket(provider, limit, clock)));
+        this.buckets = Collections.unmodifiableMap(created);
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * 현재 스레드 우선순위로 토큰을 얻은 뒤 호출
+     */
+    public <T> T execute(String provider, Supplier<T> call) {
+        return execute(provider, RequestPriorityContext.current(), call);
+    }
+
+    public <T> T execute(String provider, RequestPriority priority, Supplier<T> call) {
+        acquire(provider, priority);
+        return call.get();
+    }
+
+    /**
+     * 대기 없이 여유 토큰 1개 획득 (헤지 요청용, 한도가 없는 제공자는 항상 true)
+     */
+    public boolean tryAcquireSpare(String provider) {
+        TokenBucket bucket = buckets.get(provider);
+        return bucket == null || bucket.tryAcquireSpare();
+    }
+
+    /**
+     * 토큰 1개 획득 (필요하면 예약된 시간만큼 대기)
+     * @throws ProviderDegradedException 한도 초과로 즉시 실패
+     */
+    public void acquire(String provider, RequestPriority priority) {
+        TokenBucket bucket = buckets.get(provider);
+        if (bucket == null) {
+            return;
+        }
+
+        long waitMillis;
+        try {
+            waitMillis = bucket.reserve(priority);
+        } catch (ProviderDegradedException e) {
+            log.warn("Rate limit reached for {} ({} call): {}", provider, priority, e.getReason());
+            throw e;
+        }
+
+        if (waitMillis > 0) {
+            log.debug("Waiting {}ms for {} rate limit token", waitMillis, provider);
+            try {
+                sleeper.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProviderDegradedException(provider, ProviderDegradedException.Reason.WAIT_TOO_LONG, waitMillis);
+            }
+        }
+    }
+
+    public TokenBucket getBucket(String provider) {
+        return buckets.get(provider);
+    }
+
+    public Map<String, TokenBucket> getBuckets() {
+        return buckets;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.common.ratelimit;
+
+/**
+ * 외부 API 호출 우선순위
+ * INTERACTIVE 는 사용자 요청(일정 최적화 등) 처리 중의 호출로, 토큰이 부족하면 짧게 대기할 수 있다.
+ * BACKGROUND 는 프리페치/주기 작업으로, 대기하지 않고 대화형 호출 몫으로 남겨둔 토큰도 쓰지 않는다.
+ */
+public enum RequestPriority {
+    INTERACTIVE,
+    BACKGROUND
+}
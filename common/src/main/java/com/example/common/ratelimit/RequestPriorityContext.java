@@ -0,0 +1,38 @@
+package com.example.common.ratelimit;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 외부 API 호출 우선순위
+ * 값이 설정되지 않은 스레드(일반 요청 처리)는 INTERACTIVE 로 간주한다.
+ * 작업을 다른 스레드 풀로 넘길 때는 제출 시점에 {@link #current()} 를 캡처해 함께 넘겨야 한다.
+ */
+public final class RequestPriorityContext {
+
+    private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+
+    private RequestPriorityContext() {
+    }
+
+    public static RequestPriority current() {
+        RequestPriority priority = CURRENT.get();
+        return priority != null ? priority : RequestPriority.INTERACTIVE;
+    }
+
+    /**
+     * 지정한 우선순위로 작업 실행 (기존 값은 실행 후 복원)
+     */
+    public static <T> T callWith(RequestPriority priority, Supplier<T> work) {
+        RequestPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.common.ratelimit;
+
+import com.example.common.exception.ProviderDegradedException;
+import com.example.common.exception.ProviderDegradedException.Reason;
+
+import java.time.Clock;
+
+/**
+ * 예약형 토큰 버킷
+ * 토큰이 부족한 대화형 호출은 토큰을 미리 빌려(잔량이 음수가 됨) 보충 시점까지 대기하고,
+ * 음수 잔량의 크기가 곧 대기열 길이가 된다. 대기열 상한이나 최대 대기 시간을 넘으면 즉시 거절한다.
+ */
+public class TokenBucket {
+
+    private final String provider;
+    private final ProviderLimit limit;
+    private final Clock clock;
+
+    private double tokens;
+    private long lastRefillMillis;
+
+    private long granted;
+    private long delayed;
+    private long rejected;
+
+    public TokenBucket(String provider, ProviderLimit limit, Clock clock) {
+        this.provider = provider;
+        this.limit = limit;
+        this.clock = clock;
+        this.tokens = limit.getBurst();
+        this.lastRefillMillis = clock.millis();
+    }
+
+    /**
+     * 토큰 1개 예약
+     * @return 호출 전에 기다려야 하는 시간 (ms, 0 이면 즉시 호출)
+     * @throws ProviderDegradedException 대기열/대기 시간 한도를 넘거나 백그라운드 몫이 없을 때
+     */
+    public synchronized long reserve(RequestPriority priority) {
+        refill();
+        double rate = limit.getPermitsPerSecond();
+
+        if (priority == RequestPriority.BACKGROUND) {
+            double floor = limit.getBurst() * limit.getBackgroundReserveRatio();
+            if (tokens - 1 < floor) {
+                rejected++;
+                throw new ProviderDegradedException(provider, Reason.RESERVED_FOR_INTERACTIVE,
+                        millisUntil(floor + 1 - tokens, rate));
+            }
+            tokens -= 1;
+            granted++;
+            return 0;
+        }
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            granted++;
+            return 0;
+        }
+
+        double after = tokens - 1;
+        long waitMillis = millisUntil(-after, rate);
+        if (Math.ceil(-after) > limit.getMaxQueue()) {
+            rejected++;
+            throw new ProviderDegradedException(provider, Reason.QUEUE_FULL, waitMillis);
+        }
+        if (waitMillis > limit.getMaxWaitMillis()) {
+            rejected++;
+            throw new ProviderDegradedException(provider, Reason.WAIT_TOO_LONG, waitMillis);
+        }
+
+        tokens = after;
+        granted++;
+        delayed++;
+        return waitMillis;
+    }
+
+    /**
+     * 대기 없이 여유 토큰 1개 획득 (헤지처럼 생략해도 되는 추가 호출용)
+     * 백그라운드 호출과 같이 대화형 몫은 건드리지 않는다.
+     * @return 토큰을 얻었으면 true, 여유가 없으면 false (거절 횟수에는 넣지 않음)
+     */
+    public synchronized boolean tryAcquireSpare() {
+        refill();
+        double floor = limit.getBurst() * limit.getBackgroundReserveRatio();
+        if (tokens - 1 < floor) {
+            return false;
+        }
+        tokens -= 1;
+        granted++;
+        return true;
+    }
+
+    public synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    public synchronized long getGranted() {
+        return granted;
+    }
+
+    public synchronized long getDelayed() {
+        return delayed;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    private void refill() {
+        long now = clock.millis();
+        if (now > lastRefillMillis) {
+            tokens = Math.min(limit.getBurst(), tokens + (now - lastRefillMillis) * limit.getPermitsPerSecond() / 1000.0);
+            lastRefillMillis = now;
+        }
+    }
+
+    private static long millisUntil(double missingTokens, double rate) {
+        return (long) Math.ceil(missingTokens / rate * 1000.0);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.common.resilience;
+
+import java.time.Clock;
+
+/**
+ * 최근 호출 창 기반 회로 차단기
+ *
+ * 최근 windowSize 개 호출의 실패 비율 또는 느린 호출 비율이 임계치를 넘으면 열린다(OPEN).
+ * openMillis 가 지나면 반개방(HALF_OPEN) 상태에서 시험 호출을 허용하고,
+ * 시험 호출이 모두 빠르게 성공하면 닫히며(CLOSED) 하나라도 실패하거나 느리면 다시 열린다.
+ * 상태 전이는 드물고 임계 구역이 짧아 단순 동기화로 충분하다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 상태 전이 알림 (전이한 스레드에서 호출됨)
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+        void onTransition(String name, State from, State to);
+    }
+
+    private final String name;
+    private final ResilienceSettings settings;
+    private final Clock clock;
+    private final TransitionListener listener;
+
+    // 최근 호출 결과 원형 버퍼
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int recorded;
+    private int next;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int trialPermits;
+    private int trialSuccesses;
+
+    public CircuitBreaker(String name, ResilienceSettings settings, Clock clock, TransitionListener listener) {
+        this.name = name;
+        this.settings = settings;
+        this.clock = clock;
+        this.listener = listener;
+        this.failed = new boolean[Math.max(1, settings.getWindowSize())];
+        this.slow = new boolean[failed.length];
+    }
+
+    /**
+     * 호출 허용 여부 (허용되면 반드시 onSuccess / onFailure / onIgnored 중 하나로 결과를 알려야 함)
+     */
+    public boolean tryAcquire() {
+        State from;
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN) {
+                if (clock.millis() - openedAt < settings.getOpenMillis()) {
+                    return false;
+                }
+                from = state;
+                state = State.HALF_OPEN;
+                trialPermits = settings.getHalfOpenTrialCalls() - 1;
+                trialSuccesses = 0;
+            } else {
+                if (trialPermits <= 0) {
+                    return false;
+                }
+                trialPermits--;
+                return true;
+            }
+        }
+        notifyTransition(from, State.HALF_OPEN);
+        return true;
+    }
+
+    public void onSuccess(long latencyMillis) {
+        record(false, latencyMillis > settings.getSlowCallMillis());
+    }
+
+    public void onFailure(long latencyMillis) {
+        record(true, latencyMillis > settings.getSlowCallMillis());
+    }
+
+    /**
+     * 결과를 집계하지 않는 호출 (호출 한도 초과 등 제공자와 무관한 실패), 시험 호출 허가만 반환
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            trialPermits++;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 다시 시험 호출이 허용되기까지 남은 시간 (ms)
+     */
+    public synchronized long getRetryAfterMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, settings.getOpenMillis() - (clock.millis() - openedAt));
+    }
+
+    private void record(boolean failure, boolean slowCall) {
+        State from;
+        State to;
+        synchronized (this) {
+            from = state;
+            if (state == State.HALF_OPEN) {
+                if (failure || slowCall) {
+                    open();
+                } else if (++trialSuccesses >= settings.getHalfOpenTrialCalls()) {
+                    state = State.CLOSED;
+                    resetWindow();
+                }
+            } else if (state == State.CLOSED) {
+                add(failure, slowCall);
+                if (recorded >= settings.getMinimumCalls()
+                        && (failures >= settings.getFailureRateThreshold() * recorded
+                        || slowCalls >= settings.getSlowCallRateThreshold() * recorded)) {
+                    open();
+                }
+            }
+            to = state;
+        }
+        if (from != to) {
+            notifyTransition(from, to);
+        }
+    }
+
+    private void add(boolean failure, boolean slowCall) {
+        if (recorded == failed.length) {
+            if (failed[next]) failures--;
+            if (slow[next]) slowCalls--;
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = slowCall;
+        if (failure) failures++;
+        if (slowCall) slowCalls++;
+        next = (next + 1) % failed.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.millis();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+    private void notifyTransition(State from, State to) {
+        if (listener != null) {
+            listener.onTransition(name, from, to);
+        }
+    }
+}
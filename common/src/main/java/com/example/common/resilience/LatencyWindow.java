@@ -0,0 +1,49 @@
+package com.example.common.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 호출 지연 표본 원형 버퍼와 백분위 계산
+ * 백분위는 표본이 일정 수 추가될 때마다 다시 계산해 캐시하므로 조회는 상수 시간이다.
+ */
+public class LatencyWindow {
+
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final long[] samples;
+    private final double percentile;
+    private int count;
+    private int next;
+    private int sinceRecompute;
+    private volatile long cachedPercentile = -1;
+
+    public LatencyWindow(int size, double percentile) {
+        this.samples = new long[Math.max(1, size)];
+        this.percentile = percentile;
+    }
+
+    public synchronized void record(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceRecompute >= RECOMPUTE_EVERY || cachedPercentile < 0) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            cachedPercentile = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+        }
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * 캐시된 백분위 지연 (표본이 없으면 -1)
+     */
+    public long getPercentileMillis() {
+        return cachedPercentile;
+    }
+}
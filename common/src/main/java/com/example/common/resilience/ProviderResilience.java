@@ -0,0 +1,389 @@
+package com.example.common.resilience;
+
+import com.example.common.exception.ProviderDegradedException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 제공자별 회로 차단 + 헤지 요청 계층
+ *
+ * 회로가 열린 제공자는 호출하지 않고 {@link ProviderDegradedException}(CIRCUIT_OPEN) 으로 즉시 실패한다.
+ * 호출이 그 제공자의 최근 p95 지연을 넘기면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 사용한다.
+ * 두 시도 모두 실패한 경우에만 실패로 처리하며, 늦게 끝난 시도의 지연도 p95 표본에 반영한다.
+ * 헤지 요청은 원래 시도와 별개의 호출이므로 보내기 전에 hedgePermit 으로 호출 한도 토큰을 따로 얻고,
+ * 얻지 못하면 헤지 없이 원래 시도를 기다린다.
+ */
+@Slf4j
+public class ProviderResilience {
+
+    /**
+     * 제공자 등록 및 회로 상태 전이 알림 (지표 연결용)
+     */
+    public interface Listener extends CircuitBreaker.TransitionListener {
+        void onRegistered(String provider, ProviderStats stats);
+    }
+
+    private final ResilienceSettings settings;
+    private final Executor executor;
+    private final Clock clock;
+    private final Listener listener;
+    private final Predicate<Throwable> recordAsFailure;
+    private final Predicate<String> hedgePermit;
+    private final Map<String, ProviderStats> providers = new ConcurrentHashMap<>();
+
+    /**
+     * @param executor        시도를 실행할 풀 (가득 차면 헤지 없이 호출 스레드에서 실행)
+     * @param recordAsFailure 회로 차단기에 실패로 집계할 예외 (나머지는 집계하지 않음)
+     */
+    public ProviderResilience(ResilienceSettings settings, Executor executor, Clock clock,
+                              Listener listener, Predicate<Throwable> recordAsFailure) {
+        this(settings, executor, clock, listener, recordAsFailure, provider -> true);
+    }
+
+    /**
+     * @param hedgePermit 제공자 이름을 받아 헤지 요청 1건의 호출 한도 토큰을 얻음 (못 얻으면 false, 헤지 안 함)
+     */
+    public ProviderResilience(ResilienceSettings settings, Executor executor, Clock clock,
+                              Listener listener, Predicate<Throwable> recordAsFailure, Predicate<String> hedgePermit) {
+        this.settings = settings;
+        this.executor = executor;
+        this.clock = clock;
+        this.listener = listener;
+        this.recordAsFailure = recordAsFailure;
+        this.hedgePermit = hedgePermit;
+    }
+
+    public <T> T call(String provider, Supplier<T> call) {
+        ProviderStats stats = stats(provider);
+        CircuitBreaker breaker = stats.breaker;
+        if (!breaker.tryAcquire()) {
+            stats.rejected.incrementAndGet();
+            throw new ProviderDegradedException(provider, ProviderDegradedException.Reason.CIRCUIT_OPEN,
+                    breaker.getRetryAfterMillis());
+        }
+
+        long start = clock.millis();
+        try {
+            T result = settings.isHedgeEnabled() ? hedged(provider, stats, call) : timed(stats, call);
+            breaker.onSuccess(clock.millis() - start);
+            return result;
+        } catch (RuntimeException e) {
+            if (recordAsFailure.test(e)) {
+                breaker.onFailure(clock.millis() - start);
+            } else {
+                breaker.onIgnored();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 호출: 회로 차단과 헤지 규칙은 동기 호출과 같다
+     * 반환된 future 를 취소하면 진행 중인 시도도 취소하며, 취소된 호출은 차단기에 집계하지 않는다.
+     */
+    public <T> CompletableFuture<T> callAsync(String provider, Supplier<CompletableFuture<T>> call) {
+        ProviderStats stats = stats(provider);
+        CircuitBreaker breaker = stats.breaker;
+        if (!breaker.tryAcquire()) {
+            stats.rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(new ProviderDegradedException(provider,
+                    ProviderDegradedException.Reason.CIRCUIT_OPEN, breaker.getRetryAfterMillis()));
+        }
+
+        long start = clock.millis();
+        long hedgeDelay = settings.isHedgeEnabled() ? hedgeDelay(stats) : -1;
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<T> primary = startAsync(stats, call);
+        // 0: 헤지 대기, 1: 헤지 전송됨, 2: 헤지 안 함 (원래 시도가 먼저 끝남)
+        AtomicInteger hedgeState = new AtomicInteger(hedgeDelay < 0 ? 2 : 0);
+        AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        AtomicReference<Throwable> primaryError = new AtomicReference<>();
+        primary.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            primaryError.set(error);
+            // 헤지가 전송되지 않았으면 바로 실패, 전송됐으면 헤지도 실패해야 실패
+            if (hedgeState.compareAndSet(0, 2) || hedgeState.get() == 2 || failures.incrementAndGet() == 2) {
+                result.completeExceptionally(unwrap(error));
+            }
+        });
+
+        if (hedgeDelay >= 0) {
+            CompletableFuture.delayedExecutor(hedgeDelay, TimeUnit.MILLISECONDS, executor).execute(() -> {
+                if (result.isDone() || hedgeState.get() != 0) {
+                    return;
+                }
+                if (!hedgePermit.test(provider)) {
+                    // 호출 한도 여유 없음: 헤지 없이 원래 시도 결과를 그대로 사용
+                    stats.hedgesSkipped.incrementAndGet();
+                    hedgeState.compareAndSet(0, 2);
+                    return;
+                }
+                if (!hedgeState.compareAndSet(0, 1)) {
+                    return;
+                }
+                stats.hedgesSent.incrementAndGet();
+                CompletableFuture<T> attempt = startAsync(stats, call);
+                hedge.set(attempt);
+                attempt.whenComplete((value, error) -> {
+                    if (error == null) {
+                        if (result.complete(value)) {
+                            stats.hedgeWins.incrementAndGet();
+                        }
+                    } else if (failures.incrementAndGet() == 2) {
+                        Throwable first = primaryError.get();
+                        result.completeExceptionally(unwrap(first != null ? first : error));
+                    }
+                });
+            });
+        }
+
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                primary.cancel(true);
+                CompletableFuture<T> hedgeAttempt = hedge.get();
+                if (hedgeAttempt != null) {
+                    hedgeAttempt.cancel(true);
+                }
+                breaker.onIgnored();
+            } else if (error == null) {
+                breaker.onSuccess(clock.millis() - start);
+            } else if (recordAsFailure.test(unwrap(error))) {
+                breaker.onFailure(clock.millis() - start);
+            } else {
+                breaker.onIgnored();
+            }
+        });
+        return result;
+    }
+
+    public ProviderStats stats(String provider) {
+        ProviderStats existing = providers.get(provider);
+        if (existing != null) {
+            return existing;
+        }
+        return providers.computeIfAbsent(provider, key -> {
+            ProviderStats created = new ProviderStats(
+                    new CircuitBreaker(key, settings, clock, this::onTransition),
+                    new LatencyWindow(settings.getLatencyWindowSize(), settings.getHedgePercentile()));
+            if (listener != null) {
+                listener.onRegistered(key, created);
+            }
+            return created;
+        });
+    }
+
+    private void onTransition(String provider, CircuitBreaker.State from, CircuitBreaker.State to) {
+        if (to == CircuitBreaker.State.OPEN) {
+            log.warn("Circuit for provider '{}' opened ({} -> {})", provider, from, to);
+        } else {
+            log.info("Circuit for provider '{}' {} -> {}", provider, from, to);
+        }
+        if (listener != null) {
+            listener.onTransition(provider, from, to);
+        }
+    }
+
+    private <T> T timed(ProviderStats stats, Supplier<T> call) {
+        long start = clock.millis();
+        T result = call.get();
+        stats.latency.record(clock.millis() - start);
+        return result;
+    }
+
+    private <T> T hedged(String provider, ProviderStats stats, Supplier<T> call) {
+        long hedgeDelay = hedgeDelay(stats);
+
+        CompletableFuture<T> primary = start(stats, call);
+        if (primary == null) {
+            // 풀이 가득 참: 헤지 없이 호출 스레드에서 실행
+            return timed(stats, call);
+        }
+        if (hedgeDelay < 0) {
+            return await(primary);
+        }
+
+        try {
+            return primary.get(hedgeDelay, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // p95 초과: 아래에서 헤지 요청 전송
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(true);
+            throw new CancellationException("Interrupted while waiting for provider response");
+        }
+
+        if (!hedgePermit.test(provider)) {
+            // 호출 한도 여유 없음: 헤지 없이 원래 시도를 기다림
+            stats.hedgesSkipped.incrementAndGet();
+            return await(primary);
+        }
+        CompletableFuture<T> hedge = start(stats, call);
+        if (hedge == null) {
+            return await(primary);
+        }
+        stats.hedgesSent.incrementAndGet();
+
+        // 먼저 성공한 시도를 사용, 둘 다 실패하면 원래 시도의 예외 전달
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicReference<Throwable> primaryError = new AtomicReference<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((value, error) -> {
+            if (error == null) {
+                winner.complete(value);
+                return;
+            }
+            primaryError.set(error);
+            if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        });
+        hedge.whenComplete((value, error) -> {
+            if (error == null) {
+                if (winner.complete(value)) {
+                    stats.hedgeWins.incrementAndGet();
+                }
+                return;
+            }
+            if (failures.incrementAndGet() == 2) {
+                Throwable first = primaryError.get();
+                winner.completeExceptionally(first != null ? first : error);
+            }
+        });
+
+        // 진 쪽 시도는 취소하지 않는다 (전송된 HTTP 요청은 중단되지 않으며, 끝나면 지연 표본으로 쓰임)
+        return await(winner);
+    }
+
+    /**
+     * 시도 하나를 풀에 제출 (거절되면 null), 성공한 시도의 지연은 끝나는 대로 표본에 기록
+     */
+    private <T> CompletableFuture<T> start(ProviderStats stats, Supplier<T> call) {
+        long start = clock.millis();
+        try {
+            CompletableFuture<T> attempt = CompletableFuture.supplyAsync(call, executor);
+            attempt.whenComplete((value, error) -> {
+                if (error == null) {
+                    stats.latency.record(clock.millis() - start);
+                }
+            });
+            return attempt;
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 비동기 시도 시작 (공급자가 동기 예외를 던지면 실패한 future 로 변환)
+     */
+    private <T> CompletableFuture<T> startAsync(ProviderStats stats, Supplier<CompletableFuture<T>> call) {
+        long start = clock.millis();
+        CompletableFuture<T> attempt;
+        try {
+            attempt = call.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        attempt.whenComplete((value, error) -> {
+            if (error == null) {
+                stats.latency.record(clock.millis() - start);
+            }
+        });
+        return attempt;
+    }
+
+    // 표본이 부족하면 -1 (헤지 안 함)
+    private long hedgeDelay(ProviderStats stats) {
+        return stats.latency.size() >= settings.getMinLatencySamples()
+                ? Math.max(settings.getMinHedgeDelayMillis(), stats.latency.getPercentileMillis())
+                : -1;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof RuntimeException) {
+            return (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        return new CompletionException(error);
+    }
+
+    /**
+     * 제공자별 회로 차단기, 지연 창, 헤지 통계
+     */
+    public static final class ProviderStats {
+        private final CircuitBreaker breaker;
+        private final LatencyWindow latency;
+        private final AtomicLong hedgesSent = new AtomicLong();
+        private final AtomicLong hedgeWins = new AtomicLong();
+        private final AtomicLong hedgesSkipped = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        private ProviderStats(CircuitBreaker breaker, LatencyWindow latency) {
+            this.breaker = breaker;
+            this.latency = latency;
+        }
+
+        public CircuitBreaker.State getState() {
+            return breaker.getState();
+        }
+
+        /** 최근 헤지 기준 지연 (ms, 표본이 없으면 -1) */
+        public long getHedgeThresholdMillis() {
+            return latency.getPercentileMillis();
+        }
+
+        public long getHedgesSent() {
+            return hedgesSent.get();
+        }
+
+        /** 헤지 요청이 원래 요청보다 먼저 성공한 횟수 */
+        public long getHedgeWins() {
+            return hedgeWins.get();
+        }
+
+        /** 헤지 시점이 됐지만 호출 한도 토큰이 없어 보내지 않은 헤지 수 */
+        public long getHedgesSkipped() {
+            return hedgesSkipped.get();
+        }
+
+        /** 회로가 열려 있어 보내지 않은 호출 수 */
+        public long getRejected() {
+            return rejected.get();
+        }
+    }
+}
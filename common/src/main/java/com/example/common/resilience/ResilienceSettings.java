@@ -0,0 +1,59 @@
+package com.example.common.resilience;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 제공자 회로 차단기와 헤지 요청 설정
+ */
+@Value
+@Builder
+public class ResilienceSettings {
+    /** 오류율/지연 비율을 계산하는 최근 호출 수 */
+    @Builder.Default
+    int windowSize = 50;
+
+    /** 창에 이만큼 쌓이기 전에는 차단하지 않음 */
+    @Builder.Default
+    int minimumCalls = 10;
+
+    /** 실패 비율이 이 값 이상이면 차단 */
+    @Builder.Default
+    double failureRateThreshold = 0.5;
+
+    /** 이 시간(ms)을 넘긴 호출은 느린 호출로 집계 */
+    @Builder.Default
+    long slowCallMillis = 3000;
+
+    /** 느린 호출 비율이 이 값 이상이면 차단 */
+    @Builder.Default
+    double slowCallRateThreshold = 0.8;
+
+    /** 차단 유지 시간 (ms), 지나면 시험 호출 허용 */
+    @Builder.Default
+    long openMillis = 30000;
+
+    /** 반개방 상태에서 허용하는 시험 호출 수 (모두 성공해야 닫힘) */
+    @Builder.Default
+    int halfOpenTrialCalls = 3;
+
+    /** 헤지 요청 사용 여부 */
+    @Builder.Default
+    boolean hedgeEnabled = true;
+
+    /** 이 백분위 지연을 넘기면 헤지 요청 전송 */
+    @Builder.Default
+    double hedgePercentile = 0.95;
+
+    /** 헤지 지연 하한 (ms), 너무 이른 중복 호출 방지 */
+    @Builder.Default
+    long minHedgeDelayMillis = 100;
+
+    /** 지연 백분위 계산에 쓰는 최근 표본 수 */
+    @Builder.Default
+    int latencyWindowSize = 200;
+
+    /** 이만큼 표본이 모이기 전에는 헤지하지 않음 */
+    @Builder.Default
+    int minLatencySamples = 20;
+}
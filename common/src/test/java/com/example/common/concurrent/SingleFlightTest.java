@@ -0,0 +1,197 @@
+package com.example.common.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final SingleFlight<String> flights = new SingleFlight<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        List<Future<String>> results = submitCallers(CALLERS, () -> flights.call("key", () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "value";
+        }));
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(flights.getExecutedCount()).isEqualTo(1);
+        assertThat(flights.getCoalescedCount()).isEqualTo(CALLERS - 1);
+        assertThat(flights.inFlightCount()).isZero();
+    }
+
+    @Test
+    void failureReachesEveryWaiter() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitCallers(CALLERS, () -> flights.call("key", () -> {
+            await(release);
+            throw new IllegalStateException("upstream failed");
+        }));
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("upstream failed");
+        }
+        assertThat(flights.inFlightCount()).isZero();
+    }
+
+    @Test
+    void completedKeyIsNotCached() {
+        AtomicInteger executions = new AtomicInteger();
+
+        flights.call("key", executions::incrementAndGet);
+        flights.call("key", executions::incrementAndGet);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(flights.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void interruptedWaiterLeavesWithoutBlockingOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flights.call("key", () -> {
+            await(release);
+            return "value";
+        }));
+        awaitInFlight();
+
+        AtomicBoolean interruptFlagKept = new AtomicBoolean();
+        Future<?> follower = executor.submit(() -> {
+            try {
+                flights.call("key", () -> "own call");
+            } catch (CancellationException e) {
+                interruptFlagKept.set(Thread.currentThread().isInterrupted());
+                throw e;
+            }
+            return null;
+        });
+        awaitCoalesced(1);
+
+        follower.cancel(true);
+        awaitAbandoned(1);
+        assertThat(interruptFlagKept.get()).isTrue();
+        assertThat(leader.isDone()).isFalse();
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    }
+
+    @Test
+    void waiterGivesUpAtItsDeadline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flights.call("key", () -> {
+            await(release);
+            return "value";
+        }));
+        awaitInFlight();
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> flights.call("key", 100, () -> "own call"))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(2000);
+        assertThat(flights.getAbandonedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    }
+
+    @Test
+    void asyncCallersShareOneFuture() {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger starts = new AtomicInteger();
+
+        CompletableFuture<String> first = flights.callAsync("key", () -> {
+            starts.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = flights.callAsync("key", () -> {
+            starts.incrementAndGet();
+            return CompletableFuture.completedFuture("own call");
+        });
+        upstream.complete("value");
+
+        assertThat(first.join()).isEqualTo("value");
+        assertThat(second.join()).isEqualTo("value");
+        assertThat(starts.get()).isEqualTo(1);
+        assertThat(flights.inFlightCount()).isZero();
+    }
+
+    private <V> List<Future<V>> submitCallers(int count, Callable<V> call) {
+        List<Future<V>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(executor.submit(call));
+        }
+        return futures;
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        waitUntil(() -> flights.getCoalescedCount() >= expected);
+    }
+
+    private void awaitAbandoned(long expected) throws InterruptedException {
+        waitUntil(() -> flights.getAbandonedCount() >= expected);
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        waitUntil(() -> flights.inFlightCount() > 0);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not reached in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
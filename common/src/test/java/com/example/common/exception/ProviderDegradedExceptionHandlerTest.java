@@ -0,0 +1,37 @@
+package com.example.common.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProviderDegradedExceptionHandlerTest {
+
+    @RestController
+    static class DegradedController {
+        @GetMapping("/degraded")
+        String degraded() {
+            throw new ProviderDegradedException("google", ProviderDegradedException.Reason.QUEUE_FULL, 1500);
+        }
+    }
+
+    @Test
+    void degradedProviderMapsToServiceUnavailableWithRetryAfter() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new DegradedController())
+                .setControllerAdvice(new ProviderDegradedExceptionHandler())
+                .build();
+
+        mockMvc.perform(get("/degraded"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.provider").value("google"))
+                .andExpect(jsonPath("$.reason").value("QUEUE_FULL"))
+                .andExpect(jsonPath("$.retryAfterMillis").value(1500));
+    }
+}
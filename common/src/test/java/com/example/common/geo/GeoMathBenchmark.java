@@ -0,0 +1,188 @@
+package com.example.common.geo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GeoMath 와 서비스별로 흩어져 있던 기존 거리 계산 비교
+ *
+ * 실행: mvn -q test-compile 후 테스트 클래스패스로 {@link #main} 실행
+ * (또는 java -cp ... org.openjdk.jmh.Main GeoMathBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoMathBenchmark {
+
+    @Param({"1000"})
+    private int points;
+
+    private double centerLat;
+    private double centerLon;
+    private double endLat;
+    private double endLon;
+    private double[] lats;
+    private double[] lons;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        centerLat = 37.5665;
+        centerLon = 126.9780;
+        endLat = 37.4979;
+        endLon = 127.0276;
+        lats = new double[points];
+        lons = new double[points];
+        out = new double[points];
+        for (int i = 0; i < points; i++) {
+            lats[i] = centerLat + (random.nextDouble() - 0.5) * 0.2;
+            lons[i] = centerLon + (random.nextDouble() - 0.5) * 0.2;
+        }
+    }
+
+    @Benchmark
+    public void legacyHaversine(Blackhole blackhole) {
+        for (int i = 0; i < points; i++) {
+            blackhole.consume(legacyCalculateDistance(centerLat, centerLon, lats[i], lons[i]));
+        }
+    }
+
+    @Benchmark
+    public void haversine(Blackhole blackhole) {
+        for (int i = 0; i < points; i++) {
+            blackhole.consume(GeoMath.haversineMeters(centerLat, centerLon, lats[i], lons[i]));
+        }
+    }
+
+    @Benchmark
+    public double[] haversineBatch() {
+        GeoMath.haversineMeters(centerLat, centerLon, lats, lons, out);
+        return out;
+    }
+
+    @Benchmark
+    public void equirectangular(Blackhole blackhole) {
+        for (int i = 0; i < points; i++) {
+            blackhole.consume(GeoMath.equirectangularMeters(centerLat, centerLon, lats[i], lons[i]));
+        }
+    }
+
+    @Benchmark
+    public double[] equirectangularBatch() {
+        GeoMath.equirectangularMeters(centerLat, centerLon, lats, lons, out);
+        return out;
+    }
+
+    @Benchmark
+    public void legacyDistanceToRoute(Blackhole blackhole) {
+        for (int i = 0; i < points; i++) {
+            blackhole.consume(legacyDistanceToRoute(lats[i], lons[i], centerLat, centerLon, endLat, endLon));
+        }
+    }
+
+    @Benchmark
+    public void pointToSegment(Blackhole blackhole) {
+        for (int i = 0; i < points; i++) {
+            blackhole.consume(GeoMath.pointToSegmentMeters(lats[i], lons[i], centerLat, centerLon, endLat, endLon));
+        }
+    }
+
+    /**
+     * 기존 rankPlacesByRouteProximity: 비교할 때마다 경로/중심 거리를 다시 계산
+     */
+    @Benchmark
+    public List<Integer> legacyRankByRouteProximity() {
+        double midLat = (centerLat + endLat) / 2;
+        double midLon = (centerLon + endLon) / 2;
+        List<Integer> order = indices();
+        order.sort((a, b) -> Double.compare(
+                legacyDistanceToRoute(lats[a], lons[a], centerLat, centerLon, endLat, endLon) * 0.7
+                        + legacyCalculateDistance(lats[a], lons[a], midLat, midLon) * 0.3,
+                legacyDistanceToRoute(lats[b], lons[b], centerLat, centerLon, endLat, endLon) * 0.7
+                        + legacyCalculateDistance(lats[b], lons[b], midLat, midLon) * 0.3));
+        return order;
+    }
+
+    /**
+     * 점수를 한 번씩만 계산한 뒤 정렬
+     */
+    @Benchmark
+    public List<Integer> rankByRouteProximity() {
+        double midLat = (centerLat + endLat) / 2;
+        double midLon = (centerLon + endLon) / 2;
+        double[] scores = new double[points];
+        for (int i = 0; i < points; i++) {
+            scores[i] = GeoMath.pointToSegmentMeters(lats[i], lons[i], centerLat, centerLon, endLat, endLon) * 0.7
+                    + GeoMath.haversineMeters(lats[i], lons[i], midLat, midLon) * 0.3;
+        }
+        List<Integer> order = indices();
+        order.sort(Comparator.comparingDouble(i -> scores[i]));
+        return order;
+    }
+
+    private List<Integer> indices() {
+        List<Integer> order = new ArrayList<>(points);
+        for (int i = 0; i < points; i++) {
+            order.add(i);
+        }
+        return order;
+    }
+
+    // 기존 APIIntegrationService.calculateDistance
+    private static double legacyCalculateDistance(double lat1, double lon1, double lat2, double lon2) {
+        double R = 6371;
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return R * c * 1000;
+    }
+
+    // 기존 APIIntegrationService.distanceToRoute (임시 벡터 배열 할당)
+    private static double legacyDistanceToRoute(double pointLat, double pointLon,
+                                                double startLat, double startLon, double endLat, double endLon) {
+        double[] v = new double[]{endLon - startLon, endLat - startLat};
+        double[] w = new double[]{pointLon - startLon, pointLat - startLat};
+        double c1 = w[0] * v[0] + w[1] * v[1];
+        if (c1 <= 0) {
+            return legacyCalculateDistance(pointLat, pointLon, startLat, startLon);
+        }
+        double c2 = v[0] * v[0] + v[1] * v[1];
+        if (c2 <= c1) {
+            return legacyCalculateDistance(pointLat, pointLon, endLat, endLon);
+        }
+        double b = c1 / c2;
+        return legacyCalculateDistance(pointLat, pointLon, startLat + b * v[1], startLon + b * v[0]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GeoMathBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.common.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class GeoMathTest {
+
+    @Test
+    void haversineMatchesKnownDistance() {
+        // 서울시청 - 강남역 약 8.9km
+        double meters = GeoMath.haversineMeters(37.5665, 126.9780, 37.4979, 127.0276);
+
+        assertThat(meters).isCloseTo(8_900, offset(150.0));
+        assertThat(GeoMath.haversineKm(37.5665, 126.9780, 37.4979, 127.0276)).isCloseTo(meters / 1000, offset(1e-9));
+    }
+
+    @Test
+    void equirectangularStaysWithinDocumentedErrorBound() {
+        Random random = new Random(1);
+        for (int i = 0; i < 10_000; i++) {
+            double lat = (random.nextDouble() - 0.5) * 120; // ±60°
+            double lon = (random.nextDouble() - 0.5) * 340;
+            double bearing = random.nextDouble() * 2 * Math.PI;
+            double distance = random.nextDouble() * 20_000;
+            double lat2 = lat + Math.toDegrees(distance * Math.cos(bearing) / GeoMath.EARTH_RADIUS_METERS);
+            double lon2 = lon + Math.toDegrees(distance * Math.sin(bearing)
+                    / (GeoMath.EARTH_RADIUS_METERS * Math.cos(Math.toRadians(lat))));
+
+            double exact = GeoMath.haversineMeters(lat, lon, lat2, lon2);
+            double approx = GeoMath.equirectangularMeters(lat, lon, lat2, lon2);
+
+            assertThat(Math.abs(approx - exact)).isLessThanOrEqualTo(Math.max(exact * 1e-4, 1e-6));
+        }
+    }
+
+    @Test
+    void batchFunctionsMatchScalarFunctions() {
+        Random random = new Random(2);
+        double[] lats = new double[100];
+        double[] lons = new double[100];
+        for (int i = 0; i < lats.length; i++) {
+            lats[i] = 37.5 + random.nextDouble() * 0.1;
+            lons[i] = 127.0 + random.nextDouble() * 0.1;
+        }
+        double[] haversine = new double[lats.length];
+        double[] equirectangular = new double[lats.length];
+
+        GeoMath.haversineMeters(37.55, 127.05, lats, lons, haversine);
+        GeoMath.equirectangularMeters(37.55, 127.05, lats, lons, equirectangular);
+
+        for (int i = 0; i < lats.length; i++) {
+            assertThat(haversine[i]).isCloseTo(GeoMath.haversineMeters(37.55, 127.05, lats[i], lons[i]), offset(1e-6));
+            // 기준점 위도로 투영: 상대 오차 tanφ · Δφ 이내
+            double bound = Math.tan(Math.toRadians(37.55)) * Math.abs(Math.toRadians(lats[i] - 37.55)) + 1e-4;
+            assertThat(equirectangular[i]).isCloseTo(haversine[i], offset(haversine[i] * bound + 1e-6));
+        }
+    }
+
+    @Test
+    void pointToPolylineUsesNearestSegment() {
+        double[] lats = {37.50, 37.50, 37.60};
+        double[] lons = {127.00, 127.10, 127.10};
+
+        double onFirst = GeoMath.pointToPolylineMeters(37.51, 127.05, lats, lons);
+        double onSecond = GeoMath.pointToPolylineMeters(37.55, 127.11, lats, lons);
+
+        assertThat(onFirst).isCloseTo(GeoMath.haversineMeters(37.51, 127.05, 37.50, 127.05), offset(1.0));
+        assertThat(onSecond).isCloseTo(GeoMath.haversineMeters(37.55, 127.11, 37.55, 127.10), offset(1.0));
+        assertThat(GeoMath.pointToSegmentMeters(37.51, 127.05, 37.50, 127.00, 37.50, 127.10))
+                .isCloseTo(onFirst, offset(1.0));
+        assertThat(GeoMath.pointToPolylineMeters(37.51, 127.05, new double[0], new double[0])).isNaN();
+    }
+}
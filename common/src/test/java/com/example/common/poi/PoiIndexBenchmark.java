@@ -0,0 +1,150 @@
+package com.example.common.poi;
+
+import com.example.common.geo.GeoMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 100만 POI 합성 스냅샷({@link SyntheticPoiFixture})에서 적재, 반경 검색, kNN 측정
+ * 비교 대상은 인덱스 없이 전체 목록을 훑는 선형 탐색이다.
+ *
+ * 실행: mvn -q test-compile 후 테스트 클래스패스로 {@link #main} 실행
+ * (또는 java -cp ... org.openjdk.jmh.Main PoiIndexBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class PoiIndexBenchmark {
+
+    private static final int QUERY_POINTS = 1024;
+    private static final Predicate<Poi> CAFE = poi -> "cafe".equals(poi.getCategory());
+
+    @Param({"1000000"})
+    private int pois;
+
+    @Param({"1000"})
+    private double radiusMeters;
+
+    private Path snapshot;
+    private List<Poi> all;
+    private PoiIndex index;
+    private double[] queryLats;
+    private double[] queryLons;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        snapshot = SyntheticPoiFixture.writeCsv(Files.createTempFile("poi-benchmark", ".csv"), pois, 42);
+        all = PoiSnapshotLoader.load(snapshot);
+        index = new PoiIndex(PoiRTree.build(all), Integer.MAX_VALUE, Runnable::run,
+                new PoiCoverage(Clock.systemUTC(), Duration.ofHours(1), 100));
+
+        Random random = new Random(7);
+        queryLats = new double[QUERY_POINTS];
+        queryLons = new double[QUERY_POINTS];
+        for (int i = 0; i < QUERY_POINTS; i++) {
+            queryLats[i] = SyntheticPoiFixture.CENTER_LAT + (random.nextDouble() - 0.5) * 0.6;
+            queryLons[i] = SyntheticPoiFixture.CENTER_LON + (random.nextDouble() - 0.5) * 0.6;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot);
+    }
+
+    /**
+     * 기동 시 스냅샷 적재 비용 (CSV 파싱 + STR 일괄 적재)
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public PoiRTree loadSnapshot() throws IOException {
+        return PoiRTree.build(PoiSnapshotLoader.load(snapshot));
+    }
+
+    @Benchmark
+    public List<PoiHit> indexWithinRadius() {
+        int i = nextQuery();
+        return index.withinRadius(queryLats[i], queryLons[i], radiusMeters, CAFE);
+    }
+
+    @Benchmark
+    public List<PoiHit> linearWithinRadius() {
+        int i = nextQuery();
+        List<PoiHit> hits = new ArrayList<>();
+        for (Poi poi : all) {
+            if (CAFE.test(poi)) {
+                double distance = GeoMath.haversineMeters(queryLats[i], queryLons[i], poi.getLatitude(), poi.getLongitude());
+                if (distance <= radiusMeters) {
+                    hits.add(new PoiHit(poi, distance));
+                }
+            }
+        }
+        hits.sort(null);
+        return hits;
+    }
+
+    @Benchmark
+    public List<PoiHit> indexNearest10() {
+        int i = nextQuery();
+        return index.nearest(queryLats[i], queryLons[i], 10, 5000, CAFE);
+    }
+
+    @Benchmark
+    public List<PoiHit> linearNearest10() {
+        int i = nextQuery();
+        List<PoiHit> hits = new ArrayList<>();
+        for (Poi poi : all) {
+            if (CAFE.test(poi)) {
+                double distance = GeoMath.haversineMeters(queryLats[i], queryLons[i], poi.getLatitude(), poi.getLongitude());
+                if (distance <= 5000) {
+                    hits.add(new PoiHit(poi, distance));
+                }
+            }
+        }
+        hits.sort(null);
+        return hits.size() > 10 ? hits.subList(0, 10) : hits;
+    }
+
+    private int nextQuery() {
+        next = (next + 1) & (QUERY_POINTS - 1);
+        return next;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PoiIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.common.poi;
+
+import com.example.common.geo.GeoMath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PoiIndexTest {
+
+    private static final Predicate<Poi> CAFE = poi -> "cafe".equals(poi.getCategory());
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void radiusAndNearestMatchLinearScan() {
+        List<Poi> pois = SyntheticPoiFixture.generate(20_000, 1);
+        PoiIndex index = newIndex(PoiRTree.build(pois));
+        double lat = 37.5000;
+        double lon = 127.0300;
+
+        List<String> expected = pois.stream()
+                .filter(CAFE)
+                .filter(poi -> distance(lat, lon, poi) <= 1500)
+                .sorted(Comparator.comparingDouble(poi -> distance(lat, lon, poi)))
+                .map(Poi::getId)
+                .collect(Collectors.toList());
+        assertThat(index.withinRadius(lat, lon, 1500, CAFE))
+                .extracting(hit -> hit.getPoi().getId())
+                .containsExactlyElementsOf(expected);
+        assertThat(index.nearest(lat, lon, 5, 1500, CAFE))
+                .extracting(hit -> hit.getPoi().getId())
+                .containsExactlyElementsOf(expected.subList(0, 5));
+    }
+
+    @Test
+    void upsertShadowsSnapshotEntry() {
+        PoiIndex index = newIndex(PoiRTree.build(List.of(cafe("a", 37.5000, 127.0000))));
+
+        index.upsert(List.of(cafe("a", 37.5100, 127.0000)));
+
+        List<PoiHit> hits = index.withinRadius(37.5100, 127.0000, 100, CAFE);
+        assertThat(hits).hasSize(1);
+        assertThat(hits.get(0).getDistanceMeters()).isLessThan(1);
+        assertThat(index.withinRadius(37.5000, 127.0000, 100, CAFE)).isEmpty();
+    }
+
+    @Test
+    void nearbySearchResultsDoNotCoverUnsearchedArea() {
+        PoiIndex index = newIndex(PoiRTree.empty());
+
+        // 넓은 반경 검색 결과가 작은 원 안에 여러 개 들어와도, 그 작은 원은 검색한 영역 안일 때만 커버된다
+        index.upsert(List.of(
+                cafe("a", 37.5000, 127.0000), cafe("b", 37.5001, 127.0001), cafe("c", 37.5002, 127.0002),
+                cafe("d", 37.5003, 127.0003), cafe("e", 37.5004, 127.0004)));
+        assertThat(index.withinRadius(37.5002, 127.0002, 200, CAFE)).hasSize(5);
+        assertThat(index.isCovered("cafe", 37.5002, 127.0002, 200)).isFalse();
+
+        index.recordCoverage("cafe", 37.5000, 127.0000, 5000);
+        assertThat(index.isCovered("cafe", 37.5002, 127.0002, 200)).isTrue();
+        assertThat(index.isCovered("restaurant", 37.5002, 127.0002, 200)).isFalse();
+        // 기록한 원 밖으로 삐져나가는 질의는 커버되지 않음
+        assertThat(index.isCovered("cafe", 37.5300, 127.0000, 2000)).isFalse();
+    }
+
+    @Test
+    void coverageExpires() {
+        PoiIndex index = newIndex(PoiRTree.empty());
+        index.recordCoverage("cafe", 37.5000, 127.0000, 5000);
+
+        clock.advance(Duration.ofMinutes(59));
+        assertThat(index.isCovered("cafe", 37.5000, 127.0000, 1000)).isTrue();
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(index.isCovered("cafe", 37.5000, 127.0000, 1000)).isFalse();
+    }
+
+    @Test
+    void snapshotCoversItsExtentUntilExpiry(@TempDir Path dir) throws IOException {
+        Path file = SyntheticPoiFixture.writeCsv(dir.resolve("pois.csv"), 5_000, 3);
+        PoiIndex index = newIndex(PoiRTree.empty());
+
+        index.replace(PoiRTree.build(PoiSnapshotLoader.load(file)), clock.millis() + Duration.ofHours(2).toMillis());
+
+        assertThat(index.size()).isEqualTo(5_000);
+        assertThat(index.isCovered("cafe", SyntheticPoiFixture.CENTER_LAT, SyntheticPoiFixture.CENTER_LON, 1000)).isTrue();
+        assertThat(index.isCovered("cafe", 35.1796, 129.0756, 1000)).isFalse(); // 부산
+
+        clock.advance(Duration.ofHours(3));
+        assertThat(index.isCovered("cafe", SyntheticPoiFixture.CENTER_LAT, SyntheticPoiFixture.CENTER_LON, 1000)).isFalse();
+    }
+
+    private PoiIndex newIndex(PoiRTree tree) {
+        return new PoiIndex(tree, 1000, Runnable::run, new PoiCoverage(clock, Duration.ofHours(1), 10));
+    }
+
+    private static Poi cafe(String id, double lat, double lon) {
+        return Poi.builder().id(id).name("cafe " + id).category("cafe").latitude(lat).longitude(lon).build();
+    }
+
+    private static double distance(double lat, double lon, Poi poi) {
+        return GeoMath.haversineMeters(lat, lon, poi.getLatitude(), poi.getLongitude());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
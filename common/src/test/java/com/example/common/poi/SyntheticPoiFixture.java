@@ -0,0 +1,76 @@
+package com.example.common.poi;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크/테스트용 합성 POI 스냅샷
+ *
+ * 서울 시청 중심 ±0.5도(약 55km x 45km) 범위에 시드 고정 난수로 점을 뿌린다.
+ * 절반은 몇 개 번화가 주변에 몰리게 해 실제 POI 분포처럼 밀도 차이가 나도록 한다.
+ */
+final class SyntheticPoiFixture {
+
+    static final double CENTER_LAT = 37.5665;
+    static final double CENTER_LON = 126.9780;
+    static final String[] CATEGORIES = {"cafe", "restaurant", "마트", "park", "museum"};
+
+    private static final double[][] HOTSPOTS = {
+            {37.4979, 127.0276}, // 강남역
+            {37.5563, 126.9236}, // 홍대입구
+            {37.5700, 126.9920}, // 종로
+            {37.5133, 127.1001}, // 잠실
+    };
+
+    private SyntheticPoiFixture() {
+    }
+
+    static List<Poi> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<Poi> pois = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double lat;
+            double lon;
+            if (i % 2 == 0) {
+                double[] hotspot = HOTSPOTS[random.nextInt(HOTSPOTS.length)];
+                lat = hotspot[0] + random.nextGaussian() * 0.01;
+                lon = hotspot[1] + random.nextGaussian() * 0.01;
+            } else {
+                lat = CENTER_LAT + (random.nextDouble() - 0.5);
+                lon = CENTER_LON + (random.nextDouble() - 0.5);
+            }
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            pois.add(Poi.builder()
+                    .id("poi-" + i)
+                    .name(category + " " + i)
+                    .category(category)
+                    .latitude(lat)
+                    .longitude(lon)
+                    .rating(1.0 + random.nextInt(41) / 10.0)
+                    .address("서울 합성로 " + i)
+                    .build());
+        }
+        return pois;
+    }
+
+    /**
+     * {@link PoiSnapshotLoader} 가 읽는 CSV 형식으로 기록
+     */
+    static Path writeCsv(Path file, int count, long seed) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("id,name,category,lat,lon,rating,address\n");
+            for (Poi poi : generate(count, seed)) {
+                writer.write(poi.getId() + ',' + poi.getName() + ',' + poi.getCategory() + ','
+                        + poi.getLatitude() + ',' + poi.getLongitude() + ',' + poi.getRating() + ','
+                        + poi.getAddress() + '\n');
+            }
+        }
+        return file;
+    }
+}
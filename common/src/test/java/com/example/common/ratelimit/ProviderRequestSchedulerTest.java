@@ -0,0 +1,215 @@
+package com.example.common.ratelimit;
+
+import com.example.common.exception.ProviderDegradedException;
+import com.example.common.exception.ProviderDegradedException.Reason;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProviderRequestSchedulerTest {
+
+    private static final String PROVIDER = "kakao";
+
+    private FakeClock clock;
+    private List<Long> sleeps;
+    private StubProvider stub;
+
+    @BeforeEach
+    void setUp() {
+        clock = new FakeClock();
+        sleeps = new ArrayList<>();
+        stub = new StubProvider();
+    }
+
+    @Test
+    void burstIsServedWithoutWaiting() {
+        ProviderRequestScheduler scheduler = scheduler(limit(10, 5, 5, 500));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call)).isEqualTo("ok");
+        }
+
+        assertThat(stub.calls.get()).isEqualTo(5);
+        assertThat(sleeps).isEmpty();
+        assertThat(scheduler.getBucket(PROVIDER).getGranted()).isEqualTo(5);
+    }
+
+    @Test
+    void interactiveCallWaitsForNextToken() {
+        ProviderRequestScheduler scheduler = scheduler(limit(10, 2, 5, 500));
+        scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call);
+        scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call);
+
+        scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call);
+        scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call);
+
+        // 초당 10개: 빌린 토큰 하나당 100ms
+        assertThat(sleeps).containsExactly(100L, 100L);
+        assertThat(stub.calls.get()).isEqualTo(4);
+        assertThat(scheduler.getBucket(PROVIDER).getDelayed()).isEqualTo(2);
+    }
+
+    @Test
+    void fullQueueFailsFastWithoutCallingProvider() {
+        ProviderRequestScheduler scheduler = scheduler(limit(1, 1, 2, 10_000));
+        scheduler.getBucket(PROVIDER).reserve(RequestPriority.INTERACTIVE);
+        scheduler.getBucket(PROVIDER).reserve(RequestPriority.INTERACTIVE);
+        scheduler.getBucket(PROVIDER).reserve(RequestPriority.INTERACTIVE);
+
+        assertThatThrownBy(() -> scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call))
+                .isInstanceOfSatisfying(ProviderDegradedException.class, e -> {
+                    assertThat(e.getReason()).isEqualTo(Reason.QUEUE_FULL);
+                    assertThat(e.getProvider()).isEqualTo(PROVIDER);
+                    assertThat(e.getRetryAfterMillis()).isEqualTo(3000);
+                });
+        assertThat(stub.calls.get()).isZero();
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    void longWaitFailsFastInsteadOfBlocking() {
+        ProviderRequestScheduler scheduler = scheduler(limit(2, 1, 10, 400));
+        scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call);
+
+        // 초당 2개: 다음 토큰까지 500ms > 최대 대기 400ms
+        assertThatThrownBy(() -> scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call))
+                .isInstanceOfSatisfying(ProviderDegradedException.class,
+                        e -> assertThat(e.getReason()).isEqualTo(Reason.WAIT_TOO_LONG));
+        assertThat(stub.calls.get()).isEqualTo(1);
+        assertThat(sleeps).isEmpty();
+
+        clock.advance(100);
+        scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call);
+        assertThat(sleeps).containsExactly(400L);
+    }
+
+    @Test
+    void backgroundCallsLeaveInteractiveReserve() {
+        ProviderRequestScheduler scheduler = scheduler(ProviderLimit.builder()
+                .permitsPerSecond(1).burst(10).maxQueue(5).maxWaitMillis(500).backgroundReserveRatio(0.3).build());
+
+        int background = 0;
+        while (true) {
+            try {
+                scheduler.execute(PROVIDER, RequestPriority.BACKGROUND, stub::call);
+                background++;
+            } catch (ProviderDegradedException e) {
+                assertThat(e.getReason()).isEqualTo(Reason.RESERVED_FOR_INTERACTIVE);
+                break;
+            }
+        }
+
+        assertThat(background).isEqualTo(7);
+        for (int i = 0; i < 3; i++) {
+            scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call);
+        }
+        assertThat(sleeps).isEmpty();
+        assertThat(stub.calls.get()).isEqualTo(10);
+    }
+
+    @Test
+    void bucketRefillsWithClock() {
+        ProviderRequestScheduler scheduler = scheduler(limit(5, 5, 0, 0));
+        for (int i = 0; i < 5; i++) {
+            scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call);
+        }
+        assertThatThrownBy(() -> scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call))
+                .isInstanceOf(ProviderDegradedException.class);
+
+        clock.advance(1000);
+
+        for (int i = 0; i < 5; i++) {
+            scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE, stub::call);
+        }
+        assertThat(stub.calls.get()).isEqualTo(10);
+        assertThat(scheduler.getBucket(PROVIDER).getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void priorityComesFromCallingThreadContext() {
+        ProviderRequestScheduler scheduler = scheduler(ProviderLimit.builder()
+                .permitsPerSecond(1).burst(2).maxQueue(5).maxWaitMillis(500).backgroundReserveRatio(0.5).build());
+
+        scheduler.execute(PROVIDER, stub::call);
+        assertThatThrownBy(() -> RequestPriorityContext.callWith(RequestPriority.BACKGROUND,
+                () -> scheduler.execute(PROVIDER, stub::call)))
+                .isInstanceOfSatisfying(ProviderDegradedException.class,
+                        e -> assertThat(e.getReason()).isEqualTo(Reason.RESERVED_FOR_INTERACTIVE));
+        assertThat(RequestPriorityContext.current()).isEqualTo(RequestPriority.INTERACTIVE);
+    }
+
+    @Test
+    void unknownProviderIsNotLimited() {
+        ProviderRequestScheduler scheduler = scheduler(limit(1, 1, 0, 0));
+
+        for (int i = 0; i < 100; i++) {
+            scheduler.execute("tmap", RequestPriority.INTERACTIVE, stub::call);
+        }
+
+        assertThat(stub.calls.get()).isEqualTo(100);
+    }
+
+    private ProviderRequestScheduler scheduler(ProviderLimit limit) {
+        return new ProviderRequestScheduler(Map.of(PROVIDER, limit), clock, millis -> {
+            sleeps.add(millis);
+            clock.advance(millis);
+        });
+    }
+
+    private static ProviderLimit limit(double permitsPerSecond, int burst, int maxQueue, long maxWaitMillis) {
+        return ProviderLimit.builder()
+                .permitsPerSecond(permitsPerSecond)
+                .burst(burst)
+                .maxQueue(maxQueue)
+                .maxWaitMillis(maxWaitMillis)
+                .build();
+    }
+
+    private static class StubProvider {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        String call() {
+            calls.incrementAndGet();
+            return "ok";
+        }
+    }
+
+    private static class FakeClock extends Clock {
+        private long millis = 1_000_000L;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
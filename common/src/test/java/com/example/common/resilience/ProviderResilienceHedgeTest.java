@@ -0,0 +1,145 @@
+package com.example.common.resilience;
+
+import com.example.common.ratelimit.ProviderLimit;
+import com.example.common.ratelimit.ProviderRequestScheduler;
+import com.example.common.ratelimit.RequestPriority;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연을 주입하는 로컬 스텁 서버로 헤지 요청이 호출 한도 토큰을 따로 쓰는지 확인
+ * 호출 경로는 서비스와 같다: 스케줄러 토큰 1개를 얻은 뒤 회로 차단/헤지 계층 안에서 HTTP 호출.
+ */
+class ProviderResilienceHedgeTest {
+
+    private static final String PROVIDER = "kakao";
+    private static final int WARMUP_CALLS = 5;
+    private static final long SLOW_MILLIS = 600;
+
+    private HttpServer stub;
+    private final AtomicInteger upstreamRequests = new AtomicInteger();
+    // 다음 요청부터 순서대로 적용할 응답 지연 (비어 있으면 즉시 응답)
+    private final Queue<Long> injectedDelays = new ConcurrentLinkedQueue<>();
+    private final ExecutorService attempts = Executors.newCachedThreadPool();
+    private final RestTemplate restTemplate = new RestTemplate();
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/", exchange -> {
+            upstreamRequests.incrementAndGet();
+            Long delay = injectedDelays.poll();
+            if (delay != null) {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] body = "{\"documents\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.start();
+        url = "http://127.0.0.1:" + stub.getAddress().getPort() + "/v2/local/search/keyword.json";
+    }
+
+    @AfterEach
+    void tearDown() {
+        attempts.shutdownNow();
+        stub.stop(0);
+    }
+
+    @Test
+    void hedgeTakesItsOwnTokenWhenBudgetAllows() {
+        ProviderRequestScheduler scheduler = scheduler(20, 0.3);
+        ProviderResilience resilience = resilience(scheduler);
+        warmUp(scheduler, resilience);
+
+        upstreamRequests.set(0);
+        injectedDelays.add(SLOW_MILLIS);
+        long start = System.nanoTime();
+        call(scheduler, resilience);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        ProviderResilience.ProviderStats stats = resilience.stats(PROVIDER);
+        assertThat(upstreamRequests.get()).isEqualTo(2);
+        assertThat(stats.getHedgesSent()).isEqualTo(1);
+        assertThat(stats.getHedgeWins()).isEqualTo(1);
+        assertThat(elapsedMillis).isLessThan(SLOW_MILLIS);
+        // 원래 요청과 헤지 요청이 각각 토큰 1개씩
+        assertThat(scheduler.getBucket(PROVIDER).getGranted()).isEqualTo(WARMUP_CALLS + 2);
+    }
+
+    @Test
+    void noHedgeWithoutSpareToken() {
+        // 버스트 8 중 절반은 대화형 몫: 워밍업 5회 후 남은 토큰 3개는 원래 요청만 쓸 수 있음
+        ProviderRequestScheduler scheduler = scheduler(8, 0.5);
+        ProviderResilience resilience = resilience(scheduler);
+        warmUp(scheduler, resilience);
+
+        upstreamRequests.set(0);
+        injectedDelays.add(SLOW_MILLIS);
+        long start = System.nanoTime();
+        call(scheduler, resilience);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        ProviderResilience.ProviderStats stats = resilience.stats(PROVIDER);
+        assertThat(upstreamRequests.get()).isEqualTo(1);
+        assertThat(stats.getHedgesSent()).isZero();
+        assertThat(stats.getHedgesSkipped()).isEqualTo(1);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(SLOW_MILLIS);
+        assertThat(scheduler.getBucket(PROVIDER).getGranted()).isEqualTo(WARMUP_CALLS + 1);
+    }
+
+    private void warmUp(ProviderRequestScheduler scheduler, ProviderResilience resilience) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call(scheduler, resilience);
+        }
+    }
+
+    private String call(ProviderRequestScheduler scheduler, ProviderResilience resilience) {
+        return scheduler.execute(PROVIDER, RequestPriority.INTERACTIVE,
+                () -> resilience.call(PROVIDER, () -> restTemplate.getForObject(url, String.class)));
+    }
+
+    private static ProviderRequestScheduler scheduler(int burst, double backgroundReserveRatio) {
+        // 테스트 중 토큰이 거의 다시 차지 않도록 낮은 충전 속도
+        ProviderLimit limit = ProviderLimit.builder()
+                .permitsPerSecond(0.001)
+                .burst(burst)
+                .maxQueue(0)
+                .maxWaitMillis(0)
+                .backgroundReserveRatio(backgroundReserveRatio)
+                .build();
+        return new ProviderRequestScheduler(Map.of(PROVIDER, limit));
+    }
+
+    private ProviderResilience resilience(ProviderRequestScheduler scheduler) {
+        ResilienceSettings settings = ResilienceSettings.builder()
+                .minLatencySamples(WARMUP_CALLS)
+                .minHedgeDelayMillis(100)
+                .build();
+        return new ProviderResilience(settings, attempts, Clock.systemUTC(), null, error -> true,
+                scheduler::tryAcquireSpare);
+    }
+}
@@ -1,6 +1,7 @@
 //src/main/java/com/example/TripSpring/domain/navigation/RealTimeSession.java
 package com.example.navigation_service.domain.navigation;
 
+import com.example.common.geo.GeoMath;
 import com.example.common.dto.domain.Location;
 import com.example.navigation_service.dto.route.RouteDetails;
 import com.example.common.dto.domain.route.TransportMode;
@@ -72,7 +73,9 @@ public class RealTimeSession {
         }
 
         // 현재 위치에서 목적지까지의 직선 거리 계산 (미터 단위)
-        return (int) calculateDistance(currentLocation, destination);
+        return (int) GeoMath.haversineMeters(
+                currentLocation.getLatitude(), currentLocation.getLongitude(),
+                destination.getLatitude(), destination.getLongitude());
     }
 
     private int calculateRemainingTime() {
@@ -106,24 +109,6 @@ public class RealTimeSession {
         }
     }
 
-    private double calculateDistance(Location loc1, Location loc2) {
-        final int R = 6371000; // 지구의 반지름 (미터)
-        double lat1 = Math.toRadians(loc1.getLatitude());
-        double lat2 = Math.toRadians(loc2.getLatitude());
-        double lon1 = Math.toRadians(loc1.getLongitude());
-        double lon2 = Math.toRadians(loc2.getLongitude());
-
-        double dLat = lat2 - lat1;
-        double dLon = lon2 - lon1;
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                Math.cos(lat1) * Math.cos(lat2) *
-                        Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return R * c;
-    }
-
     private double getAverageSpeed(TransportMode mode) {
         // 평균 속도 (미터/초)
         return switch (mode) {
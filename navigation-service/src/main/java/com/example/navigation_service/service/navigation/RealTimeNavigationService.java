@@ -1,6 +1,7 @@
 //src/main/java/com/example/TripSpring/service/navigation/RealTimeNavigationService.java
 package com.example.navigation_service.service.navigation;
 
+import com.example.common.geo.GeoMath;
 import com.example.common.dto.domain.Location;
 import com.example.navigation_service.domain.navigation.RealTimeSession;
 import com.example.navigation_service.dto.route.RouteDetails;
@@ -111,7 +112,9 @@ public class RealTimeNavigationService {
         // 허용 오차 범위 (미터)
         double tolerance = 50.0;
 
-        return calculateDistance(currentLocation, expectedLocation) > tolerance;
+        return GeoMath.haversineMeters(
+                currentLocation.getLatitude(), currentLocation.getLongitude(),
+                expectedLocation.getLatitude(), expectedLocation.getLongitude()) > tolerance;
     }
 
     private NavigationResponse handleRouteDeviation(
@@ -213,22 +216,4 @@ public class RealTimeNavigationService {
                 .build();
     }
 
-    private double calculateDistance(Location loc1, Location loc2) {
-        final int R = 6371000; // 지구의 반지름 (미터)
-        double lat1 = Math.toRadians(loc1.getLatitude());
-        double lat2 = Math.toRadians(loc2.getLatitude());
-        double lon1 = Math.toRadians(loc1.getLongitude());
-        double lon2 = Math.toRadians(loc2.getLongitude());
-
-        double dLat = lat2 - lat1;
-        double dLon = lon2 - lon1;
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                Math.cos(lat1) * Math.cos(lat2) *
-                        Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return R * c;
-    }
-
 }
\ No newline at end of file
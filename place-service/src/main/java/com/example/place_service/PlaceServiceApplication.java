@@ -6,7 +6,7 @@ import org.springframework.context.annotation.Import;
 
 import io.github.cdimascio.dotenv.Dotenv;
 
-@Import(com.example.common.config.RestTemplateConfig.class)
+@Import({com.example.common.config.RestTemplateConfig.class, com.example.common.poi.PoiIndexConfig.class})
 @SpringBootApplication
 public class PlaceServiceApplication {
 
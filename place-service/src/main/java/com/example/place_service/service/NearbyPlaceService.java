@@ -10,6 +10,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.example.common.poi.Poi;
+import com.example.common.poi.PoiHit;
+import com.example.common.poi.PoiIndex;
 import com.example.place_service.domain.PlaceInfo;
 import com.example.place_service.dto.response.NearbyPlacesResponse;
 import com.example.place_service.exception.PlaceSearchException;
@@ -22,18 +25,53 @@ import java.util.*;
 public class NearbyPlaceService {
 
     private final RestTemplate restTemplate;
+    private final PoiIndex poiIndex;
 
     @Value("${app.api.kakao}")
     private String kakaoApiKey;
 
+    // 최근 카카오 검색(또는 스냅샷)이 덮는 영역에서 로컬 POI 인덱스 결과가 이 개수 이상이면 카카오 API 호출 생략
+    @Value("${app.poi-index.min-local-results:5}")
+    private int minLocalResults;
+
     private static final String KAKAO_LOCAL_API_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
 
+    // 카카오 키워드 검색은 페이지당 최대 15개, 한 검색에서 최대 45개(3페이지)까지만 노출
+    private static final int KAKAO_PAGE_SIZE = 15;
+    public static final int KAKAO_MAX_PAGES = 3;
+
     public NearbyPlacesResponse findNearbyPlaces(double lat, double lon, String type, double radius) {
+        return findNearbyPlaces(lat, lon, type, radius, 1);
+    }
+
+    /**
+     * @param maxPages 카카오 결과를 최대 몇 페이지까지 받을지 (1~KAKAO_MAX_PAGES, 넓은 반경 검색용).
+     *                 받은 페이지에서 끝나지 않았으면 응답의 complete 가 false
+     */
+    public NearbyPlacesResponse findNearbyPlaces(double lat, double lon, String type, double radius, int maxPages) {
         try {
-            // 1. 카카오 로컬 API 호출
-            List<PlaceInfo> kakaoResults = searchKakaoPlaces(lat, lon, type, radius);
+            // 1. 검색 완료 영역이고 로컬 POI 인덱스로 충분하면 카카오 API 를 호출하지 않음
+            List<PlaceInfo> localResults = searchLocalPoiIndex(lat, lon, type, radius);
+            if (localResults.size() >= minLocalResults && poiIndex.isCovered(type, lat, lon, radius)) {
+                log.info("Served {} '{}' places from local POI index", localResults.size(), type);
+                return new NearbyPlacesResponse(localResults);
+            }
+
+            // 2. 카카오 로컬 API 호출 후 결과로 로컬 인덱스 갱신
+            //    (반경 안 결과를 끝까지 받은 경우에만 검색 완료 영역으로 기록, 잘린 결과는 일부일 뿐)
+            KakaoResult kakao = searchKakaoPlaces(lat, lon, type, radius, maxPages);
+            List<PlaceInfo> kakaoResults = new ArrayList<>();
+            boolean complete = true;
+            if (kakao != null) {
+                kakaoResults = kakao.getPlaces();
+                complete = kakao.isComplete();
+                refreshLocalPoiIndex(type, kakaoResults);
+                if (complete) {
+                    poiIndex.recordCoverage(type, lat, lon, radius);
+                }
+            }
 
-            // 2. 결과가 없으면 검색 결과 없음 상태로 반환
+            // 3. 결과가 없으면 검색 결과 없음 상태로 반환
             if (kakaoResults.isEmpty()) {
                 log.info("No results from Kakao API for {}", type);
                 NearbyPlacesResponse response = new NearbyPlacesResponse(new ArrayList<>());
@@ -41,14 +79,74 @@ public class NearbyPlaceService {
                 return response;
             }
 
-            return new NearbyPlacesResponse(kakaoResults);
+            NearbyPlacesResponse response = new NearbyPlacesResponse(kakaoResults);
+            response.setComplete(complete);
+            return response;
         } catch (Exception e) {
             log.error("Failed to search nearby places", e);
             throw new PlaceSearchException("Failed to search nearby places: " + e.getMessage(), e);
         }
     }
 
-    private List<PlaceInfo> searchKakaoPlaces(double lat, double lon, String type, double radius) {
+    private List<PlaceInfo> searchLocalPoiIndex(double lat, double lon, String type, double radius) {
+        List<PlaceInfo> results = new ArrayList<>();
+        for (PoiHit hit : poiIndex.withinRadius(lat, lon, radius, poi -> type.equals(poi.getCategory()))) {
+            Poi poi = hit.getPoi();
+            results.add(PlaceInfo.builder()
+                    .id(poi.getId())
+                    .name(poi.getName())
+                    .type(type)
+                    .address(poi.getAddress())
+                    .latitude(poi.getLatitude())
+                    .longitude(poi.getLongitude())
+                    .openHours(getDefaultOpenHours())
+                    .rating(poi.getRating() != null ? poi.getRating() : 4.0) // 평점 없으면 카카오 결과와 같은 기본값
+                    .crowdLevel(calculateCrowdLevel())
+                    .build());
+        }
+        return results;
+    }
+
+    private void refreshLocalPoiIndex(String type, List<PlaceInfo> places) {
+        List<Poi> pois = new ArrayList<>(places.size());
+        for (PlaceInfo place : places) {
+            pois.add(Poi.builder()
+                    .id(place.getId())
+                    .name(place.getName())
+                    .category(type)
+                    .latitude(place.getLatitude())
+                    .longitude(place.getLongitude())
+                    .address(place.getAddress())
+                    .build()); // 카카오 평점은 기본값이므로 저장하지 않음
+        }
+        poiIndex.upsert(pois);
+    }
+
+    /**
+     * 카카오 키워드 검색 (첫 페이지 호출 또는 응답 해석에 실패하면 null)
+     * 마지막 페이지에 닿을 때까지 maxPages 까지 이어 받고, 중간 페이지가 실패하면 받은 데까지 미완료로 반환
+     */
+    private KakaoResult searchKakaoPlaces(double lat, double lon, String type, double radius, int maxPages) {
+        List<PlaceInfo> places = new ArrayList<>();
+        int pages = Math.max(1, Math.min(KAKAO_MAX_PAGES, maxPages));
+        for (int page = 1; page <= pages; page++) {
+            Map<String, Object> body = requestKakaoPage(lat, lon, type, radius, page);
+            List<PlaceInfo> parsed = body != null ? parseKakaoResponse(body, type) : null;
+            if (parsed == null) {
+                return page == 1 ? null : new KakaoResult(places, false);
+            }
+            places.addAll(parsed);
+            if (isLastPage(body, parsed.size())) {
+                return new KakaoResult(places, true);
+            }
+        }
+        return new KakaoResult(places, false);
+    }
+
+    /**
+     * 카카오 키워드 검색 한 페이지 (실패하면 null)
+     */
+    private Map<String, Object> requestKakaoPage(double lat, double lon, String type, double radius, int page) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.set("Authorization", "KakaoAK " + kakaoApiKey);
@@ -58,7 +156,8 @@ public class NearbyPlaceService {
                     .queryParam("y", lat)
                     .queryParam("x", lon)
                     .queryParam("radius", radius)
-                    .queryParam("size", 15)
+                    .queryParam("page", page)
+                    .queryParam("size", KAKAO_PAGE_SIZE)
                     .build()
                     .toUriString();
 
@@ -73,16 +172,36 @@ public class NearbyPlaceService {
                     });
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseKakaoResponse(response.getBody(), type);
+                return response.getBody();
             }
 
-            return new ArrayList<>();
+            return null;
         } catch (Exception e) {
             log.error("Failed to call Kakao API", e);
-            return new ArrayList<>();
+            return null;
         }
     }
 
+    /**
+     * 반경 안 결과를 다 받았는지 (meta.is_end 이고 노출 상한 45개에 잘리지 않음, is_end 가 없으면 페이지가 덜 찼는지로 판단)
+     */
+    @SuppressWarnings("unchecked")
+    private boolean isLastPage(Map<String, Object> response, int pageSize) {
+        Object meta = response.get("meta");
+        Map<String, Object> values = meta instanceof Map ? (Map<String, Object>) meta : Map.of();
+        Object isEnd = values.get("is_end");
+        if (!(isEnd instanceof Boolean)) {
+            return pageSize < KAKAO_PAGE_SIZE;
+        }
+        if (!(Boolean) isEnd) {
+            return false;
+        }
+        Object total = values.get("total_count");
+        Object pageable = values.get("pageable_count");
+        return !(total instanceof Number && pageable instanceof Number)
+                || ((Number) pageable).longValue() >= ((Number) total).longValue();
+    }
+
     @SuppressWarnings("unchecked")
     private List<PlaceInfo> parseKakaoResponse(Map<String, Object> response, String type) {
         List<PlaceInfo> results = new ArrayList<>();
@@ -110,6 +229,7 @@ public class NearbyPlaceService {
             }
         } catch (Exception e) {
             log.error("Error parsing Kakao API response", e);
+            return null;
         }
 
         return results;
@@ -145,4 +265,13 @@ public class NearbyPlaceService {
         // 그 외 시간대
         return Math.random() * 0.4; // 0.0-0.4 (낮은 혼잡도)
     }
+
+    /**
+     * 카카오 검색 결과와 반경 안 결과를 다 받았는지 여부
+     */
+    @lombok.Value
+    private static class KakaoResult {
+        List<PlaceInfo> places;
+        boolean complete;
+    }
 }
\ No newline at end of file
@@ -7,7 +7,9 @@ import org.springframework.retry.annotation.EnableRetry;
 
 import io.github.cdimascio.dotenv.Dotenv;
 
-@Import(com.example.common.config.RestTemplateConfig.class)
+@Import({com.example.common.config.RestTemplateConfig.class, com.example.common.config.RedisConfig.class,
+		com.example.common.config.WebSocketConfig.class, com.example.common.poi.PoiIndexConfig.class,
+		com.example.common.exception.ProviderDegradedExceptionHandler.class})
 @SpringBootApplication
 @EnableRetry
 public class ScheduleServiceApplication {
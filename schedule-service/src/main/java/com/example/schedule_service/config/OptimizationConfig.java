@@ -0,0 +1,82 @@
+package com.example.schedule_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 최적화 전용 스레드 풀 설정
+ * - optimizationExecutor: 응답 후 백그라운드 재최적화
+ * - enrichmentExecutor: 응답 생성 시 일정별 장소 정보 조회 (내부에서 제공자 풀을 다시 쓰므로 별도 풀)
+ * 둘 다 요청 처리와 분리된 고정 풀 + 고정 크기 큐를 사용하고, 큐가 가득 차면 거절한다
+ * (백그라운드 개선은 선택 사항이고, 거절된 조회는 pending 으로 응답하므로 요청 스레드에서 대신 실행하지 않음)
+ */
+@Slf4j
+@Configuration
+public class OptimizationConfig {
+
+    @Value("${app.optimization.background.pool-size:2}")
+    private int poolSize;
+
+    @Value("${app.optimization.background.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${app.optimization.enrichment.pool-size:8}")
+    private int enrichmentPoolSize;
+
+    @Value("${app.optimization.enrichment.queue-capacity:128}")
+    private int enrichmentQueueCapacity;
+
+    @Bean(name = "optimizationExecutor", destroyMethod = "shutdown")
+    public ExecutorService optimizationExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "optimization-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        log.info("Background optimization executor initialized (pool: {}, queue: {})", poolSize, queueCapacity);
+        return executor;
+    }
+
+    @Bean(name = "enrichmentExecutor", destroyMethod = "shutdown")
+    public ExecutorService enrichmentExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "enrichment-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                enrichmentPoolSize,
+                enrichmentPoolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(enrichmentQueueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        log.info("Response enrichment executor initialized (pool: {}, queue: {})",
+                enrichmentPoolSize, enrichmentQueueCapacity);
+        return executor;
+    }
+}
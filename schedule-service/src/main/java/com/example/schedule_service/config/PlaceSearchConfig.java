@@ -0,0 +1,51 @@
+package com.example.schedule_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 장소 검색 API 호출 전용 스레드 풀 설정
+ * 서블릿 스레드와 분리된 고정 크기 풀 + 고정 크기 큐를 사용하고,
+ * 큐가 가득 차면 호출 스레드에서 실행하지 않고 즉시 거절한다 (요청 데드라인 보호)
+ */
+@Slf4j
+@Configuration
+public class PlaceSearchConfig {
+
+    @Value("${app.place-search.pool-size:16}")
+    private int poolSize;
+
+    @Value("${app.place-search.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Bean(name = "placeSearchExecutor", destroyMethod = "shutdown")
+    public ExecutorService placeSearchExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "place-search-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        log.info("Place search executor initialized (pool: {}, queue: {})", poolSize, queueCapacity);
+        return executor;
+    }
+}
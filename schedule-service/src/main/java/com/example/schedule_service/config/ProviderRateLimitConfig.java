@@ -0,0 +1,45 @@
+package com.example.schedule_service.config;
+
+import com.example.common.ratelimit.ProviderLimit;
+import com.example.common.ratelimit.ProviderRequestScheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 API 키별 호출 한도 설정
+ * app.rate-limit.{provider}.* 로 제공자마다 한도를 지정하고, 지정하지 않은 값은 app.rate-limit.default.* 를 따른다.
+ */
+@Slf4j
+@Configuration
+public class ProviderRateLimitConfig {
+
+    private static final List<String> PROVIDERS = List.of("google", "kakao", "naver", "foursquare", "tmap");
+
+    @Bean
+    public ProviderRequestScheduler providerRequestScheduler(Environment environment) {
+        Map<String, ProviderLimit> limits = new LinkedHashMap<>();
+        for (String provider : PROVIDERS) {
+            ProviderLimit limit = ProviderLimit.builder()
+                    .permitsPerSecond(property(environment, provider, "permits-per-second", Double.class, 10.0))
+                    .burst(property(environment, provider, "burst", Integer.class, 20))
+                    .maxQueue(property(environment, provider, "max-queue", Integer.class, 20))
+                    .maxWaitMillis(property(environment, provider, "max-wait-ms", Long.class, 500L))
+                    .backgroundReserveRatio(property(environment, provider, "background-reserve-ratio", Double.class, 0.3))
+                    .build();
+            limits.put(provider, limit);
+            log.info("Rate limit for {}: {}", provider, limit);
+        }
+        return new ProviderRequestScheduler(limits);
+    }
+
+    private static <T> T property(Environment environment, String provider, String name, Class<T> type, T fallback) {
+        T defaultValue = environment.getProperty("app.rate-limit.default." + name, type, fallback);
+        return environment.getProperty("app.rate-limit." + provider + "." + name, type, defaultValue);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.schedule_service.config;
+
+import com.example.common.exception.ProviderDegradedException;
+import com.example.common.ratelimit.ProviderRequestScheduler;
+import com.example.common.resilience.CircuitBreaker;
+import com.example.common.resilience.ProviderResilience;
+import com.example.common.resilience.ResilienceSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 제공자 회로 차단 + 헤지 요청 설정
+ * app.resilience.* 로 조정하며, 제공자별 상태는 다음 지표로 노출한다.
+ * provider.circuit.state (0 닫힘, 1 열림, 2 반개방), provider.circuit.transitions,
+ * provider.circuit.rejected, provider.hedge.sent, provider.hedge.wins, provider.hedge.skipped
+ * 헤지 요청은 보낼 때마다 제공자 호출 한도 토큰을 따로 쓰며, 여유 토큰이 없으면 보내지 않는다.
+ */
+@Slf4j
+@Configuration
+public class ProviderResilienceConfig {
+
+    private static final String PREFIX = "app.resilience.";
+
+    @Bean(name = "providerCallExecutor", destroyMethod = "shutdown")
+    public ExecutorService providerCallExecutor(Environment environment) {
+        int maxThreads = environment.getProperty(PREFIX + "max-threads", Integer.class, 64);
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "provider-call-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // 대기열 없이 스레드를 바로 배정하고, 가득 차면 거절 (호출자는 헤지 없이 직접 실행)
+        return new ThreadPoolExecutor(0, maxThreads, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public ProviderResilience providerResilience(Environment environment, MeterRegistry meterRegistry,
+                                                 ProviderRequestScheduler providerRequestScheduler) {
+        ResilienceSettings settings = ResilienceSettings.builder()
+                .windowSize(environment.getProperty(PREFIX + "window-size", Integer.class, 50))
+                .minimumCalls(environment.getProperty(PREFIX + "minimum-calls", Integer.class, 10))
+                .failureRateThreshold(environment.getProperty(PREFIX + "failure-rate-threshold", Double.class, 0.5))
+                .slowCallMillis(environment.getProperty(PREFIX + "slow-call-ms", Long.class, 3000L))
+                .slowCallRateThreshold(environment.getProperty(PREFIX + "slow-call-rate-threshold", Double.class, 0.8))
+                .openMillis(environment.getProperty(PREFIX + "open-ms", Long.class, 30000L))
+                .halfOpenTrialCalls(environment.getProperty(PREFIX + "half-open-trial-calls", Integer.class, 3))
+                .hedgeEnabled(environment.getProperty(PREFIX + "hedge.enabled", Boolean.class, true))
+                .hedgePercentile(environment.getProperty(PREFIX + "hedge.percentile", Double.class, 0.95))
+                .minHedgeDelayMillis(environment.getProperty(PREFIX + "hedge.min-delay-ms", Long.class, 100L))
+                .build();
+        log.info("Provider resilience settings: {}", settings);
+
+        return new ProviderResilience(settings, providerCallExecutor(environment), Clock.systemUTC(),
+                new MetricsListener(meterRegistry), ProviderResilienceConfig::isProviderFailure,
+                providerRequestScheduler::tryAcquireSpare);
+    }
+
+    /**
+     * 제공자 장애로 볼 예외인지 판단
+     * 호출 한도에 의한 자체 거절과 요청 자체가 잘못된 4xx(429 제외)는 차단 근거로 쓰지 않는다.
+     */
+    private static boolean isProviderFailure(Throwable error) {
+        if (error instanceof ProviderDegradedException) {
+            return false;
+        }
+        if (error instanceof HttpClientErrorException) {
+            return ((HttpClientErrorException) error).getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    private static final class MetricsListener implements ProviderResilience.Listener {
+        private final MeterRegistry meterRegistry;
+
+        private MetricsListener(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public void onRegistered(String provider, ProviderResilience.ProviderStats stats) {
+            Gauge.builder("provider.circuit.state", stats, s -> s.getState().ordinal())
+                    .tag("provider", provider)
+                    .description("0 = closed, 1 = open, 2 = half-open")
+                    .register(meterRegistry);
+            FunctionCounter.builder("provider.circuit.rejected", stats, ProviderResilience.ProviderStats::getRejected)
+                    .tag("provider", provider)
+                    .register(meterRegistry);
+            FunctionCounter.builder("provider.hedge.sent", stats, ProviderResilience.ProviderStats::getHedgesSent)
+                    .tag("provider", provider)
+                    .register(meterRegistry);
+            FunctionCounter.builder("provider.hedge.wins", stats, ProviderResilience.ProviderStats::getHedgeWins)
+                    .tag("provider", provider)
+                    .description("Hedged duplicates that answered before the original request")
+                    .register(meterRegistry);
+            FunctionCounter.builder("provider.hedge.skipped", stats, ProviderResilience.ProviderStats::getHedgesSkipped)
+                    .tag("provider", provider)
+                    .description("Hedges not sent because the provider rate limit had no spare token")
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void onTransition(String provider, CircuitBreaker.State from, CircuitBreaker.State to) {
+            Counter.builder("provider.circuit.transitions")
+                    .tag("provider", provider)
+                    .tag("from", from.name())
+                    .tag("to", to.name())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.schedule_service.config;
+
+import com.example.common.concurrent.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 API 동일 요청 병합 설정
+ * 진행 중인 같은 요청에 합류한 횟수는 provider.calls.coalesced{client=...} 로 노출한다.
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight<String> placeSearchFlights(MeterRegistry meterRegistry) {
+        return register(new SingleFlight<>(), "place-search", meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<String> tmapFlights(MeterRegistry meterRegistry) {
+        return register(new SingleFlight<>(), "tmap", meterRegistry);
+    }
+
+    private static SingleFlight<String> register(SingleFlight<String> flights, String client, MeterRegistry meterRegistry) {
+        FunctionCounter.builder("provider.calls.coalesced", flights, SingleFlight::getCoalescedCount)
+                .tag("client", client)
+                .description("Calls that joined an identical in-flight request instead of sending their own")
+                .register(meterRegistry);
+        FunctionCounter.builder("provider.calls.executed", flights, SingleFlight::getExecutedCount)
+                .tag("client", client)
+                .register(meterRegistry);
+        FunctionCounter.builder("provider.calls.coalesced.abandoned", flights, SingleFlight::getAbandonedCount)
+                .tag("client", client)
+                .description("Coalesced calls that stopped waiting (interrupted or past their deadline)")
+                .register(meterRegistry);
+        return flights;
+    }
+}
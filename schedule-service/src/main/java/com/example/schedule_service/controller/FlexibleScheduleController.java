@@ -13,12 +13,24 @@ import com.example.schedule_service.dto.request.FlexibleScheduleRequest;
 import com.example.schedule_service.dto.response.FlexibleScheduleResponse;
 import com.example.schedule_service.service.FlexibleScheduleService;
 import com.example.schedule_service.service.ScheduleOptimizationService;
+import com.example.schedule_service.dto.scheduler.EnrichmentField;
 import com.example.schedule_service.dto.scheduler.OptimizeResponse;
+import com.example.schedule_service.dto.scheduler.PlanChangeRequest;
 import com.example.schedule_service.dto.scheduler.ScheduleOptimizationRequest;
 import com.example.schedule_service.dto.domain.Schedule;
 import java.util.List;
 import com.example.schedule_service.dto.domain.ScheduleType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.schedule_service.dto.Place;
+import com.example.schedule_service.service.APIIntegrationService;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -29,9 +41,14 @@ public class FlexibleScheduleController {
     private final FlexibleScheduleService flexibleScheduleService;
     private final ScheduleOptimizationService scheduleService;
     private final ObjectMapper objectMapper;
+    private final APIIntegrationService apiIntegrationService;
     
     @PostMapping("/optimize-1")
-    public ResponseEntity<OptimizeResponse> optimizeSchedule(@RequestBody ScheduleOptimizationRequest request) {
+    public ResponseEntity<OptimizeResponse> optimizeSchedule(
+            @RequestBody ScheduleOptimizationRequest request,
+            @RequestParam(required = false) Long budgetMillis,
+            @RequestParam(defaultValue = "false") boolean pushImprovements,
+            @RequestParam(required = false) String fields) {
         try {
             // 전체 요청 데이터 로깅
             try {
@@ -57,7 +74,8 @@ public class FlexibleScheduleController {
                 fixedSchedules.size(), flexibleSchedules.size());
             
             // 최적화 서비스 호출
-            OptimizeResponse response = scheduleService.optimizeSchedule(fixedSchedules, flexibleSchedules);
+            OptimizeResponse response = scheduleService.optimizeSchedule(
+                fixedSchedules, flexibleSchedules, budgetMillis, pushImprovements, EnrichmentField.parse(fields));
             
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
@@ -69,6 +87,32 @@ public class FlexibleScheduleController {
         }
     }
     
+    /**
+     * 이전 최적화 결과(planId)에 대한 변경분만 다시 최적화
+     * 고정 일정 이동/추가/삭제, 유연 일정 추가/삭제를 받아 영향받는 시간 창만 다시 배치한다.
+     */
+    @PostMapping("/optimize-1/{planId}/changes")
+    public ResponseEntity<OptimizeResponse> reoptimizeSchedule(
+            @PathVariable String planId,
+            @RequestBody PlanChangeRequest request,
+            @RequestParam(required = false) Long budgetMillis,
+            @RequestParam(required = false) String fields) {
+        List<Schedule> updatedFixedSchedules = request.getUpdatedFixedSchedules() != null
+            ? convertFixedSchedules(request.getUpdatedFixedSchedules()) : List.of();
+        List<Schedule> addedFlexibleSchedules = request.getAddedFlexibleSchedules() != null
+            ? convertFlexibleSchedules(request.getAddedFlexibleSchedules()) : List.of();
+        List<String> removedScheduleIds = request.getRemovedScheduleIds() != null
+            ? request.getRemovedScheduleIds() : List.of();
+        
+        log.info("Received plan change request for {}: {} updated fixed, {} added flexible, {} removed",
+            planId, updatedFixedSchedules.size(), addedFlexibleSchedules.size(), removedScheduleIds.size());
+        
+        OptimizeResponse response = scheduleService.reoptimizeSchedule(
+            planId, updatedFixedSchedules, addedFlexibleSchedules, removedScheduleIds, budgetMillis,
+            EnrichmentField.parse(fields));
+        return ResponseEntity.ok(response);
+    }
+    
     private List<Schedule> convertFixedSchedules(List<ScheduleOptimizationRequest.FixedScheduleDTO> dtoList) {
         List<Schedule> schedules = new ArrayList<>();
         
@@ -122,7 +166,8 @@ public class FlexibleScheduleController {
     
     @PostMapping("/optimize-flexible")
     public ResponseEntity<FlexibleScheduleResponse> optimizeFlexibleSchedules(
-            @RequestBody FlexibleScheduleRequest request) {
+            @RequestBody FlexibleScheduleRequest request,
+            @RequestParam(required = false) Long budgetMillis) {
         
         // 디버깅 정보 추가
         log.info("유연한 일정 최적화 요청 받음: 고정 일정 {}개, 유연한 일정 {}개",
@@ -138,11 +183,66 @@ public class FlexibleScheduleController {
         
         FlexibleScheduleResponse response = flexibleScheduleService.optimizeFlexibleSchedules(
                 request.getFixedSchedules(),
-                request.getFlexibleOptions()
+                request.getFlexibleOptions(),
+                budgetMillis
         );
         
         log.info("생성된 경로 옵션: {}개", response.getRouteOptions().size());
         
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+    
+    /**
+     * 두 지점 사이 경로의 장소 검색 결과를 NDJSON 으로 스트리밍
+     * 상위 K개 후보에 들어가는 장소를 도착 즉시 {"event":"place"} 줄로 내보내고,
+     * 검색이 끝나면 최종 순위를 {"event":"done"} 줄로 내보낸다.
+     */
+    @GetMapping(value = "/places/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamPlacesBetween(
+            @RequestParam String placeType,
+            @RequestParam double startLat,
+            @RequestParam double startLon,
+            @RequestParam double endLat,
+            @RequestParam double endLon,
+            @RequestParam(defaultValue = "5") int maxResults) {
+        
+        log.info("Streaming '{}' search between ({}, {}) and ({}, {}), top {}",
+                placeType, startLat, startLon, endLat, endLon, maxResults);
+        
+        Schedule from = Schedule.builder()
+            .name("Start")
+            .location(new Location(startLat, startLon, "Start"))
+            .build();
+        Schedule to = Schedule.builder()
+            .name("End")
+            .location(new Location(endLat, endLon, "End"))
+            .build();
+        
+        StreamingResponseBody body = out -> {
+            try {
+                List<Place> places = apiIntegrationService.searchPlacesBetweenSchedules(
+                        placeType, from, to, maxResults,
+                        place -> writeLine(out, Map.of("event", "place", "place", place)));
+                writeLine(out, Map.of("event", "done", "places", places));
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 끊김 (남은 제공자 호출은 팬아웃에서 이미 취소됨)
+                log.info("Place stream client disconnected: {}", e.getCause().getMessage());
+                throw e.getCause();
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .body(body);
+    }
+    
+    private void writeLine(OutputStream out, Object event) {
+        try {
+            out.write(objectMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
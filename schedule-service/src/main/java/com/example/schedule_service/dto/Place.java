@@ -3,6 +3,8 @@ package com.example.schedule_service.dto;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,4 +38,29 @@ public class Place {
     public String getLocation() {
         return this.formatted_address;
     }
-}
\ No newline at end of file
+    
+    // 캐시 등에서 공유되는 원본을 보호하기 위한 복사본 생성
+    public Place copy() {
+        Place copy = new Place();
+        copy.setPlace_id(this.place_id);
+        copy.setName(this.name);
+        copy.setFormatted_address(this.formatted_address);
+        if (this.geometry != null && this.geometry.getLocation() != null) {
+            Geometry geometryCopy = new Geometry();
+            Geometry.Location locationCopy = new Geometry.Location();
+            locationCopy.setLat(this.geometry.getLocation().getLat());
+            locationCopy.setLng(this.geometry.getLocation().getLng());
+            geometryCopy.setLocation(locationCopy);
+            copy.setGeometry(geometryCopy);
+        }
+        copy.setRating(this.rating);
+        copy.setUser_ratings_total(this.user_ratings_total);
+        copy.setTypes(this.types != null ? new ArrayList<>(this.types) : null);
+        copy.setOpen_now(this.open_now);
+        copy.setBusiness_status(this.business_status);
+        copy.setOptimalStartTime(this.optimalStartTime);
+        copy.setScore(this.score);
+        copy.setMetadata(this.metadata != null ? new HashMap<>(this.metadata) : null);
+        return copy;
+    }
+}
\ No newline at end of file
@@ -29,6 +29,7 @@ public class FlexibleScheduleResponse {
         private double totalCost;
         private List<RouteSegment> segments;
         private Map<String, Double> scores; // 각 최적화 점수 요소
+        private List<String> bestFor; // 반환된 옵션 중 이 옵션이 가장 좋은 목표 (travelTime, cost, timeBalance, distance)
     }
     
     @Data
@@ -71,5 +72,6 @@ public class FlexibleScheduleResponse {
         private int filteredOptions;
         private long processingTimeMs;
         private String algorithm;
+        private boolean converged; // 시간 예산 안에 모든 유연 일정 옵션을 다 펼쳤는지
     }
 }
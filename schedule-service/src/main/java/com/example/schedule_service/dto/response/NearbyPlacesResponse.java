@@ -16,6 +16,7 @@ public class NearbyPlacesResponse {
     private int count;
     private String status = "SUCCESS";
     private String message; // 이미 message 필드가 있는지 확인
+    private boolean complete = true; // 제공자가 반경 안 결과를 다 돌려줬는지 (페이지 상한에 걸려 잘렸으면 false)
     
     // 기존 생성자
     public NearbyPlacesResponse(List<PlaceInfo> places) {
@@ -0,0 +1,40 @@
+package com.example.schedule_service.dto.scheduler;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 최적화 응답에 채울 부가 정보 종류 (fields 요청 파라미터)
+ * - ROUTE: 구간별 실시간 경로(TMap) 조회. 제외하면 이동 시간은 추정값만 사용하고 구간 목록은 비운다.
+ * - LOCATION: 일정별 장소 상세 조회 (제공자 호출)
+ * - CROWD: 일정별 혼잡도. LOCATION 없이 요청하면 시간대 기반 값만 사용한다.
+ */
+public enum EnrichmentField {
+    ROUTE,
+    LOCATION,
+    CROWD;
+
+    /**
+     * 쉼표로 구분된 필드 목록 해석 (비어 있으면 전체)
+     *
+     * @throws IllegalArgumentException 알 수 없는 필드
+     */
+    public static Set<EnrichmentField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(EnrichmentField.class);
+        }
+        Set<EnrichmentField> parsed = EnumSet.noneOf(EnrichmentField.class);
+        for (String field : fields.split(",")) {
+            if (field.isBlank()) {
+                continue;
+            }
+            try {
+                parsed.add(valueOf(field.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown enrichment field: " + field.trim());
+            }
+        }
+        return parsed;
+    }
+}
@@ -21,6 +21,9 @@ public class OptimizeResponse {
     private OptimizationMetrics metrics;
     private Map<String, List<PlaceTimeResult>> alternativeOptions; // 추가: 유연 일정별 대안 목록
     private Map<String, ScheduleAnalysis> scheduleAnalyses;
+    private String planId; // 재최적화 요청에 쓰는 계획 ID
+    private boolean converged; // 시간 예산 안에 최적화가 끝까지 수렴했는지
+    private String improvementTopic; // 백그라운드 개선 계획을 받을 STOMP 토픽 (요청 시에만)
     
     /**
      * 경로 구간 정보
@@ -53,6 +56,10 @@ public class OptimizeResponse {
         private double successRate; // 추가: 최적화 성공률
         private Map<String, Double> componentScores;
         private List<String> optimizationReasons;
+        private String solver; // 그리디 이후 적용한 해법
+        private long travelTimeSaved; // 그리디 대비 절감한 총 이동 시간 (분)
+        private int placeSearches; // 이번 실행에서 새로 보낸 장소 검색 수
+        private int replannedSchedules; // 이번 실행에서 다시 배치한 유연 일정 수
     }
     
     /**
@@ -69,6 +76,7 @@ public class OptimizeResponse {
         private Map<String, Object> placeDetails;
         private List<String> optimizationFactors;
         private String visitRecommendation;
+        private boolean pending; // 응답 기한까지 장소 정보를 받지 못함
     }
     
     /**
@@ -120,4 +128,4 @@ public class OptimizeResponse {
         response.setAlternativeOptions(new HashMap<>());
         return response;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
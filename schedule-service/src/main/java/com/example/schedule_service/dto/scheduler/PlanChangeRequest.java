@@ -0,0 +1,16 @@
+package com.example.schedule_service.dto.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * 기존 최적화 계획에 대한 변경 요청
+ * 고정 일정은 id 로 찾아 시간/위치를 교체하고, 새 id 면 추가한다.
+ */
+@Data
+public class PlanChangeRequest {
+    private List<ScheduleOptimizationRequest.FixedScheduleDTO> updatedFixedSchedules = new ArrayList<>();
+    private List<ScheduleOptimizationRequest.FlexibleScheduleDTO> addedFlexibleSchedules = new ArrayList<>();
+    private List<String> removedScheduleIds = new ArrayList<>();
+}
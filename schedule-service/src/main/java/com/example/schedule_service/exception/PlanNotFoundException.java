@@ -0,0 +1,12 @@
+package com.example.schedule_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class PlanNotFoundException extends RuntimeException {
+
+    public PlanNotFoundException(String planId) {
+        super("Optimization plan not found or expired: " + planId);
+    }
+}
@@ -2,6 +2,18 @@ package com.example.schedule_service.provider;
 
 import com.example.schedule_service.dto.domain.PlaceInfo;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public interface PlaceSearchProvider {
     PlaceInfo searchPlace(String placeName, double lat, double lng);
-}
\ No newline at end of file
+
+    /**
+     * 비동기 검색
+     * 기본 구현은 동기 searchPlace 를 주어진 실행기에서 실행하는 어댑터이며,
+     * 논블로킹 클라이언트를 쓰는 제공자는 재정의한다. 반환된 future 는 취소될 수 있다.
+     */
+    default CompletableFuture<PlaceInfo> searchPlaceAsync(String placeName, double lat, double lng, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> searchPlace(placeName, lat, lng), executor);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.example.schedule_service.provider;
+
+import com.example.common.exception.ProviderDegradedException;
+import com.example.common.resilience.ProviderResilience;
+import com.example.schedule_service.dto.domain.PlaceInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * 장소 검색 제공자 병렬 해석 전략
+ *
+ * 모든 제공자에 동시에 질의한 뒤 우선순위(목록 순서)대로 결과를 확인해, 처음으로 조건을 만족한 답을 쓴다.
+ * 상위 제공자가 아직 응답 중이면 그 결과를 기다리므로 순차 호출과 같은 답을 돌려주면서도
+ * 지연은 합이 아니라 필요한 제공자 중 가장 느린 것으로 줄어든다. 결정된 뒤 남은 호출은 취소한다.
+ * 각 제공자 호출은 회로 차단기와 헤지 요청 계층을 거친다.
+ */
+@Slf4j
+@Component
+public class PriorityPlaceResolver {
+
+    private final ProviderResilience providerResilience;
+    private final ExecutorService executor;
+
+    @Value("${app.location-info.timeout-ms:3000}")
+    private long timeoutMillis;
+
+    public PriorityPlaceResolver(ProviderResilience providerResilience,
+                                 @Qualifier("providerCallExecutor") ExecutorService executor) {
+        this.providerResilience = providerResilience;
+        this.executor = executor;
+    }
+
+    /**
+     * @param acceptable 채택할 결과 조건
+     * @return 우선순위가 가장 높은 채택 가능 결과, 없으면 null
+     */
+    public PlaceInfo resolve(List<PlaceSearchProvider> providers, String placeName, double lat, double lng,
+                             Predicate<PlaceInfo> acceptable) {
+        List<CompletableFuture<PlaceInfo>> futures = new ArrayList<>(providers.size());
+        for (PlaceSearchProvider provider : providers) {
+            futures.add(providerResilience.callAsync(nameOf(provider),
+                    () -> provider.searchPlaceAsync(placeName, lat, lng, executor)));
+        }
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                String providerName = nameOf(providers.get(i));
+                long remaining = deadlineNanos - System.nanoTime();
+                try {
+                    PlaceInfo placeInfo = futures.get(i).get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+                    if (acceptable.test(placeInfo)) {
+                        log.debug("Found place info using provider: {}", providerName);
+                        return placeInfo;
+                    }
+                } catch (TimeoutException e) {
+                    log.warn("Provider {} did not answer within {}ms", providerName, timeoutMillis);
+                    return firstCompleted(providers, futures, i + 1, acceptable);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof ProviderDegradedException) {
+                        log.debug("Skipping provider {}: {}", providerName, e.getCause().getMessage());
+                    } else {
+                        log.error("Error with provider {}: {}", providerName, e.getCause().getMessage());
+                    }
+                }
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            for (CompletableFuture<PlaceInfo> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 데드라인 이후: 이미 끝난 하위 제공자 결과 중 우선순위가 가장 높은 것
+     */
+    private PlaceInfo firstCompleted(List<PlaceSearchProvider> providers, List<CompletableFuture<PlaceInfo>> futures,
+                                     int from, Predicate<PlaceInfo> acceptable) {
+        for (int i = from; i < futures.size(); i++) {
+            CompletableFuture<PlaceInfo> future = futures.get(i);
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                PlaceInfo placeInfo = future.getNow(null);
+                if (acceptable.test(placeInfo)) {
+                    log.debug("Found place info using provider: {} (after deadline)", nameOf(providers.get(i)));
+                    return placeInfo;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String nameOf(PlaceSearchProvider provider) {
+        return provider.getClass().getSimpleName();
+    }
+}
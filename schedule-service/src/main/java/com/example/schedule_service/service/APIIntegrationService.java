@@ -1,25 +1,47 @@
 package com.example.schedule_service.service;
 
+import com.example.common.concurrent.SingleFlight;
+import com.example.common.exception.ProviderDegradedException;
+import com.example.common.geo.GeoMath;
+import com.example.common.poi.Poi;
+import com.example.common.poi.PoiHit;
+import com.example.common.poi.PoiIndex;
+import com.example.common.ratelimit.ProviderRequestScheduler;
+import com.example.common.ratelimit.RequestPriority;
+import com.example.common.ratelimit.RequestPriorityContext;
+import com.example.common.resilience.ProviderResilience;
 import com.example.schedule_service.dto.Geometry;
 import com.example.schedule_service.dto.Place;
 import com.example.schedule_service.dto.domain.Location;
 import com.example.schedule_service.dto.domain.PlaceInfo;
 import com.example.schedule_service.dto.domain.Schedule;
 import com.example.schedule_service.dto.domain.TrafficInfo;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.schedule_service.service.search.CorridorSearchPlan;
+import com.example.schedule_service.service.search.CorridorSearchPlanner;
+import com.example.schedule_service.service.search.PlaceCategoryTaxonomy;
+import com.example.schedule_service.service.search.PlaceDeduplicator;
+import com.example.schedule_service.service.search.PlaceProvider;
+import com.example.schedule_service.service.search.PlaceRelevanceFilter;
+import com.example.schedule_service.service.search.PlaceSearchCache;
+import com.example.schedule_service.service.search.PlaceSearchFanOut;
+import com.example.schedule_service.service.search.PlaceSearchTask;
+import com.example.schedule_service.service.search.ProviderQuery;
+import com.example.schedule_service.service.search.ProviderResponseParser;
+import com.example.schedule_service.service.search.TopKPlaceCollector;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpMethod;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.http.HttpHeaders;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.net.URLEncoder;
@@ -31,8 +53,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.List;
+import java.util.Locale;
 
 @Slf4j
 @Service
@@ -42,7 +66,17 @@ public class APIIntegrationService {
     private final LocationInfoService locationInfoService;
     private final CrowdLevelAnalyzer crowdLevelAnalyzer;
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final PlaceSearchFanOut placeSearchFanOut;
+    private final CorridorSearchPlanner corridorSearchPlanner;
+    private final PlaceCategoryTaxonomy placeCategoryTaxonomy;
+    private final PlaceSearchCache placeSearchCache;
+    private final PlaceDeduplicator placeDeduplicator;
+    private final PlaceRelevanceFilter placeRelevanceFilter;
+    private final ProviderResponseParser providerResponseParser;
+    private final ProviderRequestScheduler providerRequestScheduler;
+    private final SingleFlight<String> placeSearchFlights;
+    private final PoiIndex poiIndex;
+    private final ProviderResilience providerResilience;
     
     // API 키 설정
     @Value("${app.api.kakao}")
@@ -55,17 +89,18 @@ public class APIIntegrationService {
     private String naverClientSecret;
     @Value("${app.api.foursquare}")
     private String foursquareApiKey;
-
-    // 마트 관련 카테고리 ID 리스트
-    private static final List<String> MART_CATEGORIES = Arrays.asList(
-        "MT1", // 대형마트 (카카오 카테고리)
-        "CS2", // 편의점 (카카오 카테고리)
-        "17000", // 상점 및 서비스 (Foursquare 카테고리)
-        "17069", // 슈퍼마켓 (Foursquare 카테고리)
-        "grocery", // Google 카테고리
-        "supermarket", // Google 카테고리
-        "convenience_store" // Google 카테고리
-    );
+    
+    // 상위 K개 검색: 이 점수 이상인 후보가 K개 모이면 남은 제공자 호출 취소
+    @Value("${app.place-search.top-k.min-score:0.6}")
+    private double topKMinScore;
+    
+    // 진행 중인 같은 검색에 합류한 호출의 최대 대기 시간 (팬아웃 데드라인)
+    @Value("${app.place-search.deadline-ms:5000}")
+    private long placeSearchDeadlineMillis;
+    
+    // 로컬 POI 인덱스 결과가 이 개수 이상이면 제공자 호출 생략
+    @Value("${app.poi-index.min-local-results:5}")
+    private int minLocalResults;
 
     /**
      * 장소 검색 메인 메서드 - 경로 기반으로 검색
@@ -73,6 +108,18 @@ public class APIIntegrationService {
      */
     public List<Place> searchPlacesBetweenSchedules(
             String placeType, Schedule prevSchedule, Schedule nextSchedule, int maxResults) {
+        return searchPlacesBetweenSchedules(placeType, prevSchedule, nextSchedule, maxResults, null);
+    }
+
+    /**
+     * 상위 K개 조기 종료 경로 검색
+     * 관련성 × 근접도 점수가 임계값 이상인 후보가 K개 모이면 남은 제공자 호출을 취소한다.
+     * onQualified 가 주어지면 후보가 힙에 들어갈 때마다 전달한다 (스트리밍 응답용).
+     * onQualified 가 던진 UncheckedIOException 은 대체 장소로 바꾸지 않고 그대로 전달한다.
+     */
+    public List<Place> searchPlacesBetweenSchedules(
+            String placeType, Schedule prevSchedule, Schedule nextSchedule, int maxResults,
+            Consumer<Place> onQualified) {
         try {
             log.info("Searching for '{}' between {} and {}", 
                     placeType, prevSchedule.getName(), nextSchedule.getName());
@@ -89,74 +136,35 @@ public class APIIntegrationService {
             
             log.info("Generated {} sample points along route", routePoints.size());
             
-            // 여러 검색어 목록 준비
-            List<String> searchTerms = getSearchTerms(placeType);
-            log.info("Search terms: {}", searchTerms);
+            // 제공자별 검색 요청 준비 (카테고리 매핑이 있으면 제공자당 카테고리 요청 1회)
+            List<ProviderQuery> queries = placeCategoryTaxonomy.queriesFor(placeType);
+            log.info("Search queries: {}", queries);
             
-            // 결과 저장용 컬렉션
-            List<Place> allResults = new ArrayList<>();
+            // 최대 반경 (15km)
+            int searchRadius = 15000;
             
-            // 각 경로 지점에서 검색 수행
-            for (Location point : routePoints) {
-                // 각 검색어로 시도
-                for (String term : searchTerms) {
-                    // 최대 반경 (15km)
-                    int searchRadius = 15000;
-                    
-                    // 1. Google API 시도
-                    List<Place> googleResults = searchNearbyPlacesWithGoogle(
-                            term, point.getLatitude(), point.getLongitude(), searchRadius);
-                    if (!googleResults.isEmpty()) {
-                        log.info("Found {} places using Google API at point ({}, {})", 
-                                googleResults.size(), point.getLatitude(), point.getLongitude());
-                        allResults.addAll(googleResults);
-                    }
-                    
-                    // 2. Kakao API 시도
-                    List<Place> kakaoResults = searchNearbyPlacesWithKakao(
-                            term, point.getLatitude(), point.getLongitude(), searchRadius);
-                    if (!kakaoResults.isEmpty()) {
-                        log.info("Found {} places using Kakao API at point ({}, {})", 
-                                kakaoResults.size(), point.getLatitude(), point.getLongitude());
-                        allResults.addAll(kakaoResults);
-                    }
-                    
-                    // 3. Naver API 시도
-                    List<Place> naverResults = searchNearbyPlacesWithNaver(
-                            term, point.getLatitude(), point.getLongitude(), searchRadius);
-                    if (!naverResults.isEmpty()) {
-                        log.info("Found {} places using Naver API at point ({}, {})", 
-                                naverResults.size(), point.getLatitude(), point.getLongitude());
-                        allResults.addAll(naverResults);
-                    }
-                    
-                    // 4. Foursquare API 시도
-                    List<Place> foursquareResults = searchNearbyPlacesWithFoursquare(
-                            term, point.getLatitude(), point.getLongitude(), searchRadius);
-                    if (!foursquareResults.isEmpty()) {
-                        log.info("Found {} places using Foursquare API at point ({}, {})", 
-                                foursquareResults.size(), point.getLatitude(), point.getLongitude());
-                        allResults.addAll(foursquareResults);
-                    }
-                }
-            }
+            // 구간을 덮는 최소 검색 원 계산
+            CorridorSearchPlan plan = corridorSearchPlanner.plan(routePoints, searchRadius, queries);
             
-            // 중복 제거 (같은 장소 ID의 경우 하나만 유지)
-            List<Place> uniqueResults = removeDuplicates(allResults);
-            log.info("Found {} unique places after removing duplicates", uniqueResults.size());
+            // 검색 원 × 검색 요청 조합을 동시에 검색
+            List<PlaceSearchTask> tasks = new ArrayList<>(plan.getPlannedCalls());
+            for (Location circle : plan.getCircles()) {
+                tasks.addAll(buildSearchTasks(
+                        plan.getQueries(), circle.getLatitude(), circle.getLongitude(), searchRadius));
+            }
             
-            // 관련성 필터링
-            List<Place> filteredResults = filterPlacesByRelevance(uniqueResults, placeType);
-            log.info("Filtered to {} relevant places", filteredResults.size());
+            // 중복 제거 · 관련성 필터링 · 경로 근접도 정렬을 결과 도착 시점에 상위 K개 힙으로 처리
+            TopKPlaceCollector collector = new TopKPlaceCollector(
+                    placeDeduplicator.newResolver(), Math.max(5, maxResults), topKMinScore,
+                    place -> scorePlaceForRoute(place, placeType, startLat, startLon, endLat, endLon, searchRadius),
+                    onQualified);
             
-            // 경로와의 거리 기준으로 정렬
-            List<Place> rankedResults = rankPlacesByRouteProximity(
-                    filteredResults, startLat, startLon, endLat, endLon);
+            PlaceSearchFanOut.Result fanOutResult = placeSearchFanOut.execute(tasks, collector::offer);
+            log.info("Found {} places along route by provider: {}, kept top {} (early terminated: {}, {} calls cancelled)", 
+                    fanOutResult.getPlaces().size(), fanOutResult.getPlaceCountByProvider(),
+                    collector.size(), fanOutResult.isEarlyTerminated(), fanOutResult.getCancelledEarly());
             
-            // 최대 결과 개수 제한
-            List<Place> finalResults = rankedResults.stream()
-                    .limit(Math.max(5, maxResults))
-                    .collect(Collectors.toList());
+            List<Place> finalResults = collector.getTopK();
             
             // 결과가 없는 경우 대체 데이터 생성
             if (finalResults.isEmpty()) {
@@ -166,6 +174,9 @@ public class APIIntegrationService {
             }
             
             return finalResults;
+        } catch (UncheckedIOException e) {
+            // 스트리밍 클라이언트 연결 끊김: 읽을 사람이 없으므로 대체 장소를 만들지 않음
+            throw e;
         } catch (Exception e) {
             log.error("Error searching places between schedules: {}", e.getMessage(), e);
             // 오류 발생 시 경로 상에 가상 장소 생성
@@ -183,50 +194,41 @@ public class APIIntegrationService {
      */
     public List<Place> searchNearbyPlaces(String placeType, double latitude, double longitude, int radius) {
         try {
-            // 여러 검색어 목록 준비
-            List<String> searchTerms = getSearchTerms(placeType);
-            log.info("Trying search with terms: {}", searchTerms);
+            // 최근 제공자 검색(또는 스냅샷)이 덮는 영역이고 관련 결과가 충분하면 제공자를 호출하지 않음
+            List<Place> localResults = filterPlacesByRelevance(
+                    searchLocalPoiIndex(placeType, latitude, longitude, radius), placeType);
+            if (localResults.size() >= minLocalResults
+                    && poiIndex.isCovered(placeType, latitude, longitude, radius)) {
+                log.info("Served {} '{}' places near ({}, {}) from local POI index",
+                        localResults.size(), placeType, latitude, longitude);
+                return placeDeduplicator.deduplicate(localResults);
+            }
             
-            List<Place> allResults = new ArrayList<>();
+            // 제공자별 검색 요청 준비 (카테고리 매핑이 있으면 제공자당 카테고리 요청 1회)
+            List<ProviderQuery> queries = placeCategoryTaxonomy.queriesFor(placeType);
+            log.info("Trying search with queries: {}", queries);
             
-            // 각 검색어로 시도
-            for (String term : searchTerms) {
-                log.info("Searching for '{}' near ({}, {})", term, latitude, longitude);
-                
-                // 1. Google API로 시도
-                List<Place> googleResults = searchNearbyPlacesWithGoogle(term, latitude, longitude, radius);
-                if (!googleResults.isEmpty()) {
-                    log.info("Found {} places using Google API with term '{}'", googleResults.size(), term);
-                    allResults.addAll(googleResults);
-                }
-                
-                // 2. Kakao API로 시도
-                List<Place> kakaoResults = searchNearbyPlacesWithKakao(term, latitude, longitude, radius);
-                if (!kakaoResults.isEmpty()) {
-                    log.info("Found {} places using Kakao API with term '{}'", kakaoResults.size(), term);
-                    allResults.addAll(kakaoResults);
-                }
-                
-                // 3. Naver API로 시도
-                List<Place> naverResults = searchNearbyPlacesWithNaver(term, latitude, longitude, radius);
-                if (!naverResults.isEmpty()) {
-                    log.info("Found {} places using Naver API with term '{}'", naverResults.size(), term);
-                    allResults.addAll(naverResults);
-                }
-                
-                // 4. Foursquare API로 시도
-                List<Place> foursquareResults = searchNearbyPlacesWithFoursquare(term, latitude, longitude, radius);
-                if (!foursquareResults.isEmpty()) {
-                    log.info("Found {} places using Foursquare API with term '{}'", foursquareResults.size(), term);
-                    allResults.addAll(foursquareResults);
-                }
-            }
+            // 모든 검색 요청을 동시에 실행 (데드라인 초과 시 부분 결과 사용)
+            PlaceSearchFanOut.Result fanOutResult = placeSearchFanOut.execute(
+                    buildSearchTasks(queries, latitude, longitude, radius));
+            List<Place> allResults = fanOutResult.getPlaces();
+            log.info("Found {} places near ({}, {}) by provider: {}", 
+                    allResults.size(), latitude, longitude, fanOutResult.getPlaceCountByProvider());
             
-            // 중복 제거
-            List<Place> uniqueResults = removeDuplicates(allResults);
+            // 관련성 필터링 (걸러진 결과는 로컬 인덱스에도 넣지 않음)
+            List<Place> relevantResults = filterPlacesByRelevance(allResults, placeType);
             
-            // 관련성 필터링
-            List<Place> filteredResults = filterPlacesByRelevance(uniqueResults, placeType);
+            // 관련 결과로 로컬 인덱스 갱신, 모든 제공자가 응답한 경우에만 이 영역을 검색 완료로 기록
+            refreshLocalPoiIndex(placeType, relevantResults);
+            if (fanOutResult.isComplete()) {
+                poiIndex.recordCoverage(placeType, latitude, longitude, radius);
+            }
+            
+            // 중복 제거 (로컬 결과를 대표로 두고 제공자 결과로 빈 곳을 채움)
+            List<Place> combined = new ArrayList<>(localResults.size() + relevantResults.size());
+            combined.addAll(localResults);
+            combined.addAll(relevantResults);
+            List<Place> filteredResults = placeDeduplicator.deduplicate(combined);
             
             if (!filteredResults.isEmpty()) {
                 return filteredResults;
@@ -242,141 +244,171 @@ public class APIIntegrationService {
     }
     
     /**
-     * 중복 장소 제거 (장소 ID 기준)
+     * 로컬 POI 인덱스 반경 검색 (카테고리가 장소 유형과 같은 POI 만, 가까운 순)
      */
-    private List<Place> removeDuplicates(List<Place> places) {
-        Map<String, Place> uniquePlaces = new HashMap<>();
-        
-        for (Place place : places) {
-            uniquePlaces.putIfAbsent(place.getPlace_id(), place);
+    private List<Place> searchLocalPoiIndex(String placeType, double latitude, double longitude, int radius) {
+        List<PoiHit> hits = poiIndex.withinRadius(latitude, longitude, radius,
+                poi -> placeType.equals(poi.getCategory()));
+        List<Place> places = new ArrayList<>(hits.size());
+        for (PoiHit hit : hits) {
+            places.add(toPlace(hit.getPoi(), hit.getDistanceMeters()));
         }
-        
-        return new ArrayList<>(uniquePlaces.values());
+        return places;
     }
     
     /**
-     * 장소 유형에 따른 검색어 목록 생성
+     * 제공자 검색 결과를 로컬 POI 인덱스에 반영 (좌표가 있는 결과만)
      */
-    private List<String> getSearchTerms(String placeType) {
-        List<String> terms = new ArrayList<>();
-        terms.add(placeType); // 기본 검색어 추가
+    private void refreshLocalPoiIndex(String placeType, List<Place> places) {
+        List<Poi> pois = new ArrayList<>(places.size());
+        for (Place place : places) {
+            if (place.getPlace_id() == null || place.getGeometry() == null || place.getGeometry().getLocation() == null) {
+                continue;
+            }
+            pois.add(Poi.builder()
+                    .id(place.getPlace_id())
+                    .name(place.getName())
+                    .category(placeType)
+                    .latitude(place.getGeometry().getLocation().getLat())
+                    .longitude(place.getGeometry().getLocation().getLng())
+                    .rating(place.getRating())
+                    .address(place.getFormatted_address())
+                    .build());
+        }
+        poiIndex.upsert(pois);
+    }
+    
+    private Place toPlace(Poi poi, double distanceMeters) {
+        Place place = new Place();
+        place.setPlace_id(poi.getId());
+        place.setName(poi.getName());
+        place.setFormatted_address(poi.getAddress());
+        place.setRating(poi.getRating());
+        place.setTypes(poi.getCategory() != null ? new ArrayList<>(List.of(poi.getCategory())) : null);
         
-        // 장소 유형별 대체 검색어
-        Map<String, List<String>> alternativeTerms = new HashMap<>();
-        alternativeTerms.put("마트", Arrays.asList(
-                "대형마트", "슈퍼마켓", "편의점", "grocery", "supermarket", 
-                "대형할인점", "홈플러스", "이마트", "롯데마트", "market", "store"));
-        alternativeTerms.put("서점", Arrays.asList(
-                "책방", "서적", "북스토어", "bookstore", "book", "교보문고", "영풍문고"));
-        alternativeTerms.put("카페", Arrays.asList(
-                "커피", "coffee", "cafe", "스타벅스", "투썸플레이스", "이디야"));
-        alternativeTerms.put("음식점", Arrays.asList(
-                "식당", "restaurant", "맛집", "음식"));
+        Geometry geometry = new Geometry();
+        Geometry.Location location = new Geometry.Location();
+        location.setLat(poi.getLatitude());
+        location.setLng(poi.getLongitude());
+        geometry.setLocation(location);
+        place.setGeometry(geometry);
         
-        // 해당 장소 유형의 대체 검색어 추가
-        if (alternativeTerms.containsKey(placeType)) {
-            terms.addAll(alternativeTerms.get(placeType));
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("source", "local-index");
+        metadata.put("distance", distanceMeters);
+        place.setMetadata(metadata);
+        return place;
+    }
+    
+    /**
+     * 제공자 검색 요청별 검색 작업 생성
+     */
+    private List<PlaceSearchTask> buildSearchTasks(
+            List<ProviderQuery> queries, double latitude, double longitude, int radius) {
+        // 작업은 검색 전용 풀에서 실행되므로 호출 우선순위를 제출 시점에 캡처
+        RequestPriority priority = RequestPriorityContext.current();
+        List<PlaceSearchTask> tasks = new ArrayList<>(queries.size());
+        for (ProviderQuery query : queries) {
+            tasks.add(new PlaceSearchTask(query, latitude, longitude, radius,
+                    () -> searchWithProvider(query, latitude, longitude, radius, priority)));
+        }
+        return tasks;
+    }
+    
+    /**
+     * 제공자별 검색 (캐시된 타일이면 네트워크 호출 없이 응답, 아니면 제공자 호출 한도 안에서 호출)
+     * 제공자에는 캐시 타일 기준 영역으로 요청하고, 결과는 호출자 중심/반경 기준으로 보정해 반환한다
+     */
+    private List<Place> searchWithProvider(
+            ProviderQuery query, double latitude, double longitude, int radius, RequestPriority priority) {
+        PlaceProvider provider = query.getProvider();
+        List<Place> cached = placeSearchCache.get(provider, query.getTerm(), latitude, longitude, radius);
+        if (cached != null) {
+            log.debug("Place search cache hit: {} '{}' near ({}, {})", provider, query.getTerm(), latitude, longitude);
+            return cached;
         }
         
-        return terms;
+        // 같은 캐시 타일 요청이 이미 진행 중이면 그 결과를 공유 (호출자마다 사본 사용)
+        // 합류한 호출은 팬아웃 데드라인까지만 기다리며, 팬아웃이 취소(인터럽트)하면 바로 빠진다
+        String flightKey = placeSearchCache.buildKey(provider, query.getTerm(), latitude, longitude, radius);
+        PlaceSearchCache.SearchArea area = placeSearchCache.fetchAreaFor(provider, latitude, longitude, radius);
+        List<Place> places = placeSearchFlights.call(flightKey, placeSearchDeadlineMillis, () -> {
+            List<Place> fetched = providerRequestScheduler.execute(provider.key(), priority,
+                    () -> callProvider(query, area.getLatitude(), area.getLongitude(), area.getRadius()));
+            placeSearchCache.put(provider, query.getTerm(), latitude, longitude, radius, fetched);
+            return fetched;
+        });
+        return placeSearchCache.localize(places, latitude, longitude, radius);
+    }
+    
+    /**
+     * 제공자별 검색 메서드 호출 (카테고리 요청 / 키워드 요청)
+     */
+    private List<Place> callProvider(ProviderQuery query, double latitude, double longitude, int radius) {
+        String keyword = query.getKeyword();
+        String category = query.getCategoryCode();
+        switch (query.getProvider()) {
+            case GOOGLE:
+                return query.isCategorySearch()
+                        ? searchGoogle(null, category, latitude, longitude, radius)
+                        : searchNearbyPlacesWithGoogle(keyword, latitude, longitude, radius);
+            case KAKAO:
+                return query.isCategorySearch()
+                        ? searchKakao(null, category, latitude, longitude, radius)
+                        : searchNearbyPlacesWithKakao(keyword, latitude, longitude, radius);
+            case NAVER:
+                return searchNearbyPlacesWithNaver(keyword, latitude, longitude, radius);
+            case FOURSQUARE:
+                return query.isCategorySearch()
+                        ? searchFoursquare(null, category, latitude, longitude, radius)
+                        : searchNearbyPlacesWithFoursquare(keyword, latitude, longitude, radius);
+            default:
+                return Collections.emptyList();
+        }
     }
     
     /**
      * 관련성에 따른 장소 필터링
      */
     private List<Place> filterPlacesByRelevance(List<Place> places, String placeType) {
-        if (!"마트".equals(placeType)) {
-            return places; // 마트가 아닌 경우 필터링 없이 반환
+        if (!placeRelevanceFilter.hasRule(placeType)) {
+            return places; // 필터 규칙이 없는 유형은 필터링 없이 반환
         }
         
         return places.stream()
-            .filter(place -> {
-                // 메타데이터에서 카테고리 정보 확인
-                Map<String, Object> metadata = place.getMetadata();
-                Object types = metadata != null ? metadata.get("types") : null;
-                
-                // 이름 기반 필터링 (마트, 슈퍼, 편의점 등 포함)
-                String name = place.getName().toLowerCase();
-                boolean nameMatches = name.contains("마트") ||
-                    name.contains("슈퍼") ||
-                    name.contains("편의점") ||
-                    name.contains("이마트") ||
-                    name.contains("홈플러스") ||
-                    name.contains("롯데마트") ||
-                    name.contains("gs") ||
-                    name.contains("cu") ||
-                    name.contains("세븐일레븐") ||
-                    name.contains("market") ||
-                    name.contains("store");
-                
-                // 카테고리 기반 필터링
-                boolean categoryMatches = false;
-                if (types instanceof List) {
-                    categoryMatches = ((List<?>) types).stream()
-                        .anyMatch(type -> MART_CATEGORIES.contains(String.valueOf(type)));
-                }
-                
-                // 비즈니스 상태/카테고리 확인
-                String businessStatus = place.getBusiness_status();
-                boolean businessMatches = businessStatus != null && 
-                    (businessStatus.toLowerCase().contains("마트") || 
-                     businessStatus.toLowerCase().contains("슈퍼마켓") || 
-                     businessStatus.toLowerCase().contains("편의점") ||
-                     businessStatus.toLowerCase().contains("쇼핑"));
-                
-                return nameMatches || categoryMatches || businessMatches;
-            })
+            .filter(place -> placeRelevanceFilter.isRelevant(place, placeType))
             .collect(Collectors.toList());
     }
     
     /**
-     * 경로와의 근접성에 따라 장소 정렬
+     * 경로 검색 점수 (관련성 × 근접도, 0~1)
+     * 근접도는 경로 근접 거리와 중심점 거리를 7:3으로 합친 값이 검색 반경일 때 0.5
      */
-    private List<Place> rankPlacesByRouteProximity(
-            List<Place> places, double startLat, double startLon, double endLat, double endLon) {
-        return places.stream()
-            .sorted((p1, p2) -> {
-                // 장소의 경로와의 거리 계산
-                double dist1 = distanceToRoute(
-                        p1.getGeometry().getLocation().getLat(),
-                        p1.getGeometry().getLocation().getLng(),
-                        startLat, startLon, endLat, endLon);
-                double dist2 = distanceToRoute(
-                        p2.getGeometry().getLocation().getLat(),
-                        p2.getGeometry().getLocation().getLng(),
-                        startLat, startLon, endLat, endLon);
-                
-                // 중심점으로부터의 거리
-                double mid1 = calculateDistance(
-                        p1.getGeometry().getLocation().getLat(),
-                        p1.getGeometry().getLocation().getLng(),
-                        (startLat + endLat) / 2, 
-                        (startLon + endLon) / 2);
-                double mid2 = calculateDistance(
-                        p2.getGeometry().getLocation().getLat(),
-                        p2.getGeometry().getLocation().getLng(),
-                        (startLat + endLat) / 2, 
-                        (startLon + endLon) / 2);
-                
-                // 종합 점수 (경로 근접도 + 중심 근접도)
-                double score1 = dist1 * 0.7 + mid1 * 0.3;
-                double score2 = dist2 * 0.7 + mid2 * 0.3;
-                
-                return Double.compare(score1, score2);
-            })
-            .collect(Collectors.toList());
+    private double scorePlaceForRoute(Place place, String placeType,
+            double startLat, double startLon, double endLat, double endLon, int radius) {
+        if (place.getGeometry() == null || place.getGeometry().getLocation() == null
+                || !placeRelevanceFilter.isRelevant(place, placeType)) {
+            return 0;
+        }
+        
+        double lat = place.getGeometry().getLocation().getLat();
+        double lng = place.getGeometry().getLocation().getLng();
+        double routeDistance = GeoMath.pointToSegmentMeters(lat, lng, startLat, startLon, endLat, endLon);
+        double midDistance = GeoMath.haversineMeters(lat, lng, (startLat + endLat) / 2, (startLon + endLon) / 2);
+        double distanceScore = routeDistance * 0.7 + midDistance * 0.3;
+        
+        return radius / (radius + distanceScore);
     }
     
     /**
-     * 경로 상의 여러 지점 샘플링
+     * 경로 상의 여러 지점 샘플링 (출발 → 중간 지점 → 도착 순서)
      */
     private List<Location> samplePointsAlongRoute(
             double startLat, double startLon, double endLat, double endLon, int numPoints) {
         List<Location> points = new ArrayList<>();
         
-        // 시작점과 끝점 추가
+        // 시작점
         points.add(new Location(startLat, startLon, "Start"));
-        points.add(new Location(endLat, endLon, "End"));
         
         // 중간 지점 생성
         for (int i = 1; i < numPoints - 1; i++) {
@@ -386,37 +418,10 @@ public class APIIntegrationService {
             points.add(new Location(lat, lon, "Mid" + i));
         }
         
-        return points;
-    }
-    
-    /**
-     * 점에서 선(경로)까지의 거리 계산
-     */
-    private double distanceToRoute(
-            double pointLat, double pointLon,
-            double startLat, double startLon, double endLat, double endLon) {
-        // 벡터화
-        double[] v = new double[] {endLon - startLon, endLat - startLat};
-        double[] w = new double[] {pointLon - startLon, pointLat - startLat};
-        
-        // 내적
-        double c1 = w[0] * v[0] + w[1] * v[1];
-        if (c1 <= 0) {
-            return calculateDistance(pointLat, pointLon, startLat, startLon);
-        }
-        
-        // 벡터 크기의 제곱
-        double c2 = v[0] * v[0] + v[1] * v[1];
-        if (c2 <= c1) {
-            return calculateDistance(pointLat, pointLon, endLat, endLon);
-        }
-        
-        // 경로 위의 최근접점
-        double b = c1 / c2;
-        double projLon = startLon + b * v[0];
-        double projLat = startLat + b * v[1];
+        // 끝점 (구간 계획기는 목록을 경로 순서의 폴리라인으로 다룸)
+        points.add(new Location(endLat, endLon, "End"));
         
-        return calculateDistance(pointLat, pointLon, projLat, projLon);
+        return points;
     }
     
     /**
@@ -479,7 +484,7 @@ public class APIIntegrationService {
             
             // 메타데이터
             Map<String, Object> metadata = new HashMap<>();
-            metadata.put("distance", calculateDistance(
+            metadata.put("distance", GeoMath.haversineMeters(
                     startLat, startLon, newLat, newLon));
             metadata.put("crowdLevel", 0.3 + random.nextDouble() * 0.5); // 0.3~0.8
             metadata.put("isOpen", true);
@@ -497,17 +502,27 @@ public class APIIntegrationService {
      * 구글 Places API를 사용한 장소 검색
      */
     public List<Place> searchNearbyPlacesWithGoogle(String placeType, double latitude, double longitude, int radius) {
+        return searchGoogle(placeType, null, latitude, longitude, radius);
+    }
+
+    /**
+     * 구글 Places API 검색 (keyword 또는 type 필터)
+     */
+    private List<Place> searchGoogle(String placeType, String googleType, double latitude, double longitude, int radius) {
         try {
             log.info("Searching for '{}' near ({}, {}) with Google Places API, radius {}m", 
-                    placeType, latitude, longitude, radius);
-            
-            // 검색어 인코딩
-            String encodedType = URLEncoder.encode(placeType, StandardCharsets.UTF_8.toString());
+                    googleType != null ? "type:" + googleType : placeType, latitude, longitude, radius);
             
             // Google Places API URL 구성
             String googleApiUrl = "https://maps.googleapis.com/maps/api/place/nearbysearch/json";
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(googleApiUrl)
-                .queryParam("keyword", encodedType)
+            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(googleApiUrl);
+            if (googleType != null) {
+                builder.queryParam("type", googleType);
+            } else {
+                // 검색어 인코딩
+                builder.queryParam("keyword", URLEncoder.encode(placeType, StandardCharsets.UTF_8.toString()));
+            }
+            builder
                 .queryParam("location", latitude + "," + longitude)
                 .queryParam("radius", radius)
                 .queryParam("language", "ko") // 한국어 결과
@@ -516,103 +531,38 @@ public class APIIntegrationService {
             String requestUrl = builder.toUriString();
             log.info("Google API request URL: {}", requestUrl);
             
-            ResponseEntity<String> response;
+            // 응답 스트림을 바로 파싱
+            ProviderResponseParser.GoogleResult result;
             try {
-                response = restTemplate.getForEntity(requestUrl, String.class);
-                log.info("Google API response status: {}", response.getStatusCode());
-                log.info("Response body preview: {}", response.getBody().substring(0, 
-                        Math.min(response.getBody().length(), 500)));
+                result = fetchAndParse("Google", requestUrl, new HttpHeaders(),
+                        body -> providerResponseParser.parseGoogle(body,
+                                (lat, lng) -> GeoMath.haversineMeters(latitude, longitude, lat, lng)));
+            } catch (ProviderDegradedException e) {
+                // 회로 차단/호출 한도에 의한 즉시 실패는 팬아웃이 부분 결과로 집계하도록 전달
+                throw e;
             } catch (Exception e) {
                 log.error("Error calling Google API: {}", e.getMessage());
                 return Collections.emptyList();
             }
             
-            // JSON 응답 처리
-            List<Place> googlePlaces = new ArrayList<>();
-            JsonNode root = objectMapper.readTree(response.getBody());
-            
-            if (!root.path("status").asText().equals("OK") && !root.path("status").asText().equals("ZERO_RESULTS")) {
-                log.warn("Google API returned error status: {}", root.path("status").asText());
-                if (root.has("error_message")) {
-                    log.warn("Error message: {}", root.path("error_message").asText());
+            if (!result.isOk()) {
+                log.warn("Google API returned error status: {}", result.getStatus());
+                if (result.getErrorMessage() != null) {
+                    log.warn("Error message: {}", result.getErrorMessage());
                 }
                 return Collections.emptyList();
             }
             
-            if (root.has("results") && root.get("results").isArray()) {
-                JsonNode resultsNode = root.get("results");
-                log.info("Google API returned {} results", resultsNode.size());
-                
-                for (JsonNode result : resultsNode) {
-                    try {
-                        Place place = new Place();
-                        place.setPlace_id(result.get("place_id").asText());
-                        place.setName(result.get("name").asText());
-                        
-                        // 주소 설정
-                        place.setFormatted_address(
-                            result.has("vicinity") ? result.get("vicinity").asText() : ""
-                        );
-                        
-                        // 위치 설정
-                        JsonNode location = result.get("geometry").get("location");
-                        Geometry geometry = new Geometry();
-                        Geometry.Location loc = new Geometry.Location();
-                        loc.setLat(location.get("lat").asDouble());
-                        loc.setLng(location.get("lng").asDouble());
-                        geometry.setLocation(loc);
-                        place.setGeometry(geometry);
-                        
-                        // 평점 설정
-                        if (result.has("rating")) {
-                            place.setRating(result.get("rating").asDouble());
-                        } else {
-                            place.setRating(4.0);
-                        }
-                        
-                        // 영업 상태 설정
-                        if (result.has("business_status")) {
-                            place.setBusiness_status(result.get("business_status").asText());
-                        }
-                        
-                        // 영업 중 상태 설정
-                        if (result.has("opening_hours") && result.get("opening_hours").has("open_now")) {
-                            place.setOpen_now(result.get("opening_hours").get("open_now").asBoolean());
-                        } else {
-                            place.setOpen_now(true);
-                        }
-                        
-                        // 메타데이터 설정
-                        Map<String, Object> metadata = new HashMap<>();
-                        // 거리 계산 (직선 거리)
-                        double distance = calculateDistance(
-                            latitude, longitude, 
-                            loc.getLat(), loc.getLng()
-                        );
-                        metadata.put("distance", distance);
-                        
-                        // 장소 유형 정보
-                        if (result.has("types") && result.get("types").isArray()) {
-                            List<String> types = new ArrayList<>();
-                            for (JsonNode type : result.get("types")) {
-                                types.add(type.asText());
-                            }
-                            metadata.put("types", types);
-                        }
-                        
-                        place.setMetadata(metadata);
-                        googlePlaces.add(place);
-                    } catch (Exception e) {
-                        log.warn("Error parsing Google place result: {}", e.getMessage());
-                    }
-                }
-            }
+            List<Place> googlePlaces = result.getPlaces();
+            log.info("Google API returned {} results", googlePlaces.size());
             
             if (googlePlaces.isEmpty()) {
                 log.warn("No places found from Google API");
             }
             
             return googlePlaces;
+        } catch (ProviderDegradedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error searching places with Google API: {}", e.getMessage(), e);
             return Collections.emptyList();
@@ -625,24 +575,39 @@ public class APIIntegrationService {
      * 카카오 API를 사용한 장소 검색
      */
     public List<Place> searchNearbyPlacesWithKakao(String placeType, double latitude, double longitude, int radius) {
+        return searchKakao(placeType, null, latitude, longitude, radius);
+    }
+
+    /**
+     * 카카오 로컬 API 검색 (키워드 검색 또는 category_group_code 카테고리 검색)
+     */
+    private List<Place> searchKakao(String placeType, String categoryGroupCode, double latitude, double longitude, int radius) {
         try {
             log.info("Searching for '{}' near ({}, {}) with Kakao API, radius {}m", 
-                    placeType, latitude, longitude, radius);
-            
-            // 인코딩 문제 해결을 위한 처리 (URL 인코딩)
-            String normalizedType;
-            try {
-                normalizedType = URLEncoder.encode(placeType, StandardCharsets.UTF_8.toString());
-                log.info("Encoded search term: {}", normalizedType);
-            } catch (Exception e) {
-                log.warn("Failed to encode search term, using as-is: {}", placeType);
-                normalizedType = placeType;
+                    categoryGroupCode != null ? "category:" + categoryGroupCode : placeType, 
+                    latitude, longitude, radius);
+            
+            UriComponentsBuilder builder;
+            if (categoryGroupCode != null) {
+                // Kakao Local 카테고리 검색 API 호출
+                builder = UriComponentsBuilder.fromHttpUrl("https://dapi.kakao.com/v2/local/search/category.json")
+                    .queryParam("category_group_code", categoryGroupCode);
+            } else {
+                // 인코딩 문제 해결을 위한 처리 (URL 인코딩)
+                String normalizedType;
+                try {
+                    normalizedType = URLEncoder.encode(placeType, StandardCharsets.UTF_8.toString());
+                    log.info("Encoded search term: {}", normalizedType);
+                } catch (Exception e) {
+                    log.warn("Failed to encode search term, using as-is: {}", placeType);
+                    normalizedType = placeType;
+                }
+                
+                // Kakao Local 키워드 검색 API 호출
+                builder = UriComponentsBuilder.fromHttpUrl("https://dapi.kakao.com/v2/local/search/keyword.json")
+                    .queryParam("query", normalizedType);
             }
-            
-            // Kakao Local API 호출
-            String kakaoApiUrl = "https://dapi.kakao.com/v2/local/search/keyword.json";
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(kakaoApiUrl)
-                .queryParam("query", normalizedType)
+            builder
                 .queryParam("x", longitude)
                 .queryParam("y", latitude)
                 .queryParam("radius", radius)
@@ -651,71 +616,25 @@ public class APIIntegrationService {
             HttpHeaders headers = new HttpHeaders();
             headers.set("Authorization", "KakaoAK " + kakaoApiKey);
 
-            ResponseEntity<String> response;
+            List<Place> kakaoPlaces;
             try {
-                response = restTemplate.exchange(
-                    builder.toUriString(),
-                    HttpMethod.GET,
-                    new HttpEntity<>(headers),
-                    String.class
-                );
-                
-                // API 응답 로깅
-                log.info("API response status: {}", response.getStatusCode());
-                log.info("Response body preview: {}", response.getBody().substring(0, 
-                        Math.min(response.getBody().length(), 500)));
+                kakaoPlaces = fetchAndParse("Kakao", builder.toUriString(), headers, providerResponseParser::parseKakao);
+            } catch (ProviderDegradedException e) {
+                throw e;
             } catch (Exception e) {
                 log.error("Kakao API call failed: {}", e.getMessage());
                 return Collections.emptyList();
             }
-
-            // JSON 응답 처리
-            List<Place> kakaoPlaces = new ArrayList<>();
-            try {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                
-                if (root.has("documents") && root.get("documents").isArray()) {
-                    JsonNode documents = root.get("documents");
-                    log.info("API returned {} results", documents.size());
-                    
-                    for (JsonNode document : documents) {
-                        Place place = new Place();
-                        place.setPlace_id(document.get("id").asText());
-                        place.setName(document.get("place_name").asText());
-                        place.setFormatted_address(document.get("address_name").asText());
-                        
-                        // Geometry 설정
-                        Geometry geometry = new Geometry();
-                        Geometry.Location location = new Geometry.Location();
-                        location.setLat(document.get("y").asDouble());
-                        location.setLng(document.get("x").asDouble());
-                        geometry.setLocation(location);
-                        place.setGeometry(geometry);
-                        
-                        place.setRating(document.has("rating") ? document.get("rating").asDouble() : 4.0);
-                        place.setBusiness_status(document.has("category_name") ? document.get("category_name").asText() : "");
-                        place.setOpen_now(true); // 기본값, 실제로는 추가 API 호출로 확인 필요
-                        
-                        // 메타데이터
-                        Map<String, Object> metadata = new HashMap<>();
-                        metadata.put("distance", document.get("distance").asDouble());
-                        metadata.put("placeUrl", document.get("place_url").asText());
-                        
-                        // 혼잡도, 영업시간 등 추가 정보 (별도 API 호출 필요할 수 있음)
-                        Map<String, Object> details = getPlaceDetails(document.get("id").asText());
-                        metadata.putAll(details);
-                        
-                        place.setMetadata(metadata);
-                        kakaoPlaces.add(place);
-                    }
-                } else {
-                    log.warn("API response has no documents array or is empty");
-                }
-            } catch (Exception e) {
-                log.error("Error parsing API response: {}", e.getMessage());
+            log.info("API returned {} results", kakaoPlaces.size());
+            
+            // 혼잡도, 영업시간 등 추가 정보 (별도 API 호출 필요할 수 있음)
+            for (Place place : kakaoPlaces) {
+                place.getMetadata().putAll(getPlaceDetails(place.getPlace_id()));
             }
             
             return kakaoPlaces;
+        } catch (ProviderDegradedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error searching places with Kakao API: {}", e.getMessage(), e);
             return Collections.emptyList();
@@ -752,86 +671,22 @@ public class APIIntegrationService {
             headers.set("X-Naver-Client-Id", naverClientId);
             headers.set("X-Naver-Client-Secret", naverClientSecret);
             
-            ResponseEntity<String> response;
+            List<Place> naverPlaces;
             try {
-                response = restTemplate.exchange(
-                    builder.toUriString(),
-                    HttpMethod.GET,
-                    new HttpEntity<>(headers),
-                    String.class
-                );
-                
-                log.info("Naver API response status: {}", response.getStatusCode());
-                log.info("Response body preview: {}", response.getBody().substring(0, 
-                        Math.min(response.getBody().length(), 500)));
+                naverPlaces = fetchAndParse("Naver", builder.toUriString(), headers,
+                        body -> providerResponseParser.parseNaver(body,
+                                (lat, lng) -> GeoMath.haversineMeters(latitude, longitude, lat, lng), radius));
+            } catch (ProviderDegradedException e) {
+                throw e;
             } catch (Exception e) {
                 log.error("Naver API call failed: {}", e.getMessage());
                 return Collections.emptyList();
             }
-            
-            // 응답 처리
-            List<Place> naverPlaces = new ArrayList<>();
-            try {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                
-                if (root.has("items") && root.get("items").isArray()) {
-                    JsonNode items = root.get("items");
-                    log.info("Naver API returned {} results", items.size());
-                    
-                    for (JsonNode item : items) {
-                        // 거리 필터링 - 직선 거리 계산 
-                        double mapx = Double.parseDouble(item.get("mapx").asText()) / 10000000.0;
-                        double mapy = Double.parseDouble(item.get("mapy").asText()) / 10000000.0;
-                        double distance = calculateDistance(latitude, longitude, mapy, mapx);
-                        
-                        // 검색 반경 내의 장소만 포함
-                        if (distance > radius) {
-                            continue;
-                        }
-                        
-                        Place place = new Place();
-                        place.setPlace_id("naver_" + System.currentTimeMillis() + "_" + naverPlaces.size());
-                        
-                        // HTML 태그 제거
-                        String title = item.get("title").asText();
-                        title = title.replaceAll("<[^>]*>", "");
-                        place.setName(title);
-                        
-                        // 주소 설정 (도로명 주소 우선, 없으면 일반 주소)
-                        String roadAddress = item.has("roadAddress") ? item.get("roadAddress").asText() : "";
-                        String address = item.has("address") ? item.get("address").asText() : "";
-                        place.setFormatted_address(!roadAddress.isEmpty() ? roadAddress : address);
-                        
-                        // 좌표 설정
-                        Geometry geometry = new Geometry();
-                        Geometry.Location location = new Geometry.Location();
-                        location.setLat(mapy);
-                        location.setLng(mapx);
-                        geometry.setLocation(location);
-                        place.setGeometry(geometry);
-                        
-                        // 기타 정보 설정
-                        place.setRating(4.0);  // 네이버 API는 평점 제공 안함
-                        place.setBusiness_status(item.has("category") ? item.get("category").asText() : "");
-                        place.setOpen_now(true);
-                        
-                        // 메타데이터 
-                        Map<String, Object> metadata = new HashMap<>();
-                        metadata.put("distance", distance);
-                        if (item.has("telephone")) {
-                            metadata.put("telephone", item.get("telephone").asText());
-                        }
-                        metadata.put("source", "naver");
-                        
-                        place.setMetadata(metadata);
-                        naverPlaces.add(place);
-                    }
-                }
-            } catch (Exception e) {
-                log.error("Error parsing Naver API response: {}", e.getMessage());
-            }
+            log.info("Naver API returned {} results within {}m", naverPlaces.size(), radius);
             
             return naverPlaces;
+        } catch (ProviderDegradedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error searching with Naver API: {}", e.getMessage(), e);
             return Collections.emptyList();
@@ -842,30 +697,30 @@ public class APIIntegrationService {
      * Foursquare API를 사용한 장소 검색
      */
     public List<Place> searchNearbyPlacesWithFoursquare(String placeType, double latitude, double longitude, int radius) {
+        return searchFoursquare(placeType, null, latitude, longitude, radius);
+    }
+
+    /**
+     * Foursquare Places API 검색 (query 또는 categories 필터)
+     */
+    private List<Place> searchFoursquare(String placeType, String categoryId, double latitude, double longitude, int radius) {
         try {
             log.info("Searching for '{}' near ({}, {}) with Foursquare API, radius {}m", 
-                    placeType, latitude, longitude, radius);
+                    categoryId != null ? "category:" + categoryId : placeType, latitude, longitude, radius);
             
             // Foursquare Places API URL
             String foursquareApiUrl = "https://api.foursquare.com/v3/places/search";
             
-            // 카테고리 매핑 (필요한 경우)
-            Map<String, String> categoryMapping = new HashMap<>();
-            categoryMapping.put("마트", "17000"); // 상점 및 서비스
-            categoryMapping.put("서점", "17096");  // 서점
-            categoryMapping.put("카페", "13032");  // 카페
-            categoryMapping.put("음식점", "13000"); // 음식
-            
-            String categoryId = categoryMapping.getOrDefault(placeType, "");
-            
             // API 요청 구성
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(foursquareApiUrl)
-                .queryParam("query", placeType)
                 .queryParam("ll", latitude + "," + longitude)
                 .queryParam("radius", radius)
                 .queryParam("limit", 10);
                 
-            if (!categoryId.isEmpty()) {
+            if (placeType != null) {
+                builder.queryParam("query", placeType);
+            }
+            if (categoryId != null) {
                 builder.queryParam("categories", categoryId);
             }
             
@@ -873,127 +728,54 @@ public class APIIntegrationService {
             headers.set("Accept", "application/json");
             headers.set("Authorization", foursquareApiKey);
             
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response;
+            List<Place> foursquarePlaces;
             try {
-                response = restTemplate.exchange(
-                    builder.toUriString(),
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-                );
-                
-                log.info("Foursquare API response status: {}", response.getStatusCode());
-                log.info("Response body preview: {}", response.getBody().substring(0, 
-                        Math.min(response.getBody().length(), 500)));
+                foursquarePlaces = fetchAndParse("Foursquare", builder.toUriString(), headers,
+                        body -> providerResponseParser.parseFoursquare(body,
+                                (lat, lng) -> GeoMath.haversineMeters(latitude, longitude, lat, lng)));
+            } catch (ProviderDegradedException e) {
+                throw e;
             } catch (Exception e) {
                 log.error("Foursquare API call failed: {}", e.getMessage());
                 return Collections.emptyList();
             }
-            
-            // 응답 파싱
-            List<Place> foursquarePlaces = new ArrayList<>();
-            try {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                
-                if (root.has("results") && root.get("results").isArray()) {
-                    JsonNode results = root.get("results");
-                    log.info("Foursquare API returned {} results", results.size());
-                    
-                    for (JsonNode result : results) {
-                        try {
-                            Place place = new Place();
-                            place.setPlace_id(result.path("fsq_id").asText());
-                            place.setName(result.path("name").asText());
-                            
-                            // 주소 설정
-                            JsonNode location = result.path("location");
-                            StringBuilder addressBuilder = new StringBuilder();
-                            
-                            if (location.has("formatted_address")) {
-                                addressBuilder.append(location.get("formatted_address").asText());
-                            } else {
-                                if (location.has("address")) {
-                                    addressBuilder.append(location.get("address").asText());
-                                }
-                                if (location.has("locality")) {
-                                    if (addressBuilder.length() > 0) addressBuilder.append(", ");
-                                    addressBuilder.append(location.get("locality").asText());
-                                }
-                                if (location.has("region")) {
-                                    if (addressBuilder.length() > 0) addressBuilder.append(", ");
-                                    addressBuilder.append(location.get("region").asText());
-                                }
-                            }
-                            
-                            place.setFormatted_address(addressBuilder.toString());
-                            
-                            // 좌표 설정
-                            JsonNode geocodes = result.path("geocodes");
-                            if (geocodes.has("main")) {
-                                JsonNode main = geocodes.get("main");
-                                Geometry geometry = new Geometry();
-                                Geometry.Location loc = new Geometry.Location();
-                                loc.setLat(main.path("latitude").asDouble());
-                                loc.setLng(main.path("longitude").asDouble());
-                                geometry.setLocation(loc);
-                                place.setGeometry(geometry);
-                            }
-                            
-                            // 평점 설정 (Foursquare API에서는 rating이 없을 수 있음)
-                            place.setRating(4.0);
-                            
-                            // 카테고리 설정
-                            JsonNode categories = result.path("categories");
-                            if (categories.isArray() && categories.size() > 0) {
-                                place.setBusiness_status(categories.get(0).path("name").asText());
-                            }
-                            
-                            // 영업 여부 (기본값으로 설정)
-                            place.setOpen_now(true);
-                            
-                            // 메타데이터
-                            Map<String, Object> metadata = new HashMap<>();
-                            
-                            // 거리 계산
-                            if (place.getGeometry() != null && place.getGeometry().getLocation() != null) {
-                                double placeLat = place.getGeometry().getLocation().getLat();
-                                double placeLng = place.getGeometry().getLocation().getLng();
-                                metadata.put("distance", calculateDistance(latitude, longitude, placeLat, placeLng));
-                            } else if (location.has("distance")) {
-                                metadata.put("distance", location.path("distance").asDouble());
-                            }
-                            
-                            metadata.put("source", "foursquare");
-                            
-                            // 카테고리 정보 추가
-                            if (categories.isArray()) {
-                                List<String> categoryNames = new ArrayList<>();
-                                for (JsonNode category : categories) {
-                                    categoryNames.add(category.path("name").asText());
-                                }
-                                metadata.put("categories", categoryNames);
-                            }
-                            
-                            place.setMetadata(metadata);
-                            foursquarePlaces.add(place);
-                        } catch (Exception e) {
-                            log.warn("Error parsing Foursquare place: {}", e.getMessage());
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                log.error("Error parsing Foursquare API response: {}", e.getMessage());
-            }
+            log.info("Foursquare API returned {} results", foursquarePlaces.size());
             
             return foursquarePlaces;
+        } catch (ProviderDegradedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error searching with Foursquare API: {}", e.getMessage(), e);
             return Collections.emptyList();
         }
     }
 
+    /**
+     * 제공자 API GET 호출 후 응답 스트림을 바로 파싱
+     * 본문 전체를 문자열로 만들지 않으며, 본문 미리보기는 DEBUG 로그가 켜진 경우에만 수집한다
+     * 제공자별 회로 차단기를 거치고, 응답이 제공자의 p95 지연을 넘기면 헤지 요청을 보낸다
+     */
+    private <T> T fetchAndParse(String provider, String url, HttpHeaders headers, ProviderBodyReader<T> reader) {
+        return providerResilience.call(provider.toLowerCase(Locale.ROOT), () -> restTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().putAll(headers),
+                response -> {
+                    log.info("{} API response status: {}", provider, response.getStatusCode());
+                    InputStream body = response.getBody();
+                    if (log.isDebugEnabled()) {
+                        byte[] bytes = body.readAllBytes();
+                        String preview = new String(bytes, StandardCharsets.UTF_8);
+                        log.debug("Response body preview: {}", preview.substring(0, Math.min(preview.length(), 500)));
+                        body = new ByteArrayInputStream(bytes);
+                    }
+                    return reader.read(body);
+                }));
+    }
+    
+    @FunctionalInterface
+    private interface ProviderBodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+    
     private Map<String, Object> getPlaceDetails(String placeId) {
         // 장소 상세 정보 가져오기 (영업시간, 혼잡도 등)
         // 실제로는 Kakao Place Detail API 호출
@@ -1091,19 +873,6 @@ public class APIIntegrationService {
         List<String> names = namesByType.getOrDefault(placeType, Arrays.asList(placeType + " 장소"));
         return names.get(index % names.size()) + " " + (index + 1) + "호점";
     }
-
-    // 거리 계산 유틸리티 메서드
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        double R = 6371; // 지구 반경(km)
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = 
-            Math.sin(dLat/2) * Math.sin(dLat/2) +
-            Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-            Math.sin(dLon/2) * Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return R * c * 1000; // 미터 단위로 변환
-    }
     
     // 캐시 설정
     private final Map<String, TrafficInfo> trafficInfoCache = new ConcurrentHashMap<>();
@@ -1219,7 +988,10 @@ public class APIIntegrationService {
         return "매우 혼잡";
     }
     
-private double getTimeBasedTrafficFactor(LocalDateTime time) {
+    /**
+     * 시간대별 교통 혼잡 가중치 (출퇴근 1.5, 점심 1.3, 그 외 1.0)
+     */
+    public double getTimeBasedTrafficFactor(LocalDateTime time) {
         int hour = time.getHour();
         
         // 출퇴근 시간대
@@ -1235,4 +1007,4 @@ private double getTimeBasedTrafficFactor(LocalDateTime time) {
         // 그 외 시간대
         return 1.0;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.example.schedule_service.service;
 
+import com.example.common.geo.GeoMath;
 import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
@@ -71,28 +72,9 @@ public class FirstMapService {
         }
 
         // 간단한 거리 계산 (Haversine formula)
-        double distance = calculateDistance(start, end);
+        double distance = GeoMath.haversineKm(start.getLatitude(), start.getLongitude(), end.getLatitude(), end.getLongitude());
         int estimatedTime = (int) (distance * 3); // 평균 속도 20km/h 가정
         
         return new TrafficInfo(1.0, estimatedTime, distance);
     }
-
-    private double calculateDistance(Location start, Location end) {
-        final int R = 6371; // Earth's radius in kilometers
-
-        double lat1 = Math.toRadians(start.getLatitude());
-        double lon1 = Math.toRadians(start.getLongitude());
-        double lat2 = Math.toRadians(end.getLatitude());
-        double lon2 = Math.toRadians(end.getLongitude());
-
-        double dLat = lat2 - lat1;
-        double dLon = lon2 - lon1;
-
-        double a = Math.sin(dLat/2) * Math.sin(dLat/2) +
-                   Math.cos(lat1) * Math.cos(lat2) *
-                   Math.sin(dLon/2) * Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-
-        return R * c;
-    }
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package com.example.schedule_service.service;
 
-import lombok.RequiredArgsConstructor;
+import com.example.common.geo.GeoMath;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.example.common.ratelimit.RequestPriority;
+import com.example.common.ratelimit.RequestPriorityContext;
 import com.example.schedule_service.dto.domain.FlexiblePlaceOption;
+import com.example.schedule_service.dto.domain.Location;
 import com.example.schedule_service.domain.PlaceInfo;
 import com.example.schedule_service.domain.Schedule;
 import com.example.schedule_service.domain.TimeWindow;
@@ -14,28 +19,83 @@ import com.example.schedule_service.dto.response.FlexibleScheduleResponse.Schedu
 import com.example.schedule_service.dto.response.FlexibleScheduleResponse.RouteSegment;
 import com.example.schedule_service.dto.response.NearbyPlacesResponse;
 import com.example.schedule_service.exception.OptimizationException;
+import com.example.schedule_service.service.calendar.DayCalendar;
+import com.example.schedule_service.service.optimizer.OptimizationBudget;
+import com.example.schedule_service.service.optimizer.ParetoFront;
+import com.example.schedule_service.service.travel.TravelTimeFillStrategy;
+import com.example.schedule_service.service.travel.TravelTimeMatrix;
+import com.example.schedule_service.service.travel.TravelTimeMatrixService;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FlexibleScheduleService {
     
     private final NearbyPlaceService nearbyPlaceService;
+    private final TravelTimeMatrixService travelTimeMatrixService;
+    private final ExecutorService placeSearchExecutor;
+
+    public FlexibleScheduleService(
+            NearbyPlaceService nearbyPlaceService,
+            TravelTimeMatrixService travelTimeMatrixService,
+            @Qualifier("placeSearchExecutor") ExecutorService placeSearchExecutor) {
+        this.nearbyPlaceService = nearbyPlaceService;
+        this.travelTimeMatrixService = travelTimeMatrixService;
+        this.placeSearchExecutor = placeSearchExecutor;
+    }
+
+    // 조합 생성 시 이동 시간 행렬 채우기 방식
+    @Value("${app.travel-matrix.scoring-strategy:ESTIMATE}")
+    private TravelTimeFillStrategy scoringStrategy;
 
     private static final int MAX_ROUTE_OPTIONS = 5; // 최대 경로 옵션 수
+    
+    // 목표 벡터 순서, 앞의 PARETO_OBJECTIVES 개로 지배 관계 판단 (거리는 이동 시간과 거의 비례하므로 동점 처리용)
+    private static final String[] OBJECTIVE_NAMES = {"travelTime", "cost", "timeBalance", "distance"};
+    private static final int PARETO_OBJECTIVES = 3;
     private static final int MIN_TRAVEL_TIME = 15; // 최소 이동 시간(분)
     private static final double NEARBY_RADIUS = 1000.0; // 주변 검색 반경(m)
     
+    // 이 거리 이내의 고정 일정 위치는 주변 장소 검색 한 번을 공유
+    @Value("${app.flexible-schedule.nearby-cluster-meters:300}")
+    private double nearbyClusterMeters;
+    
+    // 주변 장소 검색 결과를 기다리는 최대 시간
+    @Value("${app.place-search.deadline-ms:5000}")
+    private long nearbyDeadlineMs;
+    
+    // 조합 생성 빔 탐색에서 단계마다 유지하는 부분 계획 수
+    @Value("${app.flexible-schedule.beam-width:100}")
+    private int beamWidth;
+    
     public FlexibleScheduleResponse optimizeFlexibleSchedules(
             List<Schedule> fixedSchedules, 
             List<FlexiblePlaceOption> flexibleOptions) {
+        return optimizeFlexibleSchedules(fixedSchedules, flexibleOptions, null);
+    }
+    
+    /**
+     * @param budgetMillis 최적화에 쓸 수 있는 시간 (null 이면 제한 없음).
+     *                     예산을 다 쓰면 그때까지 펼친 조합 중 최선을 반환하고 converged=false 로 표시한다.
+     */
+    public FlexibleScheduleResponse optimizeFlexibleSchedules(
+            List<Schedule> fixedSchedules, 
+            List<FlexiblePlaceOption> flexibleOptions,
+            Long budgetMillis) {
         
         long startTime = System.currentTimeMillis();
+        OptimizationBudget budget = OptimizationBudget.of(budgetMillis);
         
         try {
             // 1. 고정 일정을 시간순으로 정렬
@@ -53,23 +113,28 @@ public class FlexibleScheduleService {
             Map<FlexiblePlaceOption, List<PlaceInfo>> placesByOption = findNearbyPlacesForOptions(
                     flexibleOptions, fixedSchedules);
             
-            // 5. 가능한 일정 조합 생성
+            // 5. 고정 일정 + 후보 장소 전체의 이동 시간 행렬 (조합 생성 중에는 조회만)
+            TravelTimeMatrix travelTimes = buildTravelTimeMatrix(fixedSchedules, placesByOption);
+            
+            // 6. 가능한 일정 조합 생성
             List<List<ScheduleItem>> possibleCombinations = generateCombinations(
-                    fixedSchedules, flexibleOptions, placesByOption, availableWindows);
+                    fixedSchedules, flexibleOptions, placesByOption, availableWindows, travelTimes, budget);
+            boolean converged = !budget.isExpired();
             
             log.info("Generated {} possible schedule combinations", possibleCombinations.size());
             
-            // 6. 조합 평가 및 최적 경로 선택
+            // 7. 조합 평가 및 최적 경로 선택
             List<RouteOption> routeOptions = evaluateAndRankCombinations(possibleCombinations);
             
-            // 7. 응답 생성
+            // 8. 응답 생성
             return FlexibleScheduleResponse.builder()
                     .routeOptions(routeOptions)
                     .metrics(FlexibleScheduleResponse.OptimizationMetrics.builder()
                             .processedCombinations(possibleCombinations.size())
                             .filteredOptions(possibleCombinations.size() - routeOptions.size())
                             .processingTimeMs(System.currentTimeMillis() - startTime)
-                            .algorithm("Priority-based Greedy Optimization")
+                            .algorithm("Beam Search + Pareto Front")
+                            .converged(converged)
                             .build())
                     .build();
             
@@ -91,105 +156,207 @@ public class FlexibleScheduleService {
             return windows;
         }
         
-        // 첫 일정 전 시간대
-        Schedule firstSchedule = fixedSchedules.get(0);
+        // 고정 일정 점유 달력 (현재 시각과 첫 일정 중 이른 쪽 ~ 마지막 일정 날짜 22시)
         LocalDateTime now = LocalDateTime.now();
-        
-        if (firstSchedule.getStartTime().isAfter(now.plusMinutes(30))) {
-            TimeWindow beforeFirst = new TimeWindow();
-            beforeFirst.setStart(now);
-            beforeFirst.setEnd(firstSchedule.getStartTime());
-            windows.add(beforeFirst);
+        Schedule firstSchedule = fixedSchedules.get(0);
+        Schedule lastSchedule = fixedSchedules.get(fixedSchedules.size() - 1);
+        LocalDateTime endOfDay = lastSchedule.getEndTime().withHour(22).withMinute(0);
+        DayCalendar<Schedule> calendar = new DayCalendar<>(
+                firstSchedule.getStartTime().isBefore(now) ? firstSchedule.getStartTime() : now,
+                lastSchedule.getEndTime().isAfter(endOfDay) ? lastSchedule.getEndTime() : endOfDay);
+        for (Schedule fixed : fixedSchedules) {
+            calendar.add(fixed.getStartTime(), fixed.getEndTime(), fixed);
         }
         
-        // 일정 사이 시간대
-        for (int i = 0; i < fixedSchedules.size() - 1; i++) {
-            Schedule current = fixedSchedules.get(i);
-            Schedule next = fixedSchedules.get(i + 1);
-            
-            LocalDateTime earliestNextStart = current.getEndTime().plusMinutes(MIN_TRAVEL_TIME);
-            
-            if (earliestNextStart.isBefore(next.getStartTime())) {
-                TimeWindow between = new TimeWindow();
-                between.setStart(current.getEndTime());
-                between.setEnd(next.getStartTime());
-                between.setPreviousSchedule(current);
-                between.setNextSchedule(next);
-                windows.add(between);
+        // 일정 사이는 최소 이동 시간보다 길고, 첫 일정 전/마지막 일정 후는 30분보다 긴 빈 구간
+        for (DayCalendar.Gap<Schedule> gap : calendar.gaps(MIN_TRAVEL_TIME + 1)) {
+            boolean between = gap.getPrevious() != null && gap.getNext() != null;
+            if (!between && gap.getMinutes() <= 30) {
+                continue;
             }
-        }
-        
-        // 마지막 일정 후 시간대
-        Schedule lastSchedule = fixedSchedules.get(fixedSchedules.size() - 1);
-        LocalDateTime endOfDay = LocalDateTime.now().withHour(22).withMinute(0);
-        
-        if (lastSchedule.getEndTime().plusMinutes(30).isBefore(endOfDay)) {
-            TimeWindow afterLast = new TimeWindow();
-            afterLast.setStart(lastSchedule.getEndTime());
-            afterLast.setEnd(endOfDay);
-            afterLast.setPreviousSchedule(lastSchedule);
-            windows.add(afterLast);
+            TimeWindow window = new TimeWindow();
+            window.setStart(gap.getStart());
+            window.setEnd(gap.getEnd());
+            window.setPreviousSchedule(gap.getPrevious());
+            window.setNextSchedule(gap.getNext());
+            windows.add(window);
         }
         
         return windows;
     }
     
+    /**
+     * 유연 일정 유형별 고정 일정 주변 장소 검색
+     * 고정 일정 위치를 검색 구역으로 묶고 (유형, 구역) 마다 한 번만 placeSearchExecutor 에서 병렬로 검색한다.
+     * 외부 호출 수는 보통 (유연 일정 × 고정 일정) 이 아니라 (유형 × 구역) 에 비례한다 (구역 검색은 searchArea 참고).
+     */
     private Map<FlexiblePlaceOption, List<PlaceInfo>> findNearbyPlacesForOptions(
             List<FlexiblePlaceOption> options, List<Schedule> fixedSchedules) {
         
-        Map<FlexiblePlaceOption, List<PlaceInfo>> results = new HashMap<>();
+        // 1. 가까운 고정 일정 위치를 하나의 검색 구역으로
+        List<SearchArea> areas = groupSearchAreas(fixedSchedules);
         
+        // 2. (유형, 구역) 단위 요청 내 메모 + 병렬 검색
+        Map<String, CompletableFuture<List<PlaceInfo>>> lookups = new HashMap<>();
+        RequestPriority priority = RequestPriorityContext.current();
         for (FlexiblePlaceOption option : options) {
-            List<PlaceInfo> allPlaces = new ArrayList<>();
-            
-            // 각 고정 일정 주변의 장소 검색
-            for (Schedule fixed : fixedSchedules) {
-                NearbyPlacesResponse response = nearbyPlaceService.findNearbyPlaces(
-                        fixed.getLatitude(),
-                        fixed.getLongitude(),
-                        option.getType(),
-                        NEARBY_RADIUS
-                );
-                
-                allPlaces.addAll(response.getPlaces());
+            for (SearchArea area : areas) {
+                lookups.computeIfAbsent(area.lookupKey(option.getType()),
+                        key -> submitNearbySearch(option.getType(), area, priority));
+            }
+        }
+        
+        // 3. 기한까지 결과 수집 후 유형별로 합치고 중복 제거 (같은 장소가 여러 고정 일정 근처에 있을 수 있음)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(nearbyDeadlineMs);
+        Map<FlexiblePlaceOption, List<PlaceInfo>> results = new HashMap<>();
+        for (FlexiblePlaceOption option : options) {
+            Map<String, PlaceInfo> uniquePlaces = new LinkedHashMap<>();
+            for (SearchArea area : areas) {
+                for (PlaceInfo place : awaitNearbySearch(lookups.get(area.lookupKey(option.getType())), deadline)) {
+                    uniquePlaces.putIfAbsent(place.getId(), place);
+                }
             }
             
-            // 중복 제거 (같은 장소가 여러 고정 일정 근처에 있을 수 있음)
-            List<PlaceInfo> uniquePlaces = allPlaces.stream()
-                    .collect(Collectors.toMap(
-                            PlaceInfo::getId,
-                            place -> place,
-                            (place1, place2) -> place1
-                    ))
-                    .values()
-                    .stream()
-                    .collect(Collectors.toList());
-            
-            results.put(option, uniquePlaces);
+            results.put(option, new ArrayList<>(uniquePlaces.values()));
             log.info("Found {} unique {} places near fixed schedules", 
                     uniquePlaces.size(), option.getType());
         }
         
+        log.info("Nearby place lookups: {} for {} options x {} fixed schedules ({} search areas)",
+                lookups.size(), options.size(), fixedSchedules.size(), areas.size());
         return results;
     }
     
+    /**
+     * 선착 위치를 중심으로 nearbyClusterMeters 안의 고정 일정 위치를 묶음
+     */
+    private List<SearchArea> groupSearchAreas(List<Schedule> fixedSchedules) {
+        List<SearchArea> areas = new ArrayList<>();
+        for (Schedule fixed : fixedSchedules) {
+            SearchArea joined = null;
+            for (SearchArea area : areas) {
+                if (GeoMath.haversineMeters(area.latitude, area.longitude,
+                        fixed.getLatitude(), fixed.getLongitude()) <= nearbyClusterMeters) {
+                    joined = area;
+                    break;
+                }
+            }
+            if (joined == null) {
+                joined = new SearchArea(fixed.getLatitude(), fixed.getLongitude());
+                areas.add(joined);
+            }
+            joined.add(fixed.getLatitude(), fixed.getLongitude());
+        }
+        return areas;
+    }
+    
+    private CompletableFuture<List<PlaceInfo>> submitNearbySearch(
+            String type, SearchArea area, RequestPriority priority) {
+        Supplier<List<PlaceInfo>> search = () -> RequestPriorityContext.callWith(priority, () -> searchArea(type, area));
+        try {
+            return CompletableFuture.supplyAsync(search, placeSearchExecutor);
+        } catch (RejectedExecutionException e) {
+            // 풀이 가득 차면 후보 없이 진행하지 않고 요청 스레드에서 직접 검색
+            log.debug("Nearby search for '{}' rejected, searching on request thread", type);
+            try {
+                return CompletableFuture.completedFuture(search.get());
+            } catch (RuntimeException searchFailure) {
+                return CompletableFuture.failedFuture(searchFailure);
+            }
+        }
+    }
+    
+    /**
+     * 구역 안 고정 일정들의 NEARBY_RADIUS 원에 드는 장소 검색
+     * 위치가 하나면 고정 일정별 검색과 같은 한 번의 호출이다. 여러 위치를 묶은 구역은 넓은 반경 결과를
+     * 제공자 노출 상한까지 받아 구성 위치의 원 안 장소만 남기고, 그래도 결과가 잘렸으면 (페이지 상한)
+     * 넓은 반경의 앞쪽 결과가 가장자리 위치의 장소를 밀어냈을 수 있으므로 구성 위치마다 다시 검색한다.
+     */
+    private List<PlaceInfo> searchArea(String type, SearchArea area) {
+        if (area.members.size() == 1) {
+            return nearbyPlaceService.findNearbyPlaces(area.latitude, area.longitude, type, NEARBY_RADIUS).getPlaces();
+        }
+        
+        NearbyPlacesResponse merged = nearbyPlaceService.findNearbyPlaces(
+                area.latitude, area.longitude, type, area.radius(), NearbyPlaceService.KAKAO_MAX_PAGES);
+        List<PlaceInfo> places = merged.getPlaces() != null ? merged.getPlaces() : Collections.emptyList();
+        if (merged.isComplete() || places.isEmpty()) {
+            return places.stream().filter(area::covers).collect(Collectors.toList());
+        }
+        
+        log.info("Nearby '{}' search for {} merged locations was truncated at {} results, searching each location",
+                type, area.members.size(), places.size());
+        List<PlaceInfo> memberPlaces = new ArrayList<>();
+        for (double[] member : area.members) {
+            memberPlaces.addAll(nearbyPlaceService.findNearbyPlaces(member[0], member[1], type, NEARBY_RADIUS).getPlaces());
+        }
+        return memberPlaces;
+    }
+    
+    /**
+     * 기한까지 검색 결과 대기 (기한 초과·실패 시 빈 목록)
+     */
+    private List<PlaceInfo> awaitNearbySearch(CompletableFuture<List<PlaceInfo>> lookup, long deadlineNanos) {
+        try {
+            List<PlaceInfo> places = lookup.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return places != null ? places : Collections.emptyList();
+        } catch (TimeoutException e) {
+            log.warn("Nearby place search exceeded {}ms, continuing without its results", nearbyDeadlineMs);
+            lookup.cancel(false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Nearby place search failed: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        }
+        return Collections.emptyList();
+    }
+    
+    private TravelTimeMatrix buildTravelTimeMatrix(
+            List<Schedule> fixedSchedules,
+            Map<FlexiblePlaceOption, List<PlaceInfo>> placesByOption) {
+        
+        List<Location> points = new ArrayList<>();
+        for (Schedule fixed : fixedSchedules) {
+            points.add(new Location(fixed.getLatitude(), fixed.getLongitude()));
+        }
+        for (List<PlaceInfo> places : placesByOption.values()) {
+            for (PlaceInfo place : places) {
+                points.add(new Location(place.getLatitude(), place.getLongitude()));
+            }
+        }
+        return travelTimeMatrixService.build(points, scoringStrategy);
+    }
+    
+    /**
+     * 빔 탐색으로 일정 조합 생성
+     * 유연 일정을 우선순위 순으로 하나씩 추가하며, 단계마다 점수가 높은 부분 계획 beamWidth 개만 남긴다.
+     * 부분 계획은 부모를 공유하는 불변 노드(PlanNode)이고 점수는 삽입 위치 앞뒤 구간만 바꿔 증분 계산하므로,
+     * 목록 복사/정렬은 마지막에 남은 계획을 결과로 만들 때 한 번만 한다.
+     */
     private List<List<ScheduleItem>> generateCombinations(
             List<Schedule> fixedSchedules,
             List<FlexiblePlaceOption> flexibleOptions,
             Map<FlexiblePlaceOption, List<PlaceInfo>> placesByOption,
-            List<TimeWindow> availableWindows) {
+            List<TimeWindow> availableWindows,
+            TravelTimeMatrix travelTimes,
+            OptimizationBudget budget) {
         
         // 고정 일정을 ScheduleItem으로 변환
         List<ScheduleItem> fixedItems = fixedSchedules.stream()
                 .map(this::convertFixedSchedule)
                 .collect(Collectors.toList());
         
-        // 각 유연한 일정 옵션에 대한 가능한 장소와 시간 조합 생성
-        List<List<ScheduleItem>> allCombinations = new ArrayList<>();
-        allCombinations.add(new ArrayList<>(fixedItems)); // 초기 조합은 고정 일정만 포함
+        // 초기 계획은 고정 일정만 포함
+        List<PlanNode> beam = new ArrayList<>();
+        beam.add(PlanNode.root(fixedItems));
         
-        // 각 유연한 일정에 대해 조합 확장
+        // 각 유연한 일정에 대해 계획 확장
         for (FlexiblePlaceOption option : flexibleOptions) {
+            if (budget.isExpired()) {
+                log.info("Optimization budget exhausted before option: {}", option.getName());
+                break;
+            }
+            
             List<PlaceInfo> availablePlaces = placesByOption.get(option);
             
             if (availablePlaces == null || availablePlaces.isEmpty()) {
@@ -197,149 +364,109 @@ public class FlexibleScheduleService {
                 continue;
             }
             
-            List<List<ScheduleItem>> newCombinations = new ArrayList<>();
+            // 점수 상위 beamWidth 개만 유지 (최소 힙)
+            PriorityQueue<PlanNode> next = new PriorityQueue<>(Comparator.comparingDouble(PlanNode::getScore));
             
-            // 현재까지의 각 조합에 대해
-            for (List<ScheduleItem> currentCombination : allCombinations) {
-                // 각 가능한 장소에 대해
-                for (PlaceInfo place : availablePlaces) {
-                    // 가능한 시간 슬롯 찾기
-                    List<TimeSlot> possibleTimeSlots = findPossibleTimeSlots(
-                            currentCombination, place, option.getDuration(), availableWindows);
-                    
-                    if (possibleTimeSlots.isEmpty()) {
-                        continue; // 이 장소는 시간 제약으로 인해 불가능
+            for (PlanNode node : beam) {
+                for (int w = 0; w < availableWindows.size(); w++) {
+                    // 윈도우당 유연 일정 하나
+                    if (node.usesWindow(w)) {
+                        continue;
+                    }
+                    TimeWindow window = availableWindows.get(w);
+                    for (PlaceInfo place : availablePlaces) {
+                        for (TimeSlot slot : findPossibleTimeSlots(window, place, option.getDuration(), travelTimes)) {
+                            PlanNode child = node.extend(option, place, slot, w, window);
+                            if (next.size() < beamWidth) {
+                                next.add(child);
+                            } else if (child.getScore() > next.peek().getScore()) {
+                                next.poll();
+                                next.add(child);
+                            }
+                        }
                     }
-                    
-                    // 첫 번째 가능한 시간 슬롯 사용 (더 정교한 알고리즘은 모든 슬롯을 고려할 수 있음)
-                    TimeSlot bestSlot = possibleTimeSlots.get(0);
-                    
-                    // 새 일정 아이템 생성
-                    ScheduleItem newItem = ScheduleItem.builder()
-                            .id(UUID.randomUUID().toString())
-                            .name(place.getName())
-                            .location(place.getAddress())
-                            .startTime(bestSlot.getStart())
-                            .endTime(bestSlot.getEnd())
-                            .type("FLEXIBLE")
-                            .latitude(place.getLatitude())
-                            .longitude(place.getLongitude())
-                            .duration(option.getDuration())
-                            .isOptimized(true)
-                            .placeType(option.getType())
-                            .build();
-                    
-                    // 새 조합 생성 (기존 일정 + 새 일정)
-                    List<ScheduleItem> newCombination = new ArrayList<>(currentCombination);
-                    newCombination.add(newItem);
-                    
-                    // 시간순 정렬
-                    newCombination.sort(Comparator.comparing(ScheduleItem::getStartTime));
-                    
-                    newCombinations.add(newCombination);
                 }
             }
             
-            // 조합 수가 너무 많아지는 것을 방지
-            if (!newCombinations.isEmpty()) {
-                // 이전 단계의 조합은 더 이상 고려하지 않음
-                allCombinations = newCombinations;
-                
-                // 조합 수 제한
-                if (allCombinations.size() > 100) {
-                    // 간단한 휴리스틱: 일정 간 시간 간격이 균등한 조합 우선
-                    allCombinations.sort(Comparator.comparing(this::calculateTimeBalanceScore));
-                    allCombinations = allCombinations.subList(0, 100);
-                }
+            // 배치할 수 없는 일정은 건너뛰고 이전 단계의 계획 유지
+            if (!next.isEmpty()) {
+                beam = new ArrayList<>(next);
             }
         }
         
-        return allCombinations;
+        List<List<ScheduleItem>> combinations = new ArrayList<>(beam.size());
+        for (PlanNode node : beam) {
+            combinations.add(node.toItems(fixedItems));
+        }
+        return combinations;
     }
     
+    /**
+     * 한 윈도우 안에서 장소 방문이 가능한 시간 (가장 이른 / 중간 / 가장 늦은 시작)
+     */
     private List<TimeSlot> findPossibleTimeSlots(
-            List<ScheduleItem> currentSchedules,
+            TimeWindow window,
             PlaceInfo place,
             int duration,
-            List<TimeWindow> availableWindows) {
+            TravelTimeMatrix travelTimes) {
         
         List<TimeSlot> possibleSlots = new ArrayList<>();
         
-        // 현재 일정을 시간순으로 정렬
-        currentSchedules.sort(Comparator.comparing(ScheduleItem::getStartTime));
-        
-        // 각 가용 시간 윈도우 확인
-        for (TimeWindow window : availableWindows) {
-            // 이미 다른 일정이 이 윈도우를 차지하고 있는지 확인
-            boolean isOccupied = false;
-            for (ScheduleItem item : currentSchedules) {
-                // 일정이 윈도우와 겹치는지 확인
-                if (!(item.getEndTime().isBefore(window.getStart()) || 
-                      item.getStartTime().isAfter(window.getEnd()))) {
-                    isOccupied = true;
-                    break;
-                }
-            }
-            
-            if (isOccupied) {
-                continue;
-            }
-            
-            // 이 윈도우에서 가능한 시간 슬롯 찾기
-            LocalDateTime earliestStart = window.getStart();
-            LocalDateTime latestEnd = window.getEnd();
-            
-            // 이전 일정에서의 이동 시간 고려
-            Schedule previousSchedule = window.getPreviousSchedule();
-            if (previousSchedule != null) {
-                int travelTime = estimateTravelTime(
-                        previousSchedule.getLatitude(),
-                        previousSchedule.getLongitude(),
-                        place.getLatitude(),
-                        place.getLongitude()
-                );
-                earliestStart = earliestStart.plusMinutes(travelTime);
-            }
-            
-            // 다음 일정까지의 이동 시간 고려
-            Schedule nextSchedule = window.getNextSchedule();
-            if (nextSchedule != null) {
-                int travelTime = estimateTravelTime(
-                        place.getLatitude(),
-                        place.getLongitude(),
-                        nextSchedule.getLatitude(),
-                        nextSchedule.getLongitude()
-                );
-                latestEnd = latestEnd.minusMinutes(travelTime);
+        LocalDateTime earliestStart = window.getStart();
+        LocalDateTime latestEnd = window.getEnd();
+        
+        // 이전 일정에서의 이동 시간 고려
+        Schedule previousSchedule = window.getPreviousSchedule();
+        if (previousSchedule != null) {
+            int travelTime = estimateTravelTime(
+                    travelTimes,
+                    previousSchedule.getLatitude(),
+                    previousSchedule.getLongitude(),
+                    place.getLatitude(),
+                    place.getLongitude()
+            );
+            earliestStart = earliestStart.plusMinutes(travelTime);
+        }
+        
+        // 다음 일정까지의 이동 시간 고려
+        Schedule nextSchedule = window.getNextSchedule();
+        if (nextSchedule != null) {
+            int travelTime = estimateTravelTime(
+                    travelTimes,
+                    place.getLatitude(),
+                    place.getLongitude(),
+                    nextSchedule.getLatitude(),
+                    nextSchedule.getLongitude()
+            );
+            latestEnd = latestEnd.minusMinutes(travelTime);
+        }
+        
+        // 일정 자체의 소요 시간 고려
+        if (Duration.between(earliestStart, latestEnd).toMinutes() >= duration) {
+            // 가장 이른 시작 시간에 배치
+            possibleSlots.add(new TimeSlot(
+                    earliestStart,
+                    earliestStart.plusMinutes(duration)
+            ));
+            
+            // 가장 늦은 시작 시간에 배치 (다양성을 위해)
+            LocalDateTime lateStart = latestEnd.minusMinutes(duration);
+            if (!lateStart.equals(earliestStart)) {
+                possibleSlots.add(new TimeSlot(
+                        lateStart,
+                        latestEnd
+                ));
             }
             
-            // 일정 자체의 소요 시간 고려
-            if (Duration.between(earliestStart, latestEnd).toMinutes() >= duration) {
-                // 가장 이른 시작 시간에 배치
+            // 중간 시간에 배치 (다양성을 위해)
+            LocalDateTime middleStart = earliestStart.plus(
+                    Duration.between(earliestStart, lateStart).dividedBy(2)
+            );
+            if (!middleStart.equals(earliestStart) && !middleStart.equals(lateStart)) {
                 possibleSlots.add(new TimeSlot(
-                        earliestStart,
-                        earliestStart.plusMinutes(duration)
+                        middleStart,
+                        middleStart.plusMinutes(duration)
                 ));
-                
-                // 가장 늦은 시작 시간에 배치 (다양성을 위해)
-                LocalDateTime lateStart = latestEnd.minusMinutes(duration);
-                if (!lateStart.equals(earliestStart)) {
-                    possibleSlots.add(new TimeSlot(
-                            lateStart,
-                            latestEnd
-                    ));
-                }
-                
-                // 중간 시간에 배치 (다양성을 위해)
-                LocalDateTime middleStart = earliestStart.plus(
-                        Duration.between(earliestStart, lateStart).dividedBy(2)
-                );
-                if (!middleStart.equals(earliestStart) && !middleStart.equals(lateStart)) {
-                    possibleSlots.add(new TimeSlot(
-                            middleStart,
-                            middleStart.plusMinutes(duration)
-                    ));
-                }
             }
         }
         
@@ -347,127 +474,145 @@ public class FlexibleScheduleService {
     }
     
     private int estimateTravelTime(
-            double fromLat, double fromLon, double toLat, double toLon) {
-        // 실제 구현에서는 라우팅 서비스를 통해 계산
-        // 여기서는 단순 거리 기반 추정
-        double distance = calculateDistance(fromLat, fromLon, toLat, toLon);
-        
-        // 대략적인 이동 시간 계산 (평균 시속 30km로 가정)
-        int travelTimeMinutes = (int) Math.ceil(distance / 30.0 * 60);
+            TravelTimeMatrix travelTimes, double fromLat, double fromLon, double toLat, double toLon) {
+        // 이동 시간 행렬 조회 (행렬에 없는 좌표는 같은 평균 속도의 직선 추정)
+        int travelTimeMinutes = (int) Math.ceil(travelTimes.minutesBetween(fromLat, fromLon, toLat, toLon));
         
         // 최소 이동 시간 보장
         return Math.max(travelTimeMinutes, MIN_TRAVEL_TIME);
     }
     
-    private double calculateDistance(
-            double lat1, double lon1, double lat2, double lon2) {
-        // 하버사인 공식을 사용한 거리 계산
-        double earthRadius = 6371; // 지구 반경(km)
-        
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                   Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return earthRadius * c; // 킬로미터 단위 거리
-    }
-    
     private double calculateTimeBalanceScore(List<ScheduleItem> schedules) {
-        // 일정 간 시간 간격의 표준 편차 계산 (낮을수록 균등)
-        if (schedules.size() < 3) {
-            return 0.0; // 일정이 2개 이하면 간격을 계산할 수 없음
-        }
-        
-        List<Integer> gaps = new ArrayList<>();
+        long gapSum = 0;
+        long gapSquareSum = 0;
         for (int i = 0; i < schedules.size() - 1; i++) {
             ScheduleItem current = schedules.get(i);
             ScheduleItem next = schedules.get(i + 1);
             
-            int gapMinutes = (int) Duration.between(
-                    current.getEndTime(), next.getStartTime()).toMinutes();
-            
-            gaps.add(gapMinutes);
+            long gapMinutes = Duration.between(current.getEndTime(), next.getStartTime()).toMinutes();
+            gapSum += gapMinutes;
+            gapSquareSum += gapMinutes * gapMinutes;
         }
-        
-        // 평균 간격
-        double avgGap = gaps.stream().mapToInt(Integer::intValue).average().orElse(0);
-        
-        // 표준 편차 계산
-        double sumSquaredDiff = gaps.stream()
-                .mapToDouble(gap -> Math.pow(gap - avgGap, 2))
-                .sum();
-        
-        double stdDev = Math.sqrt(sumSquaredDiff / gaps.size());
-        
-        // 반환값은 편차의 역수 (편차가 낮을수록 점수 높음)
-        return stdDev == 0 ? Double.MAX_VALUE : 1.0 / stdDev;
+        return timeBalanceScore(schedules.size() - 1, gapSum, gapSquareSum);
     }
     
+    /**
+     * 일정 간 간격의 표준 편차 역수 (낮은 편차일수록 점수 높음)
+     * 간격의 합과 제곱합만으로 계산하므로 부분 계획에서도 증분으로 갱신할 수 있다.
+     */
+    private static double timeBalanceScore(int gaps, long gapSum, long gapSquareSum) {
+        if (gaps < 2) {
+            return 0.0; // 일정이 2개 이하면 간격을 계산할 수 없음
+        }
+        // gaps² × 분산 (정수 연산이라 간격이 모두 같으면 정확히 0)
+        long spread = gaps * gapSquareSum - gapSum * gapSum;
+        return spread <= 0 ? Double.MAX_VALUE : gaps / Math.sqrt(spread);
+    }
+    
+    /**
+     * 일정 간 간격의 표준 편차 (분, 간격이 2개 미만이면 0)
+     */
+    private static double gapStdDev(int gaps, long gapSum, long gapSquareSum) {
+        if (gaps < 2) {
+            return 0.0;
+        }
+        long spread = gaps * gapSquareSum - gapSum * gapSum;
+        return Math.sqrt(Math.max(0, spread)) / gaps;
+    }
+    
+    /**
+     * 조합을 목표 벡터(이동 시간, 비용, 간격 편차, 거리 — 모두 작을수록 좋음)로 평가해
+     * 이동 시간·비용·간격 편차 기준 파레토 프런트를 경로 옵션으로 반환
+     * 프런트가 MAX_ROUTE_OPTIONS 보다 크면 목표별 최선을 포함해 고르게 퍼진 옵션을 고른다.
+     * 세그먼트와 점수 맵은 반환할 옵션에 대해서만 만든다.
+     */
     private List<RouteOption> evaluateAndRankCombinations(List<List<ScheduleItem>> combinations) {
         if (combinations.isEmpty()) {
             return Collections.emptyList();
         }
         
-        List<RouteOption> routeOptions = new ArrayList<>();
+        // 1. 조합별 목표 벡터 (조합 수는 빔 폭 이하라 요청 스레드에서 순차 계산)
+        double[][] objectives = new double[combinations.size()][];
+        for (int i = 0; i < combinations.size(); i++) {
+            objectives[i] = objectivesOf(combinations.get(i));
+        }
+        
+        // 2. 비지배 조합 중 최대 N개 선택 (거리는 나머지 목표가 같을 때의 정렬 기준)
+        int[] front = ParetoFront.nonDominated(objectives, PARETO_OBJECTIVES);
+        int[] selected = ParetoFront.spread(objectives, PARETO_OBJECTIVES, front, MAX_ROUTE_OPTIONS);
+        log.info("Pareto front: {} of {} combinations, returning {}", front.length, combinations.size(), selected.length);
         
-        for (List<ScheduleItem> combination : combinations) {
-            // 각 조합에 대한 경로 세그먼트 생성
+        // 3. 선택된 조합만 경로 옵션으로 변환
+        List<RouteOption> routeOptions = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            List<ScheduleItem> combination = combinations.get(index);
             List<RouteSegment> segments = calculateRouteSegments(combination);
             
-            // 총 거리, 시간, 비용 계산
-            double totalDistance = segments.stream()
-                    .mapToDouble(RouteSegment::getDistance)
-                    .sum();
-            
-            int totalDuration = segments.stream()
-                    .mapToInt(RouteSegment::getDuration)
-                    .sum();
-            
-            double totalCost = segments.stream()
-                    .mapToDouble(segment -> {
-                        // 교통 수단별 비용 계산
-                        if ("TAXI".equals(segment.getTransportMode())) {
-                            return 3800 + segment.getDistance() * 1000; // 기본요금 + km당 1000원
-                        } else if ("PUBLIC".equals(segment.getTransportMode())) {
-                            return 1250; // 기본 대중교통 요금
-                        }
-                        return 0.0; // 도보는 무료
-                    })
-                    .sum();
-            
-            // 최적화 점수 계산
-            Map<String, Double> scores = calculateOptimizationScores(combination, segments);
-            
-            // 경로 옵션 생성
-            RouteOption option = RouteOption.builder()
+            routeOptions.add(RouteOption.builder()
                     .id(UUID.randomUUID().toString())
                     .schedules(combination)
                     .segments(segments)
-                    .totalDistance(totalDistance)
-                    .totalDuration(totalDuration)
-                    .totalCost(totalCost)
-                    .scores(scores)
-                    .build();
-            
-            routeOptions.add(option);
+                    .totalDistance(objectives[index][3])
+                    .totalDuration((int) objectives[index][0])
+                    .totalCost(objectives[index][1])
+                    .scores(calculateOptimizationScores(combination, segments))
+                    .bestFor(bestObjectives(objectives, selected, index))
+                    .build());
         }
         
-        // 점수 기반 정렬
-        routeOptions.sort((o1, o2) -> {
-            // 총 점수 계산 (점수의 가중 평균)
-            double score1 = calculateOverallScore(o1.getScores());
-            double score2 = calculateOverallScore(o2.getScores());
-            return Double.compare(score2, score1); // 높은 점수 우선
-        });
+        // 이동 시간이 짧은 옵션부터
+        routeOptions.sort(Comparator.comparingInt(RouteOption::getTotalDuration));
+        return routeOptions;
+    }
+    
+    /**
+     * 조합의 목표 벡터 {총 이동 시간(분), 총 비용(원), 일정 간 간격 표준 편차(분), 총 거리(km)}
+     */
+    double[] objectivesOf(List<ScheduleItem> schedules) {
+        double distance = 0;
+        double cost = 0;
+        int minutes = 0;
+        long gapSum = 0;
+        long gapSquareSum = 0;
         
-        // 최대 N개의 경로 옵션 선택
-        return routeOptions.stream()
-                .limit(MAX_ROUTE_OPTIONS)
-                .collect(Collectors.toList());
+        for (int i = 0; i < schedules.size() - 1; i++) {
+            ScheduleItem current = schedules.get(i);
+            ScheduleItem next = schedules.get(i + 1);
+            
+            double segmentDistance = GeoMath.haversineKm(
+                    current.getLatitude(), current.getLongitude(),
+                    next.getLatitude(), next.getLongitude());
+            String transportMode = transportModeFor(segmentDistance);
+            distance += segmentDistance;
+            minutes += travelMinutesFor(segmentDistance, transportMode);
+            cost += fareFor(transportMode, segmentDistance);
+            
+            long gap = Duration.between(current.getEndTime(), next.getStartTime()).toMinutes();
+            gapSum += gap;
+            gapSquareSum += gap * gap;
+        }
+        
+        return new double[]{minutes, cost, gapStdDev(schedules.size() - 1, gapSum, gapSquareSum), distance};
+    }
+    
+    /**
+     * 선택된 옵션 중 이 옵션이 가장 좋은 목표 이름
+     */
+    private List<String> bestObjectives(double[][] objectives, int[] selected, int index) {
+        List<String> best = new ArrayList<>();
+        for (int d = 0; d < OBJECTIVE_NAMES.length; d++) {
+            boolean isBest = true;
+            for (int other : selected) {
+                if (objectives[other][d] < objectives[index][d]) {
+                    isBest = false;
+                    break;
+                }
+            }
+            if (isBest) {
+                best.add(OBJECTIVE_NAMES[d]);
+            }
+        }
+        return best;
     }
     
     private List<RouteSegment> calculateRouteSegments(List<ScheduleItem> schedules) {
@@ -478,20 +623,12 @@ public class FlexibleScheduleService {
             ScheduleItem next = schedules.get(i + 1);
             
             // 경로 세그먼트 계산
-            double distance = calculateDistance(
+            double distance = GeoMath.haversineKm(
                     current.getLatitude(), current.getLongitude(),
                     next.getLatitude(), next.getLongitude());
             
-            // 교통 모드 선택 (간단한 구현: 2km 이내는 도보, 이외에는 택시)
-            String transportMode = distance <= 2.0 ? "WALK" : "TAXI";
-            
-            // 이동 시간 계산
-            int duration;
-            if ("WALK".equals(transportMode)) {
-                duration = (int) Math.ceil(distance / 4.0 * 60); // 시속 4km 가정
-            } else {
-                duration = (int) Math.ceil(distance / 30.0 * 60); // 시속 30km 가정
-            }
+            String transportMode = transportModeFor(distance);
+            int duration = travelMinutesFor(distance, transportMode);
             
             // 교통 혼잡도 계산
             double trafficRate = estimateTrafficRate(
@@ -512,7 +649,29 @@ public class FlexibleScheduleService {
         return segments;
     }
     
-    private double estimateTrafficRate(int hour) {
+    // 교통 모드 선택 (간단한 구현: 2km 이내는 도보, 이외에는 택시)
+    private static String transportModeFor(double distanceKm) {
+        return distanceKm <= 2.0 ? "WALK" : "TAXI";
+    }
+    
+    private static int travelMinutesFor(double distanceKm, String transportMode) {
+        if ("WALK".equals(transportMode)) {
+            return (int) Math.ceil(distanceKm / 4.0 * 60); // 시속 4km 가정
+        }
+        return (int) Math.ceil(distanceKm / 30.0 * 60); // 시속 30km 가정
+    }
+    
+    // 교통 수단별 비용 계산
+    private static double fareFor(String transportMode, double distanceKm) {
+        if ("TAXI".equals(transportMode)) {
+            return 3800 + distanceKm * 1000; // 기본요금 + km당 1000원
+        } else if ("PUBLIC".equals(transportMode)) {
+            return 1250; // 기본 대중교통 요금
+        }
+        return 0.0; // 도보는 무료
+    }
+    
+    private static double estimateTrafficRate(int hour) {
         // 시간대별 교통 혼잡도 추정
         if (hour >= 7 && hour <= 9) {
             return 0.8; // 아침 러시아워
@@ -557,17 +716,15 @@ public class FlexibleScheduleService {
         return scores;
     }
     
-    private double normalizeScore(double value, double min, double max) {
+    private static double normalizeScore(double value, double min, double max) {
         return Math.min(1.0, Math.max(0.0, (value - min) / (max - min)));
     }
     
-    private double calculateOverallScore(Map<String, Double> scores) {
-        double moveEfficiency = scores.getOrDefault("moveEfficiency", 0.0) * 0.3;
-        double timeBalance = scores.getOrDefault("timeBalance", 0.0) * 0.3;
-        double traffic = scores.getOrDefault("traffic", 0.0) * 0.25;
-        double diversity = scores.getOrDefault("diversity", 0.0) * 0.15;
-        
-        return moveEfficiency + timeBalance + traffic + diversity;
+    /**
+     * 빔 탐색 가지치기용 가중 합 점수 (calculateOptimizationScores 의 요소 가중치)
+     */
+    private static double overallScore(double moveEfficiency, double timeBalance, double traffic, double diversity) {
+        return moveEfficiency * 0.3 + timeBalance * 0.3 + traffic * 0.25 + diversity * 0.15;
     }
     
     private ScheduleItem convertFixedSchedule(Schedule schedule) {
@@ -585,9 +742,211 @@ public class FlexibleScheduleService {
                 .build();
     }
     
+    /**
+     * 주변 장소 검색 구역 (구성 위치들의 NEARBY_RADIUS 원을 모두 덮는 원)
+     */
+    private static final class SearchArea {
+        private final double latitude;
+        private final double longitude;
+        private final List<double[]> members = new ArrayList<>();
+        private double farthestMember;
+        
+        SearchArea(double latitude, double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+        
+        void add(double memberLatitude, double memberLongitude) {
+            members.add(new double[]{memberLatitude, memberLongitude});
+            farthestMember = Math.max(farthestMember,
+                    GeoMath.haversineMeters(latitude, longitude, memberLatitude, memberLongitude));
+        }
+        
+        double radius() {
+            return Math.ceil(NEARBY_RADIUS + farthestMember);
+        }
+        
+        /**
+         * 요청 내 메모 키 (유형, 약 10m 단위로 반올림한 중심, 반경)
+         */
+        String lookupKey(String type) {
+            return type + "|" + Math.round(latitude * 1e4) + "," + Math.round(longitude * 1e4) + "|" + (long) radius();
+        }
+        
+        boolean covers(PlaceInfo place) {
+            for (double[] member : members) {
+                if (GeoMath.haversineMeters(member[0], member[1],
+                        place.getLatitude(), place.getLongitude()) <= NEARBY_RADIUS) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+    
     @lombok.Value
     private static class TimeSlot {
         LocalDateTime start;
         LocalDateTime end;
     }
+    
+    /**
+     * 빔 탐색의 부분 계획 (불변, 부모 노드 공유)
+     * 유연 일정 하나의 배치와, 계획 전체를 시간순으로 놓았을 때의 점수 집계값
+     * (이동 거리, 구간 혼잡도 합, 간격 합/제곱합, 장소 유형 수)을 가진다.
+     * 유연 일정은 윈도우당 하나이므로 삽입 위치의 앞뒤 일정은 윈도우 경계의 고정 일정이다.
+     */
+    private static final class PlanNode {
+        private final PlanNode parent;
+        private final FlexiblePlaceOption option;
+        private final PlaceInfo place;
+        private final TimeSlot slot;
+        private final int window;
+        private final int itemCount;
+        private final int segmentCount;
+        private final double distanceKm;
+        private final double trafficSum;
+        private final long gapSum;
+        private final long gapSquareSum;
+        private final int placeTypes;
+        private final double score;
+        
+        private PlanNode(PlanNode parent, FlexiblePlaceOption option, PlaceInfo place, TimeSlot slot, int window,
+                         int itemCount, int segmentCount, double distanceKm, double trafficSum,
+                         long gapSum, long gapSquareSum, int placeTypes) {
+            this.parent = parent;
+            this.option = option;
+            this.place = place;
+            this.slot = slot;
+            this.window = window;
+            this.itemCount = itemCount;
+            this.segmentCount = segmentCount;
+            this.distanceKm = distanceKm;
+            this.trafficSum = trafficSum;
+            this.gapSum = gapSum;
+            this.gapSquareSum = gapSquareSum;
+            this.placeTypes = placeTypes;
+            
+            // calculateOptimizationScores 와 같은 요소의 가중 합
+            double moveEfficiency = normalizeScore(itemCount / Math.max(distanceKm, 0.1), 0.2, 2.0);
+            double timeBalance = timeBalanceScore(itemCount - 1, gapSum, gapSquareSum);
+            double traffic = 1.0 - (segmentCount > 0 ? trafficSum / segmentCount : 0.5);
+            double diversity = normalizeScore(placeTypes, 1, 5);
+            this.score = overallScore(moveEfficiency, timeBalance, traffic, diversity);
+        }
+        
+        /**
+         * 시간순 고정 일정만 있는 계획
+         */
+        static PlanNode root(List<ScheduleItem> fixedItems) {
+            double distance = 0;
+            double traffic = 0;
+            long gapSum = 0;
+            long gapSquareSum = 0;
+            for (int i = 0; i < fixedItems.size() - 1; i++) {
+                ScheduleItem current = fixedItems.get(i);
+                ScheduleItem next = fixedItems.get(i + 1);
+                distance += GeoMath.haversineKm(
+                        current.getLatitude(), current.getLongitude(), next.getLatitude(), next.getLongitude());
+                traffic += estimateTrafficRate(current.getEndTime().getHour());
+                long gap = Duration.between(current.getEndTime(), next.getStartTime()).toMinutes();
+                gapSum += gap;
+                gapSquareSum += gap * gap;
+            }
+            return new PlanNode(null, null, null, null, -1, fixedItems.size(),
+                    Math.max(0, fixedItems.size() - 1), distance, traffic, gapSum, gapSquareSum, 0);
+        }
+        
+        /**
+         * 윈도우에 장소 방문을 추가한 계획 (앞뒤 고정 일정 사이 구간을 두 구간으로 교체)
+         */
+        PlanNode extend(FlexiblePlaceOption option, PlaceInfo place, TimeSlot slot, int window, TimeWindow timeWindow) {
+            Schedule previous = timeWindow.getPreviousSchedule();
+            Schedule next = timeWindow.getNextSchedule();
+            
+            double distance = distanceKm;
+            double traffic = trafficSum;
+            long gaps = gapSum;
+            long gapSquares = gapSquareSum;
+            int segments = segmentCount;
+            
+            if (previous != null && next != null) {
+                distance -= GeoMath.haversineKm(
+                        previous.getLatitude(), previous.getLongitude(), next.getLatitude(), next.getLongitude());
+                traffic -= estimateTrafficRate(previous.getEndTime().getHour());
+                long gap = Duration.between(previous.getEndTime(), next.getStartTime()).toMinutes();
+                gaps -= gap;
+                gapSquares -= gap * gap;
+                segments--;
+            }
+            if (previous != null) {
+                distance += GeoMath.haversineKm(
+                        previous.getLatitude(), previous.getLongitude(), place.getLatitude(), place.getLongitude());
+                traffic += estimateTrafficRate(previous.getEndTime().getHour());
+                long gap = Duration.between(previous.getEndTime(), slot.getStart()).toMinutes();
+                gaps += gap;
+                gapSquares += gap * gap;
+                segments++;
+            }
+            if (next != null) {
+                distance += GeoMath.haversineKm(
+                        place.getLatitude(), place.getLongitude(), next.getLatitude(), next.getLongitude());
+                traffic += estimateTrafficRate(slot.getEnd().getHour());
+                long gap = Duration.between(slot.getEnd(), next.getStartTime()).toMinutes();
+                gaps += gap;
+                gapSquares += gap * gap;
+                segments++;
+            }
+            
+            int types = hasPlaceType(option.getType()) ? placeTypes : placeTypes + 1;
+            return new PlanNode(this, option, place, slot, window, itemCount + 1, segments,
+                    distance, traffic, gaps, gapSquares, types);
+        }
+        
+        boolean usesWindow(int window) {
+            for (PlanNode node = this; node.parent != null; node = node.parent) {
+                if (node.window == window) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        private boolean hasPlaceType(String type) {
+            for (PlanNode node = this; node.parent != null; node = node.parent) {
+                if (Objects.equals(node.option.getType(), type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        double getScore() {
+            return score;
+        }
+        
+        /**
+         * 고정 일정 + 이 계획의 유연 일정을 시간순 목록으로
+         */
+        List<ScheduleItem> toItems(List<ScheduleItem> fixedItems) {
+            List<ScheduleItem> items = new ArrayList<>(fixedItems);
+            for (PlanNode node = this; node.parent != null; node = node.parent) {
+                items.add(ScheduleItem.builder()
+                        .id(UUID.randomUUID().toString())
+                        .name(node.place.getName())
+                        .location(node.place.getAddress())
+                        .startTime(node.slot.getStart())
+                        .endTime(node.slot.getEnd())
+                        .type("FLEXIBLE")
+                        .latitude(node.place.getLatitude())
+                        .longitude(node.place.getLongitude())
+                        .duration(node.option.getDuration())
+                        .isOptimized(true)
+                        .placeType(node.option.getType())
+                        .build());
+            }
+            items.sort(Comparator.comparing(ScheduleItem::getStartTime));
+            return items;
+        }
+    }
 }
@@ -2,35 +2,31 @@ package com.example.schedule_service.service;
 
 import com.example.schedule_service.dto.domain.PlaceInfo;
 import com.example.schedule_service.provider.PlaceSearchProvider;
+import com.example.schedule_service.provider.PriorityPlaceResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class LocationInfoService {
     private final List<PlaceSearchProvider> searchProviders;
+    private final PriorityPlaceResolver placeResolver;
     private final double defaultLat = 37.5665;
     private final double defaultLng = 126.9780;
 
     public PlaceInfo getPlaceInfo(String placeName) {
         log.debug("Searching place info for: {}", placeName);
         
-        // Try each provider in sequence
-        for (PlaceSearchProvider provider : searchProviders) {
-            try {
-                PlaceInfo placeInfo = provider.searchPlace(placeName, defaultLat, defaultLng);
-                if (placeInfo != null) {
-                    log.debug("Found place info using provider: {}", provider.getClass().getSimpleName());
-                    return placeInfo;
-                }
-            } catch (Exception e) {
-                log.error("Error with provider {}: {}", provider.getClass().getSimpleName(), e.getMessage());
-            }
+        // 모든 제공자에 동시에 질의하고, 우선순위 순으로 처음 찾은 결과 사용
+        PlaceInfo placeInfo = placeResolver.resolve(searchProviders, placeName, defaultLat, defaultLng, Objects::nonNull);
+        if (placeInfo != null) {
+            return placeInfo;
         }
 
         // If all providers fail, return default
@@ -53,4 +49,4 @@ public class LocationInfoService {
             LocalTime.of(1, 0) // averageVisitDuration
         );
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.schedule_service.service;
 
+import com.example.common.geo.GeoMath;
 import com.example.schedule_service.dto.domain.route.GeoPoint;
 import com.example.schedule_service.dto.domain.route.TransportMode;
 import com.example.schedule_service.dto.request.route.RouteRecommendationRequest;
@@ -33,7 +34,7 @@ public class RouteSegmentAnalyzer {
         segment.setFromLocation(from.getName());
         segment.setToLocation(to.getName());
         
-        double distance = calculateDistance(
+        double distance = GeoMath.haversineKm(
             from.getLocation().getLatitude(),
             from.getLocation().getLongitude(),
             to.getLocation().getLatitude(),
@@ -76,7 +77,7 @@ public class RouteSegmentAnalyzer {
         segment.setToLocation(next.getName());
         
         // 직선거리 계산
-        double directDistance = calculateDistance(
+        double directDistance = GeoMath.haversineKm(
             current.getLocation().getLatitude(),
             current.getLocation().getLongitude(),
             next.getLocation().getLatitude(),
@@ -212,14 +213,4 @@ public class RouteSegmentAnalyzer {
 
     
 
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371; // 지구의 반지름 (km)
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                 + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                 * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
-    }
 }
\ No newline at end of file
@@ -1,10 +1,27 @@
 package com.example.schedule_service.service;
 
+import com.example.common.geo.GeoMath;
 import com.example.schedule_service.dto.domain.Schedule;
-import com.example.schedule_service.dto.domain.TrafficInfo;
+import com.example.schedule_service.dto.scheduler.EnrichmentField;
 import com.example.schedule_service.dto.scheduler.OptimizeResponse;
-import lombok.RequiredArgsConstructor;
+import com.example.common.ratelimit.RequestPriority;
+import com.example.common.ratelimit.RequestPriorityContext;
+import com.example.schedule_service.service.calendar.DayCalendar;
+import com.example.schedule_service.service.optimizer.GreedySolver;
+import com.example.schedule_service.exception.PlanNotFoundException;
+import com.example.schedule_service.service.optimizer.OptimizationBudget;
+import com.example.schedule_service.service.optimizer.OptimizationPlan;
+import com.example.schedule_service.service.optimizer.OptimizationPlanStore;
+import com.example.schedule_service.service.optimizer.ScheduleSolver;
+import com.example.schedule_service.service.optimizer.SolverResult;
+import com.example.schedule_service.service.search.SlotCandidatePool;
+import com.example.schedule_service.service.travel.TravelTimeFillStrategy;
+import com.example.schedule_service.service.travel.TravelTimeMatrix;
+import com.example.schedule_service.service.travel.TravelTimeMatrixService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.example.schedule_service.dto.Place;
@@ -12,20 +29,108 @@ import com.example.schedule_service.dto.domain.Location;
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ScheduleOptimizationService {
     private final APIIntegrationService apiIntegrationService;
+    private final TravelTimeMatrixService travelTimeMatrixService;
+    private final List<ScheduleSolver> scheduleSolvers;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ExecutorService optimizationExecutor;
+    private final OptimizationPlanStore planStore;
+    private final CrowdLevelAnalyzer crowdLevelAnalyzer;
+    private final ExecutorService enrichmentExecutor;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    public ScheduleOptimizationService(
+            APIIntegrationService apiIntegrationService,
+            TravelTimeMatrixService travelTimeMatrixService,
+            List<ScheduleSolver> scheduleSolvers,
+            SimpMessagingTemplate messagingTemplate,
+            @Qualifier("optimizationExecutor") ExecutorService optimizationExecutor,
+            OptimizationPlanStore planStore,
+            CrowdLevelAnalyzer crowdLevelAnalyzer,
+            @Qualifier("enrichmentExecutor") ExecutorService enrichmentExecutor) {
+        this.apiIntegrationService = apiIntegrationService;
+        this.travelTimeMatrixService = travelTimeMatrixService;
+        this.scheduleSolvers = scheduleSolvers;
+        this.messagingTemplate = messagingTemplate;
+        this.optimizationExecutor = optimizationExecutor;
+        this.planStore = planStore;
+        this.crowdLevelAnalyzer = crowdLevelAnalyzer;
+        this.enrichmentExecutor = enrichmentExecutor;
+    }
+
     private static final int MIN_SLOT_DURATION = 30; // 최소 30분
 
+    // 슬롯 주변 장소 검색 반경 (m)
+    private static final int SLOT_SEARCH_RADIUS = 8000;
+
+    // 이 거리 이내의 슬롯 검색 지점은 한 번의 검색 결과를 공유
+    @Value("${app.optimization.slot-cluster-meters:1000}")
+    private double slotClusterMeters;
+
+    // 후보 장소 점수 계산용 이동 시간 행렬 채우기 방식 (응답 구간은 항상 TMAP)
+    @Value("${app.travel-matrix.scoring-strategy:ESTIMATE}")
+    private TravelTimeFillStrategy scoringStrategy;
+
+    // 그리디 배치 후 적용할 해법 이름 (local-search, greedy)
+    @Value("${app.optimization.solver:local-search}")
+    private String solverName;
+
+    // 예산이 있을 때 응답 생성(구간 교통 정보 등)을 위해 남겨두는 시간
+    @Value("${app.optimization.response-reserve-ms:300}")
+    private long responseReserveMs;
+
+    // 응답 생성 시 장소 정보 조회를 기다리는 최대 시간 (넘으면 pending)
+    @Value("${app.optimization.enrichment.timeout-ms:2000}")
+    private long enrichmentTimeoutMs;
+
+    // 백그라운드 개선 결과를 보내는 STOMP 토픽 접두사
+    private static final String IMPROVEMENT_TOPIC_PREFIX = "/topic/optimization/";
+
     
     public OptimizeResponse optimizeSchedule(List<Schedule> fixedSchedules, List<Schedule> flexibleSchedules) {
+        return optimizeSchedule(fixedSchedules, flexibleSchedules, OptimizationBudget.unbounded(),
+            EnumSet.allOf(EnrichmentField.class));
+    }
+    
+    /**
+     * 시간 예산 안에서 찾은 최선의 계획 반환
+     * 예산을 다 쓰면 그때까지 배치한 일정으로 응답하고 converged=false 로 표시한다.
+     * pushImprovements 이면 수렴하지 못한 경우 예산 없이 백그라운드에서 다시 최적화해,
+     * 더 나은 계획을 응답의 improvementTopic 으로 전송한다 (클라이언트는 응답을 받는 즉시 구독).
+     *
+     * @param budgetMillis 최적화에 쓸 수 있는 시간 (null 이면 제한 없음)
+     * @param fields 응답에 채울 부가 정보 (제외한 정보는 외부 호출 자체를 하지 않음)
+     */
+    public OptimizeResponse optimizeSchedule(List<Schedule> fixedSchedules, List<Schedule> flexibleSchedules,
+                                             Long budgetMillis, boolean pushImprovements,
+                                             Set<EnrichmentField> fields) {
+        // 예산 실행이 일정 객체를 수정하므로 백그라운드용 원본을 먼저 복사
+        List<Schedule> fixedCopy = pushImprovements ? copySchedules(fixedSchedules) : null;
+        List<Schedule> flexibleCopy = pushImprovements ? copySchedules(flexibleSchedules) : null;
+        
+        OptimizeResponse response = optimizeSchedule(
+            fixedSchedules, flexibleSchedules, OptimizationBudget.of(budgetMillis), fields);
+        
+        if (pushImprovements && !response.isConverged()) {
+            scheduleBackgroundImprovement(fixedCopy, flexibleCopy, fields, response);
+        }
+        return response;
+    }
+    
+    private OptimizeResponse optimizeSchedule(List<Schedule> fixedSchedules, List<Schedule> flexibleSchedules,
+                                              OptimizationBudget budget, Set<EnrichmentField> fields) {
         try {
             // 디버깅 로그 추가
             log.info("Starting schedule optimization with {} fixed and {} flexible schedules",
@@ -49,34 +154,29 @@ public class ScheduleOptimizationService {
             // 최적화 실패한 일정 목록
             List<Schedule> failedSchedules = new ArrayList<>();
             
+            // 요청 단위 장소 후보 풀 (인접 슬롯 · 같은 카테고리 유연 일정 간 검색 결과 공유)
+            SlotCandidatePool candidatePool = new SlotCandidatePool(
+                apiIntegrationService::searchNearbyPlaces, SLOT_SEARCH_RADIUS, slotClusterMeters);
+            
             // 4. 각 유연한 일정에 대해 최적 시간 및 장소 찾기
-            for (Schedule flexible : sortedFlexibleSchedules) {
-                // 4.1 장소 검색 및 최적 시간 찾기
-                PlaceTimeResult result = findOptimalPlaceAndTime(flexible, workingSchedules);
-                
-                if (result != null) {
-                    // 4.2 유연한 일정 업데이트 (상세 정보 포함)
-                    updateScheduleDetails(
-                        flexible,
-                        result.getPlace(),
-                        result.getStartTime(),
-                        result.getEndTime()
-                    );
-                    
-                    // 4.3 최적화된 일정에 추가 (중요: 여기서 시간순 정렬이 적용되어야 함)
-                    // 수정된 부분: 단순 추가가 아닌 시간 기반 삽입
-                    insertScheduleInOrder(workingSchedules, flexible);
-                    
-                    log.info("Successfully optimized flexible schedule: {} as {}", 
-                        flexible.getName(), result.getPlace().getName());
-                } else {
-                    log.warn("Failed to optimize flexible schedule: {}", flexible.getName());
-                    failedSchedules.add(flexible);
-                }
-            }
+            boolean budgetExhausted = placeFlexibleSchedules(
+                sortedFlexibleSchedules, workingSchedules, candidatePool, budget, failedSchedules);
+            
+            log.info("Candidate pool: {} searches over {} clusters for {} slot lookups",
+                candidatePool.getSearchCount(), candidatePool.getClusterCount(), candidatePool.getLookupCount());
+            
+            // 5. 방문 순서 개선 및 최적화 결과 생성
+            OptimizeResponse response = finishOptimization(
+                workingSchedules, budget, budgetExhausted, fields, Collections.emptyMap());
+            response.getMetrics().setPlaceSearches(candidatePool.getSearchCount());
+            response.getMetrics().setReplannedSchedules(sortedFlexibleSchedules.size());
             
-            // 5. 최적화 결과 생성
-            OptimizeResponse response = createOptimizeResponse(workingSchedules);
+            // 재최적화를 위해 상태 보관 (savePlan 이 응답과 분리된 사본으로 저장)
+            OptimizationPlan plan = new OptimizationPlan(UUID.randomUUID().toString(), candidatePool);
+            plan.setFields(fields);
+            plan.setFixedSchedules(new ArrayList<>(fixedSchedules));
+            plan.setFlexibleSchedules(new ArrayList<>(flexibleSchedules));
+            savePlan(plan, response);
             
             // 6. 최적화 결과 로그 기록
             if (!failedSchedules.isEmpty()) {
@@ -103,12 +203,363 @@ public class ScheduleOptimizationService {
     
 
     
+    /**
+     * 직전 계획에서 바뀐 부분만 다시 최적화
+     * 변경(이동·추가·삭제)된 고정 일정의 이전/새 시간에 닿는 시간 창(고정 일정 사이 구간)의 유연 일정과
+     * 새로 추가된 유연 일정, 직전에 배치하지 못한 유연 일정만 다시 배치한다.
+     * 나머지 배치, 장소 후보 풀(이미 검색한 군집은 재검색 없음), 일정 분석 정보는 그대로 재사용한다.
+     *
+     * @param updatedFixedSchedules 시간/위치가 바뀌었거나 새로 추가된 고정 일정 (id 로 기존 일정과 대응)
+     * @param addedFlexibleSchedules 새로 추가된 유연 일정
+     * @param removedScheduleIds 삭제할 고정/유연 일정 id
+     */
+    public OptimizeResponse reoptimizeSchedule(String planId,
+                                               List<Schedule> updatedFixedSchedules,
+                                               List<Schedule> addedFlexibleSchedules,
+                                               List<String> removedScheduleIds,
+                                               Long budgetMillis,
+                                               Set<EnrichmentField> fields) {
+        OptimizationPlan plan = planStore.get(planId).orElseThrow(() -> new PlanNotFoundException(planId));
+        OptimizationBudget budget = OptimizationBudget.of(budgetMillis);
+        
+        // 같은 계획에 대한 재최적화는 한 번에 하나씩 (후보 풀은 동기화하지 않음)
+        synchronized (plan) {
+            try {
+                return reoptimize(plan, updatedFixedSchedules, addedFlexibleSchedules,
+                    new HashSet<>(removedScheduleIds), budget, fields);
+            } catch (IllegalArgumentException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("Error during schedule re-optimization of plan {}", planId, e);
+                throw new RuntimeException("Schedule re-optimization failed: " + e.getMessage(), e);
+            }
+        }
+    }
+    
+    private OptimizeResponse reoptimize(OptimizationPlan plan,
+                                        List<Schedule> updatedFixedSchedules,
+                                        List<Schedule> addedFlexibleSchedules,
+                                        Set<String> removedIds,
+                                        OptimizationBudget budget,
+                                        Set<EnrichmentField> fields) {
+        // 저장된 계획은 이 요청이 실패해도 그대로 남도록 사본으로 작업 (목록 간 같은 일정은 같은 사본)
+        Map<Schedule, Schedule> planCopies = new IdentityHashMap<>();
+        List<Schedule> oldFixed = copySchedules(plan.getFixedSchedules(), planCopies);
+        List<Schedule> previousSolution = copySchedules(plan.getSolution(), planCopies);
+        List<Schedule> previousFlexible = copySchedules(plan.getFlexibleSchedules(), planCopies);
+        
+        // 1. 고정 일정 변경 적용 (변경 전/후 일정을 모두 영향 구간으로 기록)
+        Map<String, Schedule> updatesById = new LinkedHashMap<>();
+        for (Schedule update : updatedFixedSchedules) {
+            updatesById.put(update.getId(), update);
+        }
+        List<Schedule> changed = new ArrayList<>();
+        List<Schedule> newFixed = new ArrayList<>();
+        for (Schedule fixed : oldFixed) {
+            Schedule update = updatesById.remove(fixed.getId());
+            if (removedIds.contains(fixed.getId())) {
+                changed.add(fixed);
+            } else if (update != null) {
+                changed.add(fixed);
+                changed.add(update);
+                newFixed.add(update);
+            } else {
+                newFixed.add(fixed);
+            }
+        }
+        // 기존에 없던 id 는 새 고정 일정
+        changed.addAll(updatesById.values());
+        newFixed.addAll(updatesById.values());
+        
+        if (newFixed.isEmpty()) {
+            throw new IllegalArgumentException("At least one fixed schedule is required");
+        }
+        newFixed.sort(Comparator.comparing(Schedule::getStartTime));
+        
+        // 2. 직전 해의 유연 일정을 영향받는 시간 창 안/밖으로 분리
+        List<Schedule> workingSchedules = new ArrayList<>(newFixed);
+        List<Schedule> toPlace = new ArrayList<>();
+        Set<Schedule> previouslyPlaced = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Schedule schedule : previousSolution) {
+            if (!schedule.isFlexible() || removedIds.contains(schedule.getId())) {
+                continue;
+            }
+            previouslyPlaced.add(schedule);
+            if (isWindowAffected(schedule, oldFixed, changed)) {
+                toPlace.add(schedule);
+            } else {
+                workingSchedules.add(schedule);
+            }
+        }
+        workingSchedules.sort(Comparator.comparing(Schedule::getStartTime));
+        
+        // 직전에 배치하지 못한 일정은 변경으로 빈 시간이 생겼을 수 있으므로 다시 시도
+        List<Schedule> flexibleSchedules = new ArrayList<>();
+        for (Schedule flexible : previousFlexible) {
+            if (removedIds.contains(flexible.getId())) {
+                continue;
+            }
+            flexibleSchedules.add(flexible);
+            if (!previouslyPlaced.contains(flexible)) {
+                toPlace.add(flexible);
+            }
+        }
+        flexibleSchedules.addAll(addedFlexibleSchedules);
+        toPlace.addAll(addedFlexibleSchedules);
+        toPlace.sort(Comparator.comparing(Schedule::getPriority));
+        
+        log.info("Re-optimizing plan {}: {} changed fixed schedules, {} of {} flexible schedules to re-place",
+            plan.getPlanId(), changed.size(), toPlace.size(), flexibleSchedules.size());
+        
+        // 3. 영향받는 일정만 다시 배치 (후보 풀 재사용)
+        SlotCandidatePool candidatePool = plan.getCandidatePool();
+        int searchesBefore = candidatePool.getSearchCount();
+        List<Schedule> failedSchedules = new ArrayList<>();
+        boolean budgetExhausted = placeFlexibleSchedules(
+            toPlace, workingSchedules, candidatePool, budget, failedSchedules);
+        
+        // 4. 방문 순서 개선 및 결과 생성 (바뀌지 않은 일정의 분석 정보는 같은 정보를 담고 있으면 재사용)
+        Map<String, OptimizeResponse.ScheduleAnalysis> reusable = plan.getFields().containsAll(fields)
+            ? plan.getAnalyses() : Collections.emptyMap();
+        OptimizeResponse response = finishOptimization(
+            workingSchedules, budget, budgetExhausted, fields, reusable);
+        response.getMetrics().setPlaceSearches(candidatePool.getSearchCount() - searchesBefore);
+        response.getMetrics().setReplannedSchedules(toPlace.size());
+        
+        log.info("Re-optimized plan {} with {} new place searches ({} failed)",
+            plan.getPlanId(), response.getMetrics().getPlaceSearches(), failedSchedules.size());
+        
+        plan.setFields(fields);
+        plan.setFixedSchedules(newFixed);
+        plan.setFlexibleSchedules(flexibleSchedules);
+        savePlan(plan, response);
+        return response;
+    }
+    
+    /**
+     * 유연 일정이 있던 시간 창(직전 고정 일정 배치 기준 앞뒤 고정 일정 사이)이 변경에 닿는지
+     * 창의 경계인 고정 일정이 바뀌었거나, 변경 후 고정 일정이 창 안으로 들어오면 영향을 받는다.
+     */
+    private boolean isWindowAffected(Schedule flexible, List<Schedule> oldFixed, List<Schedule> changed) {
+        Schedule prev = null;
+        Schedule next = null;
+        for (Schedule fixed : oldFixed) {
+            if (!fixed.getEndTime().isAfter(flexible.getStartTime())) {
+                prev = fixed;
+            } else if (next == null && !fixed.getStartTime().isBefore(flexible.getEndTime())) {
+                next = fixed;
+            }
+        }
+        LocalDateTime windowStart = prev != null ? prev.getEndTime() : LocalDateTime.MIN;
+        LocalDateTime windowEnd = next != null ? next.getStartTime() : LocalDateTime.MAX;
+        
+        for (Schedule schedule : changed) {
+            if (schedule == prev || schedule == next) {
+                return true;
+            }
+            if (schedule.getStartTime().isBefore(windowEnd) && schedule.getEndTime().isAfter(windowStart)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 우선순위 순으로 유연 일정을 하나씩 최적 장소/시간에 배치
+     *
+     * @return 예산 소진으로 배치를 시도하지 못한 일정이 있으면 true
+     */
+    private boolean placeFlexibleSchedules(List<Schedule> sortedFlexibleSchedules, List<Schedule> workingSchedules,
+                                           SlotCandidatePool candidatePool, OptimizationBudget budget,
+                                           List<Schedule> failedSchedules) {
+        boolean budgetExhausted = false;
+        
+        // 배치할 때마다 다시 정렬·순회하지 않도록 점유 달력을 한 번 만들고 배치된 일정만 추가
+        DayCalendar<Schedule> calendar = buildCalendar(workingSchedules);
+        
+        for (Schedule flexible : sortedFlexibleSchedules) {
+            if (budget.isExpired()) {
+                log.info("Optimization budget exhausted, skipping flexible schedule: {}", flexible.getName());
+                budgetExhausted = true;
+                failedSchedules.add(flexible);
+                continue;
+            }
+            
+            // 장소 검색 및 최적 시간 찾기
+            PlaceTimeResult result = findOptimalPlaceAndTime(flexible, workingSchedules, calendar, candidatePool);
+            
+            if (result != null) {
+                // 유연한 일정 업데이트 (상세 정보 포함)
+                updateScheduleDetails(
+                    flexible,
+                    result.getPlace(),
+                    result.getStartTime(),
+                    result.getEndTime()
+                );
+                
+                // 최적화된 일정에 시간 기반 삽입
+                insertScheduleInOrder(workingSchedules, flexible);
+                calendar.add(flexible.getStartTime(), flexible.getEndTime(), flexible);
+                
+                log.info("Successfully optimized flexible schedule: {} as {}", 
+                    flexible.getName(), result.getPlace().getName());
+            } else {
+                log.warn("Failed to optimize flexible schedule: {}", flexible.getName());
+                failedSchedules.add(flexible);
+            }
+        }
+        return budgetExhausted;
+    }
+    
+    /**
+     * 그리디 결과를 출발점으로 방문 순서/시간 개선 (고정 일정 시각은 유지) 후 응답 생성
+     */
+    private OptimizeResponse finishOptimization(List<Schedule> workingSchedules, OptimizationBudget budget,
+                                                boolean budgetExhausted, Set<EnrichmentField> fields,
+                                                Map<String, OptimizeResponse.ScheduleAnalysis> previousAnalyses) {
+        TravelTimeMatrix routeTimes = travelTimeMatrixService.build(
+            workingSchedules.stream().map(Schedule::getLocation).collect(Collectors.toList()),
+            scoringStrategy
+        );
+        long solverBudget = budget.isBounded()
+            ? Math.max(0, budget.remainingMillis() - responseReserveMs)
+            : Long.MAX_VALUE;
+        SolverResult solved = selectSolver().solve(workingSchedules, routeTimes, solverBudget);
+        
+        OptimizeResponse response = createOptimizeResponse(solved.getSchedules(), budget, fields, previousAnalyses);
+        response.getMetrics().setSolver(solved.getSolver());
+        response.getMetrics().setTravelTimeSaved(solved.getTravelTimeSaved());
+        response.setConverged(!budgetExhausted && solved.isConverged());
+        return response;
+    }
+    
+    /**
+     * 계획 저장: 응답으로 나가는 일정 객체는 호출자(직렬화, 백그라운드 개선 비교 등)가 계속 쓰므로
+     * 해와 입력 일정을 사본으로 저장한다. 목록 간 같은 객체는 같은 사본이 되어 재최적화의 동일성 비교가 유지된다.
+     */
+    private void savePlan(OptimizationPlan plan, OptimizeResponse response) {
+        Map<String, OptimizeResponse.ScheduleAnalysis> analyses = new HashMap<>();
+        for (Schedule schedule : response.getOptimizedSchedules()) {
+            OptimizeResponse.ScheduleAnalysis analysis = response.getScheduleAnalyses().get(schedule.getName());
+            // 기한 내 조회하지 못한 분석은 다음 재최적화에서 다시 조회
+            if (analysis != null && !analysis.isPending()) {
+                analyses.put(analysisKey(schedule), analysis);
+            }
+        }
+        Map<Schedule, Schedule> copies = new IdentityHashMap<>();
+        plan.setSolution(copySchedules(response.getOptimizedSchedules(), copies));
+        plan.setFixedSchedules(copySchedules(plan.getFixedSchedules(), copies));
+        plan.setFlexibleSchedules(copySchedules(plan.getFlexibleSchedules(), copies));
+        plan.setAnalyses(analyses);
+        planStore.put(plan);
+        response.setPlanId(plan.getPlanId());
+    }
+    
+    /**
+     * 분석 정보 재사용 키 (이름, 위치, 시작 시각이 같으면 같은 분석)
+     */
+    private String analysisKey(Schedule schedule) {
+        Location location = schedule.getLocation();
+        return schedule.getName() + "|"
+            + (location != null ? location.getLatitude() + "," + location.getLongitude() : "") + "|"
+            + schedule.getStartTime();
+    }
+    
+    /**
+     * 원본 요청으로 예산 없이 다시 최적화하고, 처음 응답보다 나으면 STOMP 로 전송
+     */
+    private void scheduleBackgroundImprovement(List<Schedule> fixedSchedules, List<Schedule> flexibleSchedules,
+                                               Set<EnrichmentField> fields, OptimizeResponse initial) {
+        String topic = IMPROVEMENT_TOPIC_PREFIX + UUID.randomUUID();
+        try {
+            optimizationExecutor.execute(() -> {
+                try {
+                    // 외부 호출은 대화형 요청 몫의 토큰을 쓰지 않도록 BACKGROUND 우선순위로 실행
+                    OptimizeResponse improved = RequestPriorityContext.callWith(RequestPriority.BACKGROUND,
+                        () -> optimizeSchedule(fixedSchedules, flexibleSchedules, OptimizationBudget.unbounded(),
+                            fields));
+                    
+                    if (isBetterPlan(improved, initial)) {
+                        messagingTemplate.convertAndSend(topic, improved);
+                        log.info("Pushed improved plan to {}", topic);
+                    } else {
+                        log.info("Background optimization for {} found no better plan", topic);
+                    }
+                } catch (Exception e) {
+                    log.warn("Background optimization for {} failed: {}", topic, e.getMessage());
+                }
+            });
+            initial.setImprovementTopic(topic);
+        } catch (RejectedExecutionException e) {
+            log.warn("Background optimization queue is full, returning budgeted plan only");
+        }
+    }
+    
+    /**
+     * 배치된 유연 일정이 더 많거나, 같으면 총 이동 시간이 더 짧은 계획
+     */
+    private boolean isBetterPlan(OptimizeResponse candidate, OptimizeResponse current) {
+        long candidatePlaced = candidate.getOptimizedSchedules().stream().filter(Schedule::isFlexible).count();
+        long currentPlaced = current.getOptimizedSchedules().stream().filter(Schedule::isFlexible).count();
+        if (candidatePlaced != currentPlaced) {
+            return candidatePlaced > currentPlaced;
+        }
+        return candidate.getMetrics().getTotalTime() < current.getMetrics().getTotalTime();
+    }
+    
+    private List<Schedule> copySchedules(List<Schedule> schedules) {
+        return copySchedules(schedules, new IdentityHashMap<>());
+    }
+    
+    /**
+     * @param copies 원본 → 사본 (이미 복사한 일정은 같은 사본 재사용)
+     */
+    private List<Schedule> copySchedules(List<Schedule> schedules, Map<Schedule, Schedule> copies) {
+        List<Schedule> result = new ArrayList<>(schedules.size());
+        for (Schedule schedule : schedules) {
+            result.add(copies.computeIfAbsent(schedule, this::copySchedule));
+        }
+        return result;
+    }
+    
+    private Schedule copySchedule(Schedule schedule) {
+        Location location = schedule.getLocation();
+        return Schedule.builder()
+            .id(schedule.getId())
+            .name(schedule.getName())
+            .location(location == null ? null
+                : new Location(location.getLatitude(), location.getLongitude(), location.getName()))
+            .startTime(schedule.getStartTime())
+            .endTime(schedule.getEndTime())
+            .type(schedule.getType())
+            .priority(schedule.getPriority())
+            .category(schedule.getCategory())
+            .estimatedDuration(schedule.getEstimatedDuration())
+            .expectedCost(schedule.getExpectedCost())
+            .visitPreference(schedule.getVisitPreference())
+            .locationString(schedule.getLocationString())
+            .constraints(schedule.getConstraints())
+            .build();
+    }
+    
+    private ScheduleSolver selectSolver() {
+        return scheduleSolvers.stream()
+            .filter(solver -> solver.getName().equals(solverName))
+            .findFirst()
+            .orElseGet(() -> {
+                log.warn("Unknown schedule solver '{}', falling back to {}", solverName, GreedySolver.NAME);
+                return new GreedySolver();
+            });
+    }
+    
 // findOptimalPlaceAndTime 메소드 - 고정 일정 사이의 시간 슬롯 우선 고려
 // 수정된 메소드 (전체 코드)
-private PlaceTimeResult findOptimalPlaceAndTime(Schedule flexible, List<Schedule> existingSchedules) {
+private PlaceTimeResult findOptimalPlaceAndTime(Schedule flexible, List<Schedule> existingSchedules,
+                                                DayCalendar<Schedule> calendar,
+                                                SlotCandidatePool candidatePool) {
     try {
         // 1. 가용 시간대 찾기
-        List<TimeSlot> availableSlots = findAvailableTimeSlots(existingSchedules);
+        List<TimeSlot> availableSlots = findAvailableTimeSlots(calendar);
         log.info("Found {} available time slots for {}", availableSlots.size(), flexible.getName());
         
         if (availableSlots.isEmpty()) {
@@ -160,11 +611,11 @@ private PlaceTimeResult findOptimalPlaceAndTime(Schedule flexible, List<Schedule
                 betweenFixedSlots.size(), otherSlots.size());
         
         // 먼저 고정 일정 사이의 슬롯 처리
-        processSlots(betweenFixedSlots, existingSchedules, flexible, allOptions, true);
+        processSlots(betweenFixedSlots, existingSchedules, flexible, allOptions, true, candidatePool);
         
         // 고정 일정 사이에 적절한 옵션이 없는 경우에만 다른 슬롯 처리
         if (allOptions.isEmpty()) {
-            processSlots(otherSlots, existingSchedules, flexible, allOptions, false);
+            processSlots(otherSlots, existingSchedules, flexible, allOptions, false, candidatePool);
         }
         
         if (allOptions.isEmpty()) {
@@ -175,8 +626,15 @@ private PlaceTimeResult findOptimalPlaceAndTime(Schedule flexible, List<Schedule
         // 3. 점수 기준으로 정렬
         allOptions.sort(Comparator.comparing(PlaceTimeOption::getScore).reversed());
         
-        // 최고 점수 옵션 선택
-        PlaceTimeOption bestOption = allOptions.get(0);
+        // 다른 일정과 겹치지 않는 최고 점수 옵션 선택 (짧은 슬롯 중간 배치는 앞뒤 일정으로 넘칠 수 있음)
+        PlaceTimeOption bestOption = allOptions.stream()
+            .filter(option -> calendar.isFree(option.getStartTime(), option.getEndTime()))
+            .findFirst()
+            .orElse(null);
+        if (bestOption == null) {
+            log.warn("Every place option for {} overlaps another schedule", flexible.getName());
+            return null;
+        }
         
         log.info("Selected best option: {} at {} (score: {}, between fixed: {})",
             bestOption.getPlace().getName(),
@@ -204,7 +662,15 @@ private PlaceTimeResult findOptimalPlaceAndTime(Schedule flexible, List<Schedule
  * 고정 일정 사이의 슬롯을 정확히 식별하고 우선 처리
  */
 private void processSlots(List<TimeSlot> slots, List<Schedule> existingSchedules, 
-                        Schedule flexible, List<PlaceTimeOption> allOptions, boolean isBetweenFixed) {
+                        Schedule flexible, List<PlaceTimeOption> allOptions, boolean isBetweenFixed,
+                        SlotCandidatePool candidatePool) {
+    // 1단계: 슬롯별 후보 수집 (이동 시간 행렬을 한 번에 만들도록 점수 계산과 분리)
+    List<TimeSlot> matchedSlots = new ArrayList<>();
+    List<List<Place>> slotCandidates = new ArrayList<>();
+    List<Location> matrixPoints = new ArrayList<>();
+    // 점수 계산이 읽는 칸만 실시간 조회 (이전 일정 -> 후보, 후보 -> 다음 일정)
+    List<int[]> scoredPairs = new ArrayList<>();
+    
     for (TimeSlot slot : slots) {
         Schedule prevSchedule = slot.getPreviousSchedule();
         Schedule nextSchedule = slot.getNextSchedule();
@@ -241,80 +707,117 @@ private void processSlots(List<TimeSlot> slots, List<Schedule> existingSchedules
                 log.info("Using default location for search");
             }
             
-            // 주변 장소 검색
-            List<Place> nearbyPlaces = apiIntegrationService.searchNearbyPlaces(
+            // 주변 장소 후보 (인접 슬롯과 공유하는 풀에서 반경 이내만)
+            List<Place> nearbyPlaces = candidatePool.candidatesNear(
                 flexible.getName(),
                 searchLocation.getLatitude(),
-                searchLocation.getLongitude(),
-                8000
+                searchLocation.getLongitude()
             );
             
             log.info("Found {} places for {} near ({}, {})", 
                     nearbyPlaces.size(), flexible.getName(),
                     searchLocation.getLatitude(), searchLocation.getLongitude());
             
-            // 각 장소에 대한 옵션 생성
+            matchedSlots.add(slot);
+            slotCandidates.add(nearbyPlaces);
+            int prevPoint = -1;
+            if (prevSchedule != null && prevSchedule.getLocation() != null) {
+                prevPoint = matrixPoints.size();
+                matrixPoints.add(prevSchedule.getLocation());
+            }
+            // 후보 풀이 좌표 없는 장소를 걸러 주므로 모든 후보가 행렬 지점을 가짐
+            int firstCandidate = matrixPoints.size();
             for (Place place : nearbyPlaces) {
-                // 유연 일정의 시작/종료 시간 결정
-                LocalDateTime startTime;
-                LocalDateTime endTime;
+                matrixPoints.add(new Location(
+                    place.getGeometry().getLocation().getLat(),
+                    place.getGeometry().getLocation().getLng()));
+            }
+            int nextPoint = -1;
+            if (nextSchedule != null && nextSchedule.getLocation() != null) {
+                nextPoint = matrixPoints.size();
+                matrixPoints.add(nextSchedule.getLocation());
+            }
+            for (int c = firstCandidate; c < firstCandidate + nearbyPlaces.size(); c++) {
+                if (prevPoint >= 0) {
+                    scoredPairs.add(new int[]{prevPoint, c});
+                }
+                if (nextPoint >= 0) {
+                    scoredPairs.add(new int[]{c, nextPoint});
+                }
+            }
+        }
+    }
+    
+    // 2단계: 슬롯 앞뒤 일정과 후보 장소 전체의 이동 시간 행렬 (점수 계산은 행렬 조회만 사용)
+    TravelTimeMatrix travelTimes = travelTimeMatrixService.build(matrixPoints, scoringStrategy, scoredPairs);
+    
+    for (int s = 0; s < matchedSlots.size(); s++) {
+        TimeSlot slot = matchedSlots.get(s);
+        Schedule prevSchedule = slot.getPreviousSchedule();
+        Schedule nextSchedule = slot.getNextSchedule();
+        boolean slotIsBetweenFixed = isBetweenFixed;
+        
+        // 각 장소에 대한 옵션 생성
+        for (Place place : slotCandidates.get(s)) {
+            // 유연 일정의 시작/종료 시간 결정
+            LocalDateTime startTime;
+            LocalDateTime endTime;
+            
+            if (isBetweenFixed) {
+                // 고정 일정 사이일 경우 균등 배분 (이전 일정 종료 후 이동 시간 고려)
+                long availableMinutes = Duration.between(slot.getStartTime(), slot.getEndTime()).toMinutes();
+                long requiredMinutes = flexible.getEstimatedDuration() + 30; // 일정 시간 + 이동 시간
                 
-                if (isBetweenFixed) {
-                    // 고정 일정 사이일 경우 균등 배분 (이전 일정 종료 후 이동 시간 고려)
-                    long availableMinutes = Duration.between(slot.getStartTime(), slot.getEndTime()).toMinutes();
-                    long requiredMinutes = flexible.getEstimatedDuration() + 30; // 일정 시간 + 이동 시간
+                if (availableMinutes >= requiredMinutes) {
+                    // 이전 일정 후 이동 시간 확보
+                    startTime = slot.getStartTime().plusMinutes(15);
+                    endTime = startTime.plusMinutes(flexible.getEstimatedDuration());
                     
-                    if (availableMinutes >= requiredMinutes) {
-                        // 이전 일정 후 이동 시간 확보
-                        startTime = slot.getStartTime().plusMinutes(15);
-                        endTime = startTime.plusMinutes(flexible.getEstimatedDuration());
-                        
-                        // 다음 일정 전 이동 시간 확보를 위해 필요시 조정
-                        if (endTime.plusMinutes(15).isAfter(slot.getEndTime())) {
-                            endTime = slot.getEndTime().minusMinutes(15);
-                            startTime = endTime.minusMinutes(flexible.getEstimatedDuration());
-                        }
-                    } else {
-                        // 시간이 부족하면 중간에 배치
-                        startTime = slot.getStartTime().plus(
-                                Duration.between(slot.getStartTime(), slot.getEndTime()).dividedBy(2)
-                                .minus(Duration.ofMinutes(flexible.getEstimatedDuration() / 2))
-                        );
-                        endTime = startTime.plusMinutes(flexible.getEstimatedDuration());
+                    // 다음 일정 전 이동 시간 확보를 위해 필요시 조정
+                    if (endTime.plusMinutes(15).isAfter(slot.getEndTime())) {
+                        endTime = slot.getEndTime().minusMinutes(15);
+                        startTime = endTime.minusMinutes(flexible.getEstimatedDuration());
                     }
                 } else {
-                    // 고정 일정 사이가 아닌 경우 슬롯 시작 시간 사용
-                    startTime = slot.getStartTime();
+                    // 시간이 부족하면 중간에 배치
+                    startTime = slot.getStartTime().plus(
+                            Duration.between(slot.getStartTime(), slot.getEndTime()).dividedBy(2)
+                            .minus(Duration.ofMinutes(flexible.getEstimatedDuration() / 2))
+                    );
                     endTime = startTime.plusMinutes(flexible.getEstimatedDuration());
                 }
-                
-                // 최적 시작 시간 설정
-                place.setOptimalStartTime(startTime);
-                
-                // 옵션 생성
-                PlaceTimeOption option = new PlaceTimeOption(
-                    place,
-                    startTime,
-                    endTime,
-                    prevSchedule,
-                    nextSchedule,
-                    slotIsBetweenFixed
-                );
-                
-                // 점수 계산
-                double baseScore = calculatePlaceScore(place, prevSchedule, nextSchedule);
-                
-                // 고정 일정 사이 가중치 적용 (5배 가중치)
-                if (slotIsBetweenFixed) {
-                    option.setScore(baseScore * 5.0);
-                    log.info("Place '{}' between fixed schedules - score: {}", 
-                            place.getName(), option.getScore());
-                } else {
-                    option.setScore(baseScore);
-                }
-                
-                allOptions.add(option);
+            } else {
+                // 고정 일정 사이가 아닌 경우 슬롯 시작 시간 사용
+                startTime = slot.getStartTime();
+                endTime = startTime.plusMinutes(flexible.getEstimatedDuration());
+            }
+            
+            // 최적 시작 시간 설정
+            place.setOptimalStartTime(startTime);
+            
+            // 옵션 생성
+            PlaceTimeOption option = new PlaceTimeOption(
+                place,
+                startTime,
+                endTime,
+                prevSchedule,
+                nextSchedule,
+                slotIsBetweenFixed
+            );
+            
+            // 점수 계산
+            double baseScore = calculatePlaceScore(place, prevSchedule, nextSchedule, travelTimes);
+            
+            // 고정 일정 사이 가중치 적용 (5배 가중치)
+            if (slotIsBetweenFixed) {
+                option.setScore(baseScore * 5.0);
+                log.info("Place '{}' between fixed schedules - score: {}", 
+                        place.getName(), option.getScore());
+            } else {
+                option.setScore(baseScore);
             }
+            
+            allOptions.add(option);
         }
     }
 }
@@ -349,7 +852,11 @@ private static class PlaceTimeOption {
 
 // 장소 점수 계산 헬퍼 메소드
 // 장소 점수 계산 헬퍼 메소드 개선
-private double calculatePlaceScore(Place place, Schedule prevSchedule, Schedule nextSchedule) {
+private double calculatePlaceScore(Place place, Schedule prevSchedule, Schedule nextSchedule,
+                                   TravelTimeMatrix travelTimes) {
+    double placeLat = place.getGeometry().getLocation().getLat();
+    double placeLng = place.getGeometry().getLocation().getLng();
+    
     double score = 0.0;
     
     // 장소 평점 반영
@@ -359,12 +866,9 @@ private double calculatePlaceScore(Place place, Schedule prevSchedule, Schedule
     
     // 이전 일정과의 거리 계산
     if (prevSchedule != null && prevSchedule.getLocation() != null) {
-        double distFromPrev = calculateDistance(
-            prevSchedule.getLocation().getLatitude(),
-            prevSchedule.getLocation().getLongitude(),
-            place.getGeometry().getLocation().getLat(),
-            place.getGeometry().getLocation().getLng()
-        );
+        double prevLat = prevSchedule.getLocation().getLatitude();
+        double prevLng = prevSchedule.getLocation().getLongitude();
+        double distFromPrev = travelTimes.kilometersBetween(prevLat, prevLng, placeLat, placeLng);
         
         // 거리 역수로 점수 반영 (가까울수록 높은 점수)
         score += Math.min(5000.0 / (distFromPrev + 500.0), 2.0); // 최대 2점
@@ -376,8 +880,8 @@ private double calculatePlaceScore(Place place, Schedule prevSchedule, Schedule
                 place.getOptimalStartTime()
             ).toMinutes();
             
-            // 이동 시간 예상
-            double travelTimeMinutes = distFromPrev / 30.0 * 60; // 평균 시속 30km 가정
+            // 이동 시간 (행렬 조회)
+            double travelTimeMinutes = travelTimes.minutesBetween(prevLat, prevLng, placeLat, placeLng);
             
             // 시간 효율성 점수 (이동 시간 대비 대기 시간)
             double timeEfficiency = 1.0 - Math.min(Math.max(
@@ -389,12 +893,9 @@ private double calculatePlaceScore(Place place, Schedule prevSchedule, Schedule
     
     // 다음 일정과의 거리 계산
     if (nextSchedule != null && nextSchedule.getLocation() != null) {
-        double distToNext = calculateDistance(
-            place.getGeometry().getLocation().getLat(),
-            place.getGeometry().getLocation().getLng(),
-            nextSchedule.getLocation().getLatitude(),
-            nextSchedule.getLocation().getLongitude()
-        );
+        double nextLat = nextSchedule.getLocation().getLatitude();
+        double nextLng = nextSchedule.getLocation().getLongitude();
+        double distToNext = travelTimes.kilometersBetween(placeLat, placeLng, nextLat, nextLng);
         
         // 거리 역수로 점수 반영 (가까울수록 높은 점수)
         score += Math.min(5000.0 / (distToNext + 500.0), 2.0); // 최대 2점
@@ -412,8 +913,8 @@ private double calculatePlaceScore(Place place, Schedule prevSchedule, Schedule
                 nextSchedule.getStartTime()
             ).toMinutes();
             
-            // 이동 시간 예상
-            double travelTimeMinutes = distToNext / 30.0 * 60; // 평균 시속 30km 가정
+            // 이동 시간 (행렬 조회)
+            double travelTimeMinutes = travelTimes.minutesBetween(placeLat, placeLng, nextLat, nextLng);
             
             // 시간 효율성 점수 (이동 시간 대비 대기 시간)
             double timeEfficiency = 1.0 - Math.min(Math.max(
@@ -431,21 +932,6 @@ private double calculatePlaceScore(Place place, Schedule prevSchedule, Schedule
     return score;
 }
 
-// 거리 계산 유틸리티 (하버사인 공식)
-private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-    double earthRadius = 6371; // 지구 반경(km)
-    double dLat = Math.toRadians(lat2 - lat1);
-    double dLon = Math.toRadians(lon2 - lon1);
-    
-    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-               Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-               Math.sin(dLon / 2) * Math.sin(dLon / 2);
-    
-    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-    
-    return earthRadius * c; // 킬로미터 단위 거리
-}
-
 // 결과 반환 클래스
 @lombok.Value
 private static class PlaceTimeResult {
@@ -458,16 +944,16 @@ private static class PlaceTimeResult {
 
 
     
- /**
+/**
  * 사용 가능한 시간 슬롯을 찾는 메소드
- * 고정 일정 사이의 슬롯을 정확히 식별하도록 개선
+ * 점유 달력의 빈 구간(최소 MIN_SLOT_DURATION 분)을 앞뒤 일정과 함께 슬롯으로 변환
  */
-private List<TimeSlot> findAvailableTimeSlots(List<Schedule> schedules) {
+private List<TimeSlot> findAvailableTimeSlots(DayCalendar<Schedule> calendar) {
     List<TimeSlot> slots = new ArrayList<>();
-    LocalDateTime currentTime = LocalDateTime.now().withMinute(0).withSecond(0);
     
-    if (schedules.isEmpty()) {
+    if (calendar.size() == 0) {
         // 일정이 없는 경우 오늘 업무 시간 전체를 하나의 슬롯으로
+        LocalDateTime currentTime = LocalDateTime.now().withMinute(0).withSecond(0);
         slots.add(new TimeSlot(
             currentTime.withHour(9),
             currentTime.withHour(18)
@@ -475,67 +961,11 @@ private List<TimeSlot> findAvailableTimeSlots(List<Schedule> schedules) {
         return slots;
     }
     
-    // 시간순 정렬
-    schedules.sort(Comparator.comparing(Schedule::getStartTime));
-    
-    // 첫 일정 이전 시간대 확인
-    Schedule firstSchedule = schedules.get(0);
-    if (firstSchedule.getStartTime().isAfter(currentTime.plusMinutes(MIN_SLOT_DURATION))) {
-        TimeSlot beforeFirst = new TimeSlot(
-            currentTime, 
-            firstSchedule.getStartTime(),
-            null,
-            firstSchedule
-        );
-        slots.add(beforeFirst);
-        log.info("Found time slot before first schedule: {} to {}", 
-                currentTime, firstSchedule.getStartTime());
-    }
-    
-    // 일정들 사이의 시간대 확인
-    for (int i = 0; i < schedules.size() - 1; i++) {
-        Schedule current = schedules.get(i);
-        Schedule next = schedules.get(i + 1);
-        
-        LocalDateTime slotStart = current.getEndTime();
-        LocalDateTime slotEnd = next.getStartTime();
-        
-        // 최소 필요 시간 이상의 간격이 있는 경우에만 슬롯 추가
-        if (Duration.between(slotStart, slotEnd).toMinutes() >= MIN_SLOT_DURATION) {
-            TimeSlot betweenSlot = new TimeSlot(
-                slotStart,
-                slotEnd,
-                current,
-                next
-            );
-            slots.add(betweenSlot);
-            
-            // 고정 일정 사이 여부 로깅
-            boolean isBetweenFixed = "FIXED".equals(current.getType()) && "FIXED".equals(next.getType());
-            if (isBetweenFixed) {
-                log.info("Found time slot between fixed schedules {} and {}: {} to {}", 
-                        current.getName(), next.getName(), slotStart, slotEnd);
-            } else {
-                log.info("Found time slot between schedules (not both fixed): {} to {}", 
-                        slotStart, slotEnd);
-            }
-        }
-    }
-    
-    // 마지막 일정 이후 시간대 확인
-    Schedule lastSchedule = schedules.get(schedules.size() - 1);
-    LocalDateTime endOfDay = currentTime.withHour(22).withMinute(0);
-    
-    if (lastSchedule.getEndTime().plusMinutes(MIN_SLOT_DURATION).isBefore(endOfDay)) {
-        TimeSlot afterLast = new TimeSlot(
-            lastSchedule.getEndTime(),
-            endOfDay,
-            lastSchedule,
-            null
-        );
-        slots.add(afterLast);
-        log.info("Found time slot after last schedule: {} to {}", 
-                lastSchedule.getEndTime(), endOfDay);
+    for (DayCalendar.Gap<Schedule> gap : calendar.gaps(MIN_SLOT_DURATION)) {
+        slots.add(new TimeSlot(gap.getStart(), gap.getEnd(), gap.getPrevious(), gap.getNext()));
+        log.debug("Found time slot {} to {} (after {}, before {})", gap.getStart(), gap.getEnd(),
+            gap.getPrevious() != null ? gap.getPrevious().getName() : "-",
+            gap.getNext() != null ? gap.getNext().getName() : "-");
     }
     
     // 슬롯 크기 기준으로 정렬 (큰 슬롯 우선)
@@ -547,6 +977,31 @@ private List<TimeSlot> findAvailableTimeSlots(List<Schedule> schedules) {
     
     return slots;
 }
+
+/**
+ * 일정 점유 달력 생성
+ * 범위: 현재 시각(정시)과 첫 일정 시작 중 이른 쪽 ~ 마지막 일정 날짜의 22시 (마지막 일정이 더 늦으면 그 종료)
+ */
+private DayCalendar<Schedule> buildCalendar(List<Schedule> schedules) {
+    LocalDateTime now = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
+    if (schedules.isEmpty()) {
+        return new DayCalendar<>(now, now);
+    }
+    
+    LocalDateTime first = schedules.stream().map(Schedule::getStartTime)
+        .min(LocalDateTime::compareTo).orElseThrow();
+    LocalDateTime last = schedules.stream().map(Schedule::getEndTime)
+        .max(LocalDateTime::compareTo).orElseThrow();
+    LocalDateTime endOfDay = last.withHour(22).withMinute(0).withSecond(0).withNano(0);
+    
+    DayCalendar<Schedule> calendar = new DayCalendar<>(
+        first.isBefore(now) ? first : now,
+        last.isAfter(endOfDay) ? last : endOfDay);
+    for (Schedule schedule : schedules) {
+        calendar.add(schedule.getStartTime(), schedule.getEndTime(), schedule);
+    }
+    return calendar;
+}
     
  
  
@@ -681,20 +1136,20 @@ private double calculateDistanceScore(Schedule prev, Schedule next, Schedule new
 
     
     // 직선 거리가 아닌 경로 상의 위치를 고려하기 위해 두 고정 일정으로부터의 거리 합 계산
-    double distFromPrev = calculateDistance(
+    double distFromPrev = GeoMath.haversineKm(
             prev.getLocation().getLatitude(), 
             prev.getLocation().getLongitude(),
             newSchedule.getLocation().getLatitude(),
             newSchedule.getLocation().getLongitude());
     
-    double distToNext = calculateDistance(
+    double distToNext = GeoMath.haversineKm(
             newSchedule.getLocation().getLatitude(),
             newSchedule.getLocation().getLongitude(),
             next.getLocation().getLatitude(),
             next.getLocation().getLongitude());
     
     // 두 고정 일정 간 직접 거리
-    double directDist = calculateDistance(
+    double directDist = GeoMath.haversineKm(
             prev.getLocation().getLatitude(),
             prev.getLocation().getLongitude(),
             next.getLocation().getLatitude(),
@@ -788,63 +1243,147 @@ private static class BetweenSlotsInfo {
 
 
     
-    private OptimizeResponse createOptimizeResponse(List<Schedule> optimizedSchedules) {
+    /**
+     * 최적화 결과에 경로/장소/혼잡도 정보를 채워 응답 생성
+     * 장소 정보 조회는 일정별로 enrichmentExecutor 에서 병렬 실행하고, 그동안 요청 스레드는 이동 시간 행렬을 만든다.
+     * 기한(남은 예산과 enrichment 타임아웃 중 짧은 쪽)까지 끝나지 않은 조회는 기다리지 않고 pending 으로 표시한다.
+     */
+    private OptimizeResponse createOptimizeResponse(List<Schedule> optimizedSchedules, OptimizationBudget budget,
+                                                    Set<EnrichmentField> fields,
+                                                    Map<String, OptimizeResponse.ScheduleAnalysis> previousAnalyses) {
         OptimizeResponse response = new OptimizeResponse();
         
         // 1. 최적화된 일정 설정
         response.setOptimizedSchedules(optimizedSchedules);
         
-        // 2. 경로 세그먼트 생성
+        // 2. 장소 정보 조회 시작 (재사용할 분석이 있는 일정은 제외)
+        long enrichmentDeadline = System.nanoTime()
+            + TimeUnit.MILLISECONDS.toNanos(Math.min(budget.remainingMillis(), enrichmentTimeoutMs));
+        Map<Schedule, CompletableFuture<Map<String, Object>>> lookups = new IdentityHashMap<>();
+        if (fields.contains(EnrichmentField.LOCATION)) {
+            RequestPriority priority = RequestPriorityContext.current();
+            for (Schedule schedule : optimizedSchedules) {
+                if (previousAnalyses.containsKey(analysisKey(schedule))) {
+                    continue;
+                }
+                try {
+                    lookups.put(schedule, CompletableFuture.supplyAsync(
+                        () -> RequestPriorityContext.callWith(priority,
+                            () -> apiIntegrationService.getIntegratedLocationInfo(
+                                schedule.getName(), schedule.getLocation(), schedule.getStartTime())),
+                        enrichmentExecutor));
+                } catch (RejectedExecutionException e) {
+                    log.debug("Location enrichment rejected for {}, marking pending", schedule.getName());
+                    lookups.put(schedule, new CompletableFuture<>());
+                }
+            }
+        }
+        
+        // 3. 경로 세그먼트 생성 (세그먼트가 읽는 연속 구간 i -> i + 1 만 실시간 조회)
+        // 경로 정보를 요청하지 않았거나 예산을 이미 다 썼으면 실시간 조회 없이 추정값만 사용
+        long remaining = budget.remainingMillis();
+        boolean liveRoutes = fields.contains(EnrichmentField.ROUTE) && remaining > 0;
+        TravelTimeMatrix travelTimes = travelTimeMatrixService.build(
+            optimizedSchedules.stream().map(Schedule::getLocation).collect(Collectors.toList()),
+            liveRoutes ? TravelTimeFillStrategy.TMAP : TravelTimeFillStrategy.ESTIMATE,
+            remaining,
+            TravelTimeMatrixService.consecutivePairs(optimizedSchedules.size())
+        );
+        
         List<OptimizeResponse.RouteSegment> segments = new ArrayList<>();
         for (int i = 0; i < optimizedSchedules.size() - 1; i++) {
             Schedule current = optimizedSchedules.get(i);
             Schedule next = optimizedSchedules.get(i + 1);
             
-            TrafficInfo trafficInfo = apiIntegrationService.getIntegratedTrafficInfo(
-                current.getLocation(),
-                next.getLocation(),
-                current.getEndTime()
-            );
+            double fromLat = current.getLocation().getLatitude();
+            double fromLng = current.getLocation().getLongitude();
+            double toLat = next.getLocation().getLatitude();
+            double toLng = next.getLocation().getLongitude();
+            
+            // 시간대별 혼잡 가중치 적용
+            // 구간 교통 지수는 시간대 가중치 그대로 (이전 getIntegratedTrafficInfo 도 TMap 응답의 지수가 항상 1.0 이라
+            // 1.0 × 시간대 가중치였음). 실시간 혼잡은 TMap 소요 시간에 이미 들어 있어 행렬 칸 값으로 반영된다.
+            double timeBasedFactor = apiIntegrationService.getTimeBasedTrafficFactor(current.getEndTime());
             
             OptimizeResponse.RouteSegment segment = new OptimizeResponse.RouteSegment();
             segment.setFromLocation(current.getName());
             segment.setToLocation(next.getName());
-            segment.setDistance(trafficInfo.getDistance());
-            segment.setEstimatedTime(trafficInfo.getEstimatedTime());
-            segment.setTrafficRate(trafficInfo.getTrafficRate());
+            segment.setDistance(travelTimes.kilometersBetween(fromLat, fromLng, toLat, toLng));
+            segment.setEstimatedTime((int) Math.ceil(
+                travelTimes.minutesBetween(fromLat, fromLng, toLat, toLng) * timeBasedFactor));
+            segment.setTrafficRate(timeBasedFactor);
             
             segments.add(segment);
         }
-        response.setRouteSegments(segments);
+        response.setRouteSegments(fields.contains(EnrichmentField.ROUTE) ? segments : new ArrayList<>());
         
-        // 3. 최적화 메트릭스 설정
+        // 4. 최적화 메트릭스 설정 (경로 정보 제외 시에도 추정 이동 시간으로 계산)
         OptimizeResponse.OptimizationMetrics metrics = new OptimizeResponse.OptimizationMetrics();
         metrics.setTotalDistance(segments.stream().mapToDouble(OptimizeResponse.RouteSegment::getDistance).sum());
         metrics.setTotalTime(segments.stream().mapToInt(OptimizeResponse.RouteSegment::getEstimatedTime).sum());
         response.setMetrics(metrics);
         
-        // 4. 일정별 분석 정보 설정
+        // 5. 일정별 분석 정보 설정
         Map<String, OptimizeResponse.ScheduleAnalysis> analyses = new HashMap<>();
+        int pending = 0;
         for (Schedule schedule : optimizedSchedules) {
+            // 재최적화에서 바뀌지 않은 일정은 직전 분석 재사용
+            OptimizeResponse.ScheduleAnalysis previous = previousAnalyses.get(analysisKey(schedule));
+            if (previous != null) {
+                analyses.put(schedule.getName(), previous);
+                continue;
+            }
+            
             OptimizeResponse.ScheduleAnalysis analysis = new OptimizeResponse.ScheduleAnalysis();
             analysis.setLocationName(schedule.getName());
             
-            Map<String, Object> placeInfo = apiIntegrationService.getIntegratedLocationInfo(
-                schedule.getName(),
-                schedule.getLocation(),
-                schedule.getStartTime()
-            );
+            // 시간대 기반 혼잡도 (외부 호출 없음), 장소 정보가 오면 그 값으로 대체
+            if (fields.contains(EnrichmentField.CROWD) && schedule.getStartTime() != null) {
+                analysis.setCrowdLevel(crowdLevelAnalyzer.analyzeCrowdLevel(schedule.getStartTime()));
+            }
             
-            analysis.setPlaceDetails(placeInfo);
-            analysis.setCrowdLevel((double) placeInfo.get("crowdLevel"));
+            CompletableFuture<Map<String, Object>> lookup = lookups.get(schedule);
+            if (lookup != null) {
+                Map<String, Object> placeInfo = awaitEnrichment(lookup, enrichmentDeadline);
+                if (placeInfo == null) {
+                    analysis.setPending(true);
+                    pending++;
+                } else {
+                    analysis.setPlaceDetails(placeInfo);
+                    if (fields.contains(EnrichmentField.CROWD) && placeInfo.get("crowdLevel") instanceof Number crowd) {
+                        analysis.setCrowdLevel(crowd.doubleValue());
+                    }
+                }
+            }
             
             analyses.put(schedule.getName(), analysis);
         }
         response.setScheduleAnalyses(analyses);
         
+        if (pending > 0) {
+            log.info("Responding with {} of {} location lookups pending", pending, lookups.size());
+        }
         return response;
     }
     
+    /**
+     * 기한까지 조회 결과 대기 (기한 초과·실패 시 null)
+     */
+    private Map<String, Object> awaitEnrichment(CompletableFuture<Map<String, Object>> lookup, long deadlineNanos) {
+        try {
+            return lookup.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            lookup.cancel(false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.debug("Location enrichment failed: {}", e.getMessage());
+            return null;
+        }
+    }
+    
     @lombok.Value
     public static class TimeSlot {
         LocalDateTime startTime;
@@ -952,4 +1491,4 @@ private static class BetweenSlotsInfo {
         }
     }
     
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.example.schedule_service.service;
 
+import com.example.common.concurrent.SingleFlight;
+import com.example.common.exception.ProviderDegradedException;
+import com.example.common.ratelimit.ProviderRequestScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,12 +19,19 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TmapService {
+    // 호출 한도 스케줄러의 제공자 키
+    private static final String TMAP = "tmap";
+
     private final RestTemplate restTemplate;
+    private final ProviderRequestScheduler providerRequestScheduler;
+    private final SingleFlight<String> tmapFlights;
 
     @Value("${tmap.api.key}")
     private String apiKey;
@@ -32,12 +42,9 @@ public class TmapService {
             double endLat, double endLon,
             String mode) {
         try {
-            String url;
-            if ("WALK".equals(mode)) {
-                url = "https://apis.openapi.sk.com/tmap/routes/pedestrian?version=1";
-            } else {
-                url = "https://apis.openapi.sk.com/tmap/routes?version=1";
-            }
+            String url = "WALK".equals(mode)
+                    ? "https://apis.openapi.sk.com/tmap/routes/pedestrian?version=1"
+                    : "https://apis.openapi.sk.com/tmap/routes?version=1";
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -60,13 +67,16 @@ public class TmapService {
             }
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            ResponseEntity<Map<String, Object>> response = send(url + new TreeMap<>(requestBody), () -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
                     new ParameterizedTypeReference<Map<String, Object>>() {
-                    });
+                    }));
             return response.getBody();
+        } catch (ProviderDegradedException e) {
+            // 호출 한도 초과는 감싸지 않고 그대로 전달 (호출자가 부분 결과/재시도 판단)
+            throw e;
         } catch (Exception e) {
             log.error("T-map API error: {}", e.getMessage());
             throw new RuntimeException("Failed to get route from T-map API", e);
@@ -91,11 +101,11 @@ public class TmapService {
 
             HttpEntity<?> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = send(url, () -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
-                    String.class);
+                    String.class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 log.debug("Traffic API Response: {}", response.getBody());
@@ -128,17 +138,19 @@ public class TmapService {
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = send(url + new TreeMap<>(requestBody), () -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
-                    String.class);
+                    String.class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 return response.getBody();
             }
 
             throw new RuntimeException("Failed to get walking route");
+        } catch (ProviderDegradedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to get walking route from T-map API: {}", e.getMessage());
             throw new RuntimeException("Failed to get walking route", e);
@@ -163,11 +175,11 @@ public class TmapService {
 
         HttpEntity<?> entity = new HttpEntity<>(headers);
 
-        ResponseEntity<String> response = restTemplate.exchange(
+        ResponseEntity<String> response = send(builder.toUriString(), () -> restTemplate.exchange(
                 builder.toUriString(),
                 HttpMethod.GET,
                 entity,
-                String.class);
+                String.class));
 
         return response.getBody();
     }
@@ -202,7 +214,7 @@ public class TmapService {
 
         HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(params, headers);
 
-        return restTemplate.postForObject(url, entity, String.class);
+        return send(url + params, () -> restTemplate.postForObject(url, entity, String.class));
     }
 
     public String getTransitRoute(Double startLat, Double startLon, Double endLat, Double endLon) {
@@ -222,13 +234,15 @@ public class TmapService {
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = send(url + new TreeMap<>(requestBody), () -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
-                    String.class);
+                    String.class));
 
             return response.getBody();
+        } catch (ProviderDegradedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to get transit route", e);
             throw new RuntimeException("Failed to get transit route");
@@ -257,23 +271,33 @@ public class TmapService {
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = send(url + new TreeMap<>(requestBody), () -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
-                    String.class);
+                    String.class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 return response.getBody();
             } else {
                 throw new RuntimeException("Failed to get driving route information");
             }
+        } catch (ProviderDegradedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to get driving route from T-map API: {}", e.getMessage());
             throw new RuntimeException("Failed to get driving route information: " + e.getMessage());
         }
     }
 
+    /**
+     * 호출 한도 스케줄러를 거쳐 요청 전송
+     * 같은 요청(URL + 정렬된 파라미터)이 이미 진행 중이면 새로 보내지 않고 그 응답을 함께 받는다.
+     */
+    private <T> T send(String requestKey, Supplier<T> request) {
+        return tmapFlights.call(requestKey, () -> providerRequestScheduler.execute(TMAP, request));
+    }
+
     private void validateCoordinates(Double lat, Double lon) {
         if (lat == null || lon == null) {
             throw new IllegalArgumentException("Coordinates cannot be null");
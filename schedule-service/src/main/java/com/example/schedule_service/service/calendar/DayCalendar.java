@@ -0,0 +1,183 @@
+package com.example.schedule_service.service.calendar;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 분 단위 일정 점유 달력
+ *
+ * 기준 시각부터 종료 시각까지의 각 분을 long[] 비트셋 한 비트로 표시한다.
+ * - 특정 분의 점유 확인은 O(1), 구간 점유 표시와 "D분 이상 빈 구간" 탐색은 워드(64분) 단위로 건너뛰며 계산
+ * - 일정은 시작/종료 분을 키로 하는 정렬 트리에도 넣어(O(log n)) 빈 구간 앞뒤 일정을 바로 찾는다
+ *   (같은 분에 시작/종료하는 일정이 여럿이면 추가 순서대로 모두 보관)
+ * 범위를 벗어난 일정 부분은 잘라서 기록하고, 범위 밖 일정은 무시한다.
+ * 스레드 안전하지 않으며 요청 단위로 만들어 쓴다.
+ *
+ * @param <T> 일정 객체 타입 (빈 구간의 앞뒤 일정으로 반환)
+ */
+public final class DayCalendar<T> {
+
+    private final LocalDateTime origin;
+    private final int horizon;
+    private final long[] words;
+    private final TreeMap<Integer, List<T>> byStart;
+    private final TreeMap<Integer, List<T>> byEnd;
+    private int size;
+
+    /**
+     * @param origin 달력 시작 시각 (0분)
+     * @param end    달력 종료 시각 (이 시각 직전 분까지 다룸)
+     */
+    public DayCalendar(LocalDateTime origin, LocalDateTime end) {
+        this.origin = origin;
+        this.horizon = (int) Math.max(0, Duration.between(origin, end).toMinutes());
+        this.words = new long[(horizon + 63) >>> 6];
+        this.byStart = new TreeMap<>();
+        this.byEnd = new TreeMap<>();
+    }
+
+    /**
+     * [start, end) 구간을 점유로 표시
+     */
+    public void add(LocalDateTime start, LocalDateTime end, T item) {
+        int from = clamp(toMinute(start));
+        int to = clamp(toMinute(end));
+        if (to <= from) {
+            return;
+        }
+        setRange(from, to);
+        byStart.computeIfAbsent(from, key -> new ArrayList<>(1)).add(item);
+        byEnd.computeIfAbsent(to, key -> new ArrayList<>(1)).add(item);
+        size++;
+    }
+
+    /**
+     * 해당 분이 점유돼 있는지 (달력 범위 밖은 비어 있는 것으로 봄)
+     */
+    public boolean isBusy(LocalDateTime time) {
+        int minute = toMinute(time);
+        return minute >= 0 && minute < horizon && (words[minute >>> 6] & (1L << minute)) != 0;
+    }
+
+    /**
+     * [start, end) 구간 전체가 비어 있는지 (달력 범위 밖은 비어 있는 것으로 봄)
+     */
+    public boolean isFree(LocalDateTime start, LocalDateTime end) {
+        int from = clamp(toMinute(start));
+        int to = clamp(toMinute(end));
+        return to <= from || nextSetBit(from) >= to;
+    }
+
+    /**
+     * minMinutes 분 이상 연속으로 비어 있는 모든 구간 (시간순)
+     * 앞 일정은 구간 시작 분에 끝나는 일정 중 마지막에 추가한 것, 뒤 일정은 구간 끝 분에 시작하는 일정 중 처음 추가한 것
+     */
+    public List<Gap<T>> gaps(int minMinutes) {
+        List<Gap<T>> gaps = new ArrayList<>();
+        int free = nextClearBit(0);
+        while (free < horizon) {
+            int busy = nextSetBit(free);
+            if (busy - free >= minMinutes) {
+                Map.Entry<Integer, List<T>> previous = byEnd.floorEntry(free);
+                Map.Entry<Integer, List<T>> next = busy < horizon ? byStart.ceilingEntry(busy) : null;
+                gaps.add(new Gap<>(
+                        toDateTime(free),
+                        toDateTime(busy),
+                        busy - free,
+                        previous != null ? previous.getValue().get(previous.getValue().size() - 1) : null,
+                        next != null ? next.getValue().get(0) : null));
+            }
+            free = nextClearBit(busy);
+        }
+        return gaps;
+    }
+
+    /**
+     * 기록된 일정 수 (범위 밖이라 무시한 일정 제외)
+     */
+    public int size() {
+        return size;
+    }
+
+    private int toMinute(LocalDateTime time) {
+        return (int) Duration.between(origin, time).toMinutes();
+    }
+
+    private LocalDateTime toDateTime(int minute) {
+        return origin.plusMinutes(minute);
+    }
+
+    private int clamp(int minute) {
+        return Math.max(0, Math.min(horizon, minute));
+    }
+
+    private void setRange(int from, int to) {
+        int startWord = from >>> 6;
+        int endWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (startWord == endWord) {
+            words[startWord] |= firstMask & lastMask;
+            return;
+        }
+        words[startWord] |= firstMask;
+        for (int i = startWord + 1; i < endWord; i++) {
+            words[i] = -1L;
+        }
+        words[endWord] |= lastMask;
+    }
+
+    /**
+     * from 이후 첫 점유 분 (없으면 horizon)
+     */
+    private int nextSetBit(int from) {
+        if (from >= horizon) {
+            return horizon;
+        }
+        int index = from >>> 6;
+        long word = words[index] & (-1L << from);
+        while (word == 0) {
+            if (++index == words.length) {
+                return horizon;
+            }
+            word = words[index];
+        }
+        return Math.min(horizon, (index << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    /**
+     * from 이후 첫 빈 분 (없으면 horizon)
+     */
+    private int nextClearBit(int from) {
+        if (from >= horizon) {
+            return horizon;
+        }
+        int index = from >>> 6;
+        long word = ~words[index] & (-1L << from);
+        while (word == 0) {
+            if (++index == words.length) {
+                return horizon;
+            }
+            word = ~words[index];
+        }
+        return Math.min(horizon, (index << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    /**
+     * 빈 구간과 그 앞뒤 일정 (처음/마지막 구간이면 null)
+     */
+    @Value
+    public static class Gap<T> {
+        LocalDateTime start;
+        LocalDateTime end;
+        int minutes;
+        T previous;
+        T next;
+    }
+}
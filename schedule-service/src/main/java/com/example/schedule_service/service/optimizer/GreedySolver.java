@@ -0,0 +1,26 @@
+package com.example.schedule_service.service.optimizer;
+
+import com.example.schedule_service.dto.domain.Schedule;
+import com.example.schedule_service.service.travel.TravelTimeMatrix;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 그리디 결과를 그대로 사용하는 해법 (지역 탐색 비활성화용)
+ */
+@Component
+public class GreedySolver implements ScheduleSolver {
+
+    public static final String NAME = "greedy";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public SolverResult solve(List<Schedule> schedules, TravelTimeMatrix travelTimes, long timeBudgetMillis) {
+        return SolverResult.unchanged(NAME, schedules, ScheduleTimeline.travelMinutesInOrder(schedules, travelTimes));
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.schedule_service.service.optimizer;
+
+import com.example.schedule_service.dto.domain.Schedule;
+import com.example.schedule_service.service.travel.TravelTimeMatrix;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 그리디 결과에서 출발하는 시간 창 지역 탐색
+ *
+ * 방문 순서를 int[] 로 두고 아래 이웃을 차례로 시도해 비용(지각 우선, 다음 총 이동 시간)이 줄어들면 바로 채택한다.
+ * - Or-opt: 연속된 유연 일정 1~3개(1개면 relocate)를 다른 위치로 이동
+ * - swap: 유연 일정 두 개의 위치 교환
+ * - 2-opt: 고정 일정이 끼지 않은 유연 일정 구간 뒤집기
+ * 고정 일정은 움직이지 않으며, 고정 일정 시작에 늦거나 유연 일정 시간 창을 벗어나는 순서는 지각 비용으로 걸러진다.
+ * 더 이상 개선이 없으면(수렴) 또는 시간/평가 횟수 예산을 다 쓰면 멈춘다.
+ */
+@Slf4j
+@Component
+public class LocalSearchSolver implements ScheduleSolver {
+
+    public static final String NAME = "local-search";
+
+    // Or-opt 로 한 번에 옮기는 최대 연속 일정 수
+    private static final int MAX_CHAIN = 3;
+
+    @Value("${app.optimization.local-search.time-budget-ms:200}")
+    private long timeBudgetMs;
+
+    @Value("${app.optimization.local-search.max-iterations:20000}")
+    private int maxIterations;
+
+    @Value("${app.optimization.transfer-buffer-minutes:15}")
+    private int bufferMinutes;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public SolverResult solve(List<Schedule> schedules, TravelTimeMatrix travelTimes, long timeBudgetMillis) {
+        long flexibleCount = schedules.stream().filter(Schedule::isFlexible).count();
+        if (schedules.size() < 3 || flexibleCount == 0) {
+            return SolverResult.unchanged(NAME, schedules, ScheduleTimeline.travelMinutesInOrder(schedules, travelTimes));
+        }
+
+        ScheduleTimeline timeline = ScheduleTimeline.of(schedules, travelTimes, bufferMinutes);
+        long budgetMs = Math.min(timeBudgetMs, timeBudgetMillis);
+        Search search = new Search(timeline, System.nanoTime() + budgetMs * 1_000_000L, maxIterations);
+
+        long greedyCost = search.cost;
+        long greedyTravel = timeline.travelMinutes(search.order);
+        search.run();
+
+        if (search.cost >= greedyCost) {
+            return SolverResult.builder()
+                    .solver(NAME)
+                    .schedules(schedules)
+                    .greedyTravelMinutes(greedyTravel)
+                    .travelMinutes(greedyTravel)
+                    .iterations(search.iterations)
+                    .converged(!search.stopped)
+                    .build();
+        }
+
+        // 개선된 순서로 유연 일정 시각 재계산 (고정 일정 시각은 그대로)
+        int[] starts = new int[timeline.size];
+        timeline.cost(search.order, starts);
+        List<Schedule> improved = new ArrayList<>(schedules.size());
+        for (int stop : search.order) {
+            Schedule schedule = schedules.get(stop);
+            if (!timeline.fixed[stop]) {
+                schedule.setStartTime(timeline.toDateTime(starts[stop]));
+                schedule.setEndTime(timeline.toDateTime(starts[stop] + timeline.duration(stop)));
+            }
+            improved.add(schedule);
+        }
+
+        long travel = timeline.travelMinutes(search.order);
+        log.info("Local search improved greedy schedule: travel {}min -> {}min, lateness {}min -> {}min ({} evaluations)",
+                greedyTravel, travel,
+                greedyCost / ScheduleTimeline.LATENESS_WEIGHT, search.cost / ScheduleTimeline.LATENESS_WEIGHT,
+                search.iterations);
+
+        return SolverResult.builder()
+                .solver(NAME)
+                .schedules(improved)
+                .greedyTravelMinutes(greedyTravel)
+                .travelMinutes(travel)
+                .iterations(search.iterations)
+                .improved(true)
+                .converged(!search.stopped)
+                .build();
+    }
+
+    /**
+     * 한 번의 탐색 상태 (요청 스레드 전용)
+     */
+    private static final class Search {
+        private final ScheduleTimeline timeline;
+        private final int n;
+        private final long deadlineNanos;
+        private final int maxIterations;
+
+        private final int[] order;
+        private final int[] candidate;
+        private final int[] rest;
+        private long cost;
+        private int iterations;
+        // 예산 소진으로 중단했는지 (false 면 국소 최적에 도달)
+        private boolean stopped;
+
+        Search(ScheduleTimeline timeline, long deadlineNanos, int maxIterations) {
+            this.timeline = timeline;
+            this.n = timeline.size;
+            this.deadlineNanos = deadlineNanos;
+            this.maxIterations = maxIterations;
+            this.order = new int[n];
+            this.candidate = new int[n];
+            this.rest = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            this.cost = timeline.cost(order, null);
+        }
+
+        void run() {
+            boolean improved = true;
+            while (improved && !exhausted()) {
+                improved = orOpt() || swap() || twoOpt();
+            }
+        }
+
+        /**
+         * 연속된 유연 일정 chain 개를 떼어 남은 순서의 다른 위치에 삽입
+         */
+        private boolean orOpt() {
+            for (int chain = 1; chain <= MAX_CHAIN; chain++) {
+                for (int i = 0; i + chain <= n; i++) {
+                    if (!allFlexible(i, i + chain - 1)) {
+                        continue;
+                    }
+                    int restSize = 0;
+                    for (int k = 0; k < n; k++) {
+                        if (k < i || k >= i + chain) {
+                            rest[restSize++] = order[k];
+                        }
+                    }
+                    for (int j = 0; j <= restSize; j++) {
+                        if (j == i) {
+                            continue; // 원래 위치
+                        }
+                        System.arraycopy(rest, 0, candidate, 0, j);
+                        System.arraycopy(order, i, candidate, j, chain);
+                        System.arraycopy(rest, j, candidate, j + chain, restSize - j);
+                        if (exhausted()) {
+                            return false;
+                        }
+                        if (tryCandidate()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean swap() {
+            for (int i = 0; i < n; i++) {
+                if (timeline.fixed[order[i]]) {
+                    continue;
+                }
+                for (int j = i + 1; j < n; j++) {
+                    if (timeline.fixed[order[j]]) {
+                        continue;
+                    }
+                    System.arraycopy(order, 0, candidate, 0, n);
+                    candidate[i] = order[j];
+                    candidate[j] = order[i];
+                    if (exhausted()) {
+                        return false;
+                    }
+                    if (tryCandidate()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 유연 일정만으로 이루어진 구간 [i, j] 뒤집기 (길이 2 는 swap 과 같으므로 3 이상)
+         */
+        private boolean twoOpt() {
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 2; j < n && !timeline.fixed[order[j]]; j++) {
+                    if (timeline.fixed[order[i]] || !allFlexible(i, j)) {
+                        break;
+                    }
+                    System.arraycopy(order, 0, candidate, 0, n);
+                    for (int a = i, b = j; a < b; a++, b--) {
+                        candidate[a] = order[b];
+                        candidate[b] = order[a];
+                    }
+                    if (exhausted()) {
+                        return false;
+                    }
+                    if (tryCandidate()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean tryCandidate() {
+            iterations++;
+            long candidateCost = timeline.cost(candidate, null);
+            if (candidateCost < cost) {
+                System.arraycopy(candidate, 0, order, 0, n);
+                cost = candidateCost;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean allFlexible(int from, int to) {
+            for (int k = from; k <= to; k++) {
+                if (timeline.fixed[order[k]]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean exhausted() {
+            if (iterations >= maxIterations
+                    || ((iterations & 63) == 0 && System.nanoTime() > deadlineNanos)) {
+                stopped = true;
+            }
+            return stopped;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.schedule_service.service.optimizer;
+
+/**
+ * 요청 단위 최적화 시간 예산
+ * 예산을 지정하지 않으면 제한 없이 끝까지 실행한다.
+ */
+public final class OptimizationBudget {
+
+    private static final OptimizationBudget UNBOUNDED = new OptimizationBudget(false, Long.MAX_VALUE);
+
+    private final boolean bounded;
+    private final long deadlineNanos;
+
+    private OptimizationBudget(boolean bounded, long deadlineNanos) {
+        this.bounded = bounded;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @param budgetMillis 지금부터 쓸 수 있는 시간 (null 또는 0 이하면 제한 없음)
+     */
+    public static OptimizationBudget of(Long budgetMillis) {
+        if (budgetMillis == null || budgetMillis <= 0) {
+            return UNBOUNDED;
+        }
+        return new OptimizationBudget(true, System.nanoTime() + budgetMillis * 1_000_000L);
+    }
+
+    public static OptimizationBudget unbounded() {
+        return UNBOUNDED;
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    public boolean isExpired() {
+        return bounded && System.nanoTime() >= deadlineNanos;
+    }
+
+    /**
+     * 남은 시간 (ms), 제한이 없으면 Long.MAX_VALUE
+     */
+    public long remainingMillis() {
+        if (!bounded) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, (deadlineNanos - System.nanoTime()) / 1_000_000L);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.schedule_service.service.optimizer;
+
+import com.example.schedule_service.dto.domain.Schedule;
+import com.example.schedule_service.dto.scheduler.EnrichmentField;
+import com.example.schedule_service.dto.scheduler.OptimizeResponse;
+import com.example.schedule_service.service.search.SlotCandidatePool;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 재최적화를 위해 보관하는 직전 최적화 상태
+ * 같은 계획에 대한 재최적화는 이 객체로 동기화해 한 번에 하나씩만 실행한다.
+ */
+@Getter
+@Setter
+public class OptimizationPlan {
+
+    private final String planId;
+
+    // 장소 후보 풀 (이미 검색한 군집 × 카테고리는 다시 검색하지 않음)
+    private final SlotCandidatePool candidatePool;
+
+    // 시간순 고정 일정
+    private List<Schedule> fixedSchedules;
+
+    // 요청된 유연 일정 전체 (배치 실패 포함)
+    private List<Schedule> flexibleSchedules;
+
+    // 최종 일정 (고정 + 배치된 유연 일정, 시간순)
+    private List<Schedule> solution;
+
+    // 분석 정보에 채운 부가 정보 종류 (재최적화 요청이 이보다 많이 요구하면 재사용하지 않음)
+    private Set<EnrichmentField> fields;
+
+    // 일정별 분석 정보 (이름·위치·시작 시각이 같으면 재사용)
+    private Map<String, OptimizeResponse.ScheduleAnalysis> analyses;
+
+    public OptimizationPlan(String planId, SlotCandidatePool candidatePool) {
+        this.planId = planId;
+        this.candidatePool = candidatePool;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.schedule_service.service.optimizer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 계획 ID 별 최적화 상태 보관소
+ * 프로세스 내 LRU (최대 계획 수 제한) + 마지막 사용 후 TTL 이 지나면 만료.
+ * 후보 풀에 장소 검색 결과가 들어 있으므로 개수와 수명을 모두 제한한다.
+ */
+@Slf4j
+@Component
+public class OptimizationPlanStore {
+
+    private final Map<String, Entry> plans;
+    private final long ttlMillis;
+
+    public OptimizationPlanStore(
+            @Value("${app.optimization.plan-store.max-plans:200}") int maxPlans,
+            @Value("${app.optimization.plan-store.ttl-minutes:60}") long ttlMinutes) {
+        this.ttlMillis = Duration.ofMinutes(ttlMinutes).toMillis();
+        this.plans = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxPlans;
+            }
+        };
+    }
+
+    public synchronized void put(OptimizationPlan plan) {
+        plans.put(plan.getPlanId(), new Entry(plan, System.currentTimeMillis()));
+    }
+
+    /**
+     * 계획 조회 (조회 시 만료 시간 연장)
+     */
+    public synchronized Optional<OptimizationPlan> get(String planId) {
+        Entry entry = plans.get(planId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        if (now - entry.touchedAt > ttlMillis) {
+            plans.remove(planId);
+            log.debug("Optimization plan {} expired", planId);
+            return Optional.empty();
+        }
+        entry.touchedAt = now;
+        return Optional.of(entry.plan);
+    }
+
+    public synchronized int size() {
+        return plans.size();
+    }
+
+    private static final class Entry {
+        final OptimizationPlan plan;
+        long touchedAt;
+
+        Entry(OptimizationPlan plan, long touchedAt) {
+            this.plan = plan;
+            this.touchedAt = touchedAt;
+        }
+    }
+}
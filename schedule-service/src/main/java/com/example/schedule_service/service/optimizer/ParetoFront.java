@@ -0,0 +1,111 @@
+package com.example.schedule_service.service.optimizer;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * 최소화 목표 벡터의 파레토 프런트
+ *
+ * 벡터 앞쪽 dims 개 값으로 지배 관계를 판단하고(2~3개), 나머지 값은 정렬 시 동점 처리에만 쓴다.
+ * 사전순 정렬 후 한 번 훑으며 지금까지의 비지배 점을 계단(2목표: 최솟값, 3목표: TreeMap)으로 유지하므로 O(n log n).
+ * 모든 목표가 같은 벡터는 먼저 정렬된 하나만 남긴다.
+ */
+public final class ParetoFront {
+
+    private ParetoFront() {
+    }
+
+    /**
+     * @return 비지배 벡터의 인덱스 (사전순)
+     */
+    public static int[] nonDominated(double[][] points, int dims) {
+        if (dims < 2 || dims > 3) {
+            throw new IllegalArgumentException("Pareto front supports 2 or 3 objectives: " + dims);
+        }
+        int[] order = lexicographicOrder(points);
+        int[] front = new int[points.length];
+        int size = 0;
+
+        if (dims == 2) {
+            double bestSecond = Double.POSITIVE_INFINITY;
+            for (int index : order) {
+                if (points[index][1] < bestSecond) {
+                    bestSecond = points[index][1];
+                    front[size++] = index;
+                }
+            }
+            return Arrays.copyOf(front, size);
+        }
+
+        // 두 번째 목표 오름차순 → 세 번째 목표 엄격히 내림차순인 계단
+        TreeMap<Double, Double> staircase = new TreeMap<>();
+        for (int index : order) {
+            double second = points[index][1];
+            double third = points[index][2];
+            Map.Entry<Double, Double> floor = staircase.floorEntry(second);
+            if (floor != null && floor.getValue() <= third) {
+                continue; // 앞선 점이 모든 목표에서 같거나 좋음
+            }
+            // 새 점이 덮는 계단 점 제거 (두 번째 목표가 같거나 크고 세 번째 목표도 같거나 큰 점)
+            Map.Entry<Double, Double> ceiling = staircase.ceilingEntry(second);
+            while (ceiling != null && ceiling.getValue() >= third) {
+                staircase.remove(ceiling.getKey());
+                ceiling = staircase.higherEntry(ceiling.getKey());
+            }
+            staircase.put(second, third);
+            front[size++] = index;
+        }
+        return Arrays.copyOf(front, size);
+    }
+
+    /**
+     * 프런트가 limit 보다 크면 목표 공간에서 고르게 퍼진 limit 개 선택 (혼잡 거리)
+     * 각 목표의 최솟값을 가진 벡터는 항상 포함한다 (limit 이 목표 수 이상일 때).
+     *
+     * @return 선택된 인덱스 (front 순서 유지)
+     */
+    public static int[] spread(double[][] points, int dims, int[] front, int limit) {
+        if (front.length <= limit) {
+            return front;
+        }
+
+        int n = front.length;
+        double[] crowding = new double[n];
+        for (int d = 0; d < dims; d++) {
+            final int objective = d;
+            int[] byObjective = IntStream.range(0, n).boxed()
+                    .sorted(Comparator.comparingDouble(k -> points[front[k]][objective]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            double min = points[front[byObjective[0]]][d];
+            double range = points[front[byObjective[n - 1]]][d] - min;
+
+            crowding[byObjective[0]] = Double.POSITIVE_INFINITY;
+            if (range == 0) {
+                continue;
+            }
+            for (int k = 1; k < n; k++) {
+                double previous = points[front[byObjective[k - 1]]][d];
+                double next = k + 1 < n ? points[front[byObjective[k + 1]]][d] : points[front[byObjective[k]]][d];
+                crowding[byObjective[k]] += (next - previous) / range;
+            }
+        }
+
+        return IntStream.range(0, n).boxed()
+                .sorted(Comparator.comparingDouble((Integer k) -> crowding[k]).reversed())
+                .limit(limit)
+                .sorted()
+                .mapToInt(k -> front[k])
+                .toArray();
+    }
+
+    private static int[] lexicographicOrder(double[][] points) {
+        return IntStream.range(0, points.length).boxed()
+                .sorted((a, b) -> Arrays.compare(points[a], points[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.schedule_service.service.optimizer;
+
+import com.example.schedule_service.dto.domain.Schedule;
+import com.example.schedule_service.service.travel.TravelTimeMatrix;
+
+import java.util.List;
+
+/**
+ * 그리디 배치 결과를 받아 방문 순서/시간을 다시 정하는 일정 해법
+ * 구현체는 빈으로 등록하고 app.optimization.solver 에 이름을 지정해 선택한다.
+ */
+public interface ScheduleSolver {
+
+    /**
+     * 설정에서 선택할 때 쓰는 이름
+     */
+    String getName();
+
+    /**
+     * @param schedules   시간순으로 정렬된 그리디 결과 (고정 + 배치된 유연 일정)
+     * @param travelTimes 일정 위치 간 이동 시간 행렬
+     * @param timeBudgetMillis 이번 호출에 쓸 수 있는 최대 시간 (구현체 자체 상한과 작은 쪽 적용)
+     * @return 개선된 일정 (개선하지 못하면 입력을 그대로 담아 반환)
+     */
+    SolverResult solve(List<Schedule> schedules, TravelTimeMatrix travelTimes, long timeBudgetMillis);
+}
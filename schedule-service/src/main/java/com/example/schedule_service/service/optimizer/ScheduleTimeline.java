@@ -0,0 +1,173 @@
+package com.example.schedule_service.service.optimizer;
+
+import com.example.schedule_service.dto.domain.Location;
+import com.example.schedule_service.dto.domain.Schedule;
+import com.example.schedule_service.service.travel.TravelTimeMatrix;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 방문 순서 평가용 기본형 배열 모델
+ *
+ * 시간은 하루 시작(그리디 결과의 가장 이른 시작) 기준 분 단위 정수로 다룬다.
+ * 고정 일정은 시작/종료 시각이 고정되고, 유연 일정은 소요 시간과 시간 창(제약의 가장 이른 시작 ~ 가장 늦은 종료)만 가진다.
+ * 방문 순서(int[])를 앞에서부터 한 번 훑어 지각 시간과 총 이동 시간을 계산하며,
+ * 비용은 지각이 이동 시간보다 항상 우선하도록 (지각 × LATENESS_WEIGHT + 이동 시간) 으로 합친다.
+ */
+final class ScheduleTimeline {
+
+    static final long LATENESS_WEIGHT = 1_000_000L;
+
+    // 시간 창이 없는 유연 일정의 종료 상한
+    private static final int OPEN_END = Integer.MAX_VALUE / 4;
+
+    final int size;
+    final boolean[] fixed;
+    private final int[] fixedStart;
+    private final int[] fixedEnd;
+    private final int[] duration;
+    private final int[] earliest;
+    private final int[] latest;
+    private final int[] travel;
+    private final int dayEnd;
+    private final int bufferMinutes;
+    private final LocalDateTime dayStart;
+
+    private ScheduleTimeline(int size, LocalDateTime dayStart, int dayEnd, int bufferMinutes) {
+        this.size = size;
+        this.fixed = new boolean[size];
+        this.fixedStart = new int[size];
+        this.fixedEnd = new int[size];
+        this.duration = new int[size];
+        this.earliest = new int[size];
+        this.latest = new int[size];
+        this.travel = new int[size * size];
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.bufferMinutes = bufferMinutes;
+    }
+
+    /**
+     * @param schedules     시간순으로 정렬된 일정 (인덱스가 곧 정점 번호)
+     * @param bufferMinutes 연속된 두 일정 사이 최소 간격 (이동 시간이 더 짧아도 확보)
+     */
+    static ScheduleTimeline of(List<Schedule> schedules, TravelTimeMatrix travelTimes, int bufferMinutes) {
+        LocalDateTime dayStart = schedules.stream().map(Schedule::getStartTime)
+                .min(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime dayEnd = schedules.stream().map(Schedule::getEndTime)
+                .max(LocalDateTime::compareTo).orElseThrow();
+
+        int n = schedules.size();
+        ScheduleTimeline timeline = new ScheduleTimeline(n, dayStart, minutesFrom(dayStart, dayEnd), bufferMinutes);
+
+        for (int i = 0; i < n; i++) {
+            Schedule schedule = schedules.get(i);
+            int start = minutesFrom(dayStart, schedule.getStartTime());
+            int end = minutesFrom(dayStart, schedule.getEndTime());
+
+            timeline.fixed[i] = !schedule.isFlexible();
+            timeline.fixedStart[i] = start;
+            timeline.fixedEnd[i] = end;
+            timeline.duration[i] = Math.max(0, end - start);
+            timeline.earliest[i] = 0;
+            timeline.latest[i] = OPEN_END;
+
+            Schedule.ScheduleConstraints constraints = schedule.getConstraints();
+            if (constraints != null && constraints.getEarliestStartTime() != null) {
+                timeline.earliest[i] = minutesFrom(dayStart, constraints.getEarliestStartTime());
+            }
+            if (constraints != null && constraints.getLatestEndTime() != null) {
+                timeline.latest[i] = minutesFrom(dayStart, constraints.getLatestEndTime());
+            }
+
+            for (int j = 0; j < n; j++) {
+                timeline.travel[i * n + j] = i == j ? 0 : travelMinutes(schedule, schedules.get(j), travelTimes);
+            }
+        }
+        return timeline;
+    }
+
+    /**
+     * 현재 목록 순서 그대로의 총 이동 시간 (분)
+     */
+    static long travelMinutesInOrder(List<Schedule> schedules, TravelTimeMatrix travelTimes) {
+        long total = 0;
+        for (int i = 1; i < schedules.size(); i++) {
+            total += travelMinutes(schedules.get(i - 1), schedules.get(i), travelTimes);
+        }
+        return total;
+    }
+
+    /**
+     * 순서의 비용 (지각 우선, 다음으로 이동 시간)
+     *
+     * @param starts 유연 일정 시작 시각(분)을 기록할 배열, 필요 없으면 null
+     */
+    long cost(int[] order, int[] starts) {
+        long lateness = 0;
+        long travelSum = 0;
+        int time = 0;
+        int prev = -1;
+
+        for (int k = 0; k < size; k++) {
+            int stop = order[k];
+            int gap = 0;
+            if (prev >= 0) {
+                int minutes = travel[prev * size + stop];
+                travelSum += minutes;
+                gap = Math.max(minutes, bufferMinutes);
+            }
+            int arrival = time + gap;
+
+            if (fixed[stop]) {
+                int delay = Math.max(0, arrival - fixedStart[stop]);
+                lateness += delay;
+                time = fixedEnd[stop] + delay;
+            } else {
+                int start = Math.max(arrival, earliest[stop]);
+                int end = start + duration[stop];
+                lateness += Math.max(0, end - latest[stop]);
+                if (starts != null) {
+                    starts[stop] = start;
+                }
+                time = end;
+            }
+            prev = stop;
+        }
+
+        lateness += Math.max(0, time - dayEnd);
+        return lateness * LATENESS_WEIGHT + travelSum;
+    }
+
+    long travelMinutes(int[] order) {
+        long total = 0;
+        for (int k = 1; k < size; k++) {
+            total += travel[order[k - 1] * size + order[k]];
+        }
+        return total;
+    }
+
+    LocalDateTime toDateTime(int minutes) {
+        return dayStart.plusMinutes(minutes);
+    }
+
+    int duration(int stop) {
+        return duration[stop];
+    }
+
+    private static int travelMinutes(Schedule from, Schedule to, TravelTimeMatrix travelTimes) {
+        Location a = from.getLocation();
+        Location b = to.getLocation();
+        if (a == null || b == null || a.getLatitude() == null || b.getLatitude() == null) {
+            return 0;
+        }
+        return (int) Math.ceil(travelTimes.minutesBetween(
+                a.getLatitude(), a.getLongitude(), b.getLatitude(), b.getLongitude()));
+    }
+
+    private static int minutesFrom(LocalDateTime dayStart, LocalDateTime time) {
+        return (int) Duration.between(dayStart, time).toMinutes();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.schedule_service.service.optimizer;
+
+import com.example.schedule_service.dto.domain.Schedule;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 일정 해법 실행 결과
+ */
+@Value
+@Builder
+public class SolverResult {
+    String solver;
+    List<Schedule> schedules;
+    long greedyTravelMinutes;
+    long travelMinutes;
+    int iterations;
+    boolean improved;
+    // 예산 소진 없이 더 이상 개선할 이동이 없는 상태까지 탐색했는지
+    boolean converged;
+
+    /**
+     * 그리디 대비 절감한 총 이동 시간 (분)
+     */
+    public long getTravelTimeSaved() {
+        return greedyTravelMinutes - travelMinutes;
+    }
+
+    public static SolverResult unchanged(String solver, List<Schedule> schedules, long travelMinutes) {
+        return SolverResult.builder()
+                .solver(solver)
+                .schedules(schedules)
+                .greedyTravelMinutes(travelMinutes)
+                .travelMinutes(travelMinutes)
+                .converged(true)
+                .build();
+    }
+}
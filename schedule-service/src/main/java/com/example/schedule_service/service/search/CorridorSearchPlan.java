@@ -0,0 +1,34 @@
+package com.example.schedule_service.service.search;
+
+import com.example.schedule_service.dto.domain.Location;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 경로 구간 검색 계획
+ * 구간을 덮는 최소 검색 원 목록과 제공자별 검색 요청, 기존 방식 대비 절감한 호출 수를 담는다
+ */
+@Getter
+public class CorridorSearchPlan {
+    private final List<Location> circles;
+    private final int radius;
+    private final List<ProviderQuery> queries;
+    private final int droppedSamplePoints;
+    private final int legacyCalls;
+    private final int plannedCalls;
+
+    CorridorSearchPlan(List<Location> circles, int radius, List<ProviderQuery> queries,
+                       int droppedSamplePoints, int legacyCalls) {
+        this.circles = circles;
+        this.radius = radius;
+        this.queries = queries;
+        this.droppedSamplePoints = droppedSamplePoints;
+        this.legacyCalls = legacyCalls;
+        this.plannedCalls = circles.size() * queries.size();
+    }
+
+    public int getSavedCalls() {
+        return Math.max(0, legacyCalls - plannedCalls);
+    }
+}
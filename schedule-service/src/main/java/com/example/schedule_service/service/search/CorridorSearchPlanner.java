@@ -0,0 +1,135 @@
+package com.example.schedule_service.service.search;
+
+import com.example.common.geo.GeoMath;
+import com.example.schedule_service.dto.domain.Location;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 경로 구간(corridor) 검색 계획기
+ *
+ * 반경 r 인 원의 중심을 경로 위에 간격 d 로 배치하면 경로 양옆 h 폭의 띠는
+ * d = 2 * sqrt(r^2 - h^2) 일 때 빈틈 없이 덮인다. 즉 경로 위 지점 s 의 원은 경로 [s - d/2, s + d/2] 구간을 덮는다.
+ * 경로 순서대로 아직 덮이지 않은 첫 위치 u 에서 [u, u + d/2] 안의 샘플 지점 중 가장 먼 지점만 남기고,
+ * 그 지점이 덮는 구간 안의 나머지 샘플 지점은 검색하지 않는다.
+ * 그 범위에 샘플 지점이 없으면 (샘플 간격이 넓은 경우) u + d/2 위치에 경로 위 원을 하나 추가한다.
+ * 카테고리 검색을 지원하는 제공자의 검색어 병합은 PlaceCategoryTaxonomy 가 담당한다.
+ */
+@Slf4j
+@Component
+public class CorridorSearchPlanner {
+
+    // 검색 원 반경 대비 경로 양옆으로 반드시 덮어야 하는 폭의 비율
+    @Value("${app.place-search.corridor-half-width-ratio:0.5}")
+    private double halfWidthRatio;
+
+    /**
+     * @param routePoints 경로 순서대로 정렬된 샘플 지점 (출발 → 도착)
+     * @param queries     지점마다 실행할 제공자 검색 요청 (카테고리 검색 제공자는 이미 병합된 상태)
+     */
+    public CorridorSearchPlan plan(List<Location> routePoints, int radius, List<ProviderQuery> queries) {
+
+        List<Location> circles = coverCorridor(routePoints, radius);
+
+        // 모든 샘플 지점에서 같은 요청을 보내는 기존 방식 기준 호출 수
+        int legacyCalls = routePoints.size() * queries.size();
+        int keptSamplePoints = (int) circles.stream().filter(routePoints::contains).count();
+        CorridorSearchPlan plan = new CorridorSearchPlan(
+                circles,
+                radius,
+                queries,
+                routePoints.size() - keptSamplePoints,
+                legacyCalls);
+
+        log.info("Corridor plan: {} circles (radius {}m) for {} sample points ({} dropped), {} calls instead of {} (saved {})",
+                circles.size(), radius, routePoints.size(), plan.getDroppedSamplePoints(),
+                plan.getPlannedCalls(), plan.getLegacyCalls(), plan.getSavedCalls());
+        return plan;
+    }
+
+    /**
+     * 경로 폴리라인을 덮는 검색 원 중심 계산 (가능하면 샘플 지점 자체를 중심으로 사용)
+     */
+    List<Location> coverCorridor(List<Location> routePoints, int radius) {
+        if (routePoints.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (routePoints.size() == 1 || radius <= 0) {
+            return List.copyOf(routePoints);
+        }
+
+        // 구간별 등장방형 근사 거리의 누적 (샘플 지점 간격이 수 km 라 오차 무시 가능)
+        int n = routePoints.size();
+        double[] cumulative = new double[n];
+        for (int i = 1; i < n; i++) {
+            Location prev = routePoints.get(i - 1);
+            Location next = routePoints.get(i);
+            cumulative[i] = cumulative[i - 1] + GeoMath.equirectangularMeters(
+                    prev.getLatitude(), prev.getLongitude(), next.getLatitude(), next.getLongitude());
+        }
+        double length = cumulative[n - 1];
+
+        double halfWidth = radius * Math.min(Math.max(halfWidthRatio, 0.0), 0.95);
+        double reach = Math.sqrt((double) radius * radius - halfWidth * halfWidth); // d / 2
+
+        List<Location> circles = new ArrayList<>();
+        double covered = 0; // 경로 시작부터 이 위치까지는 덮임
+        int next = 0;       // 아직 검토하지 않은 첫 샘플 지점
+        boolean first = true;
+        while (first || covered < length) {
+            first = false;
+
+            // 덮이지 않은 첫 위치부터 reach 이내의 샘플 지점 (covered <= s <= covered + reach)
+            while (next < n && cumulative[next] < covered) {
+                next++; // 이미 덮인 구간 안의 샘플 지점은 제외
+            }
+            int best = -1;
+            for (int i = next; i < n && cumulative[i] <= covered + reach; i++) {
+                best = i;
+            }
+
+            if (best < 0) {
+                // 샘플 간격이 너무 넓음: 덮이지 않은 위치에서 reach 만큼 떨어진 경로 위 지점에 원 추가
+                double target = Math.min(covered + reach, length);
+                circles.add(pointAt(routePoints, cumulative, target, "Corridor" + (circles.size() + 1)));
+                covered = target + reach;
+                continue;
+            }
+
+            if (cumulative[best] + reach >= length) {
+                // 마지막 원: 끝까지 덮는 후보 중 남은 구간 중앙에 가장 가까운 지점
+                double middle = (covered + length) / 2;
+                for (int i = next; i <= best; i++) {
+                    if (cumulative[i] + reach >= length
+                            && Math.abs(cumulative[i] - middle) < Math.abs(cumulative[best] - middle)) {
+                        best = i;
+                    }
+                }
+            }
+            circles.add(routePoints.get(best));
+            covered = cumulative[best] + reach;
+            next = best + 1;
+        }
+        return circles;
+    }
+
+    private static Location pointAt(List<Location> routePoints, double[] cumulative, double target, String name) {
+        int segment = 1;
+        while (segment < cumulative.length - 1 && cumulative[segment] < target) {
+            segment++;
+        }
+        Location from = routePoints.get(segment - 1);
+        Location to = routePoints.get(segment);
+        double segmentLength = cumulative[segment] - cumulative[segment - 1];
+        double fraction = segmentLength == 0 ? 0 : (target - cumulative[segment - 1]) / segmentLength;
+        return new Location(
+                from.getLatitude() + fraction * (to.getLatitude() - from.getLatitude()),
+                from.getLongitude() + fraction * (to.getLongitude() - from.getLongitude()),
+                name);
+    }
+}
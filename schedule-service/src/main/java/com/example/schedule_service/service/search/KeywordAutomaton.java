@@ -0,0 +1,147 @@
+package com.example.schedule_service.service.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick 다중 키워드 매칭 오토마톤 (대소문자 무시)
+ *
+ * 키워드마다 비트 플래그를 붙여 등록하면, 입력을 한 번 훑는 동안 등장한 모든 키워드의 플래그를 OR 해 돌려준다.
+ * 상태 전이는 상태별로 정렬된 문자 배열의 이진 탐색이고, 실패 링크를 따라 올라가는 출력은 생성 시점에
+ * 미리 합쳐 두므로 매칭 비용은 키워드 수와 무관하게 O(입력 길이)다. 생성 후에는 불변이라 스레드 안전하다.
+ */
+public final class KeywordAutomaton {
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    private final int[] output;
+    // 루트 상태 전이 직접 조회표 (대부분의 문자가 루트로 되돌아오므로 이진 탐색 없이 처리)
+    private final int[] rootNext;
+
+    private KeywordAutomaton(char[][] labels, int[][] targets, int[] failure, int[] output) {
+        this.labels = labels;
+        this.targets = targets;
+        this.failure = failure;
+        this.output = output;
+        this.rootNext = new int[Character.MAX_VALUE + 1];
+        for (int i = 0; i < labels[0].length; i++) {
+            rootNext[labels[0][i]] = targets[0][i];
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 입력에 등장한 키워드들의 플래그 합 (없으면 0)
+     */
+    public int match(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        int state = 0;
+        int flags = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = Character.toLowerCase(text.charAt(i));
+            int next = -1;
+            while (state != 0 && (next = transition(state, ch)) < 0) {
+                state = failure[state];
+            }
+            state = state == 0 ? rootNext[ch] : next;
+            flags |= output[state];
+        }
+        return flags;
+    }
+
+    private int transition(int state, char ch) {
+        int index = Arrays.binarySearch(labels[state], ch);
+        return index >= 0 ? targets[state][index] : -1;
+    }
+
+    public static final class Builder {
+        private final List<Map<Character, Integer>> children = new ArrayList<>();
+        private final List<Integer> flags = new ArrayList<>();
+
+        private Builder() {
+            newState();
+        }
+
+        public Builder add(String keyword, int flag) {
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char ch = Character.toLowerCase(keyword.charAt(i));
+                Integer next = children.get(state).get(ch);
+                if (next == null) {
+                    next = newState();
+                    children.get(state).put(ch, next);
+                }
+                state = next;
+            }
+            flags.set(state, flags.get(state) | flag);
+            return this;
+        }
+
+        public Builder addAll(Iterable<String> keywords, int flag) {
+            for (String keyword : keywords) {
+                add(keyword, flag);
+            }
+            return this;
+        }
+
+        public KeywordAutomaton build() {
+            int size = children.size();
+            char[][] labels = new char[size][];
+            int[][] targets = new int[size][];
+            int[] failure = new int[size];
+            int[] output = new int[size];
+
+            for (int state = 0; state < size; state++) {
+                Map<Character, Integer> edges = children.get(state);
+                labels[state] = new char[edges.size()];
+                targets[state] = new int[edges.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                    labels[state][i] = edge.getKey();
+                    targets[state][i++] = edge.getValue();
+                }
+                output[state] = flags.get(state);
+            }
+
+            // 너비 우선으로 실패 링크 계산, 출력은 실패 상태의 출력을 합침
+            KeywordAutomaton automaton = new KeywordAutomaton(labels, targets, failure, output);
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int child : targets[0]) {
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int i = 0; i < labels[state].length; i++) {
+                    char ch = labels[state][i];
+                    int child = targets[state][i];
+                    int fallback = failure[state];
+                    int next;
+                    while ((next = automaton.transition(fallback, ch)) < 0 && fallback != 0) {
+                        fallback = failure[fallback];
+                    }
+                    failure[child] = next >= 0 ? next : 0;
+                    output[child] |= output[failure[child]];
+                    queue.add(child);
+                }
+            }
+            return automaton;
+        }
+
+        private int newState() {
+            children.add(new TreeMap<>());
+            flags.add(0);
+            return children.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.schedule_service.service.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내부 장소 유형 -> 제공자 고유 카테고리 필터 매핑
+ *
+ * 매핑이 있는 제공자는 카테고리 요청 한 번으로 검색하고,
+ * 카테고리 검색을 지원하지 않거나 매핑이 없는 제공자만 키워드로 검색한다.
+ * (예: "마트" 는 12개 대체 검색어 × 4개 제공자 = 48회 -> 6회)
+ */
+@Component
+public class PlaceCategoryTaxonomy {
+
+    private static final Map<String, Map<PlaceProvider, List<String>>> CATEGORY_CODES;
+
+    static {
+        Map<String, Map<PlaceProvider, List<String>>> codes = new HashMap<>();
+
+        // 카카오 category_group_code / Google type / Foursquare 카테고리 ID (쉼표로 다중 지정 가능)
+        register(codes, "마트",
+                List.of("MT1", "CS2"), List.of("supermarket", "convenience_store"), List.of("17000"));
+        register(codes, "대형마트", List.of("MT1"), List.of("supermarket"), List.of("17069"));
+        register(codes, "슈퍼마켓", List.of("MT1"), List.of("supermarket"), List.of("17069"));
+        register(codes, "편의점", List.of("CS2"), List.of("convenience_store"), List.of());
+        register(codes, "서점", List.of(), List.of("book_store"), List.of("17096"));
+        register(codes, "카페", List.of("CE7"), List.of("cafe"), List.of("13032"));
+        register(codes, "음식점", List.of("FD6"), List.of("restaurant"), List.of("13000"));
+        register(codes, "식당", List.of("FD6"), List.of("restaurant"), List.of("13000"));
+        register(codes, "약국", List.of("PM9"), List.of("pharmacy"), List.of());
+        register(codes, "병원", List.of("HP8"), List.of("hospital"), List.of());
+        register(codes, "은행", List.of("BK9"), List.of("bank"), List.of());
+        register(codes, "주유소", List.of("OL7"), List.of("gas_station"), List.of());
+        register(codes, "주차장", List.of("PK6"), List.of("parking"), List.of());
+        register(codes, "숙박", List.of("AD5"), List.of("lodging"), List.of());
+        register(codes, "관광명소", List.of("AT4"), List.of("tourist_attraction"), List.of());
+        register(codes, "문화시설", List.of("CT1"), List.of("museum"), List.of());
+
+        CATEGORY_CODES = Collections.unmodifiableMap(codes);
+    }
+
+    private static void register(Map<String, Map<PlaceProvider, List<String>>> codes, String placeType,
+                                 List<String> kakao, List<String> google, List<String> foursquare) {
+        Map<PlaceProvider, List<String>> byProvider = new EnumMap<>(PlaceProvider.class);
+        byProvider.put(PlaceProvider.KAKAO, kakao);
+        byProvider.put(PlaceProvider.GOOGLE, google);
+        // Foursquare 는 categories 파라미터에 여러 ID 를 한 번에 지정할 수 있음
+        byProvider.put(PlaceProvider.FOURSQUARE,
+                foursquare.isEmpty() ? List.of() : List.of(String.join(",", foursquare)));
+        byProvider.put(PlaceProvider.NAVER, List.of()); // 네이버 지역 검색은 카테고리 필터 미지원
+        codes.put(placeType, Collections.unmodifiableMap(byProvider));
+    }
+
+    public boolean hasMapping(String placeType) {
+        return CATEGORY_CODES.containsKey(placeType);
+    }
+
+    /**
+     * 장소 유형에 대한 제공자별 검색 요청 목록
+     */
+    public List<ProviderQuery> queriesFor(String placeType) {
+        Map<PlaceProvider, List<String>> byProvider = CATEGORY_CODES.getOrDefault(placeType, Map.of());
+        List<ProviderQuery> queries = new ArrayList<>();
+
+        for (PlaceProvider provider : PlaceProvider.values()) {
+            List<String> categoryCodes = byProvider.getOrDefault(provider, List.of());
+            if (categoryCodes.isEmpty()) {
+                queries.add(ProviderQuery.keyword(provider, placeType));
+            } else {
+                for (String code : categoryCodes) {
+                    queries.add(ProviderQuery.category(provider, code));
+                }
+            }
+        }
+        return queries;
+    }
+}
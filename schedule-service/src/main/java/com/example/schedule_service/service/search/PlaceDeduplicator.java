@@ -0,0 +1,288 @@
+package com.example.schedule_service.service.search;
+
+import com.example.schedule_service.dto.Place;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 제공자 간 장소 중복 제거 (엔티티 해석)
+ * place_id 는 제공자마다 달라 같은 매장이 카카오/네이버/구글에서 각각 살아남으므로,
+ * 약 50m 격자 셀에 장소를 담고 인접 9개 셀의 후보와만 정규화된 이름 유사도를 비교해 병합한다.
+ * 셀당 후보 수가 상수에 가까워 전체 비용은 O(n) 이다.
+ */
+@Slf4j
+@Component
+public class PlaceDeduplicator {
+
+    private static final double METERS_PER_DEGREE_LAT = 111320.0;
+
+    private static final Pattern HTML_TAGS = Pattern.compile("<[^>]*>");
+    private static final Pattern PARENTHESES = Pattern.compile("\\([^)]*\\)|\\[[^]]*]");
+    // 마지막 단어가 "~점" 인 지점명 (예: "스타벅스 강남역점" -> "스타벅스")
+    private static final Pattern BRANCH_SUFFIX = Pattern.compile("\\s+\\S+점$");
+    private static final Pattern NON_NAME_CHARS = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    @Value("${app.place-search.dedup.cell-meters:50}")
+    private double cellMeters;
+
+    @Value("${app.place-search.dedup.name-similarity:0.8}")
+    private double nameSimilarityThreshold;
+
+    /**
+     * 일괄 중복 제거 (먼저 들어온 장소를 대표로 두고 중복은 대표에 병합)
+     */
+    public List<Place> deduplicate(List<Place> places) {
+        Resolver resolver = newResolver();
+        List<Place> unique = new ArrayList<>(places.size());
+        for (Place place : places) {
+            if (resolver.resolve(place) == null) {
+                unique.add(place);
+            }
+        }
+        if (unique.size() < places.size()) {
+            log.info("Merged {} duplicate places across providers ({} -> {})",
+                    places.size() - unique.size(), places.size(), unique.size());
+        }
+        return unique;
+    }
+
+    /**
+     * 결과가 도착하는 대로 중복을 판단하는 증분 해석기 (스레드 안전하지 않음)
+     */
+    public Resolver newResolver() {
+        return new Resolver();
+    }
+
+    public class Resolver {
+        private final Map<String, Place> byId = new HashMap<>();
+        private final Map<Long, List<Candidate>> grid = new HashMap<>();
+        private double lonCellDegrees = Double.NaN;
+        private final double latCellDegrees = cellMeters / METERS_PER_DEGREE_LAT;
+
+        /**
+         * 이미 등록된 같은 장소가 있으면 그 장소에 병합하고 대표 장소를 반환,
+         * 새로운 장소면 등록하고 null 반환
+         */
+        public Place resolve(Place place) {
+            if (place.getPlace_id() != null) {
+                Place sameId = byId.get(place.getPlace_id());
+                if (sameId != null) {
+                    mergeInto(sameId, place);
+                    return sameId;
+                }
+            }
+
+            if (place.getGeometry() == null || place.getGeometry().getLocation() == null) {
+                register(place);
+                return null;
+            }
+
+            double lat = place.getGeometry().getLocation().getLat();
+            double lng = place.getGeometry().getLocation().getLng();
+            if (Double.isNaN(lonCellDegrees)) {
+                // 첫 장소의 위도로 경도 방향 셀 크기 고정 (검색 범위 내 위도 변화는 무시할 수준)
+                lonCellDegrees = latCellDegrees / Math.max(0.01, Math.cos(Math.toRadians(lat)));
+            }
+            long row = (long) Math.floor(lat / latCellDegrees);
+            long col = (long) Math.floor(lng / lonCellDegrees);
+            char[] jamo = toJamo(normalizeName(place.getName()));
+
+            // 인접 9개 셀의 후보와만 비교
+            for (long r = row - 1; r <= row + 1; r++) {
+                for (long c = col - 1; c <= col + 1; c++) {
+                    List<Candidate> cell = grid.get(cellKey(r, c));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Candidate candidate : cell) {
+                        if (similarity(candidate.jamo, jamo) >= nameSimilarityThreshold) {
+                            mergeInto(candidate.place, place);
+                            if (place.getPlace_id() != null) {
+                                byId.put(place.getPlace_id(), candidate.place);
+                            }
+                            return candidate.place;
+                        }
+                    }
+                }
+            }
+
+            register(place);
+            grid.computeIfAbsent(cellKey(row, col), key -> new ArrayList<>(2)).add(new Candidate(place, jamo));
+            return null;
+        }
+
+        private void register(Place place) {
+            if (place.getPlace_id() != null) {
+                byId.put(place.getPlace_id(), place);
+            }
+        }
+    }
+
+    private static final class Candidate {
+        private final Place place;
+        private final char[] jamo;
+
+        private Candidate(Place place, char[] jamo) {
+            this.place = place;
+            this.jamo = jamo;
+        }
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) ^ (col & 0xffffffffL);
+    }
+
+    /**
+     * 비교용 이름 정규화: 태그/괄호/지점명 제거, 소문자, 공백과 기호 제거
+     */
+    static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String normalized = HTML_TAGS.matcher(name).replaceAll("");
+        normalized = PARENTHESES.matcher(normalized).replaceAll("").trim();
+        normalized = BRANCH_SUFFIX.matcher(normalized).replaceAll("");
+        normalized = NON_NAME_CHARS.matcher(normalized.toLowerCase()).replaceAll("");
+        return normalized;
+    }
+
+    /**
+     * 한글 음절을 초성/중성/종성 자모로 분해 (오타·받침 차이가 한 글자 전체가 아닌 자모 하나로 계산되도록)
+     */
+    static char[] toJamo(String text) {
+        char[] buffer = new char[text.length() * 3];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch >= 0xAC00 && ch <= 0xD7A3) {
+                int index = ch - 0xAC00;
+                buffer[length++] = (char) (0x1100 + index / 588);
+                buffer[length++] = (char) (0x1161 + (index % 588) / 28);
+                int jong = index % 28;
+                if (jong > 0) {
+                    buffer[length++] = (char) (0x11A7 + jong);
+                }
+            } else {
+                buffer[length++] = ch;
+            }
+        }
+        char[] jamo = new char[length];
+        System.arraycopy(buffer, 0, jamo, 0, length);
+        return jamo;
+    }
+
+    /**
+     * 자모 편집 거리 기반 유사도 (0~1)
+     */
+    static double similarity(char[] a, char[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0;
+        }
+        int maxLength = Math.max(a.length, b.length);
+        int[] previous = new int[b.length + 1];
+        int[] current = new int[b.length + 1];
+        for (int j = 0; j <= b.length; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length; i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length; j++) {
+                int cost = a[i - 1] == b[j - 1] ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return 1.0 - (double) previous[b.length] / maxLength;
+    }
+
+    /**
+     * 중복 장소 병합: 정보가 더 풍부한 쪽의 값을 우선하고, 빈 필드는 다른 쪽에서 채움
+     * (대표 장소 객체와 place_id 는 유지)
+     */
+    private static void mergeInto(Place target, Place other) {
+        boolean otherRicher = richness(other) > richness(target);
+
+        target.setFormatted_address(pick(target.getFormatted_address(), other.getFormatted_address(), otherRicher));
+        target.setBusiness_status(pick(target.getBusiness_status(), other.getBusiness_status(), otherRicher));
+        if (target.getRating() == null || (otherRicher && other.getRating() != null)) {
+            target.setRating(other.getRating());
+        }
+        if (target.getUser_ratings_total() == null || (otherRicher && other.getUser_ratings_total() != null)) {
+            target.setUser_ratings_total(other.getUser_ratings_total());
+        }
+        if (target.getTypes() == null || (otherRicher && other.getTypes() != null)) {
+            target.setTypes(other.getTypes());
+        }
+        if (target.getOpen_now() == null) {
+            target.setOpen_now(other.getOpen_now());
+        }
+        if (target.getGeometry() == null) {
+            target.setGeometry(other.getGeometry());
+        }
+
+        Map<String, Object> metadata = new HashMap<>();
+        if (otherRicher) {
+            putAllIfPresent(metadata, target.getMetadata());
+            putAllIfPresent(metadata, other.getMetadata());
+        } else {
+            putAllIfPresent(metadata, other.getMetadata());
+            putAllIfPresent(metadata, target.getMetadata());
+        }
+        // 어느 쪽 메타데이터가 이기든 양쪽 병합 이력을 새 목록에 모음 (원래 목록은 건드리지 않음)
+        List<String> mergedIds = new ArrayList<>();
+        addMergedIds(mergedIds, target.getMetadata());
+        addMergedIds(mergedIds, other.getMetadata());
+        if (other.getPlace_id() != null && !other.getPlace_id().equals(target.getPlace_id())
+                && !mergedIds.contains(other.getPlace_id())) {
+            mergedIds.add(other.getPlace_id());
+        }
+        if (!mergedIds.isEmpty()) {
+            metadata.put("mergedPlaceIds", mergedIds);
+        }
+        target.setMetadata(metadata);
+    }
+
+    private static void addMergedIds(List<String> mergedIds, Map<String, Object> metadata) {
+        if (metadata != null && metadata.get("mergedPlaceIds") instanceof List<?> ids) {
+            for (Object id : ids) {
+                if (id instanceof String placeId && !mergedIds.contains(placeId)) {
+                    mergedIds.add(placeId);
+                }
+            }
+        }
+    }
+
+    private static int richness(Place place) {
+        int score = 0;
+        if (place.getFormatted_address() != null && !place.getFormatted_address().isEmpty()) score++;
+        if (place.getBusiness_status() != null && !place.getBusiness_status().isEmpty()) score++;
+        if (place.getUser_ratings_total() != null) score++;
+        if (place.getTypes() != null && !place.getTypes().isEmpty()) score++;
+        if (place.getMetadata() != null) score += place.getMetadata().size();
+        return score;
+    }
+
+    private static String pick(String current, String other, boolean preferOther) {
+        boolean currentBlank = current == null || current.isEmpty();
+        boolean otherBlank = other == null || other.isEmpty();
+        if (otherBlank) {
+            return current;
+        }
+        return currentBlank || preferOther ? other : current;
+    }
+
+    private static void putAllIfPresent(Map<String, Object> target, Map<String, Object> source) {
+        if (source != null) {
+            target.putAll(source);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.schedule_service.service.search;
+
+/**
+ * 장소 검색에 사용하는 외부 API 제공자
+ */
+public enum PlaceProvider {
+    GOOGLE(50000),
+    KAKAO(20000),
+    NAVER(50000), // 좌표 반경을 받지 않음 (캐시 타일 계산용 상한만)
+    FOURSQUARE(100000);
+
+    private final int maxRadius;
+
+    PlaceProvider(int maxRadius) {
+        this.maxRadius = maxRadius;
+    }
+
+    /**
+     * 제공자가 허용하는 최대 검색 반경 (m)
+     */
+    public int maxRadius() {
+        return maxRadius;
+    }
+
+    /**
+     * 호출 한도/설정 키에 사용하는 소문자 이름
+     */
+    public String key() {
+        return name().toLowerCase();
+    }
+}
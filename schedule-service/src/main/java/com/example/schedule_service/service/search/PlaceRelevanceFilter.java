@@ -0,0 +1,118 @@
+package com.example.schedule_service.service.search;
+
+import com.example.schedule_service.dto.Place;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장소 유형별 관련성 필터
+ *
+ * 유형마다 이름 포함/제외 키워드와 카테고리 문구 키워드를 하나의 Aho-Corasick 오토마톤으로,
+ * 제공자 카테고리 코드를 HashSet 으로 기동 시 한 번 컴파일한다.
+ * 후보마다 이름과 카테고리 문구를 한 번씩만 훑으므로 비용은 키워드 수와 무관하게 O(문자열 길이)다.
+ * 규칙이 없는 유형은 제공자 검색 결과를 그대로 신뢰한다.
+ */
+@Component
+public class PlaceRelevanceFilter {
+
+    private static final int NAME_INCLUDE = 1;
+    private static final int NAME_EXCLUDE = 1 << 1;
+    private static final int CATEGORY_INCLUDE = 1 << 2;
+
+    private final Map<String, Rule> rules = new HashMap<>();
+
+    public PlaceRelevanceFilter() {
+        rules.put("마트", new Rule(
+                // 이름 포함 키워드
+                List.of("마트", "슈퍼", "편의점", "이마트", "홈플러스", "롯데마트", "gs", "cu", "세븐일레븐", "market", "store"),
+                // 이름 제외 키워드 (매장 부속 시설이나 매장명을 딴 정류장)
+                List.of("주차장", "정류장", "atm"),
+                // 카테고리 문구 키워드 (카카오 category_name, Foursquare 카테고리명)
+                List.of("마트", "슈퍼마켓", "편의점", "쇼핑"),
+                Set.of(
+                        "MT1", // 대형마트 (카카오 카테고리)
+                        "CS2", // 편의점 (카카오 카테고리)
+                        "17000", // 상점 및 서비스 (Foursquare 카테고리)
+                        "17069", // 슈퍼마켓 (Foursquare 카테고리)
+                        "grocery", // Google 카테고리
+                        "supermarket", // Google 카테고리
+                        "convenience_store" // Google 카테고리
+                )));
+    }
+
+    /**
+     * 이 유형에 필터 규칙이 있는지 (없으면 모든 후보가 관련 있음)
+     */
+    public boolean hasRule(String placeType) {
+        return rules.containsKey(placeType);
+    }
+
+    public boolean isRelevant(Place place, String placeType) {
+        Rule rule = rules.get(placeType);
+        if (rule == null) {
+            return true;
+        }
+
+        int nameFlags = rule.automaton.match(place.getName());
+        if ((nameFlags & NAME_EXCLUDE) != 0) {
+            return false;
+        }
+        if ((nameFlags & NAME_INCLUDE) != 0) {
+            return true;
+        }
+
+        // 카테고리 코드 (구글 types, 메타데이터 types)
+        if (containsAny(rule.categoryCodes, place.getTypes())) {
+            return true;
+        }
+        Map<String, Object> metadata = place.getMetadata();
+        if (metadata != null && metadata.get("types") instanceof List
+                && containsAny(rule.categoryCodes, (List<?>) metadata.get("types"))) {
+            return true;
+        }
+
+        // 카테고리 문구 (business_status 에 담긴 카테고리명, Foursquare 카테고리 목록)
+        if ((rule.automaton.match(place.getBusiness_status()) & CATEGORY_INCLUDE) != 0) {
+            return true;
+        }
+        if (metadata != null && metadata.get("categories") instanceof List) {
+            for (Object category : (List<?>) metadata.get("categories")) {
+                if (category != null && (rule.automaton.match(category.toString()) & CATEGORY_INCLUDE) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAny(Set<String> codes, List<?> values) {
+        if (values == null) {
+            return false;
+        }
+        for (Object value : values) {
+            if (codes.contains(String.valueOf(value))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Rule {
+        private final KeywordAutomaton automaton;
+        private final Set<String> categoryCodes;
+
+        private Rule(List<String> nameIncludes, List<String> nameExcludes, List<String> categoryIncludes,
+                     Set<String> categoryCodes) {
+            this.automaton = KeywordAutomaton.builder()
+                    .addAll(nameIncludes, NAME_INCLUDE)
+                    .addAll(nameExcludes, NAME_EXCLUDE)
+                    .addAll(categoryIncludes, CATEGORY_INCLUDE)
+                    .build();
+            this.categoryCodes = categoryCodes;
+        }
+    }
+}
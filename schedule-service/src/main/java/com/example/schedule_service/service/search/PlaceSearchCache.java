@@ -0,0 +1,372 @@
+package com.example.schedule_service.service.search;
+
+import com.example.common.geo.GeoMath;
+import com.example.schedule_service.dto.Place;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 제공자 장소 검색 결과 2단계 캐시
+ *
+ * 키: (geohash 타일, 정규화된 검색어, 제공자, 반경 구간)
+ * - L1: 프로세스 내 LRU (최대 항목 수 제한)
+ * - L2: Redis (common 모듈 RedisConfig 의 RedisTemplate, JSON 문자열 저장)
+ * 같은 타일 안에서 같은 반경 구간(타일 폭 단위로 올림한 반경)으로 검색하면 네트워크 호출 없이 캐시에서 응답한다.
+ * 제공자 호출은 호출자 중심이 아니라 {@link #fetchAreaFor} 의 타일 기준 영역으로 보내므로
+ * 타일 안 어느 호출자의 검색 원도 (구간 안 어느 반경이든) 저장된 결과 영역에 포함되며,
+ * 꺼낼 때 {@link #localize} 로 호출자 중심 기준 거리를 다시 계산하고 반경 밖 장소를 뺀다.
+ */
+@Slf4j
+@Component
+public class PlaceSearchCache {
+
+    private static final String KEY_PREFIX = "place-search:";
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    // geohash 정밀도별 타일 가로 크기 (m, 적도 기준 근사값)
+    private static final double[] GEOHASH_CELL_WIDTH = {
+        0, 5_009_400, 1_252_300, 156_500, 39_100, 4_900, 1_200, 152.9, 38.2
+    };
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CacheEntry> localCache;
+
+    private final AtomicLong l1Hits = new AtomicLong();
+    private final AtomicLong l2Hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Value("${app.place-search.cache.ttl-minutes.google:360}")
+    private long googleTtlMinutes;
+    @Value("${app.place-search.cache.ttl-minutes.kakao:360}")
+    private long kakaoTtlMinutes;
+    @Value("${app.place-search.cache.ttl-minutes.naver:180}")
+    private long naverTtlMinutes;
+    @Value("${app.place-search.cache.ttl-minutes.foursquare:720}")
+    private long foursquareTtlMinutes;
+
+    public PlaceSearchCache(
+            ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.place-search.cache.max-entries:2000}") int maxEntries) {
+        this.redisTemplate = redisTemplateProvider.getIfAvailable();
+        this.objectMapper = objectMapper;
+        this.localCache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        FunctionCounter.builder("place.search.cache.requests", l1Hits, AtomicLong::get)
+                .tag("result", "l1_hit").register(meterRegistry);
+        FunctionCounter.builder("place.search.cache.requests", l2Hits, AtomicLong::get)
+                .tag("result", "l2_hit").register(meterRegistry);
+        FunctionCounter.builder("place.search.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss").register(meterRegistry);
+        Gauge.builder("place.search.cache.size", this, PlaceSearchCache::localSize).register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 검색 결과 조회 (없으면 null)
+     * 호출자가 결과를 수정해도 캐시가 오염되지 않도록 호출자 기준으로 보정한 복사본을 반환한다
+     */
+    public List<Place> get(PlaceProvider provider, String term, double latitude, double longitude, int radius) {
+        String key = buildKey(provider, term, latitude, longitude, radius);
+
+        CacheEntry entry;
+        synchronized (localCache) {
+            entry = localCache.get(key);
+            if (entry != null && entry.isExpired()) {
+                localCache.remove(key);
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            l1Hits.incrementAndGet();
+            return localize(entry.places, latitude, longitude, radius);
+        }
+
+        List<Place> remote = readRemote(key);
+        if (remote != null) {
+            l2Hits.incrementAndGet();
+            putLocal(key, remote, ttlOf(provider));
+            return localize(remote, latitude, longitude, radius);
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 검색 결과 저장 (빈 결과는 오류와 구분할 수 없으므로 저장하지 않음)
+     * places 는 {@link #fetchAreaFor} 영역으로 검색한 결과여야 한다
+     */
+    public void put(PlaceProvider provider, String term, double latitude, double longitude, int radius,
+                    List<Place> places) {
+        if (places == null || places.isEmpty()) {
+            return;
+        }
+        String key = buildKey(provider, term, latitude, longitude, radius);
+        Duration ttl = ttlOf(provider);
+        List<Place> snapshot = copyOf(places);
+
+        putLocal(key, snapshot, ttl);
+        writeRemote(key, snapshot, ttl);
+    }
+
+    public Map<String, Long> getStats() {
+        return Map.of(
+                "l1Hits", l1Hits.get(),
+                "l2Hits", l2Hits.get(),
+                "misses", misses.get(),
+                "size", (long) localSize());
+    }
+
+    public String buildKey(PlaceProvider provider, String term, double latitude, double longitude, int radius) {
+        return KEY_PREFIX + provider.name().toLowerCase(Locale.ROOT)
+                + ":" + geohash(latitude, longitude, precisionFor(radius))
+                + ":" + normalizeTerm(term)
+                + ":" + radiusBucket(radius);
+    }
+
+    /**
+     * 캐시 키 타일 기준 제공자 검색 영역
+     * 중심은 geohash 타일 중심, 반경은 반경 구간 상한 + 타일 반대각선 길이로
+     * 같은 타일 안 어느 지점에서 같은 구간의 반경으로 검색해도 그 원을 포함한다 (제공자 최대 반경 이내에서)
+     */
+    public SearchArea fetchAreaFor(PlaceProvider provider, double latitude, double longitude, int radius) {
+        double[] cell = cellBounds(geohash(latitude, longitude, precisionFor(radius)));
+        double centerLat = (cell[0] + cell[1]) / 2;
+        double centerLon = (cell[2] + cell[3]) / 2;
+        double halfDiagonal = GeoMath.haversineMeters(centerLat, centerLon, cell[1], cell[3]);
+        int fetchRadius = (int) Math.min(provider.maxRadius(), Math.ceil(radiusBucket(radius) + halfDiagonal));
+        return new SearchArea(centerLat, centerLon, fetchRadius);
+    }
+
+    /**
+     * 타일 기준으로 저장된 결과를 호출자 검색 원 기준으로 보정한 복사본
+     * 거리 메타데이터를 호출자 중심 기준으로 다시 계산하고 반경 밖 장소는 제외한다
+     */
+    public List<Place> localize(List<Place> places, double latitude, double longitude, int radius) {
+        List<Place> copies = new ArrayList<>(places.size());
+        for (Place place : places) {
+            Place copy = place.copy();
+            if (copy.getGeometry() != null && copy.getGeometry().getLocation() != null) {
+                double distance = GeoMath.haversineMeters(latitude, longitude,
+                        copy.getGeometry().getLocation().getLat(), copy.getGeometry().getLocation().getLng());
+                if (distance > radius) {
+                    continue;
+                }
+                if (copy.getMetadata() == null) {
+                    copy.setMetadata(new HashMap<>());
+                }
+                copy.getMetadata().put("distance", distance);
+            }
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    /**
+     * 반경의 1/4 이하 크기 타일이 되는 가장 거친 geohash 정밀도
+     * (타일 내 중심 이동으로 인한 검색 영역 차이를 반경 대비 작게 유지)
+     */
+    static int precisionFor(int radius) {
+        for (int precision = 1; precision < GEOHASH_CELL_WIDTH.length; precision++) {
+            if (GEOHASH_CELL_WIDTH[precision] <= radius / 4.0) {
+                return precision;
+            }
+        }
+        return GEOHASH_CELL_WIDTH.length - 1;
+    }
+
+    /**
+     * 반경을 키 타일 폭(precisionFor 의 정밀도) 단위로 올림한 값
+     * 구간 상한은 반경의 약 1.25배 이하라 가져오는 영역이 크게 늘지 않고, 조금씩 다른 반경이 같은 항목을 쓴다
+     */
+    static int radiusBucket(int radius) {
+        int step = (int) Math.ceil(GEOHASH_CELL_WIDTH[precisionFor(radius)]);
+        return (int) Math.ceil((double) radius / step) * step;
+    }
+
+    static String normalizeTerm(String term) {
+        return term == null ? "" : term.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    static String geohash(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLon = mid;
+                } else {
+                    index = index << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index = index << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * geohash 타일 경계 {minLat, maxLat, minLon, maxLon}
+     */
+    static double[] cellBounds(String hash) {
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        boolean evenBit = true;
+        for (int i = 0; i < hash.length(); i++) {
+            int index = BASE32.indexOf(hash.charAt(i));
+            for (int bit = 4; bit >= 0; bit--) {
+                boolean set = ((index >> bit) & 1) == 1;
+                if (evenBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (set) {
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{minLat, maxLat, minLon, maxLon};
+    }
+
+    private Duration ttlOf(PlaceProvider provider) {
+        switch (provider) {
+            case GOOGLE:
+                return Duration.ofMinutes(googleTtlMinutes);
+            case KAKAO:
+                return Duration.ofMinutes(kakaoTtlMinutes);
+            case NAVER:
+                return Duration.ofMinutes(naverTtlMinutes);
+            case FOURSQUARE:
+                return Duration.ofMinutes(foursquareTtlMinutes);
+            default:
+                return Duration.ofMinutes(60);
+        }
+    }
+
+    private void putLocal(String key, List<Place> places, Duration ttl) {
+        synchronized (localCache) {
+            localCache.put(key, new CacheEntry(places, System.currentTimeMillis() + ttl.toMillis()));
+        }
+    }
+
+    private int localSize() {
+        synchronized (localCache) {
+            return localCache.size();
+        }
+    }
+
+    private List<Place> readRemote(String key) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            Object value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                return null;
+            }
+            return objectMapper.readValue(value.toString(), new TypeReference<List<Place>>() {});
+        } catch (Exception e) {
+            log.warn("Failed to read place search cache from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, List<Place> places, Duration ttl) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(places), ttl);
+        } catch (Exception e) {
+            log.warn("Failed to write place search cache to Redis: {}", e.getMessage());
+        }
+    }
+
+    private static List<Place> copyOf(List<Place> places) {
+        List<Place> copies = new ArrayList<>(places.size());
+        for (Place place : places) {
+            copies.add(place.copy());
+        }
+        return copies;
+    }
+
+    /**
+     * 제공자에 실제로 보낼 검색 영역
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class SearchArea {
+        private final double latitude;
+        private final double longitude;
+        private final int radius;
+    }
+
+    private static class CacheEntry {
+        private final List<Place> places;
+        private final long expiresAt;
+
+        CacheEntry(List<Place> places, long expiresAt) {
+            this.places = places;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.schedule_service.service.search;
+
+import com.example.common.exception.ProviderDegradedException;
+import com.example.schedule_service.dto.Place;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 장소 검색 팬아웃 엔진
+ * (제공자 × 검색어 × 지점) 조합을 전용 I/O 스레드 풀에서 동시에 실행하고,
+ * 요청 데드라인까지 도착한 결과만 모아 반환한다 (늦은 제공자는 취소 후 부분 결과 반환)
+ */
+@Slf4j
+@Component
+public class PlaceSearchFanOut {
+
+    private final ExecutorService executor;
+
+    @Value("${app.place-search.deadline-ms:5000}")
+    private long defaultDeadlineMillis;
+
+    public PlaceSearchFanOut(@Qualifier("placeSearchExecutor") ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public Result execute(List<PlaceSearchTask> tasks) {
+        return execute(tasks, defaultDeadlineMillis);
+    }
+
+    public Result execute(List<PlaceSearchTask> tasks, Predicate<List<Place>> stopWhen) {
+        return execute(tasks, defaultDeadlineMillis, stopWhen);
+    }
+
+    public Result execute(List<PlaceSearchTask> tasks, long deadlineMillis) {
+        return execute(tasks, deadlineMillis, null);
+    }
+
+    /**
+     * 조기 종료 조건을 가진 팬아웃 실행
+     * @param stopWhen 작업 결과가 도착할 때마다 수집 스레드에서 호출되며, true 를 반환하면
+     *                 남은 작업을 취소하고 즉시 반환한다 (null 이면 조기 종료 없음).
+     *                 stopWhen 이 던진 예외는 남은 작업을 취소한 뒤 호출자에게 그대로 전달된다.
+     */
+    public Result execute(List<PlaceSearchTask> tasks, long deadlineMillis, Predicate<List<Place>> stopWhen) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        CompletionService<List<Place>> completionService = new ExecutorCompletionService<>(executor);
+        Map<Future<List<Place>>, PlaceSearchTask> pending = new HashMap<>();
+        Result result = new Result(tasks.size());
+
+        // 1. 모든 작업을 한 번에 제출
+        for (PlaceSearchTask task : tasks) {
+            try {
+                pending.put(completionService.submit(task.getCall()), task);
+            } catch (RejectedExecutionException e) {
+                log.warn("Place search executor saturated, skipping {}", task.describe());
+                result.rejected++;
+                result.missedProviders.add(task.getProvider());
+            }
+        }
+
+        // 2. 데드라인까지 완료 순서대로 결과 수집
+        boolean stopped = false;
+        try {
+            while (!pending.isEmpty() && !stopped) {
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+
+                Future<List<Place>> future = completionService.poll(remaining, TimeUnit.NANOSECONDS);
+                if (future == null) {
+                    break;
+                }
+
+                PlaceSearchTask task = pending.remove(future);
+                try {
+                    List<Place> places = future.get();
+                    if (places != null && !places.isEmpty()) {
+                        result.places.addAll(places);
+                        result.placeCountByProvider.merge(task.getProvider(), places.size(), Integer::sum);
+                    }
+                    result.completed++;
+                    if (stopWhen != null && stopWhen.test(places != null ? places : List.of())) {
+                        stopped = true;
+                    }
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof ProviderDegradedException) {
+                        // 호출 한도 초과: 요청을 보내지 않고 즉시 실패한 제공자는 부분 결과로 처리
+                        log.warn("Place search task degraded: {} - {}", task.describe(), e.getCause().getMessage());
+                        result.degraded++;
+                        result.missedProviders.add(task.getProvider());
+                    } else {
+                        log.warn("Place search task failed: {} - {}", task.describe(), e.getCause().getMessage());
+                        result.failed++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Place search fan-out interrupted");
+        } finally {
+            // 3. 조기 종료된 작업은 취소만 하고, 데드라인을 넘긴 작업은 취소 후 부분 결과 반환
+            //    (stopWhen 이 예외를 던져도 남은 제공자 호출이 풀에 남지 않도록 finally 에서 취소)
+            for (Map.Entry<Future<List<Place>>, PlaceSearchTask> entry : pending.entrySet()) {
+                entry.getKey().cancel(true);
+                if (stopped) {
+                    result.cancelledEarly++;
+                } else {
+                    result.timedOut++;
+                    result.missedProviders.add(entry.getValue().getProvider());
+                }
+            }
+        }
+
+        result.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("Place search fan-out finished in {}ms: {} tasks, {} completed, {} failed, {} timed out, "
+                        + "{} rejected, {} degraded, {} cancelled early",
+                result.elapsedMillis, result.submitted, result.completed, result.failed,
+                result.timedOut, result.rejected, result.degraded, result.cancelledEarly);
+        if (result.isPartial()) {
+            log.warn("Returning partial place search results, missed providers: {}", result.missedProviders);
+        }
+
+        return result;
+    }
+
+    /**
+     * 팬아웃 실행 결과
+     */
+    @Getter
+    public static class Result {
+        private final int submitted;
+        private final List<Place> places = new ArrayList<>();
+        private final Map<PlaceProvider, Integer> placeCountByProvider = new HashMap<>();
+        private final Set<PlaceProvider> missedProviders = EnumSet.noneOf(PlaceProvider.class);
+        private int completed;
+        private int failed;
+        private int timedOut;
+        private int rejected;
+        private int cancelledEarly;
+        private int degraded;
+        private long elapsedMillis;
+
+        Result(int submitted) {
+            this.submitted = submitted;
+        }
+
+        public boolean isPartial() {
+            return timedOut > 0 || rejected > 0 || degraded > 0;
+        }
+
+        /**
+         * 제출한 모든 제공자 호출이 성공했는지 (조기 종료나 실패가 하나라도 있으면 false)
+         */
+        public boolean isComplete() {
+            return completed == submitted;
+        }
+
+        public boolean isEarlyTerminated() {
+            return cancelledEarly > 0;
+        }
+    }
+}
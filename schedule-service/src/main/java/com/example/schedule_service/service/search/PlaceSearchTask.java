@@ -0,0 +1,27 @@
+package com.example.schedule_service.service.search;
+
+import com.example.schedule_service.dto.Place;
+import lombok.Value;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 팬아웃 엔진에서 실행되는 단일 (제공자 검색 요청 × 지점) 검색 작업
+ */
+@Value
+public class PlaceSearchTask {
+    ProviderQuery query;
+    double latitude;
+    double longitude;
+    int radius;
+    Callable<List<Place>> call;
+
+    public PlaceProvider getProvider() {
+        return query.getProvider();
+    }
+
+    public String describe() {
+        return String.format("%s '%s' @ (%.5f, %.5f)", query.getProvider(), query.getTerm(), latitude, longitude);
+    }
+}
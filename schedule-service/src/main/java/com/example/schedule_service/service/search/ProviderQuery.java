@@ -0,0 +1,33 @@
+package com.example.schedule_service.service.search;
+
+import lombok.Value;
+
+/**
+ * 제공자에 보낼 단일 검색 요청
+ * 카테고리 코드가 있으면 제공자의 카테고리 필터 검색, 없으면 키워드 검색
+ */
+@Value
+public class ProviderQuery {
+    PlaceProvider provider;
+    String keyword;
+    String categoryCode;
+
+    public static ProviderQuery keyword(PlaceProvider provider, String keyword) {
+        return new ProviderQuery(provider, keyword, null);
+    }
+
+    public static ProviderQuery category(PlaceProvider provider, String categoryCode) {
+        return new ProviderQuery(provider, null, categoryCode);
+    }
+
+    public boolean isCategorySearch() {
+        return categoryCode != null;
+    }
+
+    /**
+     * 로그 및 캐시 키에 사용하는 검색어 표현
+     */
+    public String getTerm() {
+        return isCategorySearch() ? "category:" + categoryCode : keyword;
+    }
+}
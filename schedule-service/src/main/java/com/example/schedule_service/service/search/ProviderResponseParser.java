@@ -0,0 +1,519 @@
+package com.example.schedule_service.service.search;
+
+import com.example.schedule_service.dto.Geometry;
+import com.example.schedule_service.dto.Place;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장소 검색 제공자 응답 스트리밍 파서
+ * 응답 본문을 문자열/JsonNode 트리로 만들지 않고 JsonParser 로 바로 읽어
+ * 사용하는 필드만 Place 로 옮기고 나머지 필드(사진, plus_code 등)는 건너뛴다.
+ */
+@Slf4j
+@Component
+public class ProviderResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public ProviderResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 검색 중심점으로부터의 거리 (미터)
+     */
+    @FunctionalInterface
+    public interface DistanceFunction {
+        double distanceTo(double latitude, double longitude);
+    }
+
+    /**
+     * 구글 Nearby Search 응답 파싱 결과 (status 가 results 뒤에 올 수 있어 함께 반환)
+     */
+    @Getter
+    public static class GoogleResult {
+        private final List<Place> places = new ArrayList<>();
+        private String status = "";
+        private String errorMessage;
+
+        public boolean isOk() {
+            return "OK".equals(status) || "ZERO_RESULTS".equals(status);
+        }
+    }
+
+    /**
+     * 구글 Places Nearby Search 응답
+     */
+    public GoogleResult parseGoogle(InputStream body, DistanceFunction distance) throws IOException {
+        GoogleResult result = new GoogleResult();
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                return result;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "status":
+                        result.status = p.getValueAsString("");
+                        break;
+                    case "error_message":
+                        result.errorMessage = p.getValueAsString();
+                        break;
+                    case "results":
+                        if (p.currentToken() == JsonToken.START_ARRAY) {
+                            while (p.nextToken() == JsonToken.START_OBJECT) {
+                                Place place = readGooglePlace(p, distance);
+                                if (place != null) {
+                                    result.places.add(place);
+                                }
+                            }
+                        } else {
+                            p.skipChildren();
+                        }
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+        }
+        return result;
+    }
+
+    private Place readGooglePlace(JsonParser p, DistanceFunction distance) throws IOException {
+        Place place = new Place();
+        place.setFormatted_address("");
+        place.setRating(4.0);
+        place.setOpen_now(true);
+        Geometry.Location location = null;
+        List<String> types = null;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "place_id":
+                    place.setPlace_id(p.getValueAsString());
+                    break;
+                case "name":
+                    place.setName(p.getValueAsString());
+                    break;
+                case "vicinity":
+                    place.setFormatted_address(p.getValueAsString(""));
+                    break;
+                case "rating":
+                    place.setRating(p.getValueAsDouble());
+                    break;
+                case "business_status":
+                    place.setBusiness_status(p.getValueAsString());
+                    break;
+                case "geometry":
+                    location = readObjectField(p, "location", this::readLatLng);
+                    break;
+                case "opening_hours":
+                    Boolean openNow = readObjectField(p, "open_now", JsonParser::getValueAsBoolean);
+                    if (openNow != null) {
+                        place.setOpen_now(openNow);
+                    }
+                    break;
+                case "types":
+                    types = readStringArray(p, null);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+
+        if (place.getPlace_id() == null || place.getName() == null || location == null) {
+            log.warn("Skipping Google place result without id, name or location");
+            return null;
+        }
+        place.setGeometry(geometryOf(location));
+
+        Map<String, Object> metadata = new HashMap<>(4);
+        metadata.put("distance", distance.distanceTo(location.getLat(), location.getLng()));
+        if (types != null) {
+            metadata.put("types", types);
+        }
+        place.setMetadata(metadata);
+        return place;
+    }
+
+    /**
+     * 카카오 로컬 키워드/카테고리 검색 응답
+     */
+    public List<Place> parseKakao(InputStream body) throws IOException {
+        List<Place> places = new ArrayList<>();
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (moveToArray(p, "documents")) {
+                while (p.nextToken() == JsonToken.START_OBJECT) {
+                    Place place = readKakaoPlace(p);
+                    if (place != null) {
+                        places.add(place);
+                    }
+                }
+            }
+        }
+        return places;
+    }
+
+    private Place readKakaoPlace(JsonParser p) throws IOException {
+        Place place = new Place();
+        place.setRating(4.0);
+        place.setBusiness_status("");
+        place.setOpen_now(true); // 기본값, 실제로는 추가 API 호출로 확인 필요
+        Geometry.Location location = new Geometry.Location();
+        Map<String, Object> metadata = new HashMap<>(8);
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id":
+                    place.setPlace_id(p.getValueAsString());
+                    break;
+                case "place_name":
+                    place.setName(p.getValueAsString());
+                    break;
+                case "address_name":
+                    place.setFormatted_address(p.getValueAsString());
+                    break;
+                case "x":
+                    location.setLng(p.getValueAsDouble());
+                    break;
+                case "y":
+                    location.setLat(p.getValueAsDouble());
+                    break;
+                case "rating":
+                    place.setRating(p.getValueAsDouble());
+                    break;
+                case "category_name":
+                    place.setBusiness_status(p.getValueAsString(""));
+                    break;
+                case "distance":
+                    metadata.put("distance", p.getValueAsDouble());
+                    break;
+                case "place_url":
+                    metadata.put("placeUrl", p.getValueAsString());
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+
+        if (place.getPlace_id() == null || place.getName() == null) {
+            log.warn("Skipping Kakao document without id or name");
+            return null;
+        }
+        place.setGeometry(geometryOf(location));
+        place.setMetadata(metadata);
+        return place;
+    }
+
+    /**
+     * 네이버 지역 검색 응답 (mapx/mapy 는 WGS84 × 10^7 정수 문자열, 반경 밖 결과는 제외)
+     */
+    public List<Place> parseNaver(InputStream body, DistanceFunction distance, int radius) throws IOException {
+        List<Place> places = new ArrayList<>();
+        long requestedAt = System.currentTimeMillis();
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (moveToArray(p, "items")) {
+                while (p.nextToken() == JsonToken.START_OBJECT) {
+                    Place place = readNaverPlace(p, distance, radius, "naver_" + requestedAt + "_" + places.size());
+                    if (place != null) {
+                        places.add(place);
+                    }
+                }
+            }
+        }
+        return places;
+    }
+
+    private Place readNaverPlace(JsonParser p, DistanceFunction distance, int radius, String placeId)
+            throws IOException {
+        String title = null;
+        String roadAddress = "";
+        String address = "";
+        String category = "";
+        String telephone = null;
+        double mapx = Double.NaN;
+        double mapy = Double.NaN;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "title":
+                    title = p.getValueAsString();
+                    break;
+                case "roadAddress":
+                    roadAddress = p.getValueAsString("");
+                    break;
+                case "address":
+                    address = p.getValueAsString("");
+                    break;
+                case "category":
+                    category = p.getValueAsString("");
+                    break;
+                case "telephone":
+                    telephone = p.getValueAsString();
+                    break;
+                case "mapx":
+                    mapx = p.getValueAsDouble(Double.NaN) / 10000000.0;
+                    break;
+                case "mapy":
+                    mapy = p.getValueAsDouble(Double.NaN) / 10000000.0;
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+
+        if (title == null || Double.isNaN(mapx) || Double.isNaN(mapy)) {
+            log.warn("Skipping Naver item without title or coordinates");
+            return null;
+        }
+
+        // 검색 반경 내의 장소만 포함
+        double placeDistance = distance.distanceTo(mapy, mapx);
+        if (placeDistance > radius) {
+            return null;
+        }
+
+        Place place = new Place();
+        place.setPlace_id(placeId);
+        place.setName(title.replaceAll("<[^>]*>", "")); // HTML 태그 제거
+        place.setFormatted_address(!roadAddress.isEmpty() ? roadAddress : address);
+        Geometry.Location location = new Geometry.Location();
+        location.setLat(mapy);
+        location.setLng(mapx);
+        place.setGeometry(geometryOf(location));
+        place.setRating(4.0);  // 네이버 API는 평점 제공 안함
+        place.setBusiness_status(category);
+        place.setOpen_now(true);
+
+        Map<String, Object> metadata = new HashMap<>(4);
+        metadata.put("distance", placeDistance);
+        if (telephone != null) {
+            metadata.put("telephone", telephone);
+        }
+        metadata.put("source", "naver");
+        place.setMetadata(metadata);
+        return place;
+    }
+
+    /**
+     * Foursquare Places Search 응답
+     */
+    public List<Place> parseFoursquare(InputStream body, DistanceFunction distance) throws IOException {
+        List<Place> places = new ArrayList<>();
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (moveToArray(p, "results")) {
+                while (p.nextToken() == JsonToken.START_OBJECT) {
+                    places.add(readFoursquarePlace(p, distance));
+                }
+            }
+        }
+        return places;
+    }
+
+    private Place readFoursquarePlace(JsonParser p, DistanceFunction distance) throws IOException {
+        Place place = new Place();
+        place.setPlace_id("");
+        place.setName("");
+        place.setRating(4.0); // Foursquare API에서는 rating이 없을 수 있음
+        place.setOpen_now(true);
+        String formattedAddress = null;
+        StringBuilder addressBuilder = new StringBuilder();
+        Double locationDistance = null;
+        Geometry.Location main = null;
+        List<String> categoryNames = null;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "fsq_id":
+                    place.setPlace_id(p.getValueAsString(""));
+                    break;
+                case "name":
+                    place.setName(p.getValueAsString(""));
+                    break;
+                case "location":
+                    if (p.currentToken() != JsonToken.START_OBJECT) {
+                        p.skipChildren();
+                        break;
+                    }
+                    String address = null;
+                    String locality = null;
+                    String region = null;
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        String locationField = p.currentName();
+                        p.nextToken();
+                        switch (locationField) {
+                            case "formatted_address": formattedAddress = p.getValueAsString(); break;
+                            case "address": address = p.getValueAsString(); break;
+                            case "locality": locality = p.getValueAsString(); break;
+                            case "region": region = p.getValueAsString(); break;
+                            case "distance": locationDistance = p.getValueAsDouble(); break;
+                            default: p.skipChildren();
+                        }
+                    }
+                    appendAddressPart(addressBuilder, address);
+                    appendAddressPart(addressBuilder, locality);
+                    appendAddressPart(addressBuilder, region);
+                    break;
+                case "geocodes":
+                    main = readObjectField(p, "main", this::readFoursquareLatLng);
+                    break;
+                case "categories":
+                    categoryNames = readStringArray(p, "name");
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+
+        place.setFormatted_address(formattedAddress != null ? formattedAddress : addressBuilder.toString());
+        if (categoryNames != null && !categoryNames.isEmpty()) {
+            place.setBusiness_status(categoryNames.get(0));
+        }
+
+        Map<String, Object> metadata = new HashMap<>(4);
+        if (main != null) {
+            place.setGeometry(geometryOf(main));
+            metadata.put("distance", distance.distanceTo(main.getLat(), main.getLng()));
+        } else if (locationDistance != null) {
+            metadata.put("distance", locationDistance);
+        }
+        metadata.put("source", "foursquare");
+        if (categoryNames != null) {
+            metadata.put("categories", categoryNames);
+        }
+        place.setMetadata(metadata);
+        return place;
+    }
+
+    private interface ValueReader<T> {
+        T read(JsonParser p) throws IOException;
+    }
+
+    /**
+     * 최상위 객체에서 지정한 배열 필드의 START_ARRAY 위치로 이동 (다른 필드는 건너뜀)
+     */
+    private boolean moveToArray(JsonParser p, String arrayField) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if (arrayField.equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            p.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * 현재 객체에서 필드 하나만 읽고 나머지는 건너뜀 (객체가 아니면 null)
+     */
+    private <T> T readObjectField(JsonParser p, String wanted, ValueReader<T> reader) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+        T value = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if (wanted.equals(field)) {
+                value = reader.read(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 문자열 배열 또는 객체 배열의 지정 필드 값을 읽음
+     */
+    private List<String> readStringArray(JsonParser p, String objectField) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT && objectField != null) {
+                String value = readObjectField(p, objectField, parser -> parser.getValueAsString(""));
+                values.add(value != null ? value : "");
+            } else if (token.isScalarValue()) {
+                values.add(p.getValueAsString());
+            } else {
+                p.skipChildren();
+            }
+        }
+        return values;
+    }
+
+    private Geometry.Location readLatLng(JsonParser p) throws IOException {
+        return readCoordinates(p, "lat", "lng");
+    }
+
+    private Geometry.Location readFoursquareLatLng(JsonParser p) throws IOException {
+        return readCoordinates(p, "latitude", "longitude");
+    }
+
+    private Geometry.Location readCoordinates(JsonParser p, String latField, String lngField) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+        Geometry.Location location = new Geometry.Location();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if (latField.equals(field)) {
+                location.setLat(p.getValueAsDouble());
+            } else if (lngField.equals(field)) {
+                location.setLng(p.getValueAsDouble());
+            } else {
+                p.skipChildren();
+            }
+        }
+        return location;
+    }
+
+    private static void appendAddressPart(StringBuilder builder, String part) {
+        if (part == null) {
+            return;
+        }
+        if (builder.length() > 0) {
+            builder.append(", ");
+        }
+        builder.append(part);
+    }
+
+    private static Geometry geometryOf(Geometry.Location location) {
+        Geometry geometry = new Geometry();
+        geometry.setLocation(location);
+        return geometry;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.schedule_service.service.search;
+
+import com.example.common.geo.GeoMath;
+import com.example.schedule_service.dto.Place;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최적화 요청 하나 동안 공유하는 슬롯 주변 장소 후보 풀
+ *
+ * 슬롯 검색 지점을 clusterRadius 안에서 묶어(선착 지점을 중심으로 하는 리더 군집) 군집 × 카테고리마다 한 번만 검색한다.
+ * 검색 반경을 searchRadius + clusterRadius 로 넓혀 군집 안 어느 지점의 searchRadius 원도 빠짐없이 덮고,
+ * 각 슬롯은 풀에서 자기 지점 기준 searchRadius 이내 후보만 골라 쓴다.
+ * 검색 횟수는 (슬롯 × 유연 일정) 에서 (군집 × 카테고리) 로 줄어든다. 요청 스레드 전용이라 동기화하지 않는다.
+ */
+@Slf4j
+public class SlotCandidatePool {
+
+    /**
+     * 주변 장소 검색 (카테고리, 중심, 반경 m)
+     */
+    @FunctionalInterface
+    public interface NearbySearch {
+        List<Place> search(String category, double latitude, double longitude, int radius);
+    }
+
+    private final NearbySearch search;
+    private final int searchRadius;
+    private final double clusterRadius;
+
+    private final List<double[]> clusterCenters = new ArrayList<>();
+    private final Map<String, List<Place>> pool = new HashMap<>();
+    private int lookups;
+
+    public SlotCandidatePool(NearbySearch search, int searchRadius, double clusterRadius) {
+        this.search = search;
+        this.searchRadius = searchRadius;
+        this.clusterRadius = clusterRadius;
+    }
+
+    /**
+     * 지점 기준 searchRadius 이내 후보 (슬롯마다 시간 정보를 따로 기록하도록 사본 반환)
+     * 좌표가 없는 후보는 거리를 잴 수도, 이동 시간 행렬에 넣을 수도 없으므로 제외한다.
+     */
+    public List<Place> candidatesNear(String category, double latitude, double longitude) {
+        lookups++;
+        int cluster = clusterOf(latitude, longitude);
+        double[] center = clusterCenters.get(cluster);
+
+        List<Place> pooled = pool.computeIfAbsent(cluster + "|" + category, key -> {
+            List<Place> found = search.search(category, center[0], center[1], (int) Math.ceil(searchRadius + clusterRadius));
+            log.debug("Candidate pool searched '{}' for cluster {} ({} places)", category, cluster, found.size());
+            return found;
+        });
+
+        List<Place> nearby = new ArrayList<>();
+        for (Place place : pooled) {
+            if (place.getGeometry() == null || place.getGeometry().getLocation() == null) {
+                continue;
+            }
+            if (GeoMath.haversineMeters(latitude, longitude, place.getLatitude(), place.getLongitude()) <= searchRadius) {
+                nearby.add(place.copy());
+            }
+        }
+        return nearby;
+    }
+
+    /** 실제 실행한 검색 수 */
+    public int getSearchCount() {
+        return pool.size();
+    }
+
+    /** 슬롯 단위 조회 수 (풀이 없었다면 실행됐을 검색 수) */
+    public int getLookupCount() {
+        return lookups;
+    }
+
+    public int getClusterCount() {
+        return clusterCenters.size();
+    }
+
+    // 가장 가까운 군집 중심이 clusterRadius 이내면 그 군집, 아니면 새 군집
+    private int clusterOf(double latitude, double longitude) {
+        int nearest = -1;
+        double nearestDistance = clusterRadius;
+        for (int i = 0; i < clusterCenters.size(); i++) {
+            double[] center = clusterCenters.get(i);
+            double distance = GeoMath.equirectangularMeters(latitude, longitude, center[0], center[1]);
+            if (distance <= nearestDistance) {
+                nearest = i;
+                nearestDistance = distance;
+            }
+        }
+        if (nearest >= 0) {
+            return nearest;
+        }
+        clusterCenters.add(new double[]{latitude, longitude});
+        return clusterCenters.size() - 1;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.schedule_service.service.search;
+
+import com.example.schedule_service.dto.Place;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 상위 K개 장소 수집기
+ * 점수(관련성 × 근접도)가 0보다 큰 후보 중 상위 K개를 크기 K의 최소 힙에 유지한다.
+ * 임계값은 조기 종료 판단에만 쓰며, K개가 모두 임계값 이상이면 {@link #isSatisfied()} 가 true 가 되어
+ * 남은 제공자 호출을 취소할 수 있다. 임계값에 못 미치는 후보도 상위 K개 안이면 결과에 남는다.
+ * 호출 스레드 하나에서만 사용한다 (팬아웃 수집 스레드).
+ */
+public class TopKPlaceCollector {
+
+    private static final Comparator<ScoredPlace> BY_SCORE = Comparator.comparingDouble(ScoredPlace::getScore);
+
+    private final int k;
+    private final double minScore;
+    private final ToDoubleFunction<Place> scorer;
+    private final Consumer<Place> onQualified;
+    private final PriorityQueue<ScoredPlace> heap;
+    private final PlaceDeduplicator.Resolver resolver;
+
+    /**
+     * @param resolver    제공자 간 중복 장소 해석기 (중복은 대표 장소에 병합되고 평가하지 않음)
+     * @param k           유지할 최대 후보 수
+     * @param minScore    조기 종료 임계값 (힙의 K개가 모두 이 점수 이상이면 충족)
+     * @param scorer      장소 점수 함수 (0 이하면 관련 없는 장소)
+     * @param onQualified 후보가 힙에 들어갈 때마다 호출 (스트리밍용, null 허용)
+     */
+    public TopKPlaceCollector(PlaceDeduplicator.Resolver resolver, int k, double minScore,
+                              ToDoubleFunction<Place> scorer, Consumer<Place> onQualified) {
+        this.resolver = resolver;
+        this.k = Math.max(1, k);
+        this.minScore = minScore;
+        this.scorer = scorer;
+        this.onQualified = onQualified;
+        this.heap = new PriorityQueue<>(this.k + 1, BY_SCORE);
+    }
+
+    /**
+     * 제공자 한 번의 응답을 반영
+     * @return 조기 종료 조건 충족 여부
+     */
+    public boolean offer(List<Place> places) {
+        for (Place place : places) {
+            // 같은 장소(같은 ID 또는 제공자 간 동일 매장)는 한 번만 평가
+            if (resolver.resolve(place) != null) {
+                continue;
+            }
+
+            double score = scorer.applyAsDouble(place);
+            if (score <= 0) {
+                continue;
+            }
+            if (heap.size() >= k) {
+                if (score <= heap.peek().getScore()) {
+                    continue;
+                }
+                heap.poll();
+            }
+            heap.offer(new ScoredPlace(place, score));
+
+            if (onQualified != null) {
+                onQualified.accept(place);
+            }
+        }
+        return isSatisfied();
+    }
+
+    /**
+     * K개를 모두 채웠고 가장 낮은 점수도 임계값 이상인지
+     */
+    public boolean isSatisfied() {
+        return heap.size() >= k && heap.peek().getScore() >= minScore;
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * 점수 내림차순 상위 K개
+     */
+    public List<Place> getTopK() {
+        List<ScoredPlace> sorted = new ArrayList<>(heap);
+        sorted.sort(BY_SCORE.reversed());
+
+        List<Place> result = new ArrayList<>(sorted.size());
+        for (ScoredPlace scored : sorted) {
+            result.add(scored.getPlace());
+        }
+        return result;
+    }
+
+    @Value
+    private static class ScoredPlace {
+        Place place;
+        double score;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.schedule_service.service.travel;
+
+/**
+ * 이동 시간 행렬 칸 채우기 방식
+ */
+public enum TravelTimeFillStrategy {
+    /** 하버사인 직선 거리 / 평균 속도 추정만 사용 (외부 호출 없음) */
+    ESTIMATE,
+    /** 호출 상한 안에서 TMap 자동차 경로로 채우고 나머지는 추정값 사용 */
+    TMAP
+}
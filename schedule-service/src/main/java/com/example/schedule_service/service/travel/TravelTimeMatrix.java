@@ -0,0 +1,119 @@
+package com.example.schedule_service.service.travel;
+
+import com.example.common.geo.GeoMath;
+
+import java.util.Map;
+
+/**
+ * 지점 N 개 사이의 N×N 이동 시간/거리 행렬
+ *
+ * 행 우선 기본형 배열(int[] 초, float[] 미터)에 저장해 조회는 인덱스 계산 한 번이다.
+ * 같은 좌표(소수점 5자리, 약 1m)는 한 지점으로 합쳐지며, 행렬에 없는 좌표는 같은 평균 속도의 직선 추정값으로 대신한다.
+ * 생성 후에는 변경하지 않으므로 스레드 간 공유해도 안전하다.
+ */
+public final class TravelTimeMatrix {
+
+    private final int size;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] seconds;
+    private final float[] meters;
+    private final Map<Long, Integer> index;
+    private final double metersPerSecond;
+    private final int liveCells;
+
+    TravelTimeMatrix(double[] latitudes, double[] longitudes, int[] seconds, float[] meters,
+                     Map<Long, Integer> index, double metersPerSecond, int liveCells) {
+        this.size = latitudes.length;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.seconds = seconds;
+        this.meters = meters;
+        this.index = index;
+        this.metersPerSecond = metersPerSecond;
+        this.liveCells = liveCells;
+    }
+
+    /**
+     * 좌표를 소수점 5자리로 양자화한 지점 키
+     */
+    static long pointKey(double latitude, double longitude) {
+        long lat = Math.round(latitude * 1e5);
+        long lon = Math.round(longitude * 1e5);
+        return (lat << 32) | (lon & 0xffffffffL);
+    }
+
+    /**
+     * 직선 거리 기반 추정 이동 시간 (초)
+     */
+    static int estimateSeconds(double distanceMeters, double metersPerSecond) {
+        return (int) Math.round(distanceMeters / metersPerSecond);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 좌표의 행렬 인덱스 (없으면 -1)
+     */
+    public int indexOf(double latitude, double longitude) {
+        Integer i = index.get(pointKey(latitude, longitude));
+        return i == null ? -1 : i;
+    }
+
+    public int seconds(int from, int to) {
+        return seconds[from * size + to];
+    }
+
+    public float meters(int from, int to) {
+        return meters[from * size + to];
+    }
+
+    public double minutes(int from, int to) {
+        return seconds[from * size + to] / 60.0;
+    }
+
+    public double kilometers(int from, int to) {
+        return meters[from * size + to] / 1000.0;
+    }
+
+    /**
+     * 좌표 간 이동 시간 (분), 행렬에 없는 좌표면 직선 추정
+     */
+    public double minutesBetween(double fromLat, double fromLon, double toLat, double toLon) {
+        int from = indexOf(fromLat, fromLon);
+        int to = indexOf(toLat, toLon);
+        if (from >= 0 && to >= 0) {
+            return minutes(from, to);
+        }
+        return estimateSeconds(GeoMath.haversineMeters(fromLat, fromLon, toLat, toLon), metersPerSecond) / 60.0;
+    }
+
+    /**
+     * 좌표 간 거리 (km), 행렬에 없는 좌표면 직선 거리
+     */
+    public double kilometersBetween(double fromLat, double fromLon, double toLat, double toLon) {
+        int from = indexOf(fromLat, fromLon);
+        int to = indexOf(toLat, toLon);
+        if (from >= 0 && to >= 0) {
+            return kilometers(from, to);
+        }
+        return GeoMath.haversineKm(fromLat, fromLon, toLat, toLon);
+    }
+
+    public double latitude(int i) {
+        return latitudes[i];
+    }
+
+    public double longitude(int i) {
+        return longitudes[i];
+    }
+
+    /**
+     * TMap 응답(캐시 포함)으로 채워진 칸 수
+     */
+    public int getLiveCells() {
+        return liveCells;
+    }
+}
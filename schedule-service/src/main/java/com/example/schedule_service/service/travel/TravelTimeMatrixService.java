@@ -0,0 +1,296 @@
+package com.example.schedule_service.service.travel;
+
+import com.example.common.geo.GeoMath;
+import com.example.common.ratelimit.RequestPriority;
+import com.example.common.ratelimit.RequestPriorityContext;
+import com.example.schedule_service.dto.domain.Location;
+import com.example.schedule_service.service.TmapService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+/**
+ * 최적화기용 이동 시간 행렬 생성
+ *
+ * 고정 일정 위치와 후보 장소를 한 번에 받아 N×N 행렬을 채운다.
+ * - 모든 칸은 먼저 하버사인 거리 / 평균 속도 추정값으로 채운다 (지점이 많으면 행 단위 병렬).
+ * - TMAP 방식이면 목록 순서상 가까운 쌍(연속된 경유지)부터 호출 상한만큼 TMap 자동차 경로를 병렬 조회해 덮어쓴다.
+ *   호출자가 읽을 칸(livePairs)을 넘기면 그 칸만 실시간 조회하고 나머지는 추정값으로 둔다.
+ *   이미 조회한 쌍은 프로세스 내 LRU 에서 가져오며 상한에 포함하지 않는다.
+ * TMap 호출은 TmapService 를 거치므로 호출 한도 스케줄러와 동일 요청 병합이 그대로 적용된다.
+ */
+@Slf4j
+@Service
+public class TravelTimeMatrixService {
+
+    // 이 지점 수 이상이면 추정값 채우기를 행 단위로 병렬 처리
+    private static final int PARALLEL_FILL_THRESHOLD = 64;
+
+    private final TmapService tmapService;
+    private final ExecutorService executor;
+    private final Map<String, Cell> liveCache;
+
+    @Value("${app.travel-matrix.estimate-speed-kmh:30}")
+    private double estimateSpeedKmh;
+
+    @Value("${app.travel-matrix.max-live-cells:24}")
+    private int maxLiveCells;
+
+    @Value("${app.travel-matrix.live-timeout-ms:5000}")
+    private long liveTimeoutMs;
+
+    public TravelTimeMatrixService(
+            TmapService tmapService,
+            @Qualifier("placeSearchExecutor") ExecutorService executor,
+            @Value("${app.travel-matrix.cache.max-entries:5000}") int maxEntries) {
+        this.tmapService = tmapService;
+        this.executor = executor;
+        this.liveCache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cell> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param points   행렬 지점 (같은 좌표는 하나로 합침). TMAP 방식에서는 목록 순서상 가까운 쌍이 먼저 실시간 조회된다.
+     * @param strategy 칸 채우기 방식
+     */
+    public TravelTimeMatrix build(List<Location> points, TravelTimeFillStrategy strategy) {
+        return build(points, strategy, liveTimeoutMs);
+    }
+
+    /**
+     * @param maxWaitMillis 실시간 조회를 기다릴 최대 시간 (설정된 live-timeout 과 작은 쪽 적용)
+     */
+    public TravelTimeMatrix build(List<Location> points, TravelTimeFillStrategy strategy, long maxWaitMillis) {
+        return build(points, strategy, maxWaitMillis, null);
+    }
+
+    /**
+     * 지점 목록 순서대로 이어지는 정방향 쌍 (i -> i + 1). 경로 구간만 읽는 호출자용
+     */
+    public static List<int[]> consecutivePairs(int size) {
+        List<int[]> pairs = new ArrayList<>(Math.max(0, size - 1));
+        for (int i = 0; i + 1 < size; i++) {
+            pairs.add(new int[]{i, i + 1});
+        }
+        return pairs;
+    }
+
+    /**
+     * @param livePairs 실시간 조회할 칸 (points 인덱스 {from, to}, 앞에 있을수록 먼저 조회). null 이면 모든 칸을 목록 순서상 가까운 쌍부터
+     */
+    public TravelTimeMatrix build(List<Location> points, TravelTimeFillStrategy strategy, List<int[]> livePairs) {
+        return build(points, strategy, liveTimeoutMs, livePairs);
+    }
+
+    public TravelTimeMatrix build(List<Location> points, TravelTimeFillStrategy strategy, long maxWaitMillis,
+                                  List<int[]> livePairs) {
+        long started = System.nanoTime();
+
+        // 1. 좌표 중복 제거 (pointIndex: points 인덱스 -> 행렬 인덱스, 좌표 없으면 -1)
+        Map<Long, Integer> index = new HashMap<>();
+        List<double[]> unique = new ArrayList<>(points.size());
+        int[] pointIndex = new int[points.size()];
+        for (int p = 0; p < points.size(); p++) {
+            Location point = points.get(p);
+            if (point == null || point.getLatitude() == null || point.getLongitude() == null) {
+                pointIndex[p] = -1;
+                continue;
+            }
+            long key = TravelTimeMatrix.pointKey(point.getLatitude(), point.getLongitude());
+            Integer existing = index.get(key);
+            if (existing == null) {
+                existing = unique.size();
+                index.put(key, existing);
+                unique.add(new double[]{point.getLatitude(), point.getLongitude()});
+            }
+            pointIndex[p] = existing;
+        }
+
+        int n = unique.size();
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = unique.get(i)[0];
+            lons[i] = unique.get(i)[1];
+        }
+
+        // 2. 추정값으로 전체 채우기
+        double metersPerSecond = estimateSpeedKmh / 3.6;
+        int[] seconds = new int[n * n];
+        float[] meters = new float[n * n];
+        IntStream rows = IntStream.range(0, n);
+        (n >= PARALLEL_FILL_THRESHOLD ? rows.parallel() : rows).forEach(row -> {
+            double[] distances = new double[n];
+            GeoMath.haversineMeters(lats[row], lons[row], lats, lons, distances);
+            int offset = row * n;
+            for (int col = 0; col < n; col++) {
+                meters[offset + col] = (float) distances[col];
+                seconds[offset + col] = TravelTimeMatrix.estimateSeconds(distances[col], metersPerSecond);
+            }
+        });
+
+        // 3. 상한 안에서 실시간 값으로 덮어쓰기
+        int liveCells = strategy == TravelTimeFillStrategy.TMAP
+                ? fillLive(lats, lons, seconds, meters, liveCellOrder(n, pointIndex, livePairs),
+                        Math.min(liveTimeoutMs, maxWaitMillis))
+                : 0;
+
+        log.debug("Travel time matrix {}x{} ({}) built in {}ms, {} live cells",
+                n, n, strategy, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), liveCells);
+        return new TravelTimeMatrix(lats, lons, seconds, meters, index, metersPerSecond, liveCells);
+    }
+
+    /**
+     * 실시간 조회 순서 (행렬 칸 번호 from * n + to)
+     * livePairs 가 없으면 목록 순서상 간격이 작은 쌍부터 양방향 모두 (경로 순서로 넘기면 연속 구간이 먼저 채워짐)
+     */
+    private static int[] liveCellOrder(int n, int[] pointIndex, List<int[]> livePairs) {
+        if (livePairs == null) {
+            int[] cells = new int[n * (n - 1)];
+            int k = 0;
+            for (int gap = 1; gap < n; gap++) {
+                for (int i = 0; i + gap < n; i++) {
+                    cells[k++] = i * n + i + gap;
+                    cells[k++] = (i + gap) * n + i;
+                }
+            }
+            return cells;
+        }
+
+        // 같은 좌표로 합쳐진 쌍, 자기 자신으로 가는 쌍, 좌표 없는 지점은 건너뜀
+        Set<Integer> seen = new LinkedHashSet<>();
+        for (int[] pair : livePairs) {
+            int from = pointIndex[pair[0]];
+            int to = pointIndex[pair[1]];
+            if (from >= 0 && to >= 0 && from != to) {
+                seen.add(from * n + to);
+            }
+        }
+        return seen.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int fillLive(double[] lats, double[] lons, int[] seconds, float[] meters, int[] cells, long timeoutMs) {
+        int n = lats.length;
+        int filled = 0;
+        List<Integer> pendingCells = new ArrayList<>();
+        List<String> pendingKeys = new ArrayList<>();
+        List<CompletableFuture<Cell>> pending = new ArrayList<>();
+        // 호출 스레드의 우선순위를 작업 스레드로 전달 (백그라운드 재최적화는 BACKGROUND)
+        RequestPriority priority = RequestPriorityContext.current();
+
+        for (int cell : cells) {
+            int from = cell / n;
+            int to = cell % n;
+            String key = cellKey(lats[from], lons[from], lats[to], lons[to]);
+
+            Cell cached;
+            synchronized (liveCache) {
+                cached = liveCache.get(key);
+            }
+            if (cached != null) {
+                seconds[cell] = cached.seconds;
+                meters[cell] = cached.meters;
+                filled++;
+            } else if (pending.size() < maxLiveCells) {
+                try {
+                    pending.add(CompletableFuture.supplyAsync(
+                            () -> RequestPriorityContext.callWith(priority,
+                                    () -> fetchRoute(lats[from], lons[from], lats[to], lons[to])),
+                            executor));
+                    pendingCells.add(cell);
+                    pendingKeys.add(key);
+                } catch (RejectedExecutionException e) {
+                    log.debug("Travel matrix live call rejected, keeping estimate");
+                }
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return filled;
+        }
+
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]))
+                    .get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Travel matrix live calls exceeded {}ms, using estimates for unfinished cells", timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 개별 실패는 아래에서 칸 단위로 무시
+        }
+
+        for (int k = 0; k < pending.size(); k++) {
+            CompletableFuture<Cell> future = pending.get(k);
+            Cell cell = future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+            if (cell == null) {
+                future.cancel(false);
+                continue;
+            }
+            seconds[pendingCells.get(k)] = cell.seconds;
+            meters[pendingCells.get(k)] = cell.meters;
+            synchronized (liveCache) {
+                liveCache.put(pendingKeys.get(k), cell);
+            }
+            filled++;
+        }
+        return filled;
+    }
+
+    /**
+     * TMap 자동차 경로의 총 소요 시간/거리 (실패 시 null → 추정값 유지)
+     */
+    @SuppressWarnings("unchecked")
+    private Cell fetchRoute(double fromLat, double fromLon, double toLat, double toLon) {
+        try {
+            Map<String, Object> route = tmapService.getDetailedRoute(fromLat, fromLon, toLat, toLon, "CAR");
+            List<Map<String, Object>> features = route == null ? null : (List<Map<String, Object>>) route.get("features");
+            if (features == null || features.isEmpty()) {
+                return null;
+            }
+            Map<String, Object> properties = (Map<String, Object>) features.get(0).get("properties");
+            Number totalTime = (Number) properties.get("totalTime");
+            Number totalDistance = (Number) properties.get("totalDistance");
+            if (totalTime == null || totalDistance == null) {
+                return null;
+            }
+            return new Cell(totalTime.intValue(), totalDistance.floatValue());
+        } catch (Exception e) {
+            log.debug("Travel matrix live call failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String cellKey(double fromLat, double fromLon, double toLat, double toLon) {
+        return TravelTimeMatrix.pointKey(fromLat, fromLon) + ">" + TravelTimeMatrix.pointKey(toLat, toLon);
+    }
+
+    private static final class Cell {
+        final int seconds;
+        final float meters;
+
+        Cell(int seconds, float meters) {
+            this.seconds = seconds;
+            this.meters = meters;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.schedule_service.service;
+
+import com.example.schedule_service.dto.response.FlexibleScheduleResponse.ScheduleItem;
+import com.example.schedule_service.service.optimizer.ParetoFront;
+import com.example.schedule_service.service.travel.TravelTimeMatrixService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 유연 일정 조합 평가(목표 벡터 + 파레토 프런트): 요청 스레드 순차 실행과 전용 ForkJoinPool 분할 실행 비교
+ *
+ * 조합 하나는 고정 10개 + 유연 8개 일정. 빔 탐색이 남기는 조합 수는 빔 폭(기본 100) 이하라 실제 입력은 100 근처이고,
+ * 1000 / 10000 은 빔 폭을 크게 늘렸을 때의 참고값이다.
+ * forkJoin 은 6061edf 의 ParallelFrontEvaluator(구간 반분, 잎 32개 이상, 부분 프런트 병합)에서 로그만 뺀 복사본.
+ *
+ * 실행: mvn -q test-compile 후 테스트 클래스패스로 {@link #main} 실행
+ * (또는 java -cp ... org.openjdk.jmh.Main FlexibleEvaluationBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlexibleEvaluationBenchmark {
+
+    private static final int PARETO_OBJECTIVES = 3;
+    private static final int ITEMS_PER_COMBINATION = 18;
+    private static final int MIN_LEAF_SIZE = 32;
+
+    @Param({"100", "1000", "10000"})
+    private int combinations;
+
+    private FlexibleScheduleService service;
+    private List<List<ScheduleItem>> candidates;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        service = new FlexibleScheduleService(mock(NearbyPlaceService.class),
+                new TravelTimeMatrixService(mock(TmapService.class), mock(ExecutorService.class), 100),
+                mock(ExecutorService.class));
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+        Random random = new Random(42);
+        LocalDateTime day = LocalDateTime.of(2026, 10, 17, 8, 0);
+        candidates = new ArrayList<>(combinations);
+        for (int c = 0; c < combinations; c++) {
+            List<ScheduleItem> items = new ArrayList<>(ITEMS_PER_COMBINATION);
+            LocalDateTime time = day;
+            for (int i = 0; i < ITEMS_PER_COMBINATION; i++) {
+                LocalDateTime end = time.plusMinutes(20 + random.nextInt(40));
+                items.add(ScheduleItem.builder()
+                        .id(c + "-" + i)
+                        .startTime(time)
+                        .endTime(end)
+                        .latitude(37.45 + random.nextDouble() * 0.15)
+                        .longitude(126.90 + random.nextDouble() * 0.20)
+                        .build());
+                time = end.plusMinutes(15 + random.nextInt(30));
+            }
+            candidates.add(items);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int sequential() {
+        double[][] objectives = new double[candidates.size()][];
+        for (int i = 0; i < candidates.size(); i++) {
+            objectives[i] = service.objectivesOf(candidates.get(i));
+        }
+        return ParetoFront.nonDominated(objectives, PARETO_OBJECTIVES).length;
+    }
+
+    @Benchmark
+    public int forkJoin() {
+        double[][] objectives = new double[candidates.size()][];
+        int leafSize = Math.max(MIN_LEAF_SIZE, candidates.size() / (pool.getParallelism() * 4));
+        return pool.invoke(new FrontTask(objectives, 0, candidates.size(), leafSize)).length;
+    }
+
+    /**
+     * 구간 [from, to) 평가 후 부분 프런트 (원래 인덱스 오름차순)
+     */
+    private final class FrontTask extends RecursiveTask<int[]> {
+        private final double[][] objectives;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        FrontTask(double[][] objectives, int from, int to, int leafSize) {
+            this.objectives = objectives;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= leafSize) {
+                int[] indices = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    objectives[i] = service.objectivesOf(candidates.get(i));
+                    indices[i - from] = i;
+                }
+                return frontOf(indices);
+            }
+
+            int middle = (from + to) >>> 1;
+            FrontTask left = new FrontTask(objectives, from, middle, leafSize);
+            left.fork();
+            int[] right = new FrontTask(objectives, middle, to, leafSize).compute();
+            int[] leftFront = left.join();
+
+            int[] merged = Arrays.copyOf(leftFront, leftFront.length + right.length);
+            System.arraycopy(right, 0, merged, leftFront.length, right.length);
+            return frontOf(merged);
+        }
+
+        private int[] frontOf(int[] indices) {
+            double[][] points = new double[indices.length][];
+            for (int k = 0; k < indices.length; k++) {
+                points[k] = objectives[indices[k]];
+            }
+            int[] local = ParetoFront.nonDominated(points, PARETO_OBJECTIVES);
+            int[] front = new int[local.length];
+            for (int k = 0; k < local.length; k++) {
+                front[k] = indices[local[k]];
+            }
+            Arrays.sort(front);
+            return front;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FlexibleEvaluationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
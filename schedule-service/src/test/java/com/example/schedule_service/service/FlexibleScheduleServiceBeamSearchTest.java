@@ -0,0 +1,182 @@
+package com.example.schedule_service.service;
+
+import com.example.schedule_service.domain.PlaceInfo;
+import com.example.schedule_service.domain.Schedule;
+import com.example.schedule_service.dto.domain.FlexiblePlaceOption;
+import com.example.schedule_service.dto.response.FlexibleScheduleResponse;
+import com.example.schedule_service.dto.response.FlexibleScheduleResponse.RouteOption;
+import com.example.schedule_service.dto.response.FlexibleScheduleResponse.ScheduleItem;
+import com.example.schedule_service.dto.response.NearbyPlacesResponse;
+import com.example.schedule_service.service.travel.TravelTimeFillStrategy;
+import com.example.schedule_service.service.travel.TravelTimeMatrixService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 유연 일정 8개 이상에서 빔 탐색이 모든 일정을 겹치지 않게 배치하고 빔 폭을 지키는지
+ * 고정 일정 10개(2km 간격, 90분 주기, 30분씩) 사이 60분 창 9개에 10분짜리 방문을 넣는다.
+ */
+class FlexibleScheduleServiceBeamSearchTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 3, 4, 0, 0);
+    private static final int FIXED_COUNT = 10;
+    private static final int WINDOWS = FIXED_COUNT - 1;
+    private static final int MIN_TRAVEL_TIME = 15;
+    private static final String[] TYPES = {"카페", "서점", "마트", "약국", "은행", "우체국", "세탁소", "꽃집", "문구점", "빵집", "편의점", "헬스장"};
+
+    private final NearbyPlaceService nearbyPlaceService = mock(NearbyPlaceService.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private FlexibleScheduleService service;
+
+    @BeforeEach
+    void setUp() {
+        when(nearbyPlaceService.findNearbyPlaces(anyDouble(), anyDouble(), anyString(), anyDouble()))
+                .thenAnswer(invocation -> new NearbyPlacesResponse(placesNear(
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))));
+
+        TravelTimeMatrixService travelTimeMatrixService =
+                new TravelTimeMatrixService(mock(TmapService.class), executor, 100);
+        ReflectionTestUtils.setField(travelTimeMatrixService, "estimateSpeedKmh", 30.0);
+        ReflectionTestUtils.setField(travelTimeMatrixService, "liveTimeoutMs", 1000L);
+
+        service = new FlexibleScheduleService(nearbyPlaceService, travelTimeMatrixService, executor);
+        ReflectionTestUtils.setField(service, "scoringStrategy", TravelTimeFillStrategy.ESTIMATE);
+        ReflectionTestUtils.setField(service, "nearbyClusterMeters", 300.0);
+        ReflectionTestUtils.setField(service, "nearbyDeadlineMs", 5000L);
+        ReflectionTestUtils.setField(service, "beamWidth", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void placesEveryOneOfEightFlexibleItemsWithoutOverlap() {
+        FlexibleScheduleResponse response = service.optimizeFlexibleSchedules(fixedSchedules(), options(8), null);
+
+        assertThat(response.getRouteOptions()).isNotEmpty();
+        assertThat(response.getMetrics().isConverged()).isTrue();
+        for (RouteOption route : response.getRouteOptions()) {
+            List<ScheduleItem> flexible = flexibleItems(route);
+            assertThat(flexible).hasSize(8);
+            assertThat(flexible.stream().map(ScheduleItem::getPlaceType).distinct()).hasSize(8);
+            assertFeasible(route);
+        }
+    }
+
+    @Test
+    void keepsAtMostBeamWidthPlans() {
+        ReflectionTestUtils.setField(service, "beamWidth", 3);
+
+        FlexibleScheduleResponse response = service.optimizeFlexibleSchedules(fixedSchedules(), options(8), null);
+
+        assertThat(response.getMetrics().getProcessedCombinations()).isBetween(1, 3);
+        for (RouteOption route : response.getRouteOptions()) {
+            assertThat(flexibleItems(route)).hasSize(8);
+            assertFeasible(route);
+        }
+    }
+
+    @Test
+    void usesEachWindowOnceWhenOptionsOutnumberWindows() {
+        FlexibleScheduleResponse response = service.optimizeFlexibleSchedules(fixedSchedules(), options(12), null);
+
+        assertThat(response.getRouteOptions()).isNotEmpty();
+        for (RouteOption route : response.getRouteOptions()) {
+            // 창마다 하나씩 채우고 남은 옵션은 건너뜀
+            assertThat(flexibleItems(route)).hasSize(WINDOWS);
+            assertFeasible(route);
+        }
+    }
+
+    /**
+     * 시간순으로 겹치지 않고, 유연 일정 앞뒤에는 최소 이동 시간이 있고, 유연 일정끼리 붙어 있지 않음 (창당 하나)
+     */
+    private static void assertFeasible(RouteOption route) {
+        List<ScheduleItem> items = route.getSchedules();
+        assertThat(items).hasSize(FIXED_COUNT + flexibleItems(route).size());
+        for (int i = 0; i < items.size() - 1; i++) {
+            ScheduleItem current = items.get(i);
+            ScheduleItem next = items.get(i + 1);
+            long gap = Duration.between(current.getEndTime(), next.getStartTime()).toMinutes();
+            if ("FLEXIBLE".equals(current.getType()) || "FLEXIBLE".equals(next.getType())) {
+                assertThat(gap).as("%s -> %s", current.getName(), next.getName()).isGreaterThanOrEqualTo(MIN_TRAVEL_TIME);
+            } else {
+                assertThat(gap).isNotNegative();
+            }
+            assertThat("FLEXIBLE".equals(current.getType()) && "FLEXIBLE".equals(next.getType())).isFalse();
+        }
+    }
+
+    private static List<ScheduleItem> flexibleItems(RouteOption route) {
+        return route.getSchedules().stream()
+                .filter(item -> "FLEXIBLE".equals(item.getType()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Schedule> fixedSchedules() {
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < FIXED_COUNT; i++) {
+            LocalDateTime start = DAY.withHour(8).plusMinutes(i * 90L);
+            Schedule schedule = new Schedule();
+            schedule.setId("fixed-" + i);
+            schedule.setName("고정" + i);
+            schedule.setStartTime(start);
+            schedule.setEndTime(start.plusMinutes(30));
+            schedule.setType("FIXED");
+            schedule.setLatitude(37.50 + i * 0.018);
+            schedule.setLongitude(127.00);
+            schedules.add(schedule);
+        }
+        return schedules;
+    }
+
+    private static List<FlexiblePlaceOption> options(int count) {
+        List<FlexiblePlaceOption> options = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            options.add(FlexiblePlaceOption.builder()
+                    .id("flex-" + i)
+                    .name(TYPES[i] + " 들르기")
+                    .type(TYPES[i])
+                    .priority(i % 5 + 1)
+                    .duration(10)
+                    .build());
+        }
+        return options;
+    }
+
+    /**
+     * 검색 중심 동쪽 약 90m, 서쪽 약 180m 에 장소 두 곳
+     */
+    private static List<PlaceInfo> placesNear(double lat, double lon, String type) {
+        List<PlaceInfo> places = new ArrayList<>();
+        double[] offsets = {0.001, -0.002};
+        for (int k = 0; k < offsets.length; k++) {
+            places.add(PlaceInfo.builder()
+                    .id(type + "@" + Math.round(lat * 1e4) + "-" + k)
+                    .name(type + " " + k)
+                    .type(type)
+                    .latitude(lat)
+                    .longitude(lon + offsets[k])
+                    .build());
+        }
+        return places;
+    }
+}
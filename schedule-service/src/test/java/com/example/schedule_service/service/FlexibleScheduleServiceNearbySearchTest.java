@@ -0,0 +1,122 @@
+package com.example.schedule_service.service;
+
+import com.example.common.geo.GeoMath;
+import com.example.schedule_service.domain.PlaceInfo;
+import com.example.schedule_service.domain.Schedule;
+import com.example.schedule_service.dto.domain.FlexiblePlaceOption;
+import com.example.schedule_service.dto.response.NearbyPlacesResponse;
+import com.example.schedule_service.service.travel.TravelTimeMatrixService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가까운 고정 일정을 묶은 검색 구역이 고정 일정별 검색의 가장자리 장소를 잃지 않는지
+ * 두 고정 일정은 경도 0.0025도(약 220m) 차이라 한 구역으로 묶인다.
+ */
+class FlexibleScheduleServiceNearbySearchTest {
+
+    private static final double LAT = 37.5000;
+    private static final double WEST_LON = 127.0000;
+    private static final double EAST_LON = 127.0025;
+
+    private final NearbyPlaceService nearbyPlaceService = mock(NearbyPlaceService.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private FlexibleScheduleService service;
+
+    @BeforeEach
+    void setUp() {
+        when(nearbyPlaceService.findNearbyPlaces(anyDouble(), anyDouble(), anyString(), anyDouble()))
+                .thenReturn(new NearbyPlacesResponse(new ArrayList<>()));
+        service = new FlexibleScheduleService(nearbyPlaceService,
+                new TravelTimeMatrixService(mock(TmapService.class), executor, 100), executor);
+        ReflectionTestUtils.setField(service, "nearbyClusterMeters", 300.0);
+        ReflectionTestUtils.setField(service, "nearbyDeadlineMs", 5000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void truncatedMergedSearchFallsBackToEachLocation() {
+        // 넓은 반경 결과 45개가 모두 구역 중심 근처라 동쪽 위치의 가장자리 장소가 밀려남
+        List<PlaceInfo> crowded = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            crowded.add(place("center-" + i, LAT, WEST_LON + 0.00001 * i));
+        }
+        NearbyPlacesResponse truncated = new NearbyPlacesResponse(crowded);
+        truncated.setComplete(false);
+        when(nearbyPlaceService.findNearbyPlaces(anyDouble(), anyDouble(), eq("카페"), anyDouble(), anyInt()))
+                .thenReturn(truncated);
+        PlaceInfo edge = place("east-edge", LAT, EAST_LON + 0.0101); // 동쪽 위치에서 약 890m
+        when(nearbyPlaceService.findNearbyPlaces(LAT, EAST_LON, "카페", 1000.0))
+                .thenReturn(new NearbyPlacesResponse(new ArrayList<>(List.of(edge))));
+
+        List<PlaceInfo> places = search();
+
+        assertThat(ids(places)).contains("east-edge");
+        verify(nearbyPlaceService).findNearbyPlaces(LAT, WEST_LON, "카페", 1000.0);
+        verify(nearbyPlaceService).findNearbyPlaces(LAT, EAST_LON, "카페", 1000.0);
+    }
+
+    @Test
+    void completeMergedSearchKeepsOnlyPlacesInsideSomeLocationCircle() {
+        PlaceInfo inside = place("inside", LAT, EAST_LON + 0.0101);
+        PlaceInfo outside = place("outside", LAT + 0.0105, WEST_LON + 0.00125); // 두 위치에서 모두 1km 이상
+        when(nearbyPlaceService.findNearbyPlaces(anyDouble(), anyDouble(), eq("카페"), anyDouble(), anyInt()))
+                .thenReturn(new NearbyPlacesResponse(new ArrayList<>(List.of(inside, outside))));
+
+        List<PlaceInfo> places = search();
+
+        assertThat(ids(places)).containsExactly("inside");
+        assertThat(GeoMath.haversineMeters(LAT, EAST_LON, inside.getLatitude(), inside.getLongitude())).isLessThan(1000);
+        verify(nearbyPlaceService, times(1))
+                .findNearbyPlaces(anyDouble(), anyDouble(), eq("카페"), anyDouble(), eq(NearbyPlaceService.KAKAO_MAX_PAGES));
+        verify(nearbyPlaceService, never()).findNearbyPlaces(anyDouble(), anyDouble(), anyString(), anyDouble());
+    }
+
+    private List<PlaceInfo> search() {
+        List<FlexiblePlaceOption> options = List.of(FlexiblePlaceOption.builder()
+                .id("flex").name("카페 들르기").type("카페").priority(1).duration(30).build());
+        Map<FlexiblePlaceOption, List<PlaceInfo>> result = ReflectionTestUtils.invokeMethod(
+                service, "findNearbyPlacesForOptions", options, List.of(fixed(WEST_LON), fixed(EAST_LON)));
+        return result.get(options.get(0));
+    }
+
+    private static List<String> ids(List<PlaceInfo> places) {
+        return places.stream().map(PlaceInfo::getId).collect(Collectors.toList());
+    }
+
+    private static Schedule fixed(double longitude) {
+        Schedule schedule = new Schedule();
+        schedule.setId("fixed-" + longitude);
+        schedule.setLatitude(LAT);
+        schedule.setLongitude(longitude);
+        return schedule;
+    }
+
+    private static PlaceInfo place(String id, double latitude, double longitude) {
+        return PlaceInfo.builder().id(id).name(id).type("카페").latitude(latitude).longitude(longitude).build();
+    }
+}
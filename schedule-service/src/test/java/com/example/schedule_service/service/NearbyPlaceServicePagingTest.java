@@ -0,0 +1,110 @@
+package com.example.schedule_service.service;
+
+import com.example.common.poi.PoiIndex;
+import com.example.schedule_service.dto.response.NearbyPlacesResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카카오 결과를 페이지 상한까지 이어 받고, 잘린 결과는 검색 완료 영역으로 기록하지 않는지
+ */
+class NearbyPlaceServicePagingTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final PoiIndex poiIndex = mock(PoiIndex.class);
+    private final NearbyPlaceService service = new NearbyPlaceService(restTemplate, poiIndex);
+    private final List<Integer> requestedPages = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "kakaoApiKey", "test");
+        ReflectionTestUtils.setField(service, "minLocalResults", 5);
+        when(poiIndex.withinRadius(anyDouble(), anyDouble(), anyDouble(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void readsPagesUntilTheLastOneAndRecordsCoverage() {
+        stubKakao(32, 32);
+
+        NearbyPlacesResponse response = service.findNearbyPlaces(37.5, 127.0, "카페", 1500, NearbyPlaceService.KAKAO_MAX_PAGES);
+
+        assertThat(response.getPlaces()).hasSize(32);
+        assertThat(response.isComplete()).isTrue();
+        assertThat(requestedPages).containsExactly(1, 2, 3);
+        verify(poiIndex).recordCoverage("카페", 37.5, 127.0, 1500);
+    }
+
+    @Test
+    void resultsCutByTheExposureCapAreIncomplete() {
+        // 반경 안 120개 중 카카오는 45개(3페이지)만 노출
+        stubKakao(120, 45);
+
+        NearbyPlacesResponse response = service.findNearbyPlaces(37.5, 127.0, "카페", 1500, NearbyPlaceService.KAKAO_MAX_PAGES);
+
+        assertThat(response.getPlaces()).hasSize(45);
+        assertThat(response.isComplete()).isFalse();
+        verify(poiIndex, never()).recordCoverage(anyString(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void singlePageSearchWithMoreResultsIsIncomplete() {
+        stubKakao(20, 20);
+
+        NearbyPlacesResponse response = service.findNearbyPlaces(37.5, 127.0, "카페", 1000);
+
+        assertThat(response.getPlaces()).hasSize(15);
+        assertThat(response.isComplete()).isFalse();
+        assertThat(requestedPages).containsExactly(1);
+        verify(poiIndex, never()).recordCoverage(anyString(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    /**
+     * 카카오 키워드 검색 응답 흉내 (pageable 개까지 15개씩, 마지막 페이지에서 is_end)
+     */
+    @SuppressWarnings("unchecked")
+    private void stubKakao(int total, int pageable) {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+                any(ParameterizedTypeReference.class))).thenAnswer(invocation -> {
+            String url = invocation.getArgument(0);
+            int page = Integer.parseInt(UriComponentsBuilder.fromUriString(url).build().getQueryParams().getFirst("page"));
+            requestedPages.add(page);
+            List<Map<String, Object>> documents = new ArrayList<>();
+            for (int i = (page - 1) * 15; i < Math.min(pageable, page * 15); i++) {
+                Map<String, Object> document = new HashMap<>();
+                document.put("id", "kakao-" + i);
+                document.put("place_name", "카페 " + i);
+                document.put("address_name", "서울");
+                document.put("x", String.valueOf(127.0 + i * 0.0001));
+                document.put("y", "37.5");
+                documents.add(document);
+            }
+            Map<String, Object> meta = Map.of(
+                    "total_count", total,
+                    "pageable_count", pageable,
+                    "is_end", page * 15 >= pageable);
+            return ResponseEntity.ok(Map.of("documents", documents, "meta", meta));
+        });
+    }
+}
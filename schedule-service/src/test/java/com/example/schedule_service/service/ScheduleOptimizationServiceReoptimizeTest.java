@@ -0,0 +1,211 @@
+package com.example.schedule_service.service;
+
+import com.example.schedule_service.dto.Geometry;
+import com.example.schedule_service.dto.Place;
+import com.example.schedule_service.dto.domain.Location;
+import com.example.schedule_service.dto.domain.Schedule;
+import com.example.schedule_service.dto.domain.ScheduleType;
+import com.example.schedule_service.dto.scheduler.EnrichmentField;
+import com.example.schedule_service.dto.scheduler.OptimizeResponse;
+import com.example.schedule_service.service.optimizer.GreedySolver;
+import com.example.schedule_service.service.optimizer.OptimizationPlanStore;
+import com.example.schedule_service.service.travel.TravelTimeMatrixService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+/**
+ * 직전 계획에 대한 한 항목 변경이 바뀐 부분만 다시 검색하는지, 저장된 계획이 응답 객체와 분리돼 있는지
+ */
+class ScheduleOptimizationServiceReoptimizeTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+    private static final Set<EnrichmentField> NO_ENRICHMENT = EnumSet.noneOf(EnrichmentField.class);
+
+    private final APIIntegrationService apiIntegrationService = mock(APIIntegrationService.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private ScheduleOptimizationService service;
+
+    @BeforeEach
+    void setUp() {
+        when(apiIntegrationService.searchNearbyPlaces(anyString(), anyDouble(), anyDouble(), anyInt()))
+            .thenAnswer(invocation -> placesNear(invocation.getArgument(0),
+                invocation.getArgument(1), invocation.getArgument(2)));
+        when(apiIntegrationService.getTimeBasedTrafficFactor(any())).thenReturn(1.0);
+
+        TravelTimeMatrixService travelTimeMatrixService =
+            new TravelTimeMatrixService(mock(TmapService.class), executor, 100);
+        ReflectionTestUtils.setField(travelTimeMatrixService, "estimateSpeedKmh", 30.0);
+        ReflectionTestUtils.setField(travelTimeMatrixService, "liveTimeoutMs", 1000L);
+
+        service = new ScheduleOptimizationService(apiIntegrationService, travelTimeMatrixService,
+            List.of(new GreedySolver()), mock(SimpMessagingTemplate.class), executor,
+            new OptimizationPlanStore(10, 60), mock(CrowdLevelAnalyzer.class), executor);
+        ReflectionTestUtils.setField(service, "slotClusterMeters", 1000.0);
+        ReflectionTestUtils.setField(service, "solverName", GreedySolver.NAME);
+        ReflectionTestUtils.setField(service, "enrichmentTimeoutMs", 1000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void addingOneFlexibleItemSearchesOnlyForThatItem() {
+        OptimizeResponse initial = service.optimizeSchedule(fixedSchedules(),
+            flexible("카페", "서점", "마트"), null, false, NO_ENRICHMENT);
+        int initialSearches = searchCalls();
+        assertThat(initialSearches).isPositive();
+        assertThat(flexibleNames(initial)).containsExactlyInAnyOrder("카페", "서점", "마트");
+
+        clearInvocations(apiIntegrationService);
+        OptimizeResponse edited = service.reoptimizeSchedule(initial.getPlanId(),
+            List.of(), flexible("약국"), List.of(), null, NO_ENRICHMENT);
+
+        // 새 항목의 카테고리만 검색하고, 이미 배치된 세 항목은 다시 검색하지 않음
+        assertThat(flexibleNames(edited)).containsExactlyInAnyOrder("카페", "서점", "마트", "약국");
+        assertThat(edited.getMetrics().getReplannedSchedules()).isEqualTo(1);
+        assertThat(searchCalls()).isEqualTo(edited.getMetrics().getPlaceSearches());
+        assertThat(searchCalls()).isBetween(1, initialSearches / 3);
+        assertThat(searchedCategories()).containsOnly("약국");
+    }
+
+    @Test
+    void removingOneFlexibleItemMakesNoProviderCalls() {
+        OptimizeResponse initial = service.optimizeSchedule(fixedSchedules(),
+            flexible("카페", "서점", "마트"), null, false, NO_ENRICHMENT);
+
+        clearInvocations(apiIntegrationService);
+        OptimizeResponse edited = service.reoptimizeSchedule(initial.getPlanId(),
+            List.of(), List.of(), List.of("flex-서점"), null, NO_ENRICHMENT);
+
+        assertThat(flexibleNames(edited)).containsExactlyInAnyOrder("카페", "마트");
+        assertThat(searchCalls()).isZero();
+    }
+
+    @Test
+    void mutatingTheResponseDoesNotChangeTheStoredPlan() {
+        OptimizeResponse initial = service.optimizeSchedule(fixedSchedules(),
+            flexible("카페", "서점"), null, false, NO_ENRICHMENT);
+        List<String> before = describe(initial.getOptimizedSchedules());
+
+        // 응답을 받은 쪽이 일정 객체를 고쳐도 (직렬화 전 가공 등) 저장된 계획에는 영향이 없어야 함
+        for (Schedule schedule : initial.getOptimizedSchedules()) {
+            schedule.setStartTime(schedule.getStartTime().plusHours(5));
+            schedule.setEndTime(schedule.getEndTime().plusHours(5));
+            schedule.setLocation(new Location(0.0, 0.0, "moved"));
+        }
+
+        OptimizeResponse unchanged = service.reoptimizeSchedule(initial.getPlanId(),
+            List.of(), List.of(), List.of(), null, NO_ENRICHMENT);
+
+        assertThat(describe(unchanged.getOptimizedSchedules())).containsExactlyElementsOf(before);
+    }
+
+    private int searchCalls() {
+        return (int) mockingDetails(apiIntegrationService).getInvocations().stream()
+            .filter(invocation -> invocation.getMethod().getName().equals("searchNearbyPlaces"))
+            .count();
+    }
+
+    private Set<String> searchedCategories() {
+        return mockingDetails(apiIntegrationService).getInvocations().stream()
+            .filter(invocation -> invocation.getMethod().getName().equals("searchNearbyPlaces"))
+            .map(invocation -> (String) invocation.getArgument(0))
+            .collect(Collectors.toSet());
+    }
+
+    private static List<String> flexibleNames(OptimizeResponse response) {
+        return response.getOptimizedSchedules().stream()
+            .filter(Schedule::isFlexible)
+            .map(Schedule::getName)
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> describe(List<Schedule> schedules) {
+        return schedules.stream()
+            .map(s -> s.getName() + "@" + s.getStartTime() + "-" + s.getEndTime()
+                + "(" + s.getLocation().getLatitude() + "," + s.getLocation().getLongitude() + ")")
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 약 5km 간격의 고정 일정 4개, 사이마다 2시간 빈 시간
+     */
+    private static List<Schedule> fixedSchedules() {
+        List<Schedule> schedules = new ArrayList<>();
+        schedules.add(fixed("회의", 9, 37.5665, 126.9780));
+        schedules.add(fixed("점심", 12, 37.5400, 127.0100));
+        schedules.add(fixed("미팅", 15, 37.5100, 127.0400));
+        schedules.add(fixed("저녁", 18, 37.4979, 127.0276));
+        return schedules;
+    }
+
+    private static Schedule fixed(String name, int hour, double lat, double lon) {
+        return Schedule.builder()
+            .id("fixed-" + name)
+            .name(name)
+            .type(ScheduleType.FIXED)
+            .location(new Location(lat, lon, name))
+            .startTime(DAY.withHour(hour))
+            .endTime(DAY.withHour(hour + 1))
+            .priority(1)
+            .estimatedDuration(60)
+            .build();
+    }
+
+    private static List<Schedule> flexible(String... names) {
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            schedules.add(Schedule.builder()
+                .id("flex-" + names[i])
+                .name(names[i])
+                .type(ScheduleType.FLEXIBLE)
+                .location(new Location(0.0, 0.0, names[i]))
+                .priority(i + 1)
+                .estimatedDuration(45)
+                .build());
+        }
+        return schedules;
+    }
+
+    private static List<Place> placesNear(String category, double lat, double lon) {
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Place place = new Place();
+            place.setPlace_id(category + "-" + lat + "-" + lon + "-" + i);
+            place.setName(category + " " + i);
+            place.setRating(4.0 + i * 0.2);
+            Geometry geometry = new Geometry();
+            Geometry.Location location = new Geometry.Location();
+            location.setLat(lat + 0.001 * (i + 1));
+            location.setLng(lon + 0.001 * (i + 1));
+            geometry.setLocation(location);
+            place.setGeometry(geometry);
+            places.add(place);
+        }
+        return places;
+    }
+}
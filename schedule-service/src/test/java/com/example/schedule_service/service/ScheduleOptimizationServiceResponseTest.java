@@ -0,0 +1,189 @@
+package com.example.schedule_service.service;
+
+import com.example.schedule_service.dto.domain.Location;
+import com.example.schedule_service.dto.domain.Schedule;
+import com.example.schedule_service.dto.domain.ScheduleType;
+import com.example.schedule_service.dto.scheduler.EnrichmentField;
+import com.example.schedule_service.dto.scheduler.OptimizeResponse;
+import com.example.schedule_service.dto.scheduler.OptimizeResponse.RouteSegment;
+import com.example.schedule_service.service.optimizer.GreedySolver;
+import com.example.schedule_service.service.optimizer.LocalSearchSolver;
+import com.example.schedule_service.service.optimizer.OptimizationBudget;
+import com.example.schedule_service.service.optimizer.OptimizationPlanStore;
+import com.example.schedule_service.service.travel.TravelTimeFillStrategy;
+import com.example.schedule_service.service.travel.TravelTimeMatrix;
+import com.example.schedule_service.service.travel.TravelTimeMatrixService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 응답 경로 구간이 연속 구간만 TMap 으로 조회하고, 시간대 가중치를 소요 시간과 교통 지수에 반영하는지
+ * TMap 응답은 구간마다 600초 / 1,500m, 시간대 가중치 1.2. 지역 탐색 절감 시간이 응답 메트릭에 그대로 실리는지도 확인
+ */
+class ScheduleOptimizationServiceResponseTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+    private final APIIntegrationService apiIntegrationService = mock(APIIntegrationService.class);
+    private final TmapService tmapService = mock(TmapService.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private TravelTimeMatrixService travelTimeMatrixService;
+    private ScheduleOptimizationService service;
+
+    @BeforeEach
+    void setUp() {
+        when(apiIntegrationService.getTimeBasedTrafficFactor(any())).thenReturn(1.2);
+        when(tmapService.getDetailedRoute(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq("CAR")))
+            .thenReturn(Map.of("features", List.of(Map.of("properties",
+                Map.of("totalTime", 600, "totalDistance", 1500)))));
+
+        travelTimeMatrixService = new TravelTimeMatrixService(tmapService, executor, 100);
+        ReflectionTestUtils.setField(travelTimeMatrixService, "estimateSpeedKmh", 30.0);
+        ReflectionTestUtils.setField(travelTimeMatrixService, "maxLiveCells", 24);
+        ReflectionTestUtils.setField(travelTimeMatrixService, "liveTimeoutMs", 1000L);
+
+        LocalSearchSolver localSearch = new LocalSearchSolver();
+        ReflectionTestUtils.setField(localSearch, "timeBudgetMs", 1000L);
+        ReflectionTestUtils.setField(localSearch, "maxIterations", 20000);
+        ReflectionTestUtils.setField(localSearch, "bufferMinutes", 15);
+
+        service = new ScheduleOptimizationService(apiIntegrationService, travelTimeMatrixService,
+            List.of(new GreedySolver(), localSearch), mock(SimpMessagingTemplate.class), executor,
+            new OptimizationPlanStore(10, 60), mock(CrowdLevelAnalyzer.class), executor);
+        ReflectionTestUtils.setField(service, "enrichmentTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(service, "scoringStrategy", TravelTimeFillStrategy.ESTIMATE);
+        ReflectionTestUtils.setField(service, "solverName", LocalSearchSolver.NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fourStopPlanMakesOneTmapCallPerLeg() {
+        OptimizeResponse response = createResponse(stops(4));
+
+        verify(tmapService, times(3)).getDetailedRoute(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq("CAR"));
+        assertThat(response.getRouteSegments()).hasSize(3);
+        for (RouteSegment segment : response.getRouteSegments()) {
+            assertThat(segment.getDistance()).isEqualTo(1.5);
+            assertThat(segment.getEstimatedTime()).isEqualTo(12);
+            assertThat(segment.getTrafficRate()).isEqualTo(1.2);
+        }
+        assertThat(response.getMetrics().getTotalTime()).isEqualTo(36);
+    }
+
+    @Test
+    void withoutRouteFieldNoTmapCallIsMade() {
+        OptimizeResponse response = createResponse(stops(4), EnumSet.noneOf(EnrichmentField.class));
+
+        verify(tmapService, never()).getDetailedRoute(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any());
+        assertThat(response.getRouteSegments()).isEmpty();
+    }
+
+    @Test
+    void travelTimeSavedIsGreedyMinusImprovedTravel() {
+        // 유연 일정이 동쪽에서 서쪽으로 거꾸로 놓인 그리디 결과: 고정(0) -> 3 -> 2 -> 1 -> 고정(4)
+        List<Schedule> greedy = new ArrayList<>();
+        greedy.add(stop("F0", 0, ScheduleType.FIXED, 9));
+        greedy.add(stop("S3", 3, ScheduleType.FLEXIBLE, 10));
+        greedy.add(stop("S2", 2, ScheduleType.FLEXIBLE, 11));
+        greedy.add(stop("S1", 1, ScheduleType.FLEXIBLE, 12));
+        greedy.add(stop("F4", 4, ScheduleType.FIXED, 18));
+        long greedyTravel = travelMinutes(greedy);
+
+        OptimizeResponse response = ReflectionTestUtils.invokeMethod(service, "finishOptimization",
+            new ArrayList<>(greedy), OptimizationBudget.unbounded(), false,
+            EnumSet.noneOf(EnrichmentField.class), Map.of());
+
+        List<Schedule> improved = response.getOptimizedSchedules();
+        assertThat(improved).extracting(Schedule::getName).containsExactly("F0", "S1", "S2", "S3", "F4");
+        assertThat(response.getMetrics().getSolver()).isEqualTo(LocalSearchSolver.NAME);
+        assertThat(response.getMetrics().getTravelTimeSaved())
+            .isEqualTo(greedyTravel - travelMinutes(improved))
+            .isPositive();
+        verify(tmapService, never()).getDetailedRoute(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any());
+    }
+
+    /**
+     * 해법과 같은 방식(구간마다 올림한 분)으로 잰 목록 순서대로의 총 이동 시간
+     */
+    private long travelMinutes(List<Schedule> schedules) {
+        TravelTimeMatrix matrix = travelTimeMatrixService.build(
+            schedules.stream().map(Schedule::getLocation).collect(Collectors.toList()),
+            TravelTimeFillStrategy.ESTIMATE);
+        long total = 0;
+        for (int i = 1; i < schedules.size(); i++) {
+            Location from = schedules.get(i - 1).getLocation();
+            Location to = schedules.get(i).getLocation();
+            total += (long) Math.ceil(matrix.minutesBetween(
+                from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude()));
+        }
+        return total;
+    }
+
+    private static Schedule stop(String name, int position, ScheduleType type, int hour) {
+        return Schedule.builder()
+            .id(name)
+            .name(name)
+            .type(type)
+            .location(new Location(37.5000, 127.0000 + position * 0.05, name))
+            .startTime(DAY.withHour(hour))
+            .endTime(DAY.withHour(hour).plusMinutes(30))
+            .priority(1)
+            .estimatedDuration(30)
+            .build();
+    }
+
+    private OptimizeResponse createResponse(List<Schedule> schedules) {
+        return createResponse(schedules, EnumSet.of(EnrichmentField.ROUTE));
+    }
+
+    private OptimizeResponse createResponse(List<Schedule> schedules, EnumSet<EnrichmentField> fields) {
+        return ReflectionTestUtils.invokeMethod(service, "createOptimizeResponse",
+            schedules, OptimizationBudget.unbounded(), fields, Map.of());
+    }
+
+    /**
+     * 동쪽으로 약 1km 간격, 2시간 간격 일정
+     */
+    private static List<Schedule> stops(int count) {
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            schedules.add(Schedule.builder()
+                .id("stop-" + i)
+                .name("일정" + i)
+                .type(ScheduleType.FIXED)
+                .location(new Location(37.5000, 127.0000 + i * 0.0113, "일정" + i))
+                .startTime(DAY.withHour(9 + i * 2))
+                .endTime(DAY.withHour(10 + i * 2))
+                .priority(1)
+                .estimatedDuration(60)
+                .build());
+        }
+        return schedules;
+    }
+}
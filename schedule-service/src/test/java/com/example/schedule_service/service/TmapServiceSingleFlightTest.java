@@ -0,0 +1,132 @@
+package com.example.schedule_service.service;
+
+import com.example.common.concurrent.SingleFlight;
+import com.example.common.ratelimit.ProviderRequestScheduler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 TMap 경로 요청 N개를 동시에 보내면 로컬 스텁 서버에는 요청이 한 번만 도착하는지
+ */
+class TmapServiceSingleFlightTest {
+
+    private static final int CALLERS = 8;
+    private static final String ROUTE_RESPONSE =
+            "{\"type\":\"FeatureCollection\",\"features\":[{\"properties\":{\"totalTime\":600,\"totalDistance\":4200}}]}";
+
+    private HttpServer stub;
+    private final AtomicInteger upstreamRequests = new AtomicInteger();
+    private final SingleFlight<String> flights = new SingleFlight<>();
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    private TmapService tmapService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/", exchange -> {
+            upstreamRequests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            // 나머지 호출자가 모두 진행 중인 요청에 합류할 때까지 응답 보류
+            waitForCoalesced(CALLERS - 1);
+            byte[] body = ROUTE_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.start();
+
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(redirectTo(stub.getAddress()));
+        tmapService = new TmapService(restTemplate, new ProviderRequestScheduler(Map.of()), flights);
+        ReflectionTestUtils.setField(tmapService, "apiKey", "test-key");
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        stub.stop(0);
+    }
+
+    @Test
+    void identicalParallelRouteCallsSendOneUpstreamRequest() throws Exception {
+        List<Future<Map<String, Object>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(() -> tmapService.getDetailedRoute(37.5665, 126.9780, 37.4979, 127.0276, "CAR")));
+        }
+
+        for (Future<Map<String, Object>> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).containsKey("features");
+        }
+        assertThat(upstreamRequests.get()).isEqualTo(1);
+        assertThat(flights.getExecutedCount()).isEqualTo(1);
+        assertThat(flights.getCoalescedCount()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void differentRoutesAreNotCoalesced() throws Exception {
+        Future<Map<String, Object>> car = callers.submit(
+                () -> tmapService.getDetailedRoute(37.5665, 126.9780, 37.4979, 127.0276, "CAR"));
+        car.get(10, TimeUnit.SECONDS);
+        tmapService.getDetailedRoute(37.5665, 126.9780, 37.5700, 127.0000, "CAR");
+
+        assertThat(upstreamRequests.get()).isEqualTo(2);
+        assertThat(flights.getCoalescedCount()).isZero();
+    }
+
+    private void waitForCoalesced(long expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (flights.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * TMap 실제 호스트로 가는 요청을 스텁 서버로 돌림 (경로/쿼리는 유지)
+     */
+    private static ClientHttpRequestInterceptor redirectTo(InetSocketAddress address) {
+        return (request, body, execution) -> {
+            URI target = UriComponentsBuilder.fromUri(request.getURI())
+                    .scheme("http")
+                    .host(address.getHostString())
+                    .port(address.getPort())
+                    .build(true)
+                    .toUri();
+            HttpRequest redirected = new HttpRequestWrapper(request) {
+                @Override
+                public URI getURI() {
+                    return target;
+                }
+            };
+            return execution.execute(redirected, body);
+        };
+    }
+}
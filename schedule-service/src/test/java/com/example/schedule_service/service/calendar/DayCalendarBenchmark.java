@@ -0,0 +1,181 @@
+package com.example.schedule_service.service.calendar;
+
+import com.example.schedule_service.dto.domain.Schedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DayCalendar} 와 이전 스캔 코드 비교 (days 일 동안 하루 고정 일정 8개 + 유연 일정 placements 개)
+ *
+ * - placement: ScheduleOptimizationService 배치 루프. 이전에는 배치마다 전체 일정을 정렬하고
+ *   인접 쌍을 훑어 30분 이상 빈 슬롯을 찾았고, 지금은 달력을 한 번 만들고 배치된 일정만 추가한 뒤 gaps 호출
+ * - windows: FlexibleScheduleService.findAvailableTimeWindows. 이전에는 고정 일정 인접 쌍을 훑었고,
+ *   지금은 달력을 만든 뒤 gaps 호출 (빔 탐색의 창 점유는 달력이 아니라 PlanNode 창 번호로 확인하므로 제외)
+ * legacy* 는 27baaac 이전 코드에서 로그만 뺀 복사본.
+ *
+ * 실행: mvn -q test-compile 후 테스트 클래스패스로 {@link #main} 실행
+ * (또는 java -cp ... org.openjdk.jmh.Main DayCalendarBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DayCalendarBenchmark {
+
+    private static final int MIN_SLOT_DURATION = 30;
+    private static final int MIN_TRAVEL_TIME = 30;
+    private static final int VISIT_MINUTES = 20;
+
+    private static final int FIXED_PER_DAY = 8;
+
+    @Param({"1", "7"})
+    private int days;
+
+    @Param({"8"})
+    private int placements;
+
+    private LocalDateTime now;
+    private LocalDateTime endOfDay;
+    private List<Schedule> fixedSchedules;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        now = LocalDateTime.of(2026, 10, 17, 7, 0);
+        endOfDay = now.plusDays(days - 1L).withHour(22);
+        // 날마다 08:00~22:00 을 8칸(105분)으로 나누고 칸 앞쪽에 25~50분짜리 고정 일정 하나
+        fixedSchedules = new ArrayList<>(days * FIXED_PER_DAY);
+        for (int d = 0; d < days; d++) {
+            LocalDateTime dayStart = now.plusDays(d).withHour(8);
+            for (int i = 0; i < FIXED_PER_DAY; i++) {
+                LocalDateTime start = dayStart.plusMinutes(i * 105L);
+                fixedSchedules.add(schedule("fixed" + d + "-" + i, start, start.plusMinutes(25 + random.nextInt(26))));
+            }
+        }
+    }
+
+    @Benchmark
+    public int legacyPlacement() {
+        List<Schedule> working = new ArrayList<>(fixedSchedules);
+        int found = 0;
+        for (int i = 0; i < placements; i++) {
+            List<LocalDateTime[]> slots = legacyFindAvailableTimeSlots(working);
+            found += slots.size();
+            LocalDateTime start = slots.get(0)[0];
+            working.add(schedule("flex" + i, start, start.plusMinutes(VISIT_MINUTES)));
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int calendarPlacement() {
+        DayCalendar<Schedule> calendar = new DayCalendar<>(now, endOfDay);
+        for (Schedule schedule : fixedSchedules) {
+            calendar.add(schedule.getStartTime(), schedule.getEndTime(), schedule);
+        }
+        int found = 0;
+        for (int i = 0; i < placements; i++) {
+            List<DayCalendar.Gap<Schedule>> gaps = calendar.gaps(MIN_SLOT_DURATION);
+            gaps.sort(Comparator.comparingInt((DayCalendar.Gap<Schedule> gap) -> gap.getMinutes()).reversed());
+            found += gaps.size();
+            LocalDateTime start = gaps.get(0).getStart();
+            Schedule flexible = schedule("flex" + i, start, start.plusMinutes(VISIT_MINUTES));
+            calendar.add(flexible.getStartTime(), flexible.getEndTime(), flexible);
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int legacyWindows() {
+        int windows = 0;
+        if (fixedSchedules.get(0).getStartTime().isAfter(now.plusMinutes(30))) {
+            windows++;
+        }
+        for (int i = 0; i < fixedSchedules.size() - 1; i++) {
+            Schedule current = fixedSchedules.get(i);
+            Schedule next = fixedSchedules.get(i + 1);
+            LocalDateTime earliestNextStart = current.getEndTime().plusMinutes(MIN_TRAVEL_TIME);
+            if (earliestNextStart.isBefore(next.getStartTime())) {
+                windows++;
+            }
+        }
+        return windows;
+    }
+
+    @Benchmark
+    public int calendarWindows() {
+        DayCalendar<Schedule> calendar = new DayCalendar<>(now, endOfDay);
+        for (Schedule schedule : fixedSchedules) {
+            calendar.add(schedule.getStartTime(), schedule.getEndTime(), schedule);
+        }
+        int windows = 0;
+        for (DayCalendar.Gap<Schedule> gap : calendar.gaps(MIN_TRAVEL_TIME + 1)) {
+            boolean between = gap.getPrevious() != null && gap.getNext() != null;
+            if (between || gap.getMinutes() > 30) {
+                windows++;
+            }
+        }
+        return windows;
+    }
+
+    /**
+     * 이전 ScheduleOptimizationService.findAvailableTimeSlots (로그 제외)
+     */
+    private List<LocalDateTime[]> legacyFindAvailableTimeSlots(List<Schedule> schedules) {
+        List<LocalDateTime[]> slots = new ArrayList<>();
+        schedules.sort(Comparator.comparing(Schedule::getStartTime));
+
+        Schedule firstSchedule = schedules.get(0);
+        if (firstSchedule.getStartTime().isAfter(now.plusMinutes(MIN_SLOT_DURATION))) {
+            slots.add(new LocalDateTime[]{now, firstSchedule.getStartTime()});
+        }
+        for (int i = 0; i < schedules.size() - 1; i++) {
+            LocalDateTime slotStart = schedules.get(i).getEndTime();
+            LocalDateTime slotEnd = schedules.get(i + 1).getStartTime();
+            if (Duration.between(slotStart, slotEnd).toMinutes() >= MIN_SLOT_DURATION) {
+                slots.add(new LocalDateTime[]{slotStart, slotEnd});
+            }
+        }
+        Schedule lastSchedule = schedules.get(schedules.size() - 1);
+        if (lastSchedule.getEndTime().plusMinutes(MIN_SLOT_DURATION).isBefore(endOfDay)) {
+            slots.add(new LocalDateTime[]{lastSchedule.getEndTime(), endOfDay});
+        }
+
+        slots.sort((a, b) -> Long.compare(
+                Duration.between(b[0], b[1]).toMinutes(),
+                Duration.between(a[0], a[1]).toMinutes()));
+        return slots;
+    }
+
+    private static Schedule schedule(String name, LocalDateTime start, LocalDateTime end) {
+        return Schedule.builder().id(name).name(name).startTime(start).endTime(end).build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DayCalendarBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
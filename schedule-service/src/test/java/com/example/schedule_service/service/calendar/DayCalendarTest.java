@@ -0,0 +1,135 @@
+package com.example.schedule_service.service.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 워드(64분) 경계, 범위 밖 일정 자르기, 겹치거나 같은 분에 시작/종료하는 일정
+ * 달력은 00:00 부터 200분 (워드 4개, 마지막 워드는 8분만 사용)
+ */
+class DayCalendarTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2026, 3, 2, 0, 0);
+    private static final int HORIZON = 200;
+
+    private final DayCalendar<String> calendar = new DayCalendar<>(ORIGIN, at(HORIZON));
+
+    @Test
+    void emptyCalendarIsOneGap() {
+        List<DayCalendar.Gap<String>> gaps = calendar.gaps(1);
+
+        assertThat(gaps).hasSize(1);
+        assertGap(gaps.get(0), 0, HORIZON, null, null);
+        assertThat(calendar.isFree(at(0), at(HORIZON))).isTrue();
+        assertThat(calendar.size()).isZero();
+    }
+
+    @Test
+    void busyMinutesAroundWordBoundaries() {
+        calendar.add(at(0), at(1), "first");
+        calendar.add(at(63), at(65), "straddle");
+        calendar.add(at(128), at(129), "third-word");
+
+        assertThat(busyMinutes()).containsExactly(0, 63, 64, 128);
+        assertThat(calendar.isFree(at(1), at(63))).isTrue();
+        assertThat(calendar.isFree(at(1), at(64))).isFalse();
+        assertThat(calendar.isFree(at(65), at(128))).isTrue();
+        assertThat(calendar.isFree(at(65), at(129))).isFalse();
+
+        List<DayCalendar.Gap<String>> gaps = calendar.gaps(1);
+        assertThat(gaps).hasSize(3);
+        assertGap(gaps.get(0), 1, 63, "first", "straddle");
+        assertGap(gaps.get(1), 65, 128, "straddle", "third-word");
+        assertGap(gaps.get(2), 129, HORIZON, "third-word", null);
+    }
+
+    @Test
+    void wholeWordsAndSpansAcrossSeveralWords() {
+        calendar.add(at(64), at(128), "second-word");
+        calendar.add(at(130), at(HORIZON), "to-the-end");
+
+        assertThat(calendar.isBusy(at(63))).isFalse();
+        assertThat(calendar.isBusy(at(64))).isTrue();
+        assertThat(calendar.isBusy(at(127))).isTrue();
+        assertThat(calendar.isBusy(at(128))).isFalse();
+        assertThat(calendar.isBusy(at(HORIZON - 1))).isTrue();
+
+        List<DayCalendar.Gap<String>> gaps = calendar.gaps(2);
+        assertThat(gaps).hasSize(2);
+        assertGap(gaps.get(0), 0, 64, null, "second-word");
+        assertGap(gaps.get(1), 128, 130, "second-word", "to-the-end");
+        assertThat(calendar.gaps(3)).hasSize(1);
+    }
+
+    @Test
+    void schedulesOutsideTheRangeAreClamped() {
+        calendar.add(at(-30), at(10), "overnight");
+        calendar.add(at(190), at(260), "late");
+        calendar.add(at(-60), at(-10), "yesterday");
+        calendar.add(at(HORIZON), at(HORIZON + 30), "tomorrow");
+
+        assertThat(calendar.size()).isEqualTo(2);
+        assertThat(calendar.isBusy(at(-1))).isFalse();
+        assertThat(calendar.isBusy(at(0))).isTrue();
+        assertThat(calendar.isBusy(at(HORIZON))).isFalse();
+        assertThat(calendar.isFree(at(-60), at(0))).isTrue();
+
+        List<DayCalendar.Gap<String>> gaps = calendar.gaps(1);
+        assertThat(gaps).hasSize(1);
+        assertGap(gaps.get(0), 10, 190, "overnight", "late");
+    }
+
+    @Test
+    void overlappingAndSameMinuteSchedulesAreAllKept() {
+        calendar.add(at(60), at(120), "long");
+        calendar.add(at(60), at(75), "same-start");
+        calendar.add(at(90), at(120), "same-end");
+        calendar.add(at(100), at(110), "inside");
+
+        assertThat(calendar.size()).isEqualTo(4);
+        assertThat(busyMinutes()).hasSize(60).startsWith(60).endsWith(119);
+
+        List<DayCalendar.Gap<String>> gaps = calendar.gaps(1);
+        assertThat(gaps).hasSize(2);
+        // 같은 분에 시작하면 먼저 추가한 일정, 같은 분에 끝나면 나중에 추가한 일정
+        assertGap(gaps.get(0), 0, 60, null, "long");
+        assertGap(gaps.get(1), 120, HORIZON, "same-end", null);
+    }
+
+    @Test
+    void gapPreviousIsTheLatestEndingScheduleBeforeIt() {
+        calendar.add(at(10), at(50), "outer");
+        calendar.add(at(20), at(30), "nested");
+        calendar.add(at(80), at(90), "next");
+
+        List<DayCalendar.Gap<String>> gaps = calendar.gaps(30);
+
+        assertThat(gaps).hasSize(2);
+        assertGap(gaps.get(0), 50, 80, "outer", "next");
+        assertGap(gaps.get(1), 90, HORIZON, "next", null);
+    }
+
+    private List<Integer> busyMinutes() {
+        return IntStream.range(-5, HORIZON + 5)
+                .filter(minute -> calendar.isBusy(at(minute)))
+                .boxed()
+                .toList();
+    }
+
+    private static void assertGap(DayCalendar.Gap<String> gap, int start, int end, String previous, String next) {
+        assertThat(gap.getStart()).isEqualTo(at(start));
+        assertThat(gap.getEnd()).isEqualTo(at(end));
+        assertThat(gap.getMinutes()).isEqualTo(end - start);
+        assertThat(gap.getPrevious()).isEqualTo(previous);
+        assertThat(gap.getNext()).isEqualTo(next);
+    }
+
+    private static LocalDateTime at(int minute) {
+        return ORIGIN.plusMinutes(minute);
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.schedule_service.service.optimizer;
+
+import com.example.schedule_service.dto.domain.Location;
+import com.example.schedule_service.dto.domain.Schedule;
+import com.example.schedule_service.dto.domain.ScheduleType;
+import com.example.schedule_service.service.TmapService;
+import com.example.schedule_service.service.travel.TravelTimeFillStrategy;
+import com.example.schedule_service.service.travel.TravelTimeMatrix;
+import com.example.schedule_service.service.travel.TravelTimeMatrixService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 시간 창 지역 탐색이 고정 일정을 움직이지 않고, 지각이 생기는 순서를 거르고, 꼬인 경로를 풀고, 예산에서 멈추는지
+ * 모든 지점은 위도 37.5 위 동서 일직선, 경도 0.05도(약 4.4km, 30km/h 로 9분) 간격
+ */
+class LocalSearchSolverTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+    private static final double STEP = 0.05;
+
+    private final TravelTimeMatrixService travelTimeMatrixService =
+            new TravelTimeMatrixService(mock(TmapService.class), mock(ExecutorService.class), 100);
+    private final LocalSearchSolver solver = new LocalSearchSolver();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(travelTimeMatrixService, "estimateSpeedKmh", 30.0);
+        ReflectionTestUtils.setField(solver, "timeBudgetMs", 1000L);
+        ReflectionTestUtils.setField(solver, "maxIterations", 20000);
+        ReflectionTestUtils.setField(solver, "bufferMinutes", 15);
+    }
+
+    @Test
+    void reversedStretchIsStraightenedAndSavingIsGreedyMinusImproved() {
+        // 0 -> 4 -> 3 -> 2 -> 1 -> 5 를 0 -> 1 -> 2 -> 3 -> 4 -> 5 로
+        List<Schedule> schedules = route(4, 3, 2, 1);
+        TravelTimeMatrix matrix = matrixFor(schedules);
+        long greedyTravel = ScheduleTimeline.travelMinutesInOrder(schedules, matrix);
+
+        SolverResult result = solver.solve(new ArrayList<>(schedules), matrix, Long.MAX_VALUE);
+
+        assertThat(names(result.getSchedules())).containsExactly("F0", "S1", "S2", "S3", "S4", "F5");
+        assertThat(result.isImproved()).isTrue();
+        assertThat(result.isConverged()).isTrue();
+        assertThat(result.getGreedyTravelMinutes()).isEqualTo(greedyTravel);
+        assertThat(result.getTravelMinutes()).isEqualTo(ScheduleTimeline.travelMinutesInOrder(result.getSchedules(), matrix));
+        assertThat(result.getTravelTimeSaved()).isEqualTo(greedyTravel - result.getTravelMinutes()).isPositive();
+        assertFlexibleTimesFollowOrder(result.getSchedules());
+    }
+
+    @Test
+    void crossedPairInsideALongerStretchIsUncrossed() {
+        List<Schedule> schedules = route(1, 3, 2, 4);
+        TravelTimeMatrix matrix = matrixFor(schedules);
+
+        SolverResult result = solver.solve(new ArrayList<>(schedules), matrix, Long.MAX_VALUE);
+
+        assertThat(names(result.getSchedules())).containsExactly("F0", "S1", "S2", "S3", "S4", "F5");
+        assertThat(result.getTravelMinutes()).isEqualTo(5 * legMinutes(matrix));
+    }
+
+    @Test
+    void fixedSchedulesKeepTheirTimesAndOrder() {
+        List<Schedule> schedules = new ArrayList<>();
+        schedules.add(fixed("F0", 0, 9, 10));
+        schedules.add(flexible("S3", 3, 10, 30));
+        schedules.add(fixed("M2", 2, 12, 13));
+        schedules.add(flexible("S1", 1, 13, 30));
+        schedules.add(flexible("S4", 4, 14, 30));
+        schedules.add(fixed("F5", 5, 18, 19));
+        List<String> fixedBefore = describeFixed(schedules);
+
+        SolverResult result = solver.solve(new ArrayList<>(schedules), matrixFor(schedules), Long.MAX_VALUE);
+
+        assertThat(result.isImproved()).isTrue();
+        assertThat(describeFixed(result.getSchedules())).containsExactlyElementsOf(fixedBefore);
+        // 유연 일정만 고정 일정 사이를 오가며 자리를 바꿈
+        assertThat(names(result.getSchedules())).containsExactly("F0", "S1", "M2", "S3", "S4", "F5");
+    }
+
+    @Test
+    void moveThatMakesAFlexibleScheduleLateIsRejected() {
+        // 먼 곳(3)의 일정을 뒤로 미루면 이동은 줄지만 11:30 마감을 넘김
+        Schedule far = flexible("FAR", 3, 10, 60);
+        far.getConstraints().setLatestEndTime(DAY.withHour(11).withMinute(30));
+        List<Schedule> schedules = new ArrayList<>();
+        schedules.add(fixed("F0", 0, 9, 10));
+        schedules.add(far);
+        schedules.add(flexible("NEAR", 0, 12, 60));
+        schedules.add(fixed("F5", 3, 15, 16));
+        TravelTimeMatrix matrix = matrixFor(schedules);
+
+        SolverResult result = solver.solve(new ArrayList<>(schedules), matrix, Long.MAX_VALUE);
+
+        assertThat(result.isImproved()).isFalse();
+        assertThat(names(result.getSchedules())).containsExactly("F0", "FAR", "NEAR", "F5");
+        assertThat(far.getEndTime()).isBefore(DAY.withHour(11).withMinute(31));
+
+        // 마감이 없으면 같은 이동이 채택됨
+        far.getConstraints().setLatestEndTime(null);
+        SolverResult unconstrained = solver.solve(new ArrayList<>(schedules), matrix, Long.MAX_VALUE);
+        assertThat(names(unconstrained.getSchedules())).containsExactly("F0", "NEAR", "FAR", "F5");
+    }
+
+    @Test
+    void moveThatMakesAFixedScheduleLateIsRejected() {
+        // S0 를 M3 앞으로 옮기면 이동이 81분에서 27분으로 줄지만 11시 M3 에 42분 늦음
+        Schedule meeting = fixed("M3", 3, 11, 12);
+        List<Schedule> schedules = new ArrayList<>();
+        schedules.add(fixed("F0", 0, 9, 10));
+        schedules.add(meeting);
+        schedules.add(flexible("S0", 0, 12, 60));
+        schedules.add(fixed("F3", 3, 18, 19));
+        TravelTimeMatrix matrix = matrixFor(schedules);
+
+        SolverResult result = solver.solve(new ArrayList<>(schedules), matrix, Long.MAX_VALUE);
+
+        assertThat(result.isImproved()).isFalse();
+        assertThat(names(result.getSchedules())).containsExactly("F0", "M3", "S0", "F3");
+
+        // 회의가 12시면 같은 이동이 제시간에 맞으므로 채택됨
+        meeting.setStartTime(DAY.withHour(12));
+        meeting.setEndTime(DAY.withHour(13));
+        schedules.get(2).setStartTime(DAY.withHour(13).withMinute(30));
+        schedules.get(2).setEndTime(DAY.withHour(14).withMinute(30));
+        SolverResult feasible = solver.solve(new ArrayList<>(schedules), matrix, Long.MAX_VALUE);
+        assertThat(names(feasible.getSchedules())).containsExactly("F0", "S0", "M3", "F3");
+        assertThat(meeting.getStartTime()).isEqualTo(DAY.withHour(12));
+    }
+
+    @Test
+    void iterationBudgetStopsTheSearch() {
+        ReflectionTestUtils.setField(solver, "maxIterations", 1);
+        List<Schedule> schedules = route(4, 3, 2, 1);
+
+        SolverResult result = solver.solve(new ArrayList<>(schedules), matrixFor(schedules), Long.MAX_VALUE);
+
+        assertThat(result.getIterations()).isEqualTo(1);
+        assertThat(result.isConverged()).isFalse();
+    }
+
+    @Test
+    void exhaustedTimeBudgetReturnsTheGreedyOrder() {
+        List<Schedule> schedules = route(4, 3, 2, 1);
+
+        SolverResult result = solver.solve(new ArrayList<>(schedules), matrixFor(schedules), 0);
+
+        assertThat(result.isConverged()).isFalse();
+        assertThat(result.isImproved()).isFalse();
+        assertThat(result.getTravelTimeSaved()).isZero();
+        assertThat(names(result.getSchedules())).containsExactly("F0", "S4", "S3", "S2", "S1", "F5");
+    }
+
+    /**
+     * 09시 고정 일정(0), 유연 일정 4개(30분, 주어진 위치 순), 18시 고정 일정(5)
+     */
+    private static List<Schedule> route(int... flexiblePositions) {
+        List<Schedule> schedules = new ArrayList<>();
+        schedules.add(fixed("F0", 0, 9, 10));
+        for (int i = 0; i < flexiblePositions.length; i++) {
+            schedules.add(flexible("S" + flexiblePositions[i], flexiblePositions[i], 10 + i, 30));
+        }
+        schedules.add(fixed("F5", 5, 18, 19));
+        return schedules;
+    }
+
+    private TravelTimeMatrix matrixFor(List<Schedule> schedules) {
+        return travelTimeMatrixService.build(
+                schedules.stream().map(Schedule::getLocation).collect(Collectors.toList()),
+                TravelTimeFillStrategy.ESTIMATE);
+    }
+
+    private static long legMinutes(TravelTimeMatrix matrix) {
+        return (long) Math.ceil(matrix.minutesBetween(37.5, 127.0, 37.5, 127.0 + STEP));
+    }
+
+    private static void assertFlexibleTimesFollowOrder(List<Schedule> schedules) {
+        for (int i = 1; i < schedules.size(); i++) {
+            assertThat(schedules.get(i).getStartTime()).isAfterOrEqualTo(schedules.get(i - 1).getEndTime());
+        }
+    }
+
+    private static List<String> names(List<Schedule> schedules) {
+        return schedules.stream().map(Schedule::getName).collect(Collectors.toList());
+    }
+
+    private static List<String> describeFixed(List<Schedule> schedules) {
+        return schedules.stream()
+                .filter(schedule -> !schedule.isFlexible())
+                .map(schedule -> schedule.getName() + "@" + schedule.getStartTime() + "-" + schedule.getEndTime())
+                .collect(Collectors.toList());
+    }
+
+    private static Schedule fixed(String name, int position, int startHour, int endHour) {
+        return Schedule.builder()
+                .id(name)
+                .name(name)
+                .type(ScheduleType.FIXED)
+                .location(new Location(37.5, 127.0 + position * STEP, name))
+                .startTime(DAY.withHour(startHour))
+                .endTime(DAY.withHour(endHour))
+                .build();
+    }
+
+    private static Schedule flexible(String name, int position, int startHour, int minutes) {
+        return Schedule.builder()
+                .id(name)
+                .name(name)
+                .type(ScheduleType.FLEXIBLE)
+                .location(new Location(37.5, 127.0 + position * STEP, name))
+                .startTime(DAY.withHour(startHour))
+                .endTime(DAY.withHour(startHour).plusMinutes(minutes))
+                .estimatedDuration(minutes)
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.schedule_service.service.optimizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * nonDominated / spread 를 O(n²) 전수 비교와 대조
+ * 목표값을 작은 정수 격자에서 뽑아 동점·동일 벡터가 자주 나오게 하고, 마지막 열은 지배 판단에 쓰지 않는 동점 처리 값
+ */
+class ParetoFrontTest {
+
+    private static final int SEEDS = 200;
+
+    @Test
+    void nonDominatedMatchesBruteForceForThreeObjectives() {
+        for (int seed = 0; seed < SEEDS; seed++) {
+            double[][] points = gridPoints(new Random(seed), 5 + seed % 60, 4, 6);
+            assertThat(ParetoFront.nonDominated(points, 3))
+                    .as("seed %d", seed)
+                    .containsExactly(bruteForceFront(points, 3));
+        }
+    }
+
+    @Test
+    void nonDominatedMatchesBruteForceForTwoObjectives() {
+        for (int seed = 0; seed < SEEDS; seed++) {
+            double[][] points = gridPoints(new Random(seed), 5 + seed % 60, 3, 8);
+            assertThat(ParetoFront.nonDominated(points, 2))
+                    .as("seed %d", seed)
+                    .containsExactly(bruteForceFront(points, 2));
+        }
+    }
+
+    @Test
+    void identicalObjectiveVectorsKeepOnlyTheFirstInLexicographicOrder() {
+        double[][] points = {
+                {1, 2, 3, 9},
+                {1, 2, 3, 4},
+                {1, 2, 3, 4},
+                {2, 1, 3, 0},
+        };
+
+        // 앞 세 목표가 같은 0~2 중 동점 처리 값이 가장 작은 1 (같으면 앞 인덱스)
+        assertThat(ParetoFront.nonDominated(points, 3)).containsExactly(1, 3);
+    }
+
+    @Test
+    void staircaseDropsPointsCoveredByALaterPoint() {
+        // (2, 5, 5) 와 (2, 6, 4) 가 계단에 올라간 뒤 (3, 4, 1) 이 둘을 덮어 계단에서 빠지지만 프런트에는 남음
+        double[][] points = {
+                {2, 5, 5},
+                {2, 6, 4},
+                {3, 4, 1},
+                {4, 6, 4},
+                {4, 4, 2},
+                {5, 3, 3},
+        };
+
+        assertThat(ParetoFront.nonDominated(points, 3)).containsExactly(bruteForceFront(points, 3));
+        assertThat(ParetoFront.nonDominated(points, 3)).containsExactly(0, 1, 2, 5);
+    }
+
+    @Test
+    void rejectsUnsupportedObjectiveCounts() {
+        assertThatThrownBy(() -> ParetoFront.nonDominated(new double[][]{{1, 2, 3, 4}}, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void spreadMatchesBruteForceCrowdingAndKeepsEachMinimum() {
+        for (int seed = 0; seed < SEEDS; seed++) {
+            Random random = new Random(seed);
+            double[][] points = new double[30 + seed % 100][3];
+            for (double[] point : points) {
+                for (int d = 0; d < 3; d++) {
+                    point[d] = random.nextDouble();
+                }
+            }
+            int[] front = ParetoFront.nonDominated(points, 3);
+            int limit = 3 + seed % 5;
+
+            int[] chosen = ParetoFront.spread(points, 3, front, limit);
+
+            if (front.length <= limit) {
+                assertThat(chosen).isSameAs(front);
+                continue;
+            }
+            assertThat(chosen).as("seed %d", seed).containsExactly(bruteForceSpread(points, 3, front, limit));
+            for (int d = 0; d < 3; d++) {
+                final int objective = d;
+                int best = Arrays.stream(front).boxed()
+                        .min(Comparator.comparingDouble(index -> points[index][objective]))
+                        .orElseThrow();
+                assertThat(chosen).as("seed %d objective %d", seed, d).contains(best);
+            }
+        }
+    }
+
+    /**
+     * 다른 어떤 점에도 지배되지 않고, 앞 dims 목표가 같은 점 중 전체 벡터 사전순(같으면 인덱스순) 첫 번째인 점
+     */
+    private static int[] bruteForceFront(double[][] points, int dims) {
+        List<Integer> front = new ArrayList<>();
+        for (int i = 0; i < points.length; i++) {
+            boolean kept = true;
+            for (int j = 0; j < points.length && kept; j++) {
+                if (j == i) {
+                    continue;
+                }
+                boolean noWorse = true;
+                boolean better = false;
+                for (int d = 0; d < dims; d++) {
+                    noWorse &= points[j][d] <= points[i][d];
+                    better |= points[j][d] < points[i][d];
+                }
+                if (noWorse && better) {
+                    kept = false;
+                } else if (noWorse) {
+                    int order = Arrays.compare(points[j], points[i]);
+                    kept = order > 0 || (order == 0 && j > i);
+                }
+            }
+            if (kept) {
+                front.add(i);
+            }
+        }
+        return front.stream()
+                .sorted((a, b) -> Arrays.compare(points[a], points[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * 목표마다 값이 바로 아래/위인 점을 전수 탐색해 혼잡 거리 계산 (최솟값은 무한대, 최댓값은 위쪽 간격 0)
+     * 연속 난수라 동점이 없다고 보고 혼잡 거리 상위 limit 개를 front 순서로 반환
+     */
+    private static int[] bruteForceSpread(double[][] points, int dims, int[] front, int limit) {
+        int n = front.length;
+        double[] crowding = new double[n];
+        for (int d = 0; d < dims; d++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int index : front) {
+                min = Math.min(min, points[index][d]);
+                max = Math.max(max, points[index][d]);
+            }
+            for (int k = 0; k < n; k++) {
+                double value = points[front[k]][d];
+                if (value == min) {
+                    crowding[k] = Double.POSITIVE_INFINITY;
+                    continue;
+                }
+                double below = Double.NEGATIVE_INFINITY;
+                double above = Double.POSITIVE_INFINITY;
+                for (int other : front) {
+                    double candidate = points[other][d];
+                    if (candidate < value) {
+                        below = Math.max(below, candidate);
+                    } else if (candidate > value) {
+                        above = Math.min(above, candidate);
+                    }
+                }
+                crowding[k] += ((above == Double.POSITIVE_INFINITY ? value : above) - below) / (max - min);
+            }
+        }
+        return IntStream.range(0, n).boxed()
+                .sorted(Comparator.comparingDouble((Integer k) -> crowding[k]).reversed())
+                .limit(limit)
+                .sorted()
+                .mapToInt(k -> front[k])
+                .toArray();
+    }
+
+    private static double[][] gridPoints(Random random, int count, int width, int levels) {
+        double[][] points = new double[count][width];
+        for (double[] point : points) {
+            for (int d = 0; d < width; d++) {
+                point[d] = random.nextInt(levels);
+            }
+        }
+        return points;
+    }
+}
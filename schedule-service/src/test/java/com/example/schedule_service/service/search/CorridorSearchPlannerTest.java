@@ -0,0 +1,141 @@
+package com.example.schedule_service.service.search;
+
+import com.example.common.geo.GeoMath;
+import com.example.schedule_service.dto.domain.Location;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorridorSearchPlannerTest {
+
+    private static final int RADIUS = 15000;
+    private static final double HALF_WIDTH_RATIO = 0.5;
+    private static final double LAT = 37.5;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private static final List<ProviderQuery> QUERIES = List.of(
+            ProviderQuery.keyword(PlaceProvider.KAKAO, "카페"),
+            ProviderQuery.keyword(PlaceProvider.NAVER, "카페"),
+            ProviderQuery.category(PlaceProvider.FOURSQUARE, "13032"));
+
+    private CorridorSearchPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        planner = new CorridorSearchPlanner();
+        ReflectionTestUtils.setField(planner, "halfWidthRatio", HALF_WIDTH_RATIO);
+    }
+
+    @Test
+    void shortRouteIsSearchedFromOneSamplePoint() {
+        List<Location> samples = samplesEastward(10_000, 5);
+
+        CorridorSearchPlan plan = planner.plan(samples, RADIUS, QUERIES);
+
+        assertThat(plan.getCircles()).hasSize(1);
+        assertThat(samples).contains(plan.getCircles().get(0));
+        assertThat(plan.getDroppedSamplePoints()).isEqualTo(4);
+        assertThat(plan.getLegacyCalls()).isEqualTo(15);
+        assertThat(plan.getPlannedCalls()).isEqualTo(3);
+        assertThat(plan.getSavedCalls()).isEqualTo(12);
+        assertCorridorCovered(samples, plan.getCircles());
+    }
+
+    @Test
+    void mediumRouteDropsCoveredSamplePoints() {
+        List<Location> samples = samplesEastward(40_000, 5);
+
+        CorridorSearchPlan plan = planner.plan(samples, RADIUS, QUERIES);
+
+        assertThat(plan.getCircles()).hasSizeLessThan(samples.size());
+        assertThat(samples).containsAll(plan.getCircles());
+        assertThat(plan.getDroppedSamplePoints()).isEqualTo(samples.size() - plan.getCircles().size());
+        assertThat(plan.getPlannedCalls()).isLessThan(plan.getLegacyCalls());
+        assertCorridorCovered(samples, plan.getCircles());
+    }
+
+    @Test
+    void circlesFollowRouteOrderAndReachTheEnd() {
+        List<Location> samples = samplesEastward(40_000, 5);
+
+        List<Location> circles = planner.coverCorridor(samples, RADIUS);
+
+        for (int i = 1; i < circles.size(); i++) {
+            assertThat(circles.get(i).getLongitude()).isGreaterThan(circles.get(i - 1).getLongitude());
+        }
+        double reach = reach();
+        Location last = circles.get(circles.size() - 1);
+        Location end = samples.get(samples.size() - 1);
+        assertThat(distance(last, end)).isLessThanOrEqualTo(reach);
+    }
+
+    @Test
+    void sparseSamplesAreFilledWithRouteCircles() {
+        List<Location> samples = samplesEastward(100_000, 2);
+
+        CorridorSearchPlan plan = planner.plan(samples, RADIUS, QUERIES);
+
+        int minimum = (int) Math.ceil(100_000 / (2 * reach()));
+        assertThat(plan.getCircles()).hasSizeBetween(minimum, minimum + 1);
+        assertCorridorCovered(samples, plan.getCircles());
+    }
+
+    @Test
+    void planNeverUsesMoreCirclesThanTheUniformCover() {
+        for (int length = 5_000; length <= 120_000; length += 5_000) {
+            List<Location> samples = samplesEastward(length, 5);
+
+            List<Location> circles = planner.coverCorridor(samples, RADIUS);
+
+            assertThat(circles.size())
+                    .as("route %dm", length)
+                    .isLessThanOrEqualTo(Math.max(samples.size(), (int) Math.ceil(length / (2 * reach())) + 1));
+            assertCorridorCovered(samples, circles);
+        }
+    }
+
+    /**
+     * 경로 위 100m 간격 지점에서 양옆 반폭만큼 떨어진 점이 모두 어떤 원 안에 있는지
+     */
+    private void assertCorridorCovered(List<Location> samples, List<Location> circles) {
+        Location start = samples.get(0);
+        Location end = samples.get(samples.size() - 1);
+        double length = distance(start, end);
+        double halfWidthDegrees = RADIUS * HALF_WIDTH_RATIO / METERS_PER_DEGREE;
+
+        for (double along = 0; along <= length; along += 100) {
+            double fraction = length == 0 ? 0 : along / length;
+            double lon = start.getLongitude() + fraction * (end.getLongitude() - start.getLongitude());
+            for (double offset : new double[]{-halfWidthDegrees, 0, halfWidthDegrees}) {
+                Location point = new Location(LAT + offset, lon);
+                assertThat(circles.stream().anyMatch(circle -> distance(circle, point) <= RADIUS + 1))
+                        .as("corridor point %.0fm along route, offset %.4f", along, offset)
+                        .isTrue();
+            }
+        }
+    }
+
+    private static List<Location> samplesEastward(double lengthMeters, int count) {
+        double lonSpan = lengthMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(LAT)));
+        List<Location> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double fraction = count == 1 ? 0 : (double) i / (count - 1);
+            points.add(new Location(LAT, 127.0 + fraction * lonSpan, "P" + i));
+        }
+        return points;
+    }
+
+    private static double reach() {
+        double halfWidth = RADIUS * HALF_WIDTH_RATIO;
+        return Math.sqrt((double) RADIUS * RADIUS - halfWidth * halfWidth);
+    }
+
+    private static double distance(Location a, Location b) {
+        return GeoMath.equirectangularMeters(a.getLatitude(), a.getLongitude(), b.getLatitude(), b.getLongitude());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.schedule_service.service.search;
+
+import com.example.schedule_service.dto.Geometry;
+import com.example.schedule_service.dto.Place;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 중복 병합 시 양쪽 병합 이력(mergedPlaceIds)을 모두 남기고 병합되는 쪽 목록은 건드리지 않는지
+ */
+class PlaceDeduplicatorTest {
+
+    private final PlaceDeduplicator deduplicator = new PlaceDeduplicator();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deduplicator, "cellMeters", 50.0);
+        ReflectionTestUtils.setField(deduplicator, "nameSimilarityThreshold", 0.8);
+    }
+
+    @Test
+    void richerDuplicateKeepsBothMergeHistories() {
+        Place kakao = place("kakao-1", "source", "kakao");
+        Place naver = place("naver-1", null, null);
+        Place google = place("google-1", "source", "google");
+        google.setFormatted_address("서울 중구 세종대로 110");
+        google.setBusiness_status("OPERATIONAL");
+        google.setUser_ratings_total(120);
+        google.setTypes(List.of("cafe"));
+        List<String> googleHistory = new ArrayList<>(List.of("google-old"));
+        google.getMetadata().put("mergedPlaceIds", googleHistory);
+
+        List<Place> unique = deduplicator.deduplicate(List.of(kakao, naver, google));
+
+        assertThat(unique).containsExactly(kakao);
+        assertThat(kakao.getMetadata().get("source")).isEqualTo("google");
+        assertThat(kakao.getMetadata().get("mergedPlaceIds"))
+                .isEqualTo(List.of("naver-1", "google-old", "google-1"));
+        assertThat(googleHistory).containsExactly("google-old");
+        assertThat(kakao.getMetadata().get("mergedPlaceIds")).isNotSameAs(googleHistory);
+    }
+
+    @Test
+    void sameIdMergeDoesNotRecordItself() {
+        Place first = place("kakao-1", "source", "kakao");
+        Place again = place("kakao-1", "source", "kakao");
+
+        deduplicator.deduplicate(List.of(first, again));
+
+        assertThat(first.getMetadata()).doesNotContainKey("mergedPlaceIds");
+    }
+
+    private static Place place(String id, String metadataKey, String metadataValue) {
+        Place place = new Place();
+        place.setPlace_id(id);
+        place.setName("스타벅스 시청점");
+        Geometry geometry = new Geometry();
+        Geometry.Location location = new Geometry.Location();
+        location.setLat(37.5665);
+        location.setLng(126.9780);
+        geometry.setLocation(location);
+        place.setGeometry(geometry);
+        if (metadataKey != null) {
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put(metadataKey, metadataValue);
+            place.setMetadata(metadata);
+        }
+        return place;
+    }
+}
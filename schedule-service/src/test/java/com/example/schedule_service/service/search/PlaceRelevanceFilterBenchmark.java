@@ -0,0 +1,144 @@
+package com.example.schedule_service.service.search;
+
+import com.example.schedule_service.dto.Place;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 후보 1만 개에 대한 '마트' 관련성 필터: 컴파일된 {@link PlaceRelevanceFilter} 와
+ * 이전 APIIntegrationService 의 String.contains 연쇄 + List 카테고리 검사 비교
+ *
+ * 실행: mvn -q test-compile 후 테스트 클래스패스로 {@link #main} 실행
+ * (또는 java -cp ... org.openjdk.jmh.Main PlaceRelevanceFilterBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceRelevanceFilterBenchmark {
+
+    private static final String PLACE_TYPE = "마트";
+
+    private static final String[] NAMES = {
+            "이마트 성수점", "홈플러스 강서점", "GS25 역삼점", "CU 신촌점", "세븐일레븐 종로점", "동네슈퍼",
+            "스타벅스 강남대로점", "김밥천국", "올리브영 명동점", "다이소 홍대점", "롯데마트 주차장", "Fresh Market",
+            "교보문고 광화문점", "CGV 용산아이파크몰", "서울숲공원", "맥도날드 시청점", "파리바게뜨", "Corner Store"
+    };
+    private static final String[] CATEGORY_TEXTS = {
+            "가정,생활 > 대형마트", "가정,생활 > 편의점", "음식점 > 카페", "음식점 > 한식", "문화,예술 > 영화관",
+            "가정,생활 > 슈퍼마켓", "여행 > 공원", "쇼핑 > 생활용품", null
+    };
+    private static final String[][] TYPES = {
+            {"supermarket", "store"}, {"convenience_store"}, {"cafe", "food"}, {"restaurant"},
+            {"movie_theater"}, {"grocery"}, {"park"}, {"MT1"}, {"CS2"}, {"FD6"}
+    };
+
+    private static final List<String> LEGACY_MART_CATEGORIES = Arrays.asList(
+            "MT1", "CS2", "17000", "17069", "grocery", "supermarket", "convenience_store");
+
+    @Param({"10000"})
+    private int candidates;
+
+    private List<Place> places;
+    private PlaceRelevanceFilter filter;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        places = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            Place place = new Place();
+            place.setPlace_id("p" + i);
+            place.setName(NAMES[random.nextInt(NAMES.length)]);
+            place.setBusiness_status(CATEGORY_TEXTS[random.nextInt(CATEGORY_TEXTS.length)]);
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put("types", List.of(TYPES[random.nextInt(TYPES.length)]));
+            place.setMetadata(metadata);
+            places.add(place);
+        }
+        filter = new PlaceRelevanceFilter();
+    }
+
+    @Benchmark
+    public List<Place> compiledFilter() {
+        return places.stream()
+                .filter(place -> filter.isRelevant(place, PLACE_TYPE))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Place> legacyFilter() {
+        return places.stream()
+                .filter(place -> legacyIsRelevant(place, PLACE_TYPE))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 이전 APIIntegrationService.isRelevant (변경 전 그대로)
+     */
+    private static boolean legacyIsRelevant(Place place, String placeType) {
+        if (!"마트".equals(placeType)) {
+            return true;
+        }
+
+        Map<String, Object> metadata = place.getMetadata();
+        Object types = metadata != null ? metadata.get("types") : null;
+
+        String name = place.getName().toLowerCase();
+        boolean nameMatches = name.contains("마트") ||
+            name.contains("슈퍼") ||
+            name.contains("편의점") ||
+            name.contains("이마트") ||
+            name.contains("홈플러스") ||
+            name.contains("롯데마트") ||
+            name.contains("gs") ||
+            name.contains("cu") ||
+            name.contains("세븐일레븐") ||
+            name.contains("market") ||
+            name.contains("store");
+
+        boolean categoryMatches = false;
+        if (types instanceof List) {
+            categoryMatches = ((List<?>) types).stream()
+                .anyMatch(type -> LEGACY_MART_CATEGORIES.contains(String.valueOf(type)));
+        }
+
+        String businessStatus = place.getBusiness_status();
+        boolean businessMatches = businessStatus != null &&
+            (businessStatus.toLowerCase().contains("마트") ||
+             businessStatus.toLowerCase().contains("슈퍼마켓") ||
+             businessStatus.toLowerCase().contains("편의점") ||
+             businessStatus.toLowerCase().contains("쇼핑"));
+
+        return nameMatches || categoryMatches || businessMatches;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PlaceRelevanceFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.schedule_service.service.search;
+
+import com.example.common.geo.GeoMath;
+import com.example.schedule_service.dto.Geometry;
+import com.example.schedule_service.dto.Place;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.mock;
+
+class PlaceSearchCacheTest {
+
+    private PlaceSearchCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<RedisTemplate<String, Object>> noRedis = mock(ObjectProvider.class);
+        cache = new PlaceSearchCache(noRedis, new ObjectMapper(), new SimpleMeterRegistry(), 100);
+        ReflectionTestUtils.setField(cache, "kakaoTtlMinutes", 60L);
+    }
+
+    @Test
+    void differentRadiiDoNotShareEntries() {
+        cache.put(PlaceProvider.KAKAO, "카페", 37.5665, 126.9780, 1001, List.of(place("a", 37.5665, 126.9780)));
+
+        assertThat(cache.get(PlaceProvider.KAKAO, "카페", 37.5665, 126.9780, 2000)).isNull();
+        assertThat(cache.get(PlaceProvider.KAKAO, "카페", 37.5665, 126.9780, 1001)).hasSize(1);
+    }
+
+    @Test
+    void nearbyRadiiShareTheBucketButKeepTheirOwnCircle() {
+        double lat = 37.5665;
+        double lon = 126.9780;
+        assertThat(PlaceSearchCache.radiusBucket(1001)).isEqualTo(PlaceSearchCache.radiusBucket(1050));
+        // 중심에서 약 1,020m 떨어진 장소
+        cache.put(PlaceProvider.KAKAO, "카페", lat, lon, 1050, List.of(
+                place("inside-both", lat + 0.005, lon),
+                place("between", lat + 0.00917, lon)));
+
+        assertThat(cache.get(PlaceProvider.KAKAO, "카페", lat, lon, 1050))
+                .extracting(Place::getPlace_id).containsExactly("inside-both", "between");
+        assertThat(cache.get(PlaceProvider.KAKAO, "카페", lat, lon, 1001))
+                .extracting(Place::getPlace_id).containsExactly("inside-both");
+    }
+
+    @Test
+    void fetchAreaCoversEveryRadiusInTheBucket() {
+        double lat = 37.5665;
+        double lon = 126.9780;
+        PlaceSearchCache.SearchArea area = cache.fetchAreaFor(PlaceProvider.GOOGLE, lat, lon, 1001);
+        int bucket = PlaceSearchCache.radiusBucket(1001);
+        double offset = GeoMath.haversineMeters(area.getLatitude(), area.getLongitude(), lat, lon);
+
+        assertThat(bucket).isGreaterThanOrEqualTo(1001).isLessThan(1001 + 1001 / 4 + 1);
+        assertThat(offset + bucket).isLessThanOrEqualTo(area.getRadius());
+    }
+
+    @Test
+    void fetchAreaContainsEveryCallerCircleInTheTile() {
+        Random random = new Random(7);
+        for (int radius : new int[]{300, 1000, 1001, 2000, 5000, 15000}) {
+            double baseLat = 37.5665;
+            double baseLon = 126.9780;
+            PlaceSearchCache.SearchArea area = cache.fetchAreaFor(PlaceProvider.GOOGLE, baseLat, baseLon, radius);
+            String key = cache.buildKey(PlaceProvider.GOOGLE, "cafe", baseLat, baseLon, radius);
+
+            for (int i = 0; i < 200; i++) {
+                double lat = baseLat + (random.nextDouble() - 0.5) * radius / 50_000.0;
+                double lon = baseLon + (random.nextDouble() - 0.5) * radius / 50_000.0;
+                if (!cache.buildKey(PlaceProvider.GOOGLE, "cafe", lat, lon, radius).equals(key)) {
+                    continue;
+                }
+                double offset = GeoMath.haversineMeters(area.getLatitude(), area.getLongitude(), lat, lon);
+                assertThat(offset + radius).as("radius %d", radius).isLessThanOrEqualTo(area.getRadius());
+            }
+        }
+    }
+
+    @Test
+    void fetchAreaIsClampedToProviderMaximum() {
+        PlaceSearchCache.SearchArea area = cache.fetchAreaFor(PlaceProvider.KAKAO, 37.5665, 126.9780, 20000);
+
+        assertThat(area.getRadius()).isEqualTo(PlaceProvider.KAKAO.maxRadius());
+    }
+
+    @Test
+    void cachedResultsAreMeasuredFromTheCallerCenter() {
+        double lat = 37.5665;
+        double lon = 126.9780;
+        cache.put(PlaceProvider.KAKAO, "카페", lat, lon, 1000, List.of(
+                place("near", lat + 0.001, lon),
+                place("far", lat + 0.05, lon)));
+
+        List<Place> cached = cache.get(PlaceProvider.KAKAO, "카페", lat + 0.0001, lon, 1000);
+
+        assertThat(cached).extracting(Place::getPlace_id).containsExactly("near");
+        double expected = GeoMath.haversineMeters(lat + 0.0001, lon, lat + 0.001, lon);
+        assertThat((Double) cached.get(0).getMetadata().get("distance")).isCloseTo(expected, offset(0.01));
+    }
+
+    private static Place place(String id, double lat, double lng) {
+        Place place = new Place();
+        place.setPlace_id(id);
+        place.setName(id);
+        Geometry geometry = new Geometry();
+        Geometry.Location location = new Geometry.Location();
+        location.setLat(lat);
+        location.setLng(lng);
+        geometry.setLocation(location);
+        place.setGeometry(geometry);
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("distance", 0.0);
+        place.setMetadata(metadata);
+        return place;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.schedule_service.service.search;
+
+import com.example.common.geo.GeoMath;
+import com.example.schedule_service.dto.Geometry;
+import com.example.schedule_service.dto.Place;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ProviderResponseParserTest {
+
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LNG = 126.9780;
+    private static final int ITERATIONS = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ProviderResponseParser parser;
+    private byte[] googleBody;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        parser = new ProviderResponseParser(objectMapper);
+        try (InputStream in = getClass().getResourceAsStream("/provider/google-nearby.json")) {
+            googleBody = in.readAllBytes();
+        }
+    }
+
+    @Test
+    void streamingParseMatchesTreeParse() throws IOException {
+        List<Place> streamed = parseStreaming(googleBody);
+        List<Place> tree = parseTree(googleBody);
+
+        assertThat(streamed).hasSize(20);
+        for (int i = 0; i < tree.size(); i++) {
+            Place expected = tree.get(i);
+            Place actual = streamed.get(i);
+            assertThat(actual.getPlace_id()).isEqualTo(expected.getPlace_id());
+            assertThat(actual.getName()).isEqualTo(expected.getName());
+            assertThat(actual.getFormatted_address()).isEqualTo(expected.getFormatted_address());
+            assertThat(actual.getRating()).isEqualTo(expected.getRating());
+            assertThat(actual.getOpen_now()).isEqualTo(expected.getOpen_now());
+            assertThat(actual.getBusiness_status()).isEqualTo(expected.getBusiness_status());
+            assertThat(actual.getLatitude()).isEqualTo(expected.getLatitude());
+            assertThat(actual.getLongitude()).isEqualTo(expected.getLongitude());
+            assertThat(actual.getMetadata()).isEqualTo(expected.getMetadata());
+        }
+    }
+
+    /**
+     * 응답 하나당 할당량: 스트리밍 파서 vs 기존 경로 (String 본문 → JsonNode 트리 → Place)
+     */
+    @Test
+    void streamingParseAllocatesLessThanTreeParse() throws IOException {
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            parseStreaming(googleBody);
+            parseTree(googleBody);
+        }
+
+        long streamingBytes = allocatedBytes(threads, () -> parseStreaming(googleBody));
+        long treeBytes = allocatedBytes(threads, () -> parseTree(googleBody));
+
+        System.out.printf("Google response (%d bytes): streaming %d B/op, tree %d B/op%n",
+                googleBody.length, streamingBytes / ITERATIONS, treeBytes / ITERATIONS);
+        assertThat(streamingBytes).isLessThan(treeBytes / 2);
+    }
+
+    private List<Place> parseStreaming(byte[] body) throws IOException {
+        return parser.parseGoogle(new ByteArrayInputStream(body),
+                (lat, lng) -> GeoMath.haversineMeters(CENTER_LAT, CENTER_LNG, lat, lng)).getPlaces();
+    }
+
+    /**
+     * 스트리밍 파서 도입 전 APIIntegrationService 의 구글 응답 처리 (미리보기 로그 제외)
+     */
+    private List<Place> parseTree(byte[] body) throws IOException {
+        String text = new String(body, StandardCharsets.UTF_8);
+        JsonNode root = objectMapper.readTree(text);
+        List<Place> places = new ArrayList<>();
+        for (JsonNode result : root.get("results")) {
+            Place place = new Place();
+            place.setPlace_id(result.get("place_id").asText());
+            place.setName(result.get("name").asText());
+            place.setFormatted_address(result.has("vicinity") ? result.get("vicinity").asText() : "");
+
+            JsonNode location = result.get("geometry").get("location");
+            Geometry geometry = new Geometry();
+            Geometry.Location loc = new Geometry.Location();
+            loc.setLat(location.get("lat").asDouble());
+            loc.setLng(location.get("lng").asDouble());
+            geometry.setLocation(loc);
+            place.setGeometry(geometry);
+
+            place.setRating(result.has("rating") ? result.get("rating").asDouble() : 4.0);
+            if (result.has("business_status")) {
+                place.setBusiness_status(result.get("business_status").asText());
+            }
+            place.setOpen_now(!result.has("opening_hours") || !result.get("opening_hours").has("open_now")
+                    || result.get("opening_hours").get("open_now").asBoolean());
+
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put("distance", GeoMath.haversineMeters(CENTER_LAT, CENTER_LNG, loc.getLat(), loc.getLng()));
+            if (result.has("types") && result.get("types").isArray()) {
+                List<String> types = new ArrayList<>();
+                for (JsonNode type : result.get("types")) {
+                    types.add(type.asText());
+                }
+                metadata.put("types", types);
+            }
+            place.setMetadata(metadata);
+            places.add(place);
+        }
+        return places;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "JVM does not expose per-thread allocation counters");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Per-thread allocation counters not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads, ParseCall call) throws IOException {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.run();
+        }
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    @FunctionalInterface
+    private interface ParseCall {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.schedule_service.service.search;
+
+import com.example.schedule_service.dto.Geometry;
+import com.example.schedule_service.dto.Place;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 군집 검색 결과에서 슬롯 지점 반경 안의 좌표 있는 후보만 돌려주는지
+ */
+class SlotCandidatePoolTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LON = 126.9780;
+
+    @Test
+    void dropsCandidatesWithoutCoordinates() {
+        Place noGeometry = place("no-geometry");
+        Place noLocation = place("no-location");
+        noLocation.setGeometry(new Geometry());
+        List<Place> found = List.of(place("near", LAT + 0.001, LON), noGeometry, noLocation);
+        SlotCandidatePool pool = new SlotCandidatePool((category, lat, lon, radius) -> found, 1000, 500);
+
+        List<Place> nearby = pool.candidatesNear("카페", LAT, LON);
+
+        assertThat(ids(nearby)).containsExactly("near");
+        assertThat(nearby).allSatisfy(place -> assertThat(place.getGeometry().getLocation()).isNotNull());
+    }
+
+    @Test
+    void nearbySlotsShareOneSearchAndKeepTheirOwnRadius() {
+        List<Integer> radii = new ArrayList<>();
+        List<Place> found = List.of(place("west", LAT, LON - 0.012), place("east", LAT, LON + 0.012));
+        SlotCandidatePool pool = new SlotCandidatePool((category, lat, lon, radius) -> {
+            radii.add(radius);
+            return found;
+        }, 1000, 500);
+
+        // 두 지점은 약 350m 떨어져 한 군집, 장소는 각 지점에서 약 880m 와 1,230m
+        assertThat(ids(pool.candidatesNear("카페", LAT, LON - 0.002))).containsExactly("west");
+        assertThat(ids(pool.candidatesNear("카페", LAT, LON + 0.002))).containsExactly("east");
+        assertThat(radii).containsExactly(1500);
+        assertThat(pool.getLookupCount()).isEqualTo(2);
+    }
+
+    private static List<String> ids(List<Place> places) {
+        return places.stream().map(Place::getPlace_id).collect(Collectors.toList());
+    }
+
+    private static Place place(String id) {
+        Place place = new Place();
+        place.setPlace_id(id);
+        place.setName(id);
+        return place;
+    }
+
+    private static Place place(String id, double lat, double lng) {
+        Place place = place(id);
+        Geometry geometry = new Geometry();
+        Geometry.Location location = new Geometry.Location();
+        location.setLat(lat);
+        location.setLng(lng);
+        geometry.setLocation(location);
+        place.setGeometry(geometry);
+        return place;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.schedule_service.service.travel;
+
+import com.example.schedule_service.dto.domain.Location;
+import com.example.schedule_service.service.TmapService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실시간 조회가 호출자가 읽는 칸에만 TMap 호출 상한을 쓰는지
+ * 4개 지점 경로 (동쪽으로 약 1km 간격), TMap 응답은 구간마다 600초 / 1,500m
+ */
+class TravelTimeMatrixServiceTest {
+
+    private static final int LIVE_SECONDS = 600;
+    private static final float LIVE_METERS = 1500f;
+
+    private final TmapService tmapService = mock(TmapService.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private TravelTimeMatrixService service;
+
+    @BeforeEach
+    void setUp() {
+        when(tmapService.getDetailedRoute(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq("CAR")))
+                .thenReturn(Map.of("features", List.of(Map.of("properties",
+                        Map.of("totalTime", LIVE_SECONDS, "totalDistance", LIVE_METERS)))));
+        service = new TravelTimeMatrixService(tmapService, executor, 100);
+        ReflectionTestUtils.setField(service, "estimateSpeedKmh", 30.0);
+        ReflectionTestUtils.setField(service, "maxLiveCells", 24);
+        ReflectionTestUtils.setField(service, "liveTimeoutMs", 1000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fourStopPlanFetchesOnlyTheThreeForwardLegs() {
+        List<Location> stops = stops(4);
+
+        TravelTimeMatrix matrix = service.build(stops, TravelTimeFillStrategy.TMAP,
+                TravelTimeMatrixService.consecutivePairs(stops.size()));
+
+        verify(tmapService, times(3)).getDetailedRoute(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq("CAR"));
+        assertThat(matrix.getLiveCells()).isEqualTo(3);
+        for (int i = 0; i < 3; i++) {
+            assertThat(matrix.seconds(i, i + 1)).isEqualTo(LIVE_SECONDS);
+            assertThat(matrix.meters(i, i + 1)).isEqualTo(LIVE_METERS);
+            // 역방향과 건너뛰는 쌍은 추정값
+            assertThat(matrix.seconds(i + 1, i)).isNotEqualTo(LIVE_SECONDS);
+        }
+        assertThat(matrix.seconds(0, 2)).isNotEqualTo(LIVE_SECONDS);
+    }
+
+    @Test
+    void withoutPairsEveryOrderedPairIsFetched() {
+        service.build(stops(4), TravelTimeFillStrategy.TMAP);
+
+        verify(tmapService, times(12)).getDetailedRoute(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq("CAR"));
+    }
+
+    @Test
+    void mergedAndMissingPointsAreNotFetched() {
+        List<Location> stops = new ArrayList<>(stops(2));
+        stops.add(stops.get(1));
+        stops.add(null);
+        stops.add(new Location(37.5000, 127.0340));
+
+        TravelTimeMatrix matrix = service.build(stops, TravelTimeFillStrategy.TMAP,
+                TravelTimeMatrixService.consecutivePairs(stops.size()));
+
+        // 0->1 만 조회 (1->2 는 같은 좌표, 2->3 과 3->4 는 좌표 없는 지점)
+        verify(tmapService, times(1)).getDetailedRoute(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq("CAR"));
+        assertThat(matrix.size()).isEqualTo(3);
+        assertThat(matrix.getLiveCells()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedCellsAreReusedWithoutCalls() {
+        List<Location> stops = stops(4);
+        service.build(stops, TravelTimeFillStrategy.TMAP, TravelTimeMatrixService.consecutivePairs(4));
+
+        TravelTimeMatrix again = service.build(stops, TravelTimeFillStrategy.TMAP, TravelTimeMatrixService.consecutivePairs(4));
+
+        verify(tmapService, times(3)).getDetailedRoute(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq("CAR"));
+        assertThat(again.getLiveCells()).isEqualTo(3);
+    }
+
+    private static List<Location> stops(int count) {
+        List<Location> stops = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            stops.add(new Location(37.5000, 127.0000 + i * 0.0113));
+        }
+        return stops;
+    }
+}